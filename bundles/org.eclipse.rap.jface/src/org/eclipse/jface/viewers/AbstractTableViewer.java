@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -707,6 +707,13 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 
 		Object[] children = getSortedChildren(getRoot());
 		Item[] items = doGetItems();
+		if (usingDiffRefresh() && virtualManager == null) {
+			int[] sources = ElementDiff.computeSources(this, items, children);
+			if (sources != null) {
+				internalRefreshAll(children, items, sources, updateLabels);
+				return;
+			}
+		}
 		int min = Math.min(children.length, items.length);
 		for (int i = 0; i < min; ++i) {
 
@@ -765,6 +772,56 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Refresh all of the elements of the table, keeping the items given by
+	 * sources and creating items for all other elements.
+	 *
+	 * @param children
+	 *            the new elements
+	 * @param items
+	 *            the current items
+	 * @param sources
+	 *            for every element, the index of the item to keep or -1
+	 * @param updateLabels
+	 *            whether to update the labels of the kept items
+	 * @see ElementDiff#computeSources(StructuredViewer, Item[], Object[])
+	 */
+	private void internalRefreshAll(Object[] children, Item[] items,
+			int[] sources, boolean updateLabels) {
+		boolean[] kept = new boolean[items.length];
+		int keptCount = 0;
+		for (int i = 0; i < sources.length; i++) {
+			if (sources[i] != -1) {
+				kept[sources[i]] = true;
+				keptCount++;
+			}
+		}
+		// disassociate all removed items before associating the kept ones
+		int[] indices = new int[items.length - keptCount];
+		int count = 0;
+		for (int i = 0; i < items.length; i++) {
+			if (!kept[i]) {
+				if (items[i].getData() != null) {
+					disassociate(items[i]);
+				}
+				indices[count++] = i;
+			}
+		}
+		if (indices.length > 0) {
+			doRemove(indices);
+		}
+		for (int i = 0; i < children.length; i++) {
+			if (sources[i] == -1) {
+				createItem(children[i], i);
+			} else if (updateLabels) {
+				updateItem(items[sources[i]], children[i]);
+			} else {
+				// associate the new element to remove stale references
+				associate(children[i], items[sources[i]]);
+			}
+		}
+	}
+
 	/**
 	 * Removes the given elements from this table viewer.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -600,7 +600,11 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 * @see org.eclipse.jface.viewers.StructuredViewer#getSortedChildren(java.lang.Object)
 	 */
 	protected Object[] getSortedChildren(Object parentElementOrTreePath) {
-		Object[] result = getFilteredChildren(parentElementOrTreePath);
+		Object[] result = getBackgroundSortedChildren(parentElementOrTreePath);
+		if (result != null) {
+			return result;
+		}
+		result = getFilteredChildren(parentElementOrTreePath);
 		ViewerComparator comparator = getComparator();
 		if (parentElementOrTreePath != null
 				&& comparator instanceof TreePathViewerSorter) {
@@ -2595,6 +2599,16 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 
 		Item[] items = getChildren(widget);
+
+		if (usingDiffRefresh() && (tree.getStyle() & SWT.VIRTUAL) == 0) {
+			int[] sources = ElementDiff.computeSources(this, items,
+					elementChildren);
+			if (sources != null) {
+				updateChildren(widget, items, elementChildren, sources,
+						updateLabels);
+				return;
+			}
+		}
 		
 		// save the expanded elements
 		CustomHashtable expanded = newHashtable(CustomHashtable.DEFAULT_CAPACITY); // assume
@@ -2741,6 +2755,74 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Updates the child items of the given widget, keeping the items given by
+	 * sources and creating items for all other children.
+	 *
+	 * @param widget
+	 *            the widget
+	 * @param items
+	 *            the current child items of the widget
+	 * @param elementChildren
+	 *            the new children
+	 * @param sources
+	 *            for every child, the index of the item to keep or -1
+	 * @param updateLabels
+	 *            whether to update the labels of the kept items
+	 * @see ElementDiff#computeSources(StructuredViewer, Item[], Object[])
+	 */
+	private void updateChildren(Widget widget, Item[] items,
+			Object[] elementChildren, int[] sources, boolean updateLabels) {
+		boolean[] kept = new boolean[items.length];
+		for (int i = 0; i < sources.length; i++) {
+			if (sources[i] != -1) {
+				kept[sources[i]] = true;
+			}
+		}
+		// dispose of the removed items before associating the kept ones, and
+		// remember which of them were expanded, since their elements may
+		// only have moved
+		CustomHashtable expanded = newHashtable(CustomHashtable.DEFAULT_CAPACITY);
+		for (int i = 0; i < items.length; i++) {
+			if (!kept[i]) {
+				Object data = items[i].getData();
+				if (data != null) {
+					if (getExpanded(items[i])) {
+						expanded.put(data, data);
+					}
+					disassociate(items[i]);
+				}
+				items[i].dispose();
+			}
+		}
+		for (int i = 0; i < elementChildren.length; i++) {
+			Object newElement = elementChildren[i];
+			if (sources[i] == -1) {
+				createTreeItem(widget, newElement, i);
+				// setExpanded is called after updatePlus (called in
+				// createTreeItem), since setExpanded(false) fails if item has
+				// no children
+				if (expanded.containsKey(newElement)) {
+					setExpanded(getChild(widget, i), true);
+				}
+			} else {
+				Item item = items[sources[i]];
+				Object oldElement = item.getData();
+				if (newElement != oldElement) {
+					// the elements are equal, but may still have different
+					// labels or children
+					unmapElement(oldElement, item);
+					item.setData(newElement);
+					mapElement(newElement, item);
+				}
+				updatePlus(item, newElement);
+				if (updateLabels) {
+					updateItem(item, newElement);
+				}
+			}
+		}
+	}
+
 	/** Returns true if children were pruned */
 	/*package*/ boolean optionallyPruneChildren(Item item, Object element) {
 		// need a dummy node if element is expandable;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -52,6 +52,7 @@ public abstract class ColumnViewer extends StructuredViewer {
 	private ColumnViewerEditor viewerEditor;
 
 	private boolean busy;
+	private boolean diffRefresh;
 	private boolean logWhenBusy = true; // initially true, set to false
 
 	// after logging for the first
@@ -812,4 +813,41 @@ public abstract class ColumnViewer extends StructuredViewer {
 	public boolean isBusy() {
 		return busy;
 	}
+
+	/**
+	 * Configures whether a refresh of this viewer reuses the items of elements
+	 * that are still present, regardless of their position. When enabled, the
+	 * old and the new children are compared with the viewer's comparer, the
+	 * items of removed elements are removed and items for added elements are
+	 * inserted at their position, while the items of all other elements are
+	 * kept as they are. Otherwise the items are compared with the children
+	 * index by index, so that inserting an element updates all items below it.
+	 * <p>
+	 * When most elements changed their position, e.g. after the sort order was
+	 * reversed, and for virtual viewers, the items are compared index by index
+	 * in either case.
+	 * </p>
+	 *
+	 * @param enable
+	 *            <code>true</code> to reuse the items of unchanged elements,
+	 *            and <code>false</code> to compare items index by index
+	 *
+	 * @since 4.1
+	 */
+	public void setUseDiffRefresh(boolean enable) {
+		diffRefresh = enable;
+	}
+
+	/**
+	 * Returns whether a refresh of this viewer reuses the items of elements
+	 * that are still present.
+	 *
+	 * @return <code>true</code> if the items of unchanged elements are reused
+	 * @see #setUseDiffRefresh(boolean)
+	 *
+	 * @since 4.1
+	 */
+	protected boolean usingDiffRefresh() {
+		return diffRefresh;
+	}
 }
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.widgets.Item;
+
+/**
+ * Computes which items of a viewer can be kept when its children change.
+ * <p>
+ * The old and the new children are matched by the viewer's comparer, using a
+ * hash table. Of the matched children, the longest subsequence whose items are
+ * already in the right order is kept; all other old items are removed and new
+ * items are created for all other new children. As long as no element occurs
+ * twice, this subsequence is the longest common subsequence of the old and
+ * the new children, and it is found in <code>O(n log n)</code> time.
+ * </p>
+ */
+/* package */final class ElementDiff {
+
+	private ElementDiff() {
+		// prevent instantiation
+	}
+
+	/**
+	 * Returns, for every new child, the index of the old item that is kept for
+	 * it, or <code>-1</code> if a new item has to be created. The returned
+	 * indices are increasing, old items that are not referenced have to be
+	 * removed.
+	 * <p>
+	 * Returns <code>null</code> if fewer than half of the items could be kept,
+	 * updating the items index by index is cheaper in that case.
+	 * </p>
+	 *
+	 * @param viewer
+	 *            the viewer whose comparer is used to match the children
+	 * @param items
+	 *            the old items, items without data are never kept
+	 * @param newElements
+	 *            the new children
+	 * @return the indices of the kept items, or <code>null</code>
+	 */
+	static int[] computeSources(StructuredViewer viewer, Item[] items,
+			Object[] newElements) {
+		int[] sources = new int[newElements.length];
+		Arrays.fill(sources, -1);
+		CustomHashtable oldIndices = viewer
+				.newHashtable(items.length * 2 + 1);
+		// walk backwards, so that the first of several equal elements wins
+		for (int i = items.length - 1; i >= 0; i--) {
+			Object data = items[i].getData();
+			if (data != null) {
+				oldIndices.put(data, Integer.valueOf(i));
+			}
+		}
+		boolean[] matched = new boolean[items.length];
+		int[] candidates = new int[newElements.length];
+		int candidateCount = 0;
+		for (int i = 0; i < newElements.length; i++) {
+			Integer oldIndex = (Integer) oldIndices.get(newElements[i]);
+			if (oldIndex != null && !matched[oldIndex.intValue()]) {
+				matched[oldIndex.intValue()] = true;
+				sources[i] = oldIndex.intValue();
+				candidates[candidateCount++] = i;
+			}
+		}
+		// longest increasing subsequence of the old indices, by patience
+		// sorting: tails[k] is the candidate that ends the best run of length
+		// k + 1 found so far
+		int[] tails = new int[candidateCount];
+		int[] predecessors = new int[candidateCount];
+		int length = 0;
+		for (int c = 0; c < candidateCount; c++) {
+			int oldIndex = sources[candidates[c]];
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (sources[candidates[tails[middle]]] < oldIndex) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			predecessors[c] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = c;
+			if (low == length) {
+				length++;
+			}
+		}
+		if (length == 0
+				|| length * 2 < Math.min(items.length, newElements.length)) {
+			return null;
+		}
+		boolean[] kept = new boolean[candidateCount];
+		for (int c = tails[length - 1]; c != -1; c = predecessors[c]) {
+			kept[c] = true;
+		}
+		for (int c = 0; c < candidateCount; c++) {
+			if (!kept[c]) {
+				sources[candidates[c]] = -1;
+			}
+		}
+		return sources;
+	}
+
+}
@@ -0,0 +1,435 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.rap.rwt.service.ServerPushSession;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Filters and sorts the children of a viewer's root on the common fork/join
+ * pool, and hands the result back to the viewer in the UI thread.
+ * <p>
+ * The children are obtained from the content provider in the UI thread when
+ * the task is created. Filters and comparators are only called from background
+ * threads if they declare themselves thread-safe, see
+ * {@link ViewerFilter#isThreadSafe()} and
+ * {@link ViewerComparator#isThreadSafe()}. Otherwise the filters are applied in
+ * the UI thread when the task is created.
+ * </p>
+ * <p>
+ * If the viewer's comparator uses the default <code>compare</code> method, the
+ * categories and labels of the children are computed in the UI thread as well,
+ * and only these precomputed keys are sorted in the background: labels are
+ * compared by their collation keys if the comparator compares strings with a
+ * {@link Collator}, or with the comparator's string comparator if the
+ * comparator is thread-safe. Other comparators that are not thread-safe cannot
+ * sort in the background, and the task is not applicable.
+ * </p>
+ * <p>
+ * The task can be canceled at any time, the work in the background stops at
+ * the next element and the result is discarded. A server push session is kept
+ * open while the task is running, so that the result is applied immediately.
+ * </p>
+ *
+ * @see StructuredViewer#setUseBackgroundSorting(boolean)
+ */
+/* package */final class SortFilterTask implements Runnable {
+
+	// ranges up to this size are filtered or keyed by a single thread
+	private static final int CHUNK_SIZE = 512;
+
+	private final StructuredViewer viewer;
+	private final Display display;
+	private final ServerPushSession pushSession;
+	private final Object root;
+	private final ViewerFilter[] filters;
+	private final ViewerComparator comparator;
+	// the categories and labels of the children, only used for the default
+	// compare method
+	private final int[] categories;
+	private final String[] labels;
+	private final Comparator labelComparator;
+	// the indices of the children that pass all filters if the filters have
+	// been applied in the UI thread, or null
+	private final int[] filteredIndices;
+	private volatile boolean canceled;
+
+	final Object input;
+	final boolean updateLabels;
+	final Object[] rawChildren;
+	Object[] filteredChildren;
+	Object[] sortedChildren;
+	RuntimeException exception;
+
+	/**
+	 * Returns whether the children of the given viewer's root can be filtered
+	 * and sorted in the background, and whether there is anything to do.
+	 */
+	static boolean isApplicable(StructuredViewer viewer) {
+		if (viewer.getControl() == null || viewer.getControl().isDisposed()
+				|| viewer.getRoot() == null
+				|| !(viewer.getContentProvider() instanceof IStructuredContentProvider)) {
+			return false;
+		}
+		ViewerComparator comparator = viewer.getComparator();
+		if (comparator instanceof TreePathViewerSorter) {
+			// needs the tree path of the parent
+			return false;
+		}
+		if (comparator != null) {
+			return sortsInBackground(comparator);
+		}
+		// without a comparator, only thread-safe filters run in the background
+		ViewerFilter[] filters = viewer.getFilters();
+		return filters.length > 0 && areThreadSafe(filters);
+	}
+
+	/**
+	 * Creates a task for the current children of the given viewer's root. Must
+	 * be called in the UI thread.
+	 */
+	SortFilterTask(StructuredViewer viewer, boolean updateLabels) {
+		this.viewer = viewer;
+		this.updateLabels = updateLabels;
+		display = viewer.getControl().getDisplay();
+		pushSession = new ServerPushSession();
+		input = viewer.getInput();
+		root = viewer.getRoot();
+		rawChildren = viewer.getRawChildren(root);
+		filters = viewer.getFilters();
+		comparator = viewer.getComparator();
+		if (comparator != null && usesDefaultCompare(comparator)) {
+			categories = new int[rawChildren.length];
+			labels = new String[rawChildren.length];
+			for (int i = 0; i < rawChildren.length; i++) {
+				categories[i] = comparator.category(rawChildren[i]);
+				labels[i] = comparator.getLabel(viewer, rawChildren[i]);
+			}
+			labelComparator = comparator.getComparator();
+		} else {
+			categories = null;
+			labels = null;
+			labelComparator = null;
+		}
+		filteredIndices = areThreadSafe(filters) ? null : filter(false);
+	}
+
+	/**
+	 * Starts filtering and sorting in the background. Must be called in the UI
+	 * thread.
+	 */
+	void schedule() {
+		pushSession.start();
+		ForkJoinPool.commonPool().execute(this);
+	}
+
+	/**
+	 * Cancels this task, its result will not be applied. May be called from any
+	 * thread.
+	 */
+	void cancel() {
+		canceled = true;
+	}
+
+	/**
+	 * Returns whether the given children, as currently provided by the content
+	 * provider, are equal to the children this task was created for.
+	 */
+	boolean isCurrent(Object[] children) {
+		if (children.length != rawChildren.length) {
+			return false;
+		}
+		for (int i = 0; i < children.length; i++) {
+			if (!viewer.equals(children[i], rawChildren[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void run() {
+		try {
+			int[] indices = filteredIndices != null ? filteredIndices : filter(true);
+			filteredChildren = getElements(indices);
+			sortedChildren = sort(indices);
+		} catch (RuntimeException e) {
+			// a CancellationException if canceled, otherwise reported by the
+			// viewer
+			if (!canceled) {
+				exception = e;
+			}
+		}
+		if (canceled) {
+			pushSession.stop();
+			return;
+		}
+		try {
+			display.asyncExec(new Runnable() {
+				public void run() {
+					pushSession.stop();
+					viewer.applyBackgroundRefresh(SortFilterTask.this);
+				}
+			});
+		} catch (SWTException e) {
+			// the display has been disposed
+			pushSession.stop();
+		}
+	}
+
+	/**
+	 * Returns the indices of the children that pass all filters, calling the
+	 * filters in parallel if they are thread-safe or in the calling thread
+	 * otherwise.
+	 */
+	private int[] filter(boolean parallel) {
+		int[] indices = new int[rawChildren.length];
+		for (int i = 0; i < indices.length; i++) {
+			indices[i] = i;
+		}
+		Map rawIndices = null;
+		for (int f = 0; f < filters.length; f++) {
+			ViewerFilter filter = filters[f];
+			if (overridesFilter(filter)) {
+				Object[] result = filter.filter(viewer, root, getElements(indices));
+				if (rawIndices == null) {
+					rawIndices = new IdentityHashMap(rawChildren.length * 2);
+					for (int i = 0; i < rawChildren.length; i++) {
+						rawIndices.put(rawChildren[i], Integer.valueOf(i));
+					}
+				}
+				indices = new int[result.length];
+				for (int i = 0; i < result.length; i++) {
+					indices[i] = ((Integer) rawIndices.get(result[i])).intValue();
+				}
+			} else {
+				boolean[] selected = new boolean[indices.length];
+				Select select = new Select(filter, indices, selected, 0, indices.length);
+				if (parallel) {
+					select.invoke();
+				} else {
+					select.selectRange();
+				}
+				int count = 0;
+				for (int i = 0; i < indices.length; i++) {
+					if (selected[i]) {
+						indices[count++] = indices[i];
+					}
+				}
+				indices = Arrays.copyOf(indices, count);
+			}
+			checkCanceled();
+		}
+		return indices;
+	}
+
+	/**
+	 * Returns the given filtered children in the order of the comparator.
+	 */
+	private Object[] sort(int[] indices) {
+		if (comparator == null) {
+			return getElements(indices);
+		}
+		if (labels != null) {
+			SortKey[] keys = new SortKey[indices.length];
+			for (int i = 0; i < indices.length; i++) {
+				int index = indices[i];
+				keys[i] = new SortKey(rawChildren[index], categories[index], labels[index]);
+			}
+			if (labelComparator instanceof Collator) {
+				new CreateCollationKeys((Collator) labelComparator, keys, 0, keys.length).invoke();
+			}
+			Arrays.parallelSort(keys, new KeyOrder());
+			Object[] result = new Object[keys.length];
+			for (int i = 0; i < keys.length; i++) {
+				result[i] = keys[i].element;
+			}
+			return result;
+		}
+		Object[] result = getElements(indices);
+		if (overridesSort(comparator)) {
+			comparator.sort(viewer, result);
+		} else {
+			Arrays.parallelSort(result, new Comparator() {
+				public int compare(Object e1, Object e2) {
+					checkCanceled();
+					return comparator.compare(viewer, e1, e2);
+				}
+			});
+		}
+		return result;
+	}
+
+	private Object[] getElements(int[] indices) {
+		Object[] result = new Object[indices.length];
+		for (int i = 0; i < indices.length; i++) {
+			result[i] = rawChildren[indices[i]];
+		}
+		return result;
+	}
+
+	private void checkCanceled() {
+		if (canceled) {
+			throw new CancellationException();
+		}
+	}
+
+	/**
+	 * Returns whether the given comparator can sort in the background, either
+	 * because it is thread-safe or because only precomputed keys are compared.
+	 */
+	private static boolean sortsInBackground(ViewerComparator comparator) {
+		return comparator.isThreadSafe()
+				|| usesDefaultCompare(comparator)
+				&& comparator.getComparator() instanceof Collator;
+	}
+
+	private static boolean areThreadSafe(ViewerFilter[] filters) {
+		for (int i = 0; i < filters.length; i++) {
+			if (!filters[i].isThreadSafe()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean usesDefaultCompare(ViewerComparator comparator) {
+		return !overridesSort(comparator)
+				&& isDeclaredBy(comparator, ViewerComparator.class, "compare", //$NON-NLS-1$
+						new Class[] { Viewer.class, Object.class, Object.class });
+	}
+
+	private static boolean overridesSort(ViewerComparator comparator) {
+		return !isDeclaredBy(comparator, ViewerComparator.class, "sort", //$NON-NLS-1$
+				new Class[] { Viewer.class, Object[].class });
+	}
+
+	private static boolean overridesFilter(ViewerFilter filter) {
+		return !isDeclaredBy(filter, ViewerFilter.class, "filter", //$NON-NLS-1$
+				new Class[] { Viewer.class, Object.class, Object[].class });
+	}
+
+	private static boolean isDeclaredBy(Object object, Class declaringClass,
+			String methodName, Class[] parameterTypes) {
+		try {
+			return object.getClass().getMethod(methodName, parameterTypes)
+					.getDeclaringClass() == declaringClass;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	private static final class SortKey {
+		final Object element;
+		final int category;
+		final String label;
+		CollationKey collationKey;
+
+		SortKey(Object element, int category, String label) {
+			this.element = element;
+			this.category = category;
+			this.label = label;
+		}
+	}
+
+	/**
+	 * Compares sort keys like the default compare method of ViewerComparator
+	 * compares their elements.
+	 */
+	private final class KeyOrder implements Comparator {
+		public int compare(Object o1, Object o2) {
+			checkCanceled();
+			SortKey key1 = (SortKey) o1;
+			SortKey key2 = (SortKey) o2;
+			if (key1.category != key2.category) {
+				return key1.category - key2.category;
+			}
+			if (key1.collationKey != null) {
+				return key1.collationKey.compareTo(key2.collationKey);
+			}
+			return labelComparator.compare(key1.label, key2.label);
+		}
+	}
+
+	private final class Select extends RecursiveAction {
+		private final ViewerFilter filter;
+		private final int[] indices;
+		private final boolean[] selected;
+		private final int start;
+		private final int end;
+
+		Select(ViewerFilter filter, int[] indices, boolean[] selected,
+				int start, int end) {
+			this.filter = filter;
+			this.indices = indices;
+			this.selected = selected;
+			this.start = start;
+			this.end = end;
+		}
+
+		protected void compute() {
+			if (end - start > CHUNK_SIZE) {
+				int middle = (start + end) >>> 1;
+				invokeAll(new Select(filter, indices, selected, start, middle),
+						new Select(filter, indices, selected, middle, end));
+			} else {
+				selectRange();
+			}
+		}
+
+		void selectRange() {
+			for (int i = start; i < end; i++) {
+				checkCanceled();
+				selected[i] = filter.select(viewer, root, rawChildren[indices[i]]);
+			}
+		}
+	}
+
+	private final class CreateCollationKeys extends RecursiveAction {
+		private final Collator collator;
+		private final SortKey[] keys;
+		private final int start;
+		private final int end;
+
+		CreateCollationKeys(Collator collator, SortKey[] keys, int start, int end) {
+			this.collator = collator;
+			this.keys = keys;
+			this.start = start;
+			this.end = end;
+		}
+
+		protected void compute() {
+			if (end - start > CHUNK_SIZE) {
+				int middle = (start + end) >>> 1;
+				invokeAll(new CreateCollationKeys(collator, keys, start, middle),
+						new CreateCollationKeys(collator, keys, middle, end));
+			} else {
+				// collators are not thread safe
+				Collator copy = (Collator) collator.clone();
+				for (int i = start; i < end; i++) {
+					checkCanceled();
+					keys[i].collationKey = copy.getCollationKey(keys[i].label);
+				}
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -141,6 +141,21 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * Calls when associate() and disassociate() are called
 	 */
 	private StructuredViewerInternals.AssociateListener associateListener;
+
+	/**
+	 * Whether a refresh of the root filters and sorts in the background.
+	 */
+	private boolean backgroundSorting;
+
+	/**
+	 * The pending background refresh, or <code>null</code> if none.
+	 */
+	private transient SortFilterTask backgroundRefresh;
+
+	/**
+	 * The sorted children of the root while a background refresh is applied.
+	 */
+	private transient Object[] backgroundSortedChildren;
 	
 	/**
 	 * Empty array of widgets.
@@ -1067,7 +1082,11 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @return a sorted and filtered array of child elements
 	 */
 	protected Object[] getSortedChildren(Object parent) {
-		Object[] result = getFilteredChildren(parent);
+		Object[] result = getBackgroundSortedChildren(parent);
+		if (result != null) {
+			return result;
+		}
+		result = getFilteredChildren(parent);
 		if (sorter != null) {
 			// be sure we're not modifying the original array from the model
 			result = (Object[]) result.clone();
@@ -1467,7 +1486,9 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * Non-Javadoc. Method declared on Viewer.
 	 */
 	public void refresh() {
-		refresh(getRoot());
+		if (!scheduleBackgroundRefresh(true)) {
+			refresh(getRoot());
+		}
 	}
 
 	/**
@@ -1492,7 +1513,132 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @since 1.0
 	 */
 	public void refresh(boolean updateLabels) {
-		refresh(getRoot(), updateLabels);
+		if (!scheduleBackgroundRefresh(updateLabels)) {
+			refresh(getRoot(), updateLabels);
+		}
+	}
+
+	/**
+	 * Configures whether a refresh of this viewer filters and sorts its
+	 * elements in the background. When enabled, <code>refresh()</code> and
+	 * <code>refresh(boolean)</code>, as well as changing the filters or the
+	 * comparator, return immediately. The elements are obtained from the
+	 * content provider in the UI thread, filtered and sorted on the common
+	 * fork/join pool, and the viewer is updated later in the UI thread. A
+	 * refresh that is requested while another one is pending cancels the
+	 * pending one.
+	 * <p>
+	 * Filters and comparators are called in the UI thread unless they declare
+	 * themselves thread-safe, see {@link ViewerFilter#isThreadSafe()} and
+	 * {@link ViewerComparator#isThreadSafe()}. If the comparator uses the
+	 * default <code>compare</code> method, the categories and labels of the
+	 * elements are obtained in the UI thread and only their collation keys are
+	 * created and compared in the background, provided that the comparator
+	 * compares strings with a <code>Collator</code>. A refresh with a comparator
+	 * that can sort neither way in the background is performed in the UI
+	 * thread as usual.
+	 * </p>
+	 * <p>
+	 * Refreshing a particular element, viewers with a lazy content provider
+	 * and tree path sorters are not affected by this setting.
+	 * </p>
+	 * 
+	 * @param enable
+	 *            <code>true</code> to filter and sort in the background, and
+	 *            <code>false</code> to filter and sort in the UI thread
+	 * 
+	 * @since 4.1
+	 */
+	public void setUseBackgroundSorting(boolean enable) {
+		backgroundSorting = enable;
+		if (!enable) {
+			cancelBackgroundRefresh();
+		}
+	}
+
+	/**
+	 * Starts filtering and sorting the children of the root in the background,
+	 * if enabled and applicable.
+	 * 
+	 * @return <code>true</code> if a background refresh was scheduled
+	 */
+	private boolean scheduleBackgroundRefresh(boolean updateLabels) {
+		if (!backgroundSorting || !SortFilterTask.isApplicable(this)) {
+			return false;
+		}
+		if (backgroundRefresh != null) {
+			// the pending refresh may have been asked to update the labels
+			updateLabels |= backgroundRefresh.updateLabels;
+			backgroundRefresh.cancel();
+		}
+		backgroundRefresh = new SortFilterTask(this, updateLabels);
+		backgroundRefresh.schedule();
+		return true;
+	}
+
+	/**
+	 * Cancels the pending background refresh if the given element is the
+	 * root, which is about to be refreshed in the UI thread.
+	 */
+	private void cancelBackgroundRefresh(Object element) {
+		if (backgroundRefresh != null && equals(element, getRoot())) {
+			cancelBackgroundRefresh();
+		}
+	}
+
+	private void cancelBackgroundRefresh() {
+		if (backgroundRefresh != null) {
+			backgroundRefresh.cancel();
+			backgroundRefresh = null;
+		}
+	}
+
+	/**
+	 * Refreshes this viewer with the children filtered and sorted by the given
+	 * task. Called in the UI thread when the task is done. The result is
+	 * discarded if another refresh has been requested in the meantime. If the
+	 * children changed in the meantime or the task failed, the viewer is
+	 * refreshed as usual.
+	 * 
+	 * @param task
+	 *            the task that filtered and sorted the children
+	 */
+	void applyBackgroundRefresh(SortFilterTask task) {
+		if (task != backgroundRefresh) {
+			return;
+		}
+		backgroundRefresh = null;
+		Control control = getControl();
+		if (control == null || control.isDisposed() || getInput() != task.input) {
+			return;
+		}
+		Object root = getRoot();
+		if (task.exception != null || !task.isCurrent(getRawChildren(root))) {
+			refresh(root, task.updateLabels);
+			return;
+		}
+		if (associateListener != null
+				&& task.filteredChildren.length != task.rawChildren.length) {
+			notifyFilteredOut(task.rawChildren, task.filteredChildren);
+		}
+		backgroundSortedChildren = task.sortedChildren;
+		try {
+			refresh(root, task.updateLabels);
+		} finally {
+			backgroundSortedChildren = null;
+		}
+	}
+
+	/**
+	 * Returns the children of the given parent if it is the root and its
+	 * children have been filtered and sorted in the background, or
+	 * <code>null</code> otherwise.
+	 */
+	Object[] getBackgroundSortedChildren(Object parent) {
+		if (backgroundSortedChildren != null && parent == getRoot()) {
+			return backgroundSortedChildren;
+		}
+		return null;
 	}
 
 	/**
@@ -1508,6 +1654,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 *            the element
 	 */
 	public void refresh(final Object element) {
+		cancelBackgroundRefresh(element);
 		preservingSelection(new Runnable() {
 			public void run() {
 				internalRefresh(element);
@@ -1535,6 +1682,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @since 1.0
 	 */
 	public void refresh(final Object element, final boolean updateLabels) {
+		cancelBackgroundRefresh(element);
 		preservingSelection(new Runnable() {
 			public void run() {
 				internalRefresh(element, updateLabels);
@@ -2331,6 +2479,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	
 	protected void handleDispose(DisposeEvent event) {
 		super.handleDispose(event);
+		cancelBackgroundRefresh();
 		sorter = null;
 		comparer = null;
 		if (filters != null)
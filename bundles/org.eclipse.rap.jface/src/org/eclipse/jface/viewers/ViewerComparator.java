@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -122,33 +122,39 @@ public class ViewerComparator implements Serializable {
 			return cat1 - cat2;
 		}
     	
-        String name1;
-        String name2;
+        String name1 = getLabel(viewer, e1);
+        String name2 = getLabel(viewer, e2);
 
+        // use the comparator to compare the strings
+        return getComparator().compare(name1, name2);
+    }
+
+    /**
+     * Returns the string that the default <code>compare</code> method uses
+     * to compare the given element, i.e. the text of the content viewer's
+     * label provider or the <code>toString</code> value of the element.
+     *
+     * @param viewer the viewer
+     * @param element the element
+     * @return the label of the element, never <code>null</code>
+     */
+    String getLabel(Viewer viewer, Object element) {
+        String name;
         if (viewer == null || !(viewer instanceof ContentViewer)) {
-            name1 = e1.toString();
-            name2 = e2.toString();
+            name = element.toString();
         } else {
             IBaseLabelProvider prov = ((ContentViewer) viewer)
                     .getLabelProvider();
             if (prov instanceof ILabelProvider) {
-                ILabelProvider lprov = (ILabelProvider) prov;
-                name1 = lprov.getText(e1);
-                name2 = lprov.getText(e2);
+                name = ((ILabelProvider) prov).getText(element);
             } else {
-                name1 = e1.toString();
-                name2 = e2.toString();
+                name = element.toString();
             }
         }
-        if (name1 == null) {
-			name1 = "";//$NON-NLS-1$
+        if (name == null) {
+			name = "";//$NON-NLS-1$
 		}
-        if (name2 == null) {
-			name2 = "";//$NON-NLS-1$
-		}
-
-        // use the comparator to compare the strings
-        return getComparator().compare(name1, name2);
+        return name;
     }
 
     /**
@@ -168,6 +174,25 @@ public class ViewerComparator implements Serializable {
         return false;
     }
 
+    /**
+     * Returns whether this comparator may be called from background threads
+     * when a viewer sorts its elements in the background. A thread-safe
+     * comparator must not access widgets or other state of the UI thread.
+     * <p>
+     * The default implementation of this method returns <code>false</code>,
+     * so that <code>compare</code> and <code>sort</code> are only called in
+     * the UI thread. Subclasses may reimplement.
+     * </p>
+     *
+     * @return <code>true</code> if this comparator is thread-safe, and
+     *    <code>false</code> otherwise
+     * @see StructuredViewer#setUseBackgroundSorting(boolean)
+     * @since 4.1
+     */
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Sorts the given elements in-place, modifying the given array.
      * <p>
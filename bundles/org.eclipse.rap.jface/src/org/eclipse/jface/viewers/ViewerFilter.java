@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -91,6 +91,25 @@ public abstract class ViewerFilter implements Serializable {
         return false;
     }
 
+    /**
+     * Returns whether this filter may be called from background threads
+     * when a viewer filters its elements in the background. A thread-safe
+     * filter must not access widgets or other state of the UI thread.
+     * <p>
+     * The default implementation of this method returns <code>false</code>,
+     * so that <code>select</code> and <code>filter</code> are only called in
+     * the UI thread. Subclasses may reimplement.
+     * </p>
+     *
+     * @return <code>true</code> if this filter is thread-safe, and
+     *    <code>false</code> otherwise
+     * @see StructuredViewer#setUseBackgroundSorting(boolean)
+     * @since 4.1
+     */
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Returns whether the given element makes it through this filter.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,7 +15,6 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.nebula.widgets.grid.internal.IGridAdapter;
@@ -25,6 +24,7 @@ import org.eclipse.nebula.widgets.grid.internal.ScrollBarProxyAdapter;
 import org.eclipse.nebula.widgets.grid.internal.gridkit.GridLCA;
 import org.eclipse.nebula.widgets.grid.internal.gridkit.GridThemeAdapter;
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.Size;
@@ -73,7 +73,7 @@ public class Grid extends Composite {
   private List<GridItem> items = new ArrayList<GridItem>();
   private List<GridItem> rootItems = new ArrayList<GridItem>();
   private List<GridItem> selectedItems = new ArrayList<GridItem>();
-  private List<Point> selectedCells = new ArrayList<Point>();
+  private final SelectedCells selectedCells = new SelectedCells();
   private List<GridColumn> columns = new ArrayList<GridColumn>();
   private List<GridColumn> displayOrderedColumns = new ArrayList<GridColumn>();
   private List<GridColumnGroup> columnGroups = new ArrayList<GridColumnGroup>();
@@ -109,6 +109,9 @@ public class Grid extends Composite {
   boolean hasDifferingHeights;
   private boolean hasSpanning;
   LayoutCache layoutCache;
+  // the flat indices of the first validFlatIndices items are up to date
+  private int validFlatIndices;
+  private final RowHeightIndex rowHeightIndex = new RowHeightIndex();
 
   /**
    * Constructs a new instance of this class given its parent and a style
@@ -209,6 +212,7 @@ public class Grid extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -233,6 +237,7 @@ public class Grid extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -262,6 +267,7 @@ public class Grid extends Composite {
    */
   public void addTreeListener( TreeListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -286,6 +292,7 @@ public class Grid extends Composite {
    */
   public void removeTreeListener( TreeListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -306,6 +313,7 @@ public class Grid extends Composite {
    */
   public void setItemCount( int count ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int itemCount = Math.max( 0, count );
     if( itemCount < items.size() ) {
       selectedCells.clear();
@@ -453,7 +461,7 @@ public class Grid extends Composite {
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    return item.getParent() == this ? items.indexOf( item ) : -1;
+    return item.getParent() == this ? internalIndexOf( item ) : -1;
   }
 
   /**
@@ -521,7 +529,7 @@ public class Grid extends Composite {
   public GridItem getNextVisibleItem( GridItem item ) {
     checkWidget();
     GridItem result = null;
-    int index = items.indexOf( item );
+    int index = item == null ? -1 : internalIndexOf( item );
     if( index != items.size() - 1 ) {
       result = items.get( index + 1 );
       while( result != null && !result.isVisible() ) {
@@ -556,7 +564,7 @@ public class Grid extends Composite {
     if( item == null ) {
       index = items.size();
     } else {
-      index = items.indexOf( item );
+      index = internalIndexOf( item );
     }
     if( index > 0 ) {
       result = items.get( index - 1 );
@@ -760,6 +768,7 @@ public class Grid extends Composite {
    */
   public void setColumnOrder( int[] order ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( order == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -993,6 +1002,7 @@ public class Grid extends Composite {
    */
   public void clear( int index, boolean allChildren ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( index < 0 || index >= items.size() ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -1025,6 +1035,7 @@ public class Grid extends Composite {
    */
   public void clear( int start, int end, boolean allChildren ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( start <= end ) {
       if( !( 0 <= start && start <= end && end < items.size() ) ) {
         SWT.error( SWT.ERROR_INVALID_RANGE );
@@ -1060,6 +1071,7 @@ public class Grid extends Composite {
    */
   public void clear( int[] indices, boolean allChildren ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1095,6 +1107,7 @@ public class Grid extends Composite {
    */
   public void clearAll( boolean allChildren ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int itemsCount = items.size();
     if( itemsCount > 0 ) {
       // [if] Note: The parameter allChildren has no effect as all items (not only rootItems)
@@ -1120,6 +1133,7 @@ public class Grid extends Composite {
    */
   public void setSelectionEnabled( boolean selectionEnabled ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( !selectionEnabled ) {
       selectedItems.clear();
     }
@@ -1181,6 +1195,7 @@ public class Grid extends Composite {
    */
   public void setCellSelectionEnabled( boolean cellSelection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( cellSelection ) {
       if( ( getStyle() & SWT.SINGLE ) == 0 ) {
         // To keep compatibility, one can selected multiple cells
@@ -1221,6 +1236,7 @@ public class Grid extends Composite {
    */
   public void select( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selectionEnabled && isValidItemIndex( index ) ) {
       if( !cellSelectionEnabled && selectionType == SWT.SINGLE ) {
         selectedItems.clear();
@@ -1254,6 +1270,7 @@ public class Grid extends Composite {
    */
   public void select( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selectionEnabled && !( selectionType == SWT.SINGLE && start != end ) ) {
       if( !cellSelectionEnabled && selectionType == SWT.SINGLE ) {
         selectedItems.clear();
@@ -1292,6 +1309,7 @@ public class Grid extends Composite {
    */
   public void select( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1320,6 +1338,7 @@ public class Grid extends Composite {
    */
   public void selectAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selectionEnabled && selectionType != SWT.SINGLE ) {
       if( cellSelectionEnabled ) {
         selectAllCells();
@@ -1352,11 +1371,12 @@ public class Grid extends Composite {
    */
   public void selectCell( Point cell ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( cellSelectionEnabled ) {
       if( cell == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
       }
-      addToCellSelection( cell );
+      addToCellSelection( cell.x, cell.y );
     }
   }
 
@@ -1383,6 +1403,7 @@ public class Grid extends Composite {
    */
   public void selectCells( Point[] cells ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( cellSelectionEnabled ) {
       if( cells == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
@@ -1393,7 +1414,7 @@ public class Grid extends Composite {
         }
       }
       for( Point cell : cells ) {
-        addToCellSelection( cell );
+        addToCellSelection( cell.x, cell.y );
       }
     }
   }
@@ -1413,6 +1434,7 @@ public class Grid extends Composite {
    */
   public void selectAllCells() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     internalSelectAll();
   }
 
@@ -1433,7 +1455,10 @@ public class Grid extends Composite {
    */
   public void selectColumn( int col ) {
     checkWidget();
-    selectCells( getCells( getColumn( col ) ) );
+    DirtyWidgets.markChanged( this );
+    if( cellSelectionEnabled ) {
+      selectCells( getColumn( col ) );
+    }
   }
 
   /**
@@ -1474,7 +1499,12 @@ public class Grid extends Composite {
    */
   public void selectColumnGroup( GridColumnGroup colGroup ) {
     checkWidget();
-    selectCells( getCells( colGroup ) );
+    DirtyWidgets.markChanged( this );
+    if( cellSelectionEnabled ) {
+      for( GridColumn column : colGroup.getColumns() ) {
+        selectCells( column );
+      }
+    }
   }
 
   /**
@@ -1494,6 +1524,7 @@ public class Grid extends Composite {
    */
   public void deselect( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( isValidItemIndex( index ) ) {
       internalDeselect( index );
     }
@@ -1519,6 +1550,7 @@ public class Grid extends Composite {
    */
   public void deselect( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     for( int index = Math.max( 0, start ); index <= Math.min( items.size() - 1, end ); index++ ) {
       internalDeselect( index );
     }
@@ -1547,6 +1579,7 @@ public class Grid extends Composite {
    */
   public void deselect( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1568,6 +1601,7 @@ public class Grid extends Composite {
    */
   public void deselectAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     internalDeselectAll();
   }
 
@@ -1593,10 +1627,11 @@ public class Grid extends Composite {
    */
   public void deselectCell( Point cell ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( cell == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    selectedCells.remove( cell );
+    selectedCells.remove( cell.x, cell.y );
   }
 
   /**
@@ -1622,6 +1657,7 @@ public class Grid extends Composite {
    */
   public void deselectCells( Point[] cells ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( cells == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1631,7 +1667,7 @@ public class Grid extends Composite {
       }
     }
     for( Point cell : cells ) {
-      selectedCells.remove( cell );
+      selectedCells.remove( cell.x, cell.y );
     }
   }
 
@@ -1650,6 +1686,7 @@ public class Grid extends Composite {
    */
   public void deselectAllCells() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     selectedCells.clear();
   }
 
@@ -1670,6 +1707,7 @@ public class Grid extends Composite {
    */
   public void setSelection( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selectionEnabled && isValidItemIndex( index ) ) {
       internalDeselectAll();
       internalSelect( index );
@@ -1700,6 +1738,7 @@ public class Grid extends Composite {
    */
   public void setSelection( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selectionEnabled && !( selectionType == SWT.SINGLE && start != end ) ) {
       internalDeselectAll();
       for( int index = Math.max( 0, start ); index <= Math.min( items.size() - 1, end ); index++ ) {
@@ -1734,6 +1773,7 @@ public class Grid extends Composite {
    */
   public void setSelection( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1772,6 +1812,7 @@ public class Grid extends Composite {
    */
   public void setSelection( GridItem[] items ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( items == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1782,7 +1823,7 @@ public class Grid extends Composite {
           if( item.isDisposed() ) {
             SWT.error( SWT.ERROR_INVALID_ARGUMENT );
           }
-          internalSelect( this.items.indexOf( item ) );
+          internalSelect( internalIndexOf( item ) );
         }
       }
     }
@@ -1810,17 +1851,13 @@ public class Grid extends Composite {
   public GridItem[] getSelection() {
     checkWidget();
     if( cellSelectionEnabled ) {
-      List<GridItem> items = new ArrayList<>();
-      int itemCount = getItemCount();
-      for( Point cell : selectedCells ) {
-        if( cell.y >= 0 && cell.y < itemCount ) {
-          GridItem item = getItem( cell.y );
-          if( !items.contains( item ) ) {
-            items.add( item );
-          }
-        }
+      List<GridItem> result = new ArrayList<>();
+      int row = selectedCells.nextRow( 0 );
+      while( row != -1 && row < items.size() ) {
+        result.add( items.get( row ) );
+        row = selectedCells.nextRow( row + 1 );
       }
-      return items.toArray( new GridItem[] {} );
+      return result.toArray( new GridItem[ result.size() ] );
     }
     return selectedItems.toArray( new GridItem[ selectedItems.size() ] );
   }
@@ -1840,14 +1877,13 @@ public class Grid extends Composite {
   public int getSelectionCount() {
     checkWidget();
     if( cellSelectionEnabled ) {
-      List<GridItem> items = new ArrayList<>();
-      for( Point cell : selectedCells ) {
-        GridItem item = getItem( cell.y );
-        if( !items.contains( item ) ) {
-          items.add( item );
-        }
+      int result = 0;
+      int row = selectedCells.nextRow( 0 );
+      while( row != -1 && row < items.size() ) {
+        result++;
+        row = selectedCells.nextRow( row + 1 );
       }
-      return items.size();
+      return result;
     }
     return selectedItems.size();
   }
@@ -1895,6 +1931,7 @@ public class Grid extends Composite {
    */
   public void setCellSelection( Point cell ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( cellSelectionEnabled ) {
       if( cell == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
@@ -1903,7 +1940,7 @@ public class Grid extends Composite {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
       selectedCells.clear();
-      addToCellSelection( cell );
+      addToCellSelection( cell.x, cell.y );
     }
   }
 
@@ -1932,6 +1969,7 @@ public class Grid extends Composite {
    */
   public void setCellSelection( Point[] cells ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( cellSelectionEnabled ) {
       if( cells == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
@@ -1946,7 +1984,7 @@ public class Grid extends Composite {
       }
       selectedCells.clear();
       for( Point cell : cells ) {
-        addToCellSelection( cell );
+        addToCellSelection( cell.x, cell.y );
       }
     }
   }
@@ -1971,7 +2009,7 @@ public class Grid extends Composite {
    */
   public Point[] getCellSelection() {
     checkWidget();
-    return selectedCells.toArray( new Point[ selectedCells.size() ] );
+    return selectedCells.toArray();
   }
 
   /**
@@ -1991,12 +2029,10 @@ public class Grid extends Composite {
     checkWidget();
     int result = -1;
     if( cellSelectionEnabled ) {
-      if( selectedCells.size() != 0 ) {
-        result = selectedCells.get( 0 ).y;
-      }
+      result = selectedCells.nextRow( 0 );
     } else {
       if( selectedItems.size() != 0 ) {
-        result = items.indexOf( selectedItems.get( 0 ) );
+        result = internalIndexOf( selectedItems.get( 0 ) );
       }
     }
     return result;
@@ -2025,23 +2061,17 @@ public class Grid extends Composite {
     checkWidget();
     int[] result = new int[ 0 ];
     if( cellSelectionEnabled ) {
-      List<GridItem> selectedRows = new ArrayList<GridItem>();
-      for( Point cell : selectedCells ) {
-        GridItem item = getItem( cell.y );
-        if( !selectedRows.contains( item ) ) {
-          selectedRows.add( item );
-        }
-      }
-      result = new int[ selectedRows.size() ];
+      result = new int[ getSelectionCount() ];
+      int row = selectedCells.nextRow( 0 );
       for( int i = 0; i < result.length; i++ ) {
-        GridItem item = selectedRows.get( i );
-        result[ i ] = items.indexOf( item );
+        result[ i ] = row;
+        row = selectedCells.nextRow( row + 1 );
       }
     } else {
       result = new int[ selectedItems.size() ];
       for( int i = 0; i < result.length; i++ ) {
         GridItem item = selectedItems.get( i );
-        result[ i ] = items.indexOf( item );
+        result[ i ] = internalIndexOf( item );
       }
     }
     return result;
@@ -2067,11 +2097,7 @@ public class Grid extends Composite {
     boolean result = false;
     if( isValidItemIndex( index ) ) {
       if( cellSelectionEnabled ) {
-        for( Point cell : selectedCells ) {
-          if( cell.y == index ) {
-            result = true;
-          }
-        }
+        result = selectedCells.isRowSelected( index );
       } else {
         result = isSelected( items.get( index ) );
       }
@@ -2103,14 +2129,8 @@ public class Grid extends Composite {
     }
     boolean result = false;
     if( cellSelectionEnabled ) {
-      int index = items.indexOf( item );
-      if( index != -1 ) {
-        for( Point cell : selectedCells ) {
-          if( cell.y == index ) {
-            result = true;
-          }
-        }
-      }
+      int index = internalIndexOf( item );
+      result = index != -1 && selectedCells.isRowSelected( index );
     } else {
       result = selectedItems.contains( item );
     }
@@ -2142,7 +2162,7 @@ public class Grid extends Composite {
     if( cell == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    return selectedCells.contains( cell );
+    return selectedCells.contains( cell.x, cell.y );
   }
 
   /**
@@ -2200,6 +2220,7 @@ public class Grid extends Composite {
    */
   public void remove( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( index < 0 || index > items.size() - 1 ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -2226,6 +2247,7 @@ public class Grid extends Composite {
    */
   public void remove( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     for( int i = end; i >= start; i-- ) {
       if( i < 0 || i > items.size() - 1 ) {
         SWT.error( SWT.ERROR_INVALID_RANGE );
@@ -2254,6 +2276,7 @@ public class Grid extends Composite {
    */
   public void remove( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2283,6 +2306,7 @@ public class Grid extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     while( items.size() > 0 ) {
       int flatIndex = items.size() - 1;
       items.get( flatIndex ).dispose( flatIndex );
@@ -2303,6 +2327,7 @@ public class Grid extends Composite {
    */
   public void setHeaderVisible( boolean show ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( columnHeadersVisible != show ) {
       columnHeadersVisible = show;
       layoutCache.invalidateHeaderHeight();
@@ -2361,6 +2386,7 @@ public class Grid extends Composite {
    */
   public void setFooterVisible( boolean show ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( columnFootersVisible != show ) {
       columnFootersVisible = show;
       layoutCache.invalidateFooterHeight();
@@ -2434,6 +2460,7 @@ public class Grid extends Composite {
    */
   public void setLinesVisible( boolean linesVisible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.linesVisible = linesVisible;
   }
 
@@ -2470,6 +2497,7 @@ public class Grid extends Composite {
    */
   public void setFocusItem( GridItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( item == null || item.isDisposed() || item.getParent() != this || !item.isVisible() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -2514,6 +2542,7 @@ public class Grid extends Composite {
    */
   public void setFocusColumn( GridColumn column ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( column == null
         || column.isDisposed()
         || column.getParent() != this
@@ -2603,6 +2632,7 @@ public class Grid extends Composite {
    */
   public void setItemHeight( int height ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( height < 1 ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -2660,16 +2690,12 @@ public class Grid extends Composite {
    */
   public void setTopIndex( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( isValidItemIndex( index ) ) {
       updateScrollBars();
       GridItem item = items.get( index );
       if( item.isVisible() && vScroll.getVisible() ) {
-        int vScrollAmount = 0;
-        for( int i = 0; i < index; i++ ) {
-          if( items.get( i ).isVisible() ) {
-            vScrollAmount++;
-          }
-        }
+        int vScrollAmount = getRowHeightIndex().getVisibleCount( index );
         vScroll.setSelection( vScrollAmount );
         invalidateTopBottomIndex();
         redraw();
@@ -2697,16 +2723,9 @@ public class Grid extends Composite {
       if( vScroll.getVisible() ) {
         int firstVisibleIndex = vScroll.getSelection();
         if( isTree ) {
-          Iterator<GridItem> iterator = items.iterator();
-          int row = firstVisibleIndex + 1;
-          while( row > 0 && iterator.hasNext() ) {
-            GridItem item = iterator.next();
-            if( item.isVisible() ) {
-              row--;
-              if( row == 0 ) {
-                firstVisibleIndex = items.indexOf( item );
-              }
-            }
+          int index = getRowHeightIndex().findVisible( firstVisibleIndex + 1 );
+          if( index != -1 ) {
+            firstVisibleIndex = index;
           }
         }
         topIndex = firstVisibleIndex;
@@ -2733,6 +2752,7 @@ public class Grid extends Composite {
    */
   public void showItem( GridItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2752,7 +2772,7 @@ public class Grid extends Composite {
           parent = parent.getParentItem();
         }
         if( !isShown( item ) ) {
-          setTopIndex( items.indexOf( item ) );
+          setTopIndex( internalIndexOf( item ) );
         }
       }
     }
@@ -2773,6 +2793,7 @@ public class Grid extends Composite {
    */
   public void showColumn( GridColumn column ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( column == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2817,13 +2838,14 @@ public class Grid extends Composite {
    */
   public void showSelection() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     GridItem item = null;
     if( cellSelectionEnabled ) {
-      if( selectedCells.size() != 0 ) {
-        Point cell = selectedCells.get( 0 );
-        item = getItem( cell.y );
+      int row = selectedCells.nextRow( 0 );
+      if( row != -1 ) {
+        item = getItem( row );
         showItem( item );
-        GridColumn column = getColumn( cell.x );
+        GridColumn column = getColumn( selectedCells.nextColumn( row, 0 ) );
         showColumn( column );
       }
     } else {
@@ -2844,6 +2866,7 @@ public class Grid extends Composite {
    */
   public void setAutoHeight( boolean autoHeight ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.autoHeight != autoHeight ) {
       this.autoHeight = autoHeight;
       layoutCache.invalidateHeaderHeight();
@@ -2918,6 +2941,7 @@ public class Grid extends Composite {
    */
   public void setRowHeaderVisible( boolean show, int minWidth ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( rowHeadersColumn != null ) {
       if( show ) {
         rowHeadersColumn.setMinimumWidth( Math.max( 10, minWidth ) );
@@ -2940,6 +2964,7 @@ public class Grid extends Composite {
    */
   public void setItemHeaderWidth( int width ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( rowHeadersColumn != null ) {
       rowHeadersColumn.setWidth( width );
     }
@@ -2997,6 +3022,7 @@ public class Grid extends Composite {
    */
   public void setWordWrapHeader( boolean enabled ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( rowHeadersColumn != null ) {
       rowHeadersColumn.setWordWrap( enabled );
     }
@@ -3055,7 +3081,7 @@ public class Grid extends Composite {
       if( index >= rootItems.size() ) {
         flatIndex = -1;
       } else {
-        flatIndex = items.indexOf( rootItems.get( index ) );
+        flatIndex = internalIndexOf( rootItems.get( index ) );
       }
     } else if( !root ) {
       if( index >= parentItem.getItemCount() || index == -1 ) {
@@ -3064,18 +3090,20 @@ public class Grid extends Composite {
           int lastChildIndex = rightMostDescendent.getItemCount() - 1;
           rightMostDescendent = rightMostDescendent.getItem( lastChildIndex );
         }
-        flatIndex = items.indexOf( rightMostDescendent ) + 1;
+        flatIndex = internalIndexOf( rightMostDescendent ) + 1;
       } else {
-        flatIndex = items.indexOf( parentItem.getItem( index ) );
+        flatIndex = internalIndexOf( parentItem.getItem( index ) );
       }
     }
-    if( flatIndex == -1 ) {
+    if( flatIndex == -1 || flatIndex == items.size() ) {
       items.add( item );
       row = items.size() - 1;
     } else {
       items.add( flatIndex, item );
       row = flatIndex;
+      selectedCells.insertRow( row );
     }
+    itemAdded( item, row );
     updateVisibleItems( 1 );
     scheduleRedraw();
     return row;
@@ -3083,12 +3111,10 @@ public class Grid extends Composite {
 
   void removeItem( int index ) {
     GridItem item = items.remove( index );
+    itemRemoved( item, index );
     if( !disposing ) {
       selectedItems.remove (item );
-      Point[] cells = getCells( item );
-      for( int i = 0; i < cells.length; i++ ) {
-        selectedCells.remove( cells[ i ] );
-      }
+      selectedCells.removeRow( index );
       if( focusItem == item ) {
         focusItem = null;
       }
@@ -3099,6 +3125,49 @@ public class Grid extends Composite {
     }
   }
 
+  private void itemAdded( GridItem item, int index ) {
+    item.flatIndex = index;
+    boolean appended = index == items.size() - 1;
+    if( appended && validFlatIndices == index ) {
+      validFlatIndices++;
+    } else {
+      validFlatIndices = Math.min( validFlatIndices, index );
+    }
+    if( appended && rowHeightIndex.isValid() ) {
+      rowHeightIndex.add( item );
+    } else {
+      rowHeightIndex.invalidate();
+    }
+  }
+
+  private void itemRemoved( GridItem item, int index ) {
+    item.flatIndex = -1;
+    validFlatIndices = Math.min( validFlatIndices, index );
+    if( index == items.size() && rowHeightIndex.isValid() ) {
+      rowHeightIndex.removeLast();
+    } else {
+      rowHeightIndex.invalidate();
+    }
+  }
+
+  void updateRow( GridItem item ) {
+    if( rowHeightIndex.isValid() ) {
+      int index = item.flatIndex;
+      if( index >= 0 && index < validFlatIndices ) {
+        rowHeightIndex.update( index, item );
+      } else {
+        rowHeightIndex.invalidate();
+      }
+    }
+  }
+
+  private RowHeightIndex getRowHeightIndex() {
+    if( !rowHeightIndex.isValid() ) {
+      rowHeightIndex.rebuild( items );
+    }
+    return rowHeightIndex;
+  }
+
   void newRootItem( GridItem item, int index ) {
     if( index == -1 || index >= rootItems.size() ) {
       rootItems.add( item );
@@ -3146,20 +3215,7 @@ public class Grid extends Composite {
   void removeColumn( GridColumn column ) {
     int index = columns.indexOf( column );
     if( cellSelectionEnabled ) {
-      List<Point> removeSelectedCells = new ArrayList<>();
-      for( Point cell : selectedCells ) {
-        if( cell.x == index ) {
-          removeSelectedCells.add( cell );
-        }
-      }
-      if( removeSelectedCells.size() > 0 ) {
-        selectedCells.removeAll( removeSelectedCells );
-      }
-      for( Point cell : selectedCells ) {
-        if( cell.x >= index ) {
-          cell.x-- ;
-        }
-      }
+      selectedCells.removeColumn( index );
     }
     columns.remove( index );
     displayOrderedColumns.remove( column );
@@ -3247,25 +3303,14 @@ public class Grid extends Composite {
         y += getHeaderHeight();
       }
       int topIndex = getTopIndex();
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
-      while( topIndex != itemIndex ) {
-        if( topIndex < itemIndex ) {
-          GridItem currentItem = items.get( topIndex );
-          if( currentItem.isVisible() ) {
-            y += currentItem.getHeight();
-          }
-          topIndex++;
-        } else if( topIndex > itemIndex ) {
-          topIndex--;
-          GridItem currentItem = items.get( topIndex );
-          if( currentItem.isVisible() ) {
-            y -= currentItem.getHeight();
-          }
-        }
-      }
+      RowHeightIndex heightIndex = getRowHeightIndex();
+      int itemHeight = getItemHeight();
+      y += heightIndex.getHeight( itemIndex, itemHeight );
+      y -= heightIndex.getHeight( topIndex, itemHeight );
     }
     return new Point( x, y );
   }
@@ -3274,7 +3319,7 @@ public class Grid extends Composite {
     checkWidget();
     boolean result = false;
     if( item.isVisible() ) {
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -3453,11 +3498,7 @@ public class Grid extends Composite {
   private int getGridHeight() {
     int result = 0;
     if( hasDifferingHeights ) {
-      for( GridItem item : items ) {
-        if( item.isVisible() ) {
-          result += item.getHeight();
-        }
-      }
+      result = getRowHeightIndex().getHeight( items.size(), getItemHeight() );
     } else {
       result = currentVisibleItems * getItemHeight();
     }
@@ -3488,7 +3529,7 @@ public class Grid extends Composite {
     if( isValidItemIndex( index ) ) {
       GridItem item = items.get( index );
       if( cellSelectionEnabled ) {
-        selectCells( getCells( item ) );
+        selectCells( item, index );
       } else if( !selectedItems.contains( item ) ) {
         selectedItems.add( item );
       }
@@ -3508,7 +3549,7 @@ public class Grid extends Composite {
     if( isValidItemIndex( index ) ) {
       GridItem item = items.get( index );
       if( cellSelectionEnabled ) {
-        deselectCells( getCells( item ) );
+        deselectCells( item, index );
       } else if( selectedItems.contains( item ) ) {
         selectedItems.remove( item );
       }
@@ -3523,9 +3564,7 @@ public class Grid extends Composite {
     }
   }
 
-  private Point[] getCells( GridItem item ) {
-    List<Point> cells = new ArrayList<>();
-    int itemIndex = items.indexOf( item );
+  private void selectCells( GridItem item, int row ) {
     int span = 0;
     for( GridColumn nextCol : displayOrderedColumns ) {
       if( span > 0 ) {
@@ -3535,14 +3574,29 @@ public class Grid extends Composite {
       if( !nextCol.isVisible() ) {
         continue;
       }
-      span = item.getColumnSpan( indexOf( nextCol ) );
-      cells.add( new Point( indexOf( nextCol ), itemIndex ) );
+      int column = indexOf( nextCol );
+      span = item.getColumnSpan( column );
+      addToCellSelection( column, row );
     }
-    return cells.toArray( new Point[ 0 ] );
   }
 
-  private Point[] getCells( GridColumn col ) {
-    List<Point> cells = new ArrayList<>();
+  private void deselectCells( GridItem item, int row ) {
+    int span = 0;
+    for( GridColumn nextCol : displayOrderedColumns ) {
+      if( span > 0 ) {
+        span-- ;
+        continue;
+      }
+      if( !nextCol.isVisible() ) {
+        continue;
+      }
+      int column = indexOf( nextCol );
+      span = item.getColumnSpan( column );
+      selectedCells.remove( column, row );
+    }
+  }
+
+  private void selectCells( GridColumn col ) {
     int colIndex = indexOf( col );
     int columnAtPosition = 0;
     for( GridColumn nextCol : displayOrderedColumns ) {
@@ -3576,44 +3630,28 @@ public class Grid extends Composite {
         }
       }
       if( !spanned && item.getColumnSpan( colIndex ) == 0 ) {
-        cells.add( new Point( colIndex, indexOf( item ) ) );
+        addToCellSelection( colIndex, internalIndexOf( item ) );
       }
       item = getNextVisibleItem( item );
     }
-    return cells.toArray( new Point[ 0 ] );
   }
 
-  private Point[] getCells( GridColumnGroup colGroup ) {
-    List<Point> cells = new ArrayList<>();
-    for( GridColumn col : colGroup.getColumns() ) {
-      for( Point cell : getCells( col ) ) {
-        cells.add( cell );
-      }
-    }
-    return cells.toArray( new Point[ 0 ] );
+  void deselectColumnCells( GridColumn column ) {
+    selectedCells.clearColumn( indexOf( column ) );
   }
 
-  private void addToCellSelection( Point newCell ) {
-    if( newCell.x < 0 || newCell.x >= columns.size() ) {
+  private void addToCellSelection( int column, int row ) {
+    if( column < 0 || column >= columns.size() ) {
       return;
     }
-    if( newCell.y < 0 || newCell.y >= items.size() ) {
+    if( row < 0 || row >= items.size() ) {
       return;
     }
-    Iterator<Point> it = selectedCells.iterator();
-    boolean found = false;
-    while( it.hasNext() ) {
-      Point p = it.next();
-      if( newCell.equals( p ) ) {
-        found = true;
-        break;
-      }
-    }
-    if( !found ) {
+    if( !selectedCells.contains( column, row ) ) {
       if( selectionType == SWT.SINGLE && selectedCells.size() > 0 ) {
         return;
       }
-      selectedCells.add( newCell );
+      selectedCells.add( column, row );
     }
   }
 
@@ -3977,38 +4015,23 @@ public class Grid extends Composite {
         result.rows = 0;
         result.height = 0;
       } else if( isTree || hasDifferingHeights ) {
-        int otherIndex = startIndex;
-        int consumedItems = 0;
-        int consumedHeight = 0;
-        consumedItems++;
-        consumedHeight += items.get( otherIndex ).getHeight();
-        boolean abort = false;
-        while( consumedHeight + 1 <= availableHeight && !abort ) {
-          int nextIndex = otherIndex;
-          GridItem nextItem;
-          do {
-            nextIndex += inverse ? -1 : 1;
-            if( isValidItemIndex( nextIndex ) ) {
-              nextItem = items.get( nextIndex );
-            } else {
-              nextItem = null;
-            }
-          } while( nextItem != null && !nextItem.isVisible() );
-          if(    nextItem == null
-              || forceEndCompletelyInside
-              && !( consumedHeight + nextItem.getHeight() <= availableHeight ) )
-          {
-            abort = true;
-          } else {
-            consumedItems++;
-            consumedHeight += nextItem.getHeight();
-            otherIndex = nextIndex;
-          }
+        RowHeightIndex heightIndex = getRowHeightIndex();
+        int itemHeight = getItemHeight();
+        int otherIndex;
+        if( inverse ) {
+          otherIndex = findRangeStart( startIndex, availableHeight, forceEndCompletelyInside );
+          result.startIndex = otherIndex;
+          result.endIndex = startIndex;
+        } else {
+          otherIndex = findRangeEnd( startIndex, availableHeight, forceEndCompletelyInside );
+          result.startIndex = startIndex;
+          result.endIndex = otherIndex;
         }
-        result.startIndex = !inverse ? startIndex : otherIndex;
-        result.endIndex = !inverse ? otherIndex : startIndex;
-        result.rows = consumedItems;
-        result.height = consumedHeight;
+        int first = result.startIndex;
+        int end = result.endIndex + 1;
+        result.rows = heightIndex.getVisibleCount( end ) - heightIndex.getVisibleCount( first );
+        result.height
+          = heightIndex.getHeight( end, itemHeight ) - heightIndex.getHeight( first, itemHeight );
       } else {
         int availableRows = availableHeight / getItemHeight();
         if( !forceEndCompletelyInside && availableRows * getItemHeight() < availableHeight ) {
@@ -4026,6 +4049,60 @@ public class Grid extends Composite {
     return result;
   }
 
+  /*
+   * Returns the last visible item of the range that starts with the given visible item. The range
+   * ends with the first item that reaches the available height, or with the last item that fits
+   * completely if forced to.
+   */
+  private int findRangeEnd( int startIndex, int availableHeight, boolean completelyInside ) {
+    RowHeightIndex heightIndex = getRowHeightIndex();
+    int itemHeight = getItemHeight();
+    int offset = heightIndex.getHeight( startIndex, itemHeight );
+    int result;
+    if( completelyInside ) {
+      // the visible items before the largest end that fits are inside
+      int end = heightIndex.findEnd( offset + availableHeight, itemHeight );
+      result = heightIndex.findVisible( heightIndex.getVisibleCount( end ) );
+    } else {
+      // the item that makes the range reach the available height is the last one
+      int end = heightIndex.findEnd( offset + availableHeight - 1, itemHeight );
+      if( end < items.size() ) {
+        result = end;
+      } else {
+        result = heightIndex.findVisible( heightIndex.getVisibleCount( end ) );
+      }
+    }
+    return Math.max( result, startIndex );
+  }
+
+  /*
+   * Returns the first visible item of the range that ends with the given visible item. The range
+   * starts with the first item that reaches the available height, or with the first item that
+   * fits completely if forced to.
+   */
+  private int findRangeStart( int endIndex, int availableHeight, boolean completelyInside ) {
+    RowHeightIndex heightIndex = getRowHeightIndex();
+    int itemHeight = getItemHeight();
+    int offset = heightIndex.getHeight( endIndex + 1, itemHeight );
+    int result;
+    if( completelyInside ) {
+      // the visible items after the smallest start that fits are inside
+      int limit = offset - availableHeight;
+      int start = limit <= 0 ? 0 : heightIndex.findEnd( limit - 1, itemHeight ) + 1;
+      result = heightIndex.findVisible( heightIndex.getVisibleCount( start ) + 1 );
+    } else {
+      // the item that makes the range reach the available height is the first one
+      int limit = offset - availableHeight;
+      if( limit < 0 ) {
+        result = heightIndex.findVisible( 1 );
+      } else {
+        int start = heightIndex.findEnd( limit, itemHeight );
+        result = heightIndex.findVisible( heightIndex.getVisibleCount( start + 1 ) );
+      }
+    }
+    return result == -1 || result > endIndex ? endIndex : result;
+  }
+
   private boolean isValidItemIndex( int index ) {
     return index >= 0 && index < items.size();
   }
@@ -4041,7 +4118,18 @@ public class Grid extends Composite {
   }
 
   int internalIndexOf( GridItem item ) {
-    return items.indexOf( item );
+    if( item.flatIndex >= validFlatIndices ) {
+      updateFlatIndices();
+    }
+    int index = item.flatIndex;
+    return index >= 0 && index < items.size() && items.get( index ) == item ? index : -1;
+  }
+
+  private void updateFlatIndices() {
+    for( int index = validFlatIndices; index < items.size(); index++ ) {
+      items.get( index ).flatIndex = index;
+    }
+    validFlatIndices = items.size();
   }
 
   void scheduleRedraw() {
@@ -4209,6 +4297,16 @@ public class Grid extends Composite {
       return item.index;
     }
 
+    @Override
+    public int getNextSelectedRow( int row ) {
+      return selectedCells.nextRow( row );
+    }
+
+    @Override
+    public int getNextSelectedColumn( int row, int column ) {
+      return selectedCells.nextColumn( row, column );
+    }
+
     @Override
     public ICellToolTipProvider getCellToolTipProvider() {
       return provider;
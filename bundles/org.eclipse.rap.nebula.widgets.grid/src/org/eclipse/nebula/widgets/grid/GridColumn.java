@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisab
 
 import org.eclipse.nebula.widgets.grid.internal.gridcolumnkit.GridColumnLCA;
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
@@ -234,6 +235,7 @@ public class GridColumn extends Item {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -260,6 +262,7 @@ public class GridColumn extends Item {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -287,6 +290,7 @@ public class GridColumn extends Item {
    */
   public void addControlListener( ControlListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -314,6 +318,7 @@ public class GridColumn extends Item {
    */
   public void removeControlListener( ControlListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -336,6 +341,7 @@ public class GridColumn extends Item {
    */
   public void setWidth( int width ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     internalSetWidth( width );
   }
 
@@ -364,6 +370,7 @@ public class GridColumn extends Item {
    */
   public void setMinimumWidth( int minimumWidth ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.minimumWidth = Math.max( 0, minimumWidth );
     if( minimumWidth > width ) {
       internalSetWidth( minimumWidth );
@@ -409,6 +416,7 @@ public class GridColumn extends Item {
    */
   public void setSort( int style ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( style == SWT.UP || style == SWT.DOWN || style == SWT.NONE ) {
       // TODO: [if] Currently, client implementation supports only one sort column
       if( style != SWT.NONE ) {
@@ -456,6 +464,7 @@ public class GridColumn extends Item {
    */
   public void setMoveable( boolean moveable ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.moveable = moveable;
     parent.redraw();
   }
@@ -492,6 +501,7 @@ public class GridColumn extends Item {
    */
   public void setResizeable( boolean resizeable ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.resizeable = resizeable;
   }
 
@@ -528,6 +538,7 @@ public class GridColumn extends Item {
    */
   public void setCheckable(boolean checkable) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.checkable = checkable;
   }
 
@@ -567,6 +578,7 @@ public class GridColumn extends Item {
    */
   public void setDetail( boolean detail ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.detail = detail;
   }
 
@@ -605,6 +617,7 @@ public class GridColumn extends Item {
    */
   public void setSummary( boolean summary ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.summary = summary;
   }
 
@@ -641,6 +654,7 @@ public class GridColumn extends Item {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     boolean before = isVisible();
     this.visible = visible;
     if( isVisible() != before ) {
@@ -740,6 +754,7 @@ public class GridColumn extends Item {
    */
   public void setTree( boolean tree ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( tree ) {
       parent.setTreeColumn( this );
     } else if( isTree() ) {
@@ -780,6 +795,7 @@ public class GridColumn extends Item {
    */
   public void setAlignment( int alignment ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( alignment == SWT.LEFT || alignment == SWT.CENTER || alignment == SWT.RIGHT ) {
       this.alignment = alignment;
     }
@@ -837,6 +853,7 @@ public class GridColumn extends Item {
    */
   public void setWordWrap( boolean wordWrap ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.wordWrap != wordWrap ) {
       this.wordWrap = wordWrap;
       parent.scheduleRedraw();
@@ -863,6 +880,7 @@ public class GridColumn extends Item {
    */
   public void setHeaderFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -903,6 +921,7 @@ public class GridColumn extends Item {
    */
   public void setHeaderTooltip( String toolTipText ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -940,6 +959,7 @@ public class GridColumn extends Item {
    */
   public void setHeaderWordWrap( boolean wordWrap ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( headerWordWrap != wordWrap ) {
       headerWordWrap = wordWrap;
       parent.layoutCache.invalidateHeaderHeight();
@@ -980,6 +1000,7 @@ public class GridColumn extends Item {
    */
   public void setFooterText( String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1028,6 +1049,7 @@ public class GridColumn extends Item {
    */
   public void setFooterImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1074,6 +1096,7 @@ public class GridColumn extends Item {
    */
   public void setFooterFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,13 +14,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.nebula.widgets.grid.internal.gridcolumngroupkit.GridColumnGroupLCA;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.TreeListener;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
-import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.TypedListener;
 
@@ -123,6 +123,7 @@ public class GridColumnGroup extends Item {
    */
   public void addTreeListener( TreeListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -150,6 +151,7 @@ public class GridColumnGroup extends Item {
    */
   public void removeTreeListener( TreeListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -189,23 +191,13 @@ public class GridColumnGroup extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.expanded != expanded ) {
       this.expanded = expanded;
       if( parent.getCellSelectionEnabled() ) {
-        List<Integer> collapsedCols = new ArrayList<>();
-        for( int j = 0; j < columns.size(); j++ ) {
-          GridColumn column = columns.get( j );
-          if( expanded && column.isSummary() ) {
-            collapsedCols.add( Integer.valueOf( parent.indexOf( column ) ) );
-          }
-          if( !expanded && !column.isSummary() ) {
-            collapsedCols.add( Integer.valueOf( parent.indexOf( column ) ) );
-          }
-        }
-        Point[] selection = parent.getCellSelection();
-        for( int i = 0; i < selection.length; i++ ) {
-          if( collapsedCols.contains( Integer.valueOf( selection[ i ].x ) ) ) {
-            parent.deselectCell( selection[ i ] );
+        for( GridColumn column : columns ) {
+          if( expanded ? column.isSummary() : !column.isSummary() ) {
+            parent.deselectColumnCells( column );
           }
         }
       }
@@ -267,6 +259,7 @@ public class GridColumnGroup extends Item {
    */
   public void setHeaderFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -298,6 +291,7 @@ public class GridColumnGroup extends Item {
    */
   public void setHeaderWordWrap( boolean wordWrap ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     headerWordWrap = wordWrap;
     parent.layoutCache.invalidateHeaderHeight();
     parent.scheduleRedraw();
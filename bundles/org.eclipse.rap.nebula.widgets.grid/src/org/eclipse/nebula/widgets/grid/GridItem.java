@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import org.eclipse.nebula.widgets.grid.internal.GridItemData;
 import org.eclipse.nebula.widgets.grid.internal.GridItemData.CellData;
 import org.eclipse.nebula.widgets.grid.internal.IGridItemAdapter;
 import org.eclipse.nebula.widgets.grid.internal.griditemkit.GridItemLCA;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.swt.SWT;
@@ -59,6 +60,7 @@ public class GridItem extends Item {
   private boolean cached;
   private transient IGridItemAdapter gridItemAdapter;
   int index;
+  int flatIndex = -1;
 
   /**
    * Creates a new instance of this class and places the item at the end of
@@ -227,6 +229,7 @@ public class GridItem extends Item {
    */
   public void fireEvent( int eventId ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     Event event = new Event();
     event.display = getDisplay();
     event.widget = this;
@@ -255,6 +258,7 @@ public class GridItem extends Item {
    */
   public void fireCheckEvent( int column ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     Event event = new Event();
     event.display = getDisplay();
     event.widget = this;
@@ -459,6 +463,7 @@ public class GridItem extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( getItemData().expanded != expanded ) {
       getItemData().expanded = expanded;
       boolean unselected = false;
@@ -529,6 +534,7 @@ public class GridItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -581,6 +587,7 @@ public class GridItem extends Item {
    */
   public void setFont( int index, Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -636,6 +643,7 @@ public class GridItem extends Item {
    */
   public void setBackground( Color background ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( background != null && background.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -686,6 +694,7 @@ public class GridItem extends Item {
    */
   public void setBackground( int index, Color background ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( background != null && background.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -739,6 +748,7 @@ public class GridItem extends Item {
    */
   public void setForeground( Color foreground ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( foreground != null && foreground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -789,6 +799,7 @@ public class GridItem extends Item {
    */
   public void setForeground( int index, Color foreground ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( foreground != null && foreground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -826,6 +837,7 @@ public class GridItem extends Item {
   @Override
   public void setText( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setText( 0, string );
   }
 
@@ -859,6 +871,7 @@ public class GridItem extends Item {
    */
   public void setText( int index, String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -909,6 +922,7 @@ public class GridItem extends Item {
    */
   public void setToolTipText( int index, String tooltip ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     getCellData( index ).tooltip = tooltip;
     if( tooltip != null && tooltip.length() > 0 ) {
       parent.setCellToolTipsEnabled( true );
@@ -942,6 +956,7 @@ public class GridItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setImage( 0, image );
   }
 
@@ -975,6 +990,7 @@ public class GridItem extends Item {
    */
   public void setImage( int index, Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1021,6 +1037,7 @@ public class GridItem extends Item {
    */
   public void setChecked( boolean checked ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setChecked( 0, checked );
   }
 
@@ -1058,6 +1075,7 @@ public class GridItem extends Item {
    */
   public void setChecked( int index, boolean checked ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
     getCellData( index ).checked = checked;
     markCached();
@@ -1100,6 +1118,7 @@ public class GridItem extends Item {
    */
   public void setGrayed( boolean grayed ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setGrayed( 0, grayed );
   }
 
@@ -1141,6 +1160,7 @@ public class GridItem extends Item {
    */
   public void setGrayed( int index, boolean grayed ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
     getCellData( index ).grayed = grayed;
     markCached();
@@ -1188,6 +1208,7 @@ public class GridItem extends Item {
    */
   public void setCheckable( int index, boolean checked ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
     getCellData( index ).checkable = checked;
     markCached();
@@ -1239,6 +1260,7 @@ public class GridItem extends Item {
    */
   public void setColumnSpan( int index, int span ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     getCellData( index ).columnSpan = span;
     parent.setHasSpanning( true );
   }
@@ -1279,12 +1301,14 @@ public class GridItem extends Item {
    */
   public void setHeight( int height ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( height < 1 ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
     if( getItemData().customHeight != height ) {
       getItemData().customHeight = height;
       parent.hasDifferingHeights = true;
+      parent.updateRow( this );
       markCached();
       parent.scheduleRedraw();
     }
@@ -1301,6 +1325,10 @@ public class GridItem extends Item {
     return customHeight != -1 ? customHeight : parent.getItemHeight();
   }
 
+  int getCustomHeight() {
+    return data == null ? -1 : data.customHeight;
+  }
+
   /**
    * Sets the receiver's row header text. If the text is <code>null</code> the
    * row header will display the row number.
@@ -1323,6 +1351,7 @@ public class GridItem extends Item {
    */
   public void setHeaderText( String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( parent.getRowHeadersColumn() != null ) {
       updateColumnTextCount( Integer.MIN_VALUE, internalGetHeaderText(), text );
       getItemData().headerText = text;
@@ -1368,6 +1397,7 @@ public class GridItem extends Item {
    */
   public void setHeaderImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1415,6 +1445,7 @@ public class GridItem extends Item {
    */
   public void setHeaderBackground( Color headerBackground ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( headerBackground != null && headerBackground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1459,6 +1490,7 @@ public class GridItem extends Item {
    */
   public void setHeaderForeground( Color headerForeground ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( headerForeground != null && headerForeground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1503,6 +1535,7 @@ public class GridItem extends Item {
    */
   public void setHeaderFont( Font headerFont ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( headerFont != null && headerFont.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1599,6 +1632,7 @@ public class GridItem extends Item {
     if( this.visible != visible ) {
       this.visible = visible;
       parent.updateVisibleItems( visible ? 1 : -1 );
+      parent.updateRow( this );
       if( hasChildren ) {
         for( GridItem item : getItemData().getChildren() ) {
           item.setVisible( visible && isExpanded() );
@@ -1786,7 +1820,10 @@ public class GridItem extends Item {
   }
 
   void setDefaultHeaderText( String text ) {
-    getItemData().defaultHeaderText = text;
+    if( !text.equals( getItemData().defaultHeaderText ) ) {
+      DirtyWidgets.markChanged( this );
+      getItemData().defaultHeaderText = text;
+    }
   }
 
   private Color internalGetHeaderBackground() {
@@ -1865,6 +1902,7 @@ public class GridItem extends Item {
 
   private void markCached() {
     if( parent.isVirtual() ) {
+      DirtyWidgets.markChanged( this );
       cached = true;
     }
   }
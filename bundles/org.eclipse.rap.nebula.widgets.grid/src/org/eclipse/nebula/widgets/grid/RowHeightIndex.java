@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * Prefix sums over the rows of a grid, i.e. over the flat list of its items. The number of
+ * visible rows and the heights of visible rows with a custom height are kept in Fenwick trees,
+ * which allows to compute the height of a range of rows and to find the row at a given offset in
+ * logarithmic time. Rows without a custom height contribute the default item height, which is
+ * passed to every query since it may change at any time.
+ * <p>
+ * Rows can be appended, removed from the end and updated in place. Any other structural change
+ * requires the index to be invalidated and rebuilt from the items.
+ * </p>
+ */
+@SuppressWarnings( "restriction" )
+final class RowHeightIndex implements SerializableCompatibility {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private int size;
+  private boolean valid;
+  private boolean[] visible;
+  private int[] customHeights;
+  // Fenwick trees, one-based
+  private int[] visibleCounts;
+  private int[] customCounts;
+  private int[] customHeightSums;
+
+  RowHeightIndex() {
+    visible = new boolean[ INITIAL_CAPACITY ];
+    customHeights = new int[ INITIAL_CAPACITY ];
+    visibleCounts = new int[ INITIAL_CAPACITY + 1 ];
+    customCounts = new int[ INITIAL_CAPACITY + 1 ];
+    customHeightSums = new int[ INITIAL_CAPACITY + 1 ];
+  }
+
+  boolean isValid() {
+    return valid;
+  }
+
+  void invalidate() {
+    valid = false;
+  }
+
+  int size() {
+    return size;
+  }
+
+  void rebuild( List<GridItem> items ) {
+    size = 0;
+    ensureCapacity( items.size() );
+    Arrays.fill( visibleCounts, 0 );
+    Arrays.fill( customCounts, 0 );
+    Arrays.fill( customHeightSums, 0 );
+    for( GridItem item : items ) {
+      int node = ++size;
+      visible[ node - 1 ] = item.isVisible();
+      customHeights[ node - 1 ] = item.getCustomHeight();
+      visibleCounts[ node ] += visibleValue( node - 1 );
+      customCounts[ node ] += customCountValue( node - 1 );
+      customHeightSums[ node ] += customHeightValue( node - 1 );
+      // linear construction, every node passes its range sum on to its parent
+      int parent = node + ( node & -node );
+      if( parent <= items.size() ) {
+        visibleCounts[ parent ] += visibleCounts[ node ];
+        customCounts[ parent ] += customCounts[ node ];
+        customHeightSums[ parent ] += customHeightSums[ node ];
+      }
+    }
+    valid = true;
+  }
+
+  void add( GridItem item ) {
+    ensureCapacity( size + 1 );
+    int node = ++size;
+    visible[ node - 1 ] = item.isVisible();
+    customHeights[ node - 1 ] = item.getCustomHeight();
+    // a node covers the rows ( node - lowbit( node ), node ]
+    int start = node - ( node & -node );
+    visibleCounts[ node ] = visibleValue( node - 1 ) + sum( visibleCounts, start, node - 1 );
+    customCounts[ node ] = customCountValue( node - 1 ) + sum( customCounts, start, node - 1 );
+    customHeightSums[ node ]
+      = customHeightValue( node - 1 ) + sum( customHeightSums, start, node - 1 );
+  }
+
+  void removeLast() {
+    // the nodes of the remaining rows do not cover the last row
+    int node = size--;
+    visibleCounts[ node ] = 0;
+    customCounts[ node ] = 0;
+    customHeightSums[ node ] = 0;
+  }
+
+  void update( int index, GridItem item ) {
+    int visibleDelta = -visibleValue( index );
+    int customCountDelta = -customCountValue( index );
+    int customHeightDelta = -customHeightValue( index );
+    visible[ index ] = item.isVisible();
+    customHeights[ index ] = item.getCustomHeight();
+    visibleDelta += visibleValue( index );
+    customCountDelta += customCountValue( index );
+    customHeightDelta += customHeightValue( index );
+    for( int node = index + 1; node <= size; node += node & -node ) {
+      visibleCounts[ node ] += visibleDelta;
+      customCounts[ node ] += customCountDelta;
+      customHeightSums[ node ] += customHeightDelta;
+    }
+  }
+
+  /**
+   * Returns the number of visible rows before the given index.
+   */
+  int getVisibleCount( int end ) {
+    return prefix( visibleCounts, end );
+  }
+
+  /**
+   * Returns the total height of the visible rows before the given index.
+   */
+  int getHeight( int end, int defaultHeight ) {
+    int customCount = prefix( customCounts, end );
+    int defaultCount = prefix( visibleCounts, end ) - customCount;
+    return prefix( customHeightSums, end ) + defaultCount * defaultHeight;
+  }
+
+  /**
+   * Returns the index of the visible row with the given one-based position among the visible
+   * rows, or -1 if there are fewer visible rows.
+   */
+  int findVisible( int position ) {
+    int node = 0;
+    int remaining = position;
+    for( int step = Integer.highestOneBit( Math.max( size, 1 ) ); step > 0; step >>= 1 ) {
+      int next = node + step;
+      if( next <= size && visibleCounts[ next ] < remaining ) {
+        node = next;
+        remaining -= visibleCounts[ next ];
+      }
+    }
+    return position > 0 && node < size ? node : -1;
+  }
+
+  /**
+   * Returns the largest index for which the total height of the visible rows before that index
+   * does not exceed the given height, or 0 if the height is negative.
+   */
+  int findEnd( int height, int defaultHeight ) {
+    int node = 0;
+    int consumed = 0;
+    for( int step = Integer.highestOneBit( Math.max( size, 1 ) ); step > 0; step >>= 1 ) {
+      int next = node + step;
+      if( next <= size ) {
+        int defaultCount = visibleCounts[ next ] - customCounts[ next ];
+        int nodeHeight = customHeightSums[ next ] + defaultCount * defaultHeight;
+        if( consumed + nodeHeight <= height ) {
+          node = next;
+          consumed += nodeHeight;
+        }
+      }
+    }
+    return node;
+  }
+
+  private int visibleValue( int index ) {
+    return visible[ index ] ? 1 : 0;
+  }
+
+  private int customCountValue( int index ) {
+    return visible[ index ] && customHeights[ index ] != -1 ? 1 : 0;
+  }
+
+  private int customHeightValue( int index ) {
+    return visible[ index ] && customHeights[ index ] != -1 ? customHeights[ index ] : 0;
+  }
+
+  private void ensureCapacity( int capacity ) {
+    if( capacity > visible.length ) {
+      int newCapacity = Math.max( capacity, visible.length * 2 );
+      visible = Arrays.copyOf( visible, newCapacity );
+      customHeights = Arrays.copyOf( customHeights, newCapacity );
+      visibleCounts = Arrays.copyOf( visibleCounts, newCapacity + 1 );
+      customCounts = Arrays.copyOf( customCounts, newCapacity + 1 );
+      customHeightSums = Arrays.copyOf( customHeightSums, newCapacity + 1 );
+    }
+  }
+
+  private static int sum( int[] tree, int start, int end ) {
+    return prefix( tree, end ) - prefix( tree, start );
+  }
+
+  private static int prefix( int[] tree, int end ) {
+    int result = 0;
+    for( int node = end; node > 0; node -= node & -node ) {
+      result += tree[ node ];
+    }
+    return result;
+  }
+
+}
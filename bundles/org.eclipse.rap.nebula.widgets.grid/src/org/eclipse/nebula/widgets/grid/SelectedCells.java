@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * The selected cells of a grid, stored as a bitset of column indices per row. The bitsets of all
+ * rows are kept in a single array, every row occupies the same number of words. Selecting,
+ * deselecting and testing a cell takes constant time and does not allocate. The cells are
+ * enumerated row by row, ordered by their column index within a row.
+ */
+@SuppressWarnings( "restriction" )
+final class SelectedCells implements SerializableCompatibility {
+
+  private static final long[] EMPTY = new long[ 0 ];
+  private static final int INITIAL_ROWS = 16;
+
+  private long[] bits;
+  private int rowWords;
+  private int rows;
+  private int size;
+
+  SelectedCells() {
+    bits = EMPTY;
+    rowWords = 1;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean contains( int column, int row ) {
+    if( column < 0 || row < 0 || row >= rows || column >>> 6 >= rowWords ) {
+      return false;
+    }
+    return ( bits[ row * rowWords + ( column >>> 6 ) ] & 1L << column ) != 0;
+  }
+
+  boolean add( int column, int row ) {
+    ensureCapacity( column, row );
+    int word = row * rowWords + ( column >>> 6 );
+    long mask = 1L << column;
+    if( ( bits[ word ] & mask ) != 0 ) {
+      return false;
+    }
+    bits[ word ] |= mask;
+    size++;
+    return true;
+  }
+
+  boolean remove( int column, int row ) {
+    if( !contains( column, row ) ) {
+      return false;
+    }
+    bits[ row * rowWords + ( column >>> 6 ) ] &= ~( 1L << column );
+    size--;
+    return true;
+  }
+
+  void clear() {
+    bits = EMPTY;
+    rows = 0;
+    size = 0;
+  }
+
+  void clearRow( int row ) {
+    if( row >= 0 && row < rows ) {
+      int start = row * rowWords;
+      for( int word = start; word < start + rowWords; word++ ) {
+        size -= Long.bitCount( bits[ word ] );
+        bits[ word ] = 0;
+      }
+    }
+  }
+
+  /**
+   * Removes the given row, the cells of the following rows move one row up.
+   */
+  void removeRow( int row ) {
+    if( row >= 0 && row < rows ) {
+      clearRow( row );
+      int start = row * rowWords;
+      System.arraycopy( bits, start + rowWords, bits, start, bits.length - start - rowWords );
+      Arrays.fill( bits, bits.length - rowWords, bits.length, 0 );
+    }
+  }
+
+  /**
+   * Inserts an empty row at the given index, the cells of this and the following rows move one
+   * row down.
+   */
+  void insertRow( int row ) {
+    if( row >= 0 && row < rows ) {
+      if( nextRow( rows - 1 ) != -1 ) {
+        ensureCapacity( 0, rows );
+      }
+      int start = row * rowWords;
+      System.arraycopy( bits, start, bits, start + rowWords, bits.length - start - rowWords );
+      Arrays.fill( bits, start, start + rowWords, 0 );
+    }
+  }
+
+  void clearColumn( int column ) {
+    for( int row = 0; row < rows; row++ ) {
+      remove( column, row );
+    }
+  }
+
+  /**
+   * Removes the given column from every row, the cells of the following columns move one column
+   * to the left.
+   */
+  void removeColumn( int column ) {
+    clearColumn( column );
+    int firstWord = column >>> 6;
+    if( firstWord < rowWords ) {
+      long lowMask = ( 1L << column ) - 1;
+      for( int row = 0; row < rows; row++ ) {
+        int start = row * rowWords;
+        long word = bits[ start + firstWord ];
+        long shifted = ( word & lowMask ) | ( ( word >>> 1 ) & ~lowMask );
+        for( int index = firstWord; index < rowWords; index++ ) {
+          long next = index + 1 < rowWords ? bits[ start + index + 1 ] : 0;
+          // the lowest bit of the next word moves to the highest bit of this word
+          bits[ start + index ] = shifted | next << 63;
+          shifted = next >>> 1;
+        }
+      }
+    }
+  }
+
+  boolean isRowSelected( int row ) {
+    return nextColumn( row, 0 ) != -1;
+  }
+
+  /**
+   * Returns the first row at or after the given row that contains a selected cell, or -1 if
+   * there is no such row.
+   */
+  int nextRow( int row ) {
+    for( int word = Math.max( row, 0 ) * rowWords; word < rows * rowWords; word++ ) {
+      if( bits[ word ] != 0 ) {
+        return word / rowWords;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the first selected column at or after the given column in the given row, or -1 if
+   * there is no such column.
+   */
+  int nextColumn( int row, int column ) {
+    if( row < 0 || row >= rows || column < 0 ) {
+      return -1;
+    }
+    int start = row * rowWords;
+    int index = column >>> 6;
+    if( index < rowWords ) {
+      long word = bits[ start + index ] & -1L << column;
+      while( true ) {
+        if( word != 0 ) {
+          return index * 64 + Long.numberOfTrailingZeros( word );
+        }
+        if( ++index == rowWords ) {
+          break;
+        }
+        word = bits[ start + index ];
+      }
+    }
+    return -1;
+  }
+
+  Point[] toArray() {
+    Point[] result = new Point[ size ];
+    int count = 0;
+    for( int row = nextRow( 0 ); row != -1; row = nextRow( row + 1 ) ) {
+      int column = nextColumn( row, 0 );
+      while( column != -1 ) {
+        result[ count++ ] = new Point( column, row );
+        column = nextColumn( row, column + 1 );
+      }
+    }
+    return result;
+  }
+
+  private void ensureCapacity( int column, int row ) {
+    int words = Math.max( rowWords, ( column >>> 6 ) + 1 );
+    if( words > rowWords ) {
+      long[] newBits = new long[ Math.max( rows, row + 1 ) * words ];
+      for( int index = 0; index < rows; index++ ) {
+        System.arraycopy( bits, index * rowWords, newBits, index * words, rowWords );
+      }
+      bits = newBits;
+      rowWords = words;
+      rows = bits.length / rowWords;
+    } else if( row >= rows ) {
+      int newRows = Math.max( row + 1, Math.max( rows * 2, INITIAL_ROWS ) );
+      bits = Arrays.copyOf( bits, newRows * rowWords );
+      rows = newRows;
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -35,6 +35,9 @@ public interface IGridAdapter {
 
   int getItemIndex( GridItem item );
 
+  int getNextSelectedRow( int row );
+  int getNextSelectedColumn( int row, int column );
+
   void doRedraw();
 
   int getFixedColumns();
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -34,7 +34,6 @@ import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil;
 import org.eclipse.rap.rwt.internal.template.TemplateLCAUtil;
 import org.eclipse.rap.rwt.remote.RemoteObject;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.internal.widgets.CellToolTipUtil;
 import org.eclipse.swt.internal.widgets.ICellToolTipAdapter;
 import org.eclipse.swt.widgets.Control;
@@ -233,11 +232,19 @@ public class GridLCA extends WidgetLCA<Grid> {
   }
 
   private static String[] getCellSelection( Grid grid ) {
-    Point[] selection = grid.getCellSelection();
+    IGridAdapter adapter = getGridAdapter( grid );
     int offset = getColumnOffset( grid );
-    String[] result = new String[ selection.length ];
-    for( int i = 0; i < result.length; i++ ) {
-      result[ i ] = getId( grid.getItem( selection[ i ].y ) ) + "#" + ( selection[ i ].x + offset );
+    String[] result = new String[ grid.getCellSelectionCount() ];
+    int count = 0;
+    int row = adapter.getNextSelectedRow( 0 );
+    while( row != -1 ) {
+      String itemId = getId( grid.getItem( row ) );
+      int column = adapter.getNextSelectedColumn( row, 0 );
+      while( column != -1 ) {
+        result[ count++ ] = itemId + "#" + ( column + offset );
+        column = adapter.getNextSelectedColumn( row, column + 1 );
+      }
+      row = adapter.getNextSelectedRow( row + 1 );
     }
     return result;
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -184,6 +184,8 @@ class ApplicationReferenceImpl implements ApplicationReference {
     return applicationLauncher.getBundleContext();
   }
 
+  // The HttpService registration API has no way to declare async support, so servlets registered
+  // here never support async requests and server push falls back to blocking requests.
   private void registerServlet( String alias, HttpServlet servlet ) {
     try {
       HttpServlet wrapper = new CutOffContextPathWrapper( servlet, servletContextWrapper, alias );
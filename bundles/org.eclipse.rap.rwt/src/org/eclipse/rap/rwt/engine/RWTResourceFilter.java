@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.engine;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
+import static org.eclipse.rap.rwt.internal.util.HTTP.METHOD_GET;
+
+import java.io.IOException;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.resources.CachedResource;
+import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
+import org.eclipse.rap.rwt.internal.service.CompressedResponse;
+import org.eclipse.rap.rwt.service.ResourceManager;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+
+/**
+ * Serves the resources of a RAP application with HTTP caching headers. Every resource gets an
+ * ETag derived from its content, conditional requests are answered with
+ * <code>304 Not Modified</code>. Resource locations contain the content hash, requests for the
+ * current hash are marked as immutable. Text resources are sent gzip-compressed to clients that
+ * accept it.
+ * <p>
+ * The filter requires resource caching to be enabled with the system property
+ * <code>org.eclipse.rap.rwt.resourceCaching</code>. Resources are only kept in memory, see
+ * <code>org.eclipse.rap.rwt.resourceMemoryBudget</code>, if the filter is mapped to the resources
+ * directory in the deployment descriptor. Requests for unknown resources, and all requests while
+ * both are disabled, are passed on to the filter chain.
+ * </p>
+ * <p>
+ * In a traditional web application (without OSGi), the filter is registered for the resources
+ * directory in the application's deployment descriptor:
+ * </p>
+ *
+ * <pre>
+ * &lt;filter&gt;
+ *   &lt;filter-name&gt;rwtResourceFilter&lt;/filter-name&gt;
+ *   &lt;filter-class&gt;org.eclipse.rap.rwt.engine.RWTResourceFilter&lt;/filter-class&gt;
+ * &lt;/filter&gt;
+ *
+ * &lt;filter-mapping&gt;
+ *   &lt;filter-name&gt;rwtResourceFilter&lt;/filter-name&gt;
+ *   &lt;url-pattern&gt;/rwt-resources/*&lt;/url-pattern&gt;
+ * &lt;/filter-mapping&gt;
+ * </pre>
+ *
+ * @since 4.1
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class RWTResourceFilter implements Filter {
+
+  private static final String METHOD_HEAD = "HEAD";
+  private static final String HEADER_ETAG = "ETag";
+  private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+  private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+  private static final String CACHE_IMMUTABLE = "public, max-age=31536000, immutable";
+  private static final String CACHE_REVALIDATE = "no-cache";
+  private static final String PATH_PREFIX = "/" + ResourceDirectory.DIRNAME + "/";
+
+  private ServletContext servletContext;
+
+  @Override
+  public void init( FilterConfig filterConfig ) {
+    servletContext = filterConfig.getServletContext();
+  }
+
+  @Override
+  public void doFilter( ServletRequest request, ServletResponse response, FilterChain chain )
+    throws IOException, ServletException
+  {
+    if(    !( request instanceof HttpServletRequest )
+        || !( response instanceof HttpServletResponse )
+        || !serveResource( ( HttpServletRequest )request, ( HttpServletResponse )response ) )
+    {
+      chain.doFilter( request, response );
+    }
+  }
+
+  @Override
+  public void destroy() {
+    servletContext = null;
+  }
+
+  private boolean serveResource( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    String path = getResourcePath( request );
+    CachedResource resource = findResource( request, path );
+    if( resource != null ) {
+      sendResource( request, response, path, resource );
+      return true;
+    }
+    return false;
+  }
+
+  private CachedResource findResource( HttpServletRequest request, String path ) {
+    String method = request.getMethod();
+    if( path == null || !METHOD_GET.equals( method ) && !METHOD_HEAD.equals( method ) ) {
+      return null;
+    }
+    // the application may have been restarted since the filter was initialized
+    ApplicationContextImpl applicationContext = ApplicationContextImpl.getFrom( servletContext );
+    if( applicationContext == null || !applicationContext.allowsRequests() ) {
+      return null;
+    }
+    ResourceManager resourceManager = applicationContext.getResourceManager();
+    if( resourceManager instanceof ResourceManagerImpl ) {
+      return ( ( ResourceManagerImpl )resourceManager ).getCachedResource( path );
+    }
+    return null;
+  }
+
+  private void sendResource( HttpServletRequest request,
+                             HttpServletResponse response,
+                             String path,
+                             CachedResource resource )
+    throws IOException
+  {
+    String contentHash = resource.getContentHash();
+    boolean compressed = false;
+    String etag = contentHash;
+    if( resource.hasCompressedContent() ) {
+      response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+      if( CompressedResponse.acceptsEncoding( request, ENCODING_GZIP ) ) {
+        compressed = true;
+        etag = contentHash + "-" + ENCODING_GZIP;
+        response.setHeader( HEADER_CONTENT_ENCODING, ENCODING_GZIP );
+      }
+    }
+    etag = "\"" + etag + "\"";
+    response.setHeader( HEADER_ETAG, etag );
+    String version = request.getParameter( ResourceManagerImpl.VERSION_PARAM );
+    boolean current = contentHash.equals( version );
+    response.setHeader( HEADER_CACHE_CONTROL, current ? CACHE_IMMUTABLE : CACHE_REVALIDATE );
+    if( matches( request.getHeader( HEADER_IF_NONE_MATCH ), etag ) ) {
+      response.setStatus( SC_NOT_MODIFIED );
+    } else {
+      String contentType = servletContext.getMimeType( path );
+      if( contentType != null ) {
+        response.setContentType( contentType );
+      }
+      response.setContentLengthLong( resource.getContentLength( compressed ) );
+      if( !METHOD_HEAD.equals( request.getMethod() ) ) {
+        resource.writeContent( response.getOutputStream(), compressed );
+      }
+    }
+  }
+
+  private static String getResourcePath( HttpServletRequest request ) {
+    String path = request.getServletPath();
+    if( request.getPathInfo() != null ) {
+      path += request.getPathInfo();
+    }
+    if( path != null && path.startsWith( PATH_PREFIX ) ) {
+      return path.substring( PATH_PREFIX.length() );
+    }
+    return null;
+  }
+
+  private static boolean matches( String ifNoneMatch, String etag ) {
+    if( ifNoneMatch != null ) {
+      for( String candidate : ifNoneMatch.split( "," ) ) {
+        String trimmed = candidate.trim();
+        if( trimmed.startsWith( "W/" ) ) {
+          trimmed = trimmed.substring( 2 );
+        }
+        if( "*".equals( trimmed ) || etag.equals( trimmed ) ) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+}
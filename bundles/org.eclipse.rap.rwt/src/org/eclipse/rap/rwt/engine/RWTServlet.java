@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.service.CompressedResponse;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceContext;
 import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
@@ -67,6 +68,7 @@ import jakarta.servlet.http.HttpSession;
  * &lt;servlet&gt;
  *   &lt;servlet-name&gt;rwtServlet&lt;/servlet-name&gt;
  *   &lt;servlet-class&gt;org.eclipse.rap.rwt.engine.RWTServlet&lt;/servlet-class&gt;
+ *   &lt;async-supported&gt;true&lt;/async-supported&gt;
  * &lt;/servlet&gt;
  *
  * &lt;servlet-mapping&gt;
@@ -75,6 +77,21 @@ import jakarta.servlet.http.HttpSession;
  * &lt;/servlet-mapping&gt;
  *
  * <pre>
+ * <p>
+ * The <code>async-supported</code> flag is optional. If set, server push requests are processed
+ * asynchronously and don't occupy a container thread while they are waiting for UI updates.
+ * Applications started through the OSGi <code>ApplicationLauncher</code> are registered at an
+ * <code>HttpService</code>, which doesn't support async requests. These applications always
+ * process server push requests synchronously.
+ * </p>
+ * <p>
+ * If the system property <code>org.eclipse.rap.rwt.responseCompression</code> is set to
+ * <code>true</code>, UI responses and the startup content are sent gzip or deflate compressed to
+ * clients that accept it. Responses up to the number of bytes given by
+ * <code>org.eclipse.rap.rwt.responseCompressionThreshold</code> (default 1024) are sent
+ * uncompressed. Responses of service handlers, e.g. server push and downloads, are never
+ * compressed.
+ * </p>
  *
  * @since 2.0
  * @noextend This class is not intended to be subclassed by clients.
@@ -128,21 +145,39 @@ public class RWTServlet extends HttpServlet {
   private void handleValidRequest( HttpServletRequest request, HttpServletResponse response )
     throws IOException, ServletException
   {
-    ServiceContext context = new ServiceContext( request, response, applicationContext );
+    CompressedResponse compressedResponse = createCompressedResponse( request, response );
+    HttpServletResponse actualResponse = compressedResponse != null ? compressedResponse : response;
+    ServiceContext context = new ServiceContext( request, actualResponse, applicationContext );
     context.setServiceStore( new ServiceStore() );
     ContextProvider.setContext( context );
     try {
       prepareUISession( context );
       if( isUIRequest( request ) || isServiceHandlerRequest( request ) ) {
-        getServiceHandler().service( request, response );
+        getServiceHandler().service( request, actualResponse );
       } else {
-        sendStartupContent( request, response );
+        sendStartupContent( request, actualResponse );
+      }
+      if( compressedResponse != null ) {
+        compressedResponse.finish();
       }
     } finally {
+      if( compressedResponse != null ) {
+        compressedResponse.release();
+      }
       ContextProvider.disposeContext();
     }
   }
 
+  private static CompressedResponse createCompressedResponse( HttpServletRequest request,
+                                                              HttpServletResponse response )
+  {
+    // custom service handlers, e.g. for downloads, are in charge of their own content
+    if( isServiceHandlerRequest( request ) ) {
+      return null;
+    }
+    return CompressedResponse.create( request, response );
+  }
+
   private ServiceHandler getServiceHandler() {
     return applicationContext.getServiceManager().getHandler();
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,20 @@ public final class RWTProperties {
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
   public static final String TEXT_SIZE_STORE_SESSION_SCOPED = "org.eclipse.rap.rwt.textSizeStoreSessionScoped";
   public static final String ENABLE_LOAD_TESTS = "org.eclipse.rap.rwt.enableLoadTests";
+  public static final String ENABLE_DIRTY_TRACKING = "org.eclipse.rap.rwt.enableDirtyTracking";
+  public static final String RESPONSE_BUFFER_LIMIT = "org.eclipse.rap.rwt.responseBufferLimit";
+  public static final String RESPONSE_BUFFER_COMPRESSED = "org.eclipse.rap.rwt.responseBufferCompressed";
+  public static final String TEXT_SIZE_STORE_FILE = "org.eclipse.rap.rwt.textSizeStoreFile";
+  public static final String TEXT_SIZE_STORE_SAVE_INTERVAL = "org.eclipse.rap.rwt.textSizeStoreSaveInterval";
+  public static final String IMAGE_CACHE_SIZE = "org.eclipse.rap.rwt.imageCacheSize";
+  public static final String IMAGE_DATA_CACHE_SIZE = "org.eclipse.rap.rwt.imageDataCacheSize";
+  public static final String SETTING_STORE_WRITE_BEHIND = "org.eclipse.rap.rwt.settingStoreWriteBehind";
+  public static final String SETTING_STORE_FLUSH_DELAY = "org.eclipse.rap.rwt.settingStoreFlushDelay";
+  public static final String STREAMING_CLIENT_MESSAGE = "org.eclipse.rap.rwt.streamingClientMessage";
+  public static final String RESOURCE_CACHING = "org.eclipse.rap.rwt.resourceCaching";
+  public static final String RESOURCE_MEMORY_BUDGET = "org.eclipse.rap.rwt.resourceMemoryBudget";
+  public static final String RESPONSE_COMPRESSION = "org.eclipse.rap.rwt.responseCompression";
+  public static final String RESPONSE_COMPRESSION_THRESHOLD = "org.eclipse.rap.rwt.responseCompressionThreshold";
 
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
@@ -55,6 +69,58 @@ public final class RWTProperties {
     return getBooleanProperty( ENABLE_LOAD_TESTS, false );
   }
 
+  public static int getResponseBufferLimit( int defaultValue ) {
+    return getIntProperty( RESPONSE_BUFFER_LIMIT, defaultValue );
+  }
+
+  public static boolean isResponseBufferCompressed() {
+    return getBooleanProperty( RESPONSE_BUFFER_COMPRESSED, false );
+  }
+
+  public static String getTextSizeStoreFile() {
+    return System.getProperty( TEXT_SIZE_STORE_FILE );
+  }
+
+  public static int getTextSizeStoreSaveInterval( int defaultValue ) {
+    return getIntProperty( TEXT_SIZE_STORE_SAVE_INTERVAL, defaultValue );
+  }
+
+  public static int getImageCacheSize( int defaultValue ) {
+    return getIntProperty( IMAGE_CACHE_SIZE, defaultValue );
+  }
+
+  public static int getImageDataCacheSize( int defaultValue ) {
+    return getIntProperty( IMAGE_DATA_CACHE_SIZE, defaultValue );
+  }
+
+  public static boolean isSettingStoreWriteBehind() {
+    return getBooleanProperty( SETTING_STORE_WRITE_BEHIND, false );
+  }
+
+  public static int getSettingStoreFlushDelay( int defaultValue ) {
+    return getIntProperty( SETTING_STORE_FLUSH_DELAY, defaultValue );
+  }
+
+  public static boolean isStreamingClientMessage() {
+    return getBooleanProperty( STREAMING_CLIENT_MESSAGE, false );
+  }
+
+  public static boolean isResourceCaching() {
+    return getBooleanProperty( RESOURCE_CACHING, false );
+  }
+
+  public static int getResourceMemoryBudget( int defaultValue ) {
+    return getIntProperty( RESOURCE_MEMORY_BUDGET, defaultValue );
+  }
+
+  public static boolean isResponseCompression() {
+    return getBooleanProperty( RESPONSE_COMPRESSION, false );
+  }
+
+  public static int getResponseCompressionThreshold( int defaultValue ) {
+    return getIntProperty( RESPONSE_COMPRESSION_THRESHOLD, defaultValue );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
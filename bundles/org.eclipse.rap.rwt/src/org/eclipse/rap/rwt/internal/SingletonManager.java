@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,50 +10,67 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.rap.rwt.internal.util.ClassUtil;
-import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
-import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.internal.SerializableCompatibility;
 
 
+/**
+ * Holds the singletons of a UI session or an application context. Looking up an existing
+ * singleton does not acquire any locks. A singleton is created only once, the creation is
+ * synchronized on a holder for its type.
+ */
 public class SingletonManager implements SerializableCompatibility {
 
   private static final String ATTR_SINGLETON_MANAGER
     = SingletonManager.class.getName() + "#instance";
 
-  private final SharedInstanceBuffer<Class<?>, AtomicReference<Object>> singletonHolders;
-  private InstanceCreator<Class<?>, AtomicReference<Object>> instanceCreator;
+  private final ConcurrentMap<Class<?>, AtomicReference<Object>> singletonHolders;
 
   SingletonManager() {
-    singletonHolders = new SharedInstanceBuffer<>();
-    instanceCreator = new InstanceCreator<Class<?>, AtomicReference<Object>>() {
-      @Override
-      public AtomicReference<Object> createInstance( Class<?> key ) {
-        return new AtomicReference<>();
-      }
-    };
+    singletonHolders = new ConcurrentHashMap<>();
   }
 
+  @SuppressWarnings( "unchecked" )
   public <T> T getSingleton( Class<T> type ) {
-    AtomicReference<T> singletonHolder = getSingletonHolder( type );
+    AtomicReference<Object> singletonHolder = singletonHolders.get( type );
+    if( singletonHolder != null ) {
+      Object singleton = singletonHolder.get();
+      if( singleton != null ) {
+        return ( T )singleton;
+      }
+    }
+    return createSingleton( type );
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private <T> T createSingleton( Class<T> type ) {
+    AtomicReference<Object> singletonHolder = getSingletonHolder( type );
     synchronized( singletonHolder ) {
-      T singleton = singletonHolder.get();
+      Object singleton = singletonHolder.get();
       if( singleton == null ) {
         singleton = ClassUtil.newInstance( type );
         singletonHolder.set( singleton );
       }
-      return singleton;
+      return ( T )singleton;
     }
   }
 
-  @SuppressWarnings( "unchecked" )
-  private <T> AtomicReference<T> getSingletonHolder( Class<T> type ) {
-    Object result = singletonHolders.get( type, instanceCreator );
-    return ( AtomicReference<T> )result;
+  private AtomicReference<Object> getSingletonHolder( Class<?> type ) {
+    AtomicReference<Object> result = singletonHolders.get( type );
+    if( result == null ) {
+      AtomicReference<Object> newHolder = new AtomicReference<>();
+      result = singletonHolders.putIfAbsent( type, newHolder );
+      if( result == null ) {
+        result = newHolder;
+      }
+    }
+    return result;
   }
 
   public static void install( UISession uiSession ) {
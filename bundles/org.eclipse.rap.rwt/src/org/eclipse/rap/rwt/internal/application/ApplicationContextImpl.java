@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,12 +11,18 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.application;
 
+import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreFile;
+import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSaveInterval;
+
+import java.io.File;
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.servlet.ServletContext;
@@ -41,12 +47,15 @@ import org.eclipse.rap.rwt.internal.service.LifeCycleServiceHandler;
 import org.eclipse.rap.rwt.internal.service.RWTMessageHandler;
 import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
 import org.eclipse.rap.rwt.internal.service.SettingStoreManager;
+import org.eclipse.rap.rwt.internal.service.SettingStoreWriter;
 import org.eclipse.rap.rwt.internal.service.StartupPage;
 import org.eclipse.rap.rwt.internal.textsize.ProbeStore;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeStorage;
+import org.eclipse.rap.rwt.internal.textsize.TextSizeStorageFile;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.eclipse.rap.rwt.service.ApplicationContextEvent;
 import org.eclipse.rap.rwt.service.ApplicationContextListener;
@@ -80,6 +89,8 @@ public class ApplicationContextImpl implements ApplicationContext {
   // [rst] made public to allow access from testfixture in OSGi (bug 391510)
   public static boolean skipResoureDeletion;
 
+  private static final int SCHEDULER_POOL_SIZE = 2;
+
   private final ThemeManager themeManager;
   private final ApplicationConfiguration applicationConfiguration;
   private final ResourceDirectory resourceDirectory;
@@ -89,6 +100,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final MessageChainReference messageChainReference;
   private final EntryPointManager entryPointManager;
   private final SettingStoreManager settingStoreManager;
+  private final SettingStoreWriter settingStoreWriter;
   private final ServiceManagerImpl serviceManager;
   private final ResourceRegistry resourceRegistry;
   private final ApplicationStoreImpl applicationStore;
@@ -101,6 +113,8 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final DisplaysHolder displaysHolder;
   private final TextSizeStorage textSizeStorage;
   private final ProbeStore probeStore;
+  private final TextSizeStorageFile textSizeStorageFile;
+  private final SharedScheduler scheduler;
   private final ServletContext servletContext;
   private final ClientSelector clientSelector;
   private final Set<ApplicationContextListener> appContextListeners;
@@ -129,12 +143,15 @@ public class ApplicationContextImpl implements ApplicationContext {
     imageDataFactory = new ImageDataFactory( resourceManager );
     fontDataFactory = new FontDataFactory();
     settingStoreManager = new SettingStoreManager();
+    settingStoreWriter = new SettingStoreWriter();
     resourceRegistry = new ResourceRegistry( getResourceManager() );
     startupPage = new StartupPage( this );
     serviceManager = createServiceManager();
     displaysHolder = new DisplaysHolder();
     textSizeStorage = new TextSizeStorage();
     probeStore = new ProbeStore( textSizeStorage );
+    textSizeStorageFile = createTextSizeStorageFile( probeStore, textSizeStorage );
+    scheduler = new SharedScheduler( "RWT Scheduler", SCHEDULER_POOL_SIZE );
     clientSelector = new ClientSelector();
     appContextListeners = new HashSet<>();
     listenersLock = new SerializableLock();
@@ -147,7 +164,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   }
 
   protected ResourceManager createResourceManager() {
-    return new ResourceManagerImpl( resourceDirectory );
+    return new ResourceManagerImpl( resourceDirectory, servletContext );
   }
 
   public static ApplicationContextImpl getFrom( ServletContext servletContext ) {
@@ -340,6 +357,14 @@ public class ApplicationContextImpl implements ApplicationContext {
     return probeStore;
   }
 
+  public SettingStoreWriter getSettingStoreWriter() {
+    return settingStoreWriter;
+  }
+
+  public SharedScheduler getScheduler() {
+    return scheduler;
+  }
+
   public ClientSelector getClientSelector() {
     return clientSelector;
   }
@@ -382,6 +407,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     }
     resourceRegistry.registerResources();
     clientSelector.activate();
+    loadTextSizeStorage();
   }
 
   void doDeactivate() {
@@ -396,8 +422,59 @@ public class ApplicationContextImpl implements ApplicationContext {
     phaseListenerManager.clear();
     resourceRegistry.clear();
     settingStoreManager.deregisterFactory();
+    settingStoreWriter.shutdown();
     resourceDirectory.reset();
     applicationStore.reset();
+    saveTextSizeStorage();
+    scheduler.shutdown();
+  }
+
+  private static TextSizeStorageFile createTextSizeStorageFile( ProbeStore probeStore,
+                                                                TextSizeStorage storage )
+  {
+    String fileName = getTextSizeStoreFile();
+    if( fileName == null ) {
+      return null;
+    }
+    return new TextSizeStorageFile( new File( fileName ), probeStore, storage );
+  }
+
+  private void loadTextSizeStorage() {
+    if( textSizeStorageFile != null ) {
+      try {
+        textSizeStorageFile.load();
+      } catch( IOException exception ) {
+        String msg = "Could not load text sizes from " + textSizeStorageFile.getFile();
+        servletContext.log( msg, exception );
+      }
+      scheduleTextSizeStorageSave();
+    }
+  }
+
+  private void scheduleTextSizeStorageSave() {
+    int interval = getTextSizeStoreSaveInterval( 0 );
+    if( interval > 0 ) {
+      scheduler.schedule( new Runnable() {
+        @Override
+        public void run() {
+          if( allowsRequests() ) {
+            saveTextSizeStorage();
+            scheduleTextSizeStorageSave();
+          }
+        }
+      }, interval, TimeUnit.SECONDS );
+    }
+  }
+
+  private void saveTextSizeStorage() {
+    if( textSizeStorageFile != null ) {
+      try {
+        textSizeStorageFile.save();
+      } catch( IOException exception ) {
+        String msg = "Could not save text sizes to " + textSizeStorageFile.getFile();
+        servletContext.log( msg, exception );
+      }
+    }
   }
 
   private ServiceManagerImpl createServiceManager() {
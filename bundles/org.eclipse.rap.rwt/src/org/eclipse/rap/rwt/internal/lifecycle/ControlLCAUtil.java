@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,9 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListene
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderToolTipMarkupEnabled;
 import static org.eclipse.swt.internal.widgets.ControlUtil.getControlAdapter;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
@@ -79,33 +82,49 @@ public class ControlLCAUtil {
   }
 
   private static void recalculateTabIndex( Shell shell ) {
-    resetTabIndices( shell );
-    // tabIndex must be a positive value
-    computeTabIndices( shell, 1 );
-  }
-
-  private static void resetTabIndices( Composite composite ) {
-    for( Control control : composite.getChildren() ) {
-      getControlAdapter( control ).setTabIndex( -1 );
-      if( control instanceof Composite ) {
-        resetTabIndices( ( Composite )control );
-      }
+    if(    !DirtyWidgets.isEnabled()
+        || DirtyWidgets.getInstance( shell.getDisplay() ).isTabOrderChanged() )
+    {
+      Map<Control, Integer> tabIndices = new IdentityHashMap<>();
+      // tabIndex must be a positive value
+      computeTabIndices( shell, 1, tabIndices );
+      applyTabIndices( shell, tabIndices );
     }
   }
 
-  private static int computeTabIndices( Composite composite, int startIndex ) {
+  private static int computeTabIndices( Composite composite,
+                                        int startIndex,
+                                        Map<Control, Integer> tabIndices )
+  {
     int result = startIndex;
     for( Control control : composite.getTabList() ) {
-      getControlAdapter( control ).setTabIndex( result );
+      tabIndices.put( control, Integer.valueOf( result ) );
       // for Links, leave a range out to be assigned to hrefs on the client
       result += control instanceof Link ? 300 : 1;
       if( control instanceof Composite ) {
-        result = computeTabIndices( ( Composite )control, result );
+        result = computeTabIndices( ( Composite )control, result, tabIndices );
       }
     }
     return result;
   }
 
+  private static void applyTabIndices( Composite composite, Map<Control, Integer> tabIndices ) {
+    for( Control control : composite.getChildren() ) {
+      Integer tabIndex = tabIndices.get( control );
+      int newTabIndex = tabIndex == null ? -1 : tabIndex.intValue();
+      IControlAdapter controlAdapter = getControlAdapter( control );
+      boolean initialized = getRemoteAdapter( control ).isInitialized();
+      if( !initialized || controlAdapter.getTabIndex() != newTabIndex ) {
+        // preserves the previous tab index when dirty tracking is enabled
+        DirtyWidgets.markDirty( control );
+        controlAdapter.setTabIndex( newTabIndex );
+      }
+      if( control instanceof Composite ) {
+        applyTabIndices( ( Composite )control, tabIndices );
+      }
+    }
+  }
+
   private static void renderListenActivate( Control control ) {
     // Note: Shell "Activate" event is handled by ShellLCA
     if( !( control instanceof Shell ) ) {
@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.eclipse.rap.rwt.internal.RWTProperties.ENABLE_DIRTY_TRACKING;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getLCA;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
+import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Menu;
+import org.eclipse.swt.widgets.ToolTip;
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Keeps track of the widgets that have been changed during the current request. When enabled
+ * (see <code>RWTProperties#ENABLE_DIRTY_TRACKING</code>), the <code>DisplayLCA</code> preserves,
+ * renders and clears only these widgets instead of walking the entire widget tree.
+ * <p>
+ * A widget is marked dirty by the API methods that change its state (see
+ * <code>markChanged</code>), when it is created or when one of its children is created or
+ * disposed. Methods that only read the state of a widget do not mark it. Once the first request
+ * has been rendered, the values of a widget are preserved at the time it is marked dirty.
+ * </p>
+ * <p>
+ * A dirty widget always includes its <em>dependent</em> widgets, i.e. its items, scroll bars,
+ * decorators and drag and drop widgets, because their rendered state is partly derived from the
+ * state of the owning widget (e.g. item index). Conversely, when a dependent widget changes, its
+ * owning control is preserved and rendered as well, but not the other dependents of the owner.
+ * </p>
+ */
+public final class DirtyWidgets implements SerializableCompatibility {
+
+  static boolean enabled = RWTProperties.getBooleanProperty( ENABLE_DIRTY_TRACKING, false );
+
+  private final Map<String, Widget> widgetsById;
+  private transient List<Widget> dirtyWidgets;
+  private transient Set<Widget> owners;
+  private transient boolean tabOrderChanged;
+  private transient boolean tracking;
+  private transient boolean rendering;
+  private transient boolean visiting;
+
+  DirtyWidgets() {
+    widgetsById = new HashMap<>();
+    initialize();
+  }
+
+  private void initialize() {
+    dirtyWidgets = new ArrayList<>();
+    owners = Collections.newSetFromMap( new IdentityHashMap<Widget, Boolean>() );
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static DirtyWidgets getInstance( Display display ) {
+    return SingletonUtil.getUniqueInstance( DirtyWidgets.class, RWT.getUISession( display ) );
+  }
+
+  /**
+   * Marks the given widget as dirty. Has no effect if dirty tracking is disabled or the widget is
+   * already marked.
+   */
+  public static void markDirty( Widget widget ) {
+    if( enabled && widget != null && !widget.isDisposed() ) {
+      WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+      if( !adapter.isDirty() ) {
+        getInstance( widget.getDisplay() ).add( widget, adapter );
+      }
+    }
+  }
+
+  /**
+   * Marks the given widget as dirty because one of its API methods is about to change its state.
+   * In contrast to <code>markDirty</code>, this is ignored during rendering and while dirty widgets
+   * are visited or preserved. If the widget is not a control (e.g. an item), the control that
+   * owns it is marked as well, without its other dependent widgets.
+   */
+  public static void markChanged( Widget widget ) {
+    if( enabled ) {
+      WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+      if( !adapter.isDirty() ) {
+        DirtyWidgets dirtyWidgets = getInstance( widget.getDisplay() );
+        if( !dirtyWidgets.rendering && !dirtyWidgets.visiting ) {
+          dirtyWidgets.add( widget, adapter );
+          if( !isIndependent( widget ) ) {
+            dirtyWidgets.addOwner( getOwner( widget ) );
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Notes that the tab order of the controls in a shell may have changed, i.e. a control has been
+   * created, disposed or moved, or a tab list has been set. While tracking, tab indices are
+   * recomputed only after such a change.
+   */
+  public static void markTabOrderChanged( Widget widget ) {
+    if( enabled ) {
+      getInstance( widget.getDisplay() ).tabOrderChanged = true;
+    }
+  }
+
+  public void register( String id, Widget widget ) {
+    widgetsById.put( id, widget );
+  }
+
+  public void unregister( String id ) {
+    widgetsById.remove( id );
+  }
+
+  public Widget find( String id ) {
+    return widgetsById.get( id );
+  }
+
+  public boolean isTracking() {
+    return tracking;
+  }
+
+  /**
+   * Returns whether the tab indices of the controls have to be recomputed in this request.
+   */
+  public boolean isTabOrderChanged() {
+    return !tracking || tabOrderChanged;
+  }
+
+  /**
+   * Starts preserving the values of widgets at the time they are marked dirty. Tracking remains
+   * active for the rest of the session.
+   */
+  public void startTracking() {
+    tracking = true;
+    rendering = false;
+  }
+
+  public void startRendering() {
+    rendering = true;
+  }
+
+  /**
+   * Visits every dirty widget and its dependent widgets exactly once, in the order in which they
+   * have been marked dirty. Widgets that are marked dirty while visiting are visited as well.
+   */
+  public void accept( WidgetTreeVisitor visitor ) {
+    boolean wasVisiting = visiting;
+    visiting = true;
+    try {
+      Set<Widget> visited = Collections.newSetFromMap( new IdentityHashMap<Widget, Boolean>() );
+      for( int i = 0; i < dirtyWidgets.size(); i++ ) {
+        Widget widget = dirtyWidgets.get( i );
+        if( !widget.isDisposed() ) {
+          if( getRemoteAdapter( widget ).isDirty() ) {
+            acceptDependents( widget, visited, visitor );
+          } else if( visited.add( widget ) ) {
+            visitor.visit( widget );
+          }
+        }
+      }
+    } finally {
+      visiting = wasVisiting;
+    }
+  }
+
+  /**
+   * Clears the preserved values of all dirty widgets. Widgets that have not yet been rendered
+   * remain dirty.
+   */
+  public void clear() {
+    List<Widget> pending = new ArrayList<>();
+    accept( new WidgetTreeVisitor() {
+      @Override
+      public boolean visit( Widget widget ) {
+        WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+        adapter.clearPreserved();
+        adapter.setDirty( false );
+        return true;
+      }
+    } );
+    for( Widget widget : dirtyWidgets ) {
+      if( !widget.isDisposed() && !getRemoteAdapter( widget ).isInitialized() ) {
+        getRemoteAdapter( widget ).setDirty( true );
+        pending.add( widget );
+      }
+    }
+    dirtyWidgets = pending;
+    owners.clear();
+    tabOrderChanged = false;
+    rendering = false;
+  }
+
+  List<Widget> getAll() {
+    return Collections.unmodifiableList( dirtyWidgets );
+  }
+
+  private void add( Widget widget, WidgetRemoteAdapter adapter ) {
+    boolean preserved = owners.contains( widget );
+    adapter.setDirty( true );
+    dirtyWidgets.add( widget );
+    // uninitialized widgets have nothing to preserve and may still be under construction
+    if( tracking && adapter.isInitialized() ) {
+      boolean wasVisiting = visiting;
+      visiting = true;
+      try {
+        preserveDependents( widget, preserved );
+      } finally {
+        visiting = wasVisiting;
+      }
+    }
+  }
+
+  private void addOwner( Widget owner ) {
+    if( owner != null && !owner.isDisposed() ) {
+      WidgetRemoteAdapter adapter = getRemoteAdapter( owner );
+      if( !adapter.isDirty() && owners.add( owner ) ) {
+        dirtyWidgets.add( owner );
+        if( tracking && adapter.isInitialized() ) {
+          boolean wasVisiting = visiting;
+          visiting = true;
+          try {
+            getLCA( owner ).preserveValues( owner );
+          } finally {
+            visiting = wasVisiting;
+          }
+        }
+      }
+    }
+  }
+
+  private static void preserveDependents( final Widget root, final boolean rootPreserved ) {
+    WidgetTreeUtil.accept( root, new WidgetTreeVisitor() {
+      @Override
+      public boolean visit( Widget widget ) {
+        if( widget != root ) {
+          if( isIndependent( widget ) ) {
+            return false;
+          }
+          WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+          if( adapter.isDirty() ) {
+            return false;
+          }
+          adapter.setDirty( true );
+        }
+        // values that have been preserved before must not be overwritten
+        boolean preserved = widget == root && rootPreserved;
+        if( !preserved && getRemoteAdapter( widget ).isInitialized() ) {
+          getLCA( widget ).preserveValues( widget );
+        }
+        return true;
+      }
+    } );
+  }
+
+  private static void acceptDependents( final Widget root,
+                                        final Set<Widget> visited,
+                                        final WidgetTreeVisitor visitor )
+  {
+    WidgetTreeUtil.accept( root, new WidgetTreeVisitor() {
+      @Override
+      public boolean visit( Widget widget ) {
+        if( widget != root && isIndependent( widget ) ) {
+          return false;
+        }
+        if( !visited.add( widget ) ) {
+          return false;
+        }
+        return visitor.visit( widget );
+      }
+    } );
+  }
+
+  private static Widget getOwner( Widget widget ) {
+    Widget result = getRemoteAdapter( widget ).getParent();
+    while( result != null && !isIndependent( result ) ) {
+      result = getRemoteAdapter( result ).getParent();
+    }
+    return result;
+  }
+
+  private static boolean isIndependent( Widget widget ) {
+    return widget instanceof Control || widget instanceof Menu || widget instanceof ToolTip;
+  }
+
+  private static WidgetRemoteAdapter getRemoteAdapter( Widget widget ) {
+    return ( WidgetRemoteAdapter )WidgetUtil.getAdapter( widget );
+  }
+
+  private Object readResolve() {
+    initialize();
+    return this;
+  }
+
+}
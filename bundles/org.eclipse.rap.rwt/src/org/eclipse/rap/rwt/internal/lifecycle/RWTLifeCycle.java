@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
 package org.eclipse.rap.rwt.internal.lifecycle;
 
 import java.io.IOException;
+import java.util.concurrent.locks.Lock;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -31,6 +32,14 @@ import org.eclipse.swt.widgets.Display;
 @SuppressWarnings( "deprecation" )
 public class RWTLifeCycle extends LifeCycle {
 
+  /**
+   * The name of an application context attribute that selects the UI thread implementation. If
+   * set to <code>Boolean.TRUE</code> or <code>"true"</code>, e.g. with
+   * <code>Application#setAttribute()</code>, the UI code of each session runs on a virtual
+   * thread (see <code>VirtualUIThread</code>) instead of a dedicated platform thread.
+   */
+  public static final String VIRTUAL_UI_THREADS = "org.eclipse.rap.rwt.virtualUIThreads";
+
   private static final Integer ZERO = Integer.valueOf( 0 );
 
   private static final String CURRENT_PHASE = RWTLifeCycle.class.getName() + ".currentPhase";
@@ -187,10 +196,14 @@ public class RWTLifeCycle extends LifeCycle {
       uiThread = createUIThread();
       // The serviceContext MUST be set before thread.start() is called
       uiThread.setServiceContext( context );
-      synchronized( uiThread.getLock() ) {
-        uiThread.getThread().start();
-        uiThread.switchThread();
-      }
+      final IUIThreadHolder newUIThread = uiThread;
+      runWithLock( uiThread, new Runnable() {
+        @Override
+        public void run() {
+          newUIThread.getThread().start();
+          newUIThread.switchThread();
+        }
+      } );
     } else {
       uiThread.setServiceContext( context );
       // See bug 354368
@@ -237,7 +250,12 @@ public class RWTLifeCycle extends LifeCycle {
 
   private IUIThreadHolder createUIThread() {
     UISession uiSession = ContextProvider.getUISession();
-    IUIThreadHolder result = new UIThread( uiRunnable );
+    IUIThreadHolder result;
+    if( useVirtualUIThreads() ) {
+      result = new VirtualUIThread( uiRunnable );
+    } else {
+      result = new UIThread( uiRunnable );
+    }
     result.getThread().setDaemon( true );
     result.getThread().setName( "UIThread [" + uiSession.getId() + "]" );
     LifeCycleUtil.setUIThread( uiSession, result );
@@ -245,6 +263,35 @@ public class RWTLifeCycle extends LifeCycle {
     return result;
   }
 
+  boolean useVirtualUIThreads() {
+    Object value = applicationContext.getAttribute( VIRTUAL_UI_THREADS );
+    return Boolean.TRUE.equals( value ) || "true".equals( value );
+  }
+
+  static void runWithLock( IUIThreadHolder uiThread, Runnable runnable ) {
+    Object lock = uiThread.getLock();
+    if( lock instanceof Lock ) {
+      ( ( Lock )lock ).lock();
+      try {
+        runnable.run();
+      } finally {
+        ( ( Lock )lock ).unlock();
+      }
+    } else {
+      synchronized( lock ) {
+        runnable.run();
+      }
+    }
+  }
+
+  private static IUIThreadHolder getCurrentUIThread() {
+    Thread thread = Thread.currentThread();
+    if( thread instanceof IUIThreadHolder ) {
+      return ( IUIThreadHolder )thread;
+    }
+    return VirtualUIThread.getCurrent();
+  }
+
   private static Integer getCurrentPhase() {
     ServiceStore serviceStore = ContextProvider.getServiceStore();
     return ( Integer )serviceStore.getAttribute( CURRENT_PHASE );
@@ -279,31 +326,34 @@ public class RWTLifeCycle extends LifeCycle {
   private final class UIThreadController implements Runnable {
     @Override
     public void run() {
-      IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+      final IUIThreadHolder uiThread = getCurrentUIThread();
       try {
         // [rh] sync exception handling and switchThread (see bug 316676)
-        synchronized( uiThread.getLock() ) {
-          try {
-            uiThread.updateServiceContext();
-            ServerPushManager.getInstance().notifyUIThreadStart();
-            continueLifeCycle();
-            createUI();
-            continueLifeCycle();
-            ServerPushManager.getInstance().notifyUIThreadEnd();
-          } catch( UIThreadTerminatedError thr ) {
-            throw thr;
-          } catch( Throwable thr ) {
-            ServiceStore serviceStore = ContextProvider.getServiceStore();
-            serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
+        runWithLock( uiThread, new Runnable() {
+          @Override
+          public void run() {
+            try {
+              uiThread.updateServiceContext();
+              ServerPushManager.getInstance().notifyUIThreadStart();
+              continueLifeCycle();
+              createUI();
+              continueLifeCycle();
+              ServerPushManager.getInstance().notifyUIThreadEnd();
+            } catch( UIThreadTerminatedError thr ) {
+              throw thr;
+            } catch( Throwable thr ) {
+              ServiceStore serviceStore = ContextProvider.getServiceStore();
+              serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
+            }
+            // We have to prevent the ui thread from waking up at that point, otherwise
+            // processShutdown would never be executed and session store would not be cleared.
+            // See bug 354368
+            UISession uiSession = ContextProvider.getUISession();
+            uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
+            // In any case: wait for the thread to be terminated by session timeout
+            uiThread.switchThread();
           }
-          // We have to prevent the ui thread from waking up at that point, otherwise
-          // processShutdown would never be executed and session store would not be cleared.
-          // See bug 354368
-          UISession uiSession = ContextProvider.getUISession();
-          uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
-          // In any case: wait for the thread to be terminated by session timeout
-          uiThread.switchThread();
-        }
+        } );
       } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError e ) {
         // If we get here, the session is being invalidated, see UIThread#terminateThread()
         ( ( ISessionShutdownAdapter )uiThread ).processShutdown();
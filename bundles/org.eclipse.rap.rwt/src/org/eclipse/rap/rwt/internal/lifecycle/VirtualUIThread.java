@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.service.UISession;
+
+
+/**
+ * An <code>IUIThreadHolder</code> that runs the UI code on a virtual thread if the runtime
+ * supports it (Java 21 and later) and on a platform thread otherwise.
+ * <p>
+ * In contrast to <code>UIThread</code>, the hand-off between request thread and UI thread is
+ * implemented with a <code>ReentrantLock</code> and a <code>Condition</code>. A virtual thread
+ * that waits in <code>Object#wait()</code> or inside a <code>synchronized</code> block pins its
+ * carrier thread, whereas waiting on a condition releases it. Hence the lock returned by
+ * <code>getLock()</code> is a <code>ReentrantLock</code> and must not be used as a monitor.
+ * </p>
+ */
+final class VirtualUIThread implements IUIThreadHolder, ISessionShutdownAdapter {
+
+  private static final ThreadLocal<VirtualUIThread> CURRENT = new ThreadLocal<>();
+  private static final Method OF_VIRTUAL = findOfVirtualMethod();
+  private static final Method UNSTARTED = findUnstartedMethod();
+
+  private final ReentrantLock lock;
+  private final Condition switched;
+  private final Thread thread;
+  private ServiceContext serviceContext;
+  private UISession uiSession;
+  private Runnable shutdownCallback;
+  private long switchCount;
+  private boolean terminated;
+  private volatile boolean uiThreadTerminating;
+
+  VirtualUIThread( final Runnable runnable ) {
+    lock = new ReentrantLock();
+    switched = lock.newCondition();
+    thread = newThread( new Runnable() {
+      @Override
+      public void run() {
+        CURRENT.set( VirtualUIThread.this );
+        try {
+          runnable.run();
+        } finally {
+          CURRENT.remove();
+          notifyTerminated();
+        }
+      }
+    } );
+  }
+
+  /**
+   * Returns the <code>VirtualUIThread</code> whose thread is the calling thread or
+   * <code>null</code> if the calling thread is not such a UI thread.
+   */
+  static VirtualUIThread getCurrent() {
+    return CURRENT.get();
+  }
+
+  static boolean isVirtualThreadSupported() {
+    return OF_VIRTUAL != null && UNSTARTED != null;
+  }
+
+  //////////////////////////
+  // interface IThreadHolder
+
+  @Override
+  public void setServiceContext( ServiceContext serviceContext ) {
+    this.serviceContext = serviceContext;
+  }
+
+  @Override
+  public void updateServiceContext() {
+    if( ContextProvider.hasContext() ) {
+      ContextProvider.releaseContextHolder();
+    }
+    ContextProvider.setContext( serviceContext );
+  }
+
+  @Override
+  public void switchThread() {
+    lock.lock();
+    try {
+      checkAndReportTerminatedUIThread();
+      long count = ++switchCount;
+      switched.signalAll();
+      // the counter guards against spurious wake-ups, only the other side may release us
+      while( switchCount == count && !terminated ) {
+        try {
+          switched.await();
+        } catch( InterruptedException e ) {
+          handleInterruptInSwitchThread( e );
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // releases a request thread that waits for the UI thread, however the UI thread ended
+  private void notifyTerminated() {
+    lock.lock();
+    try {
+      terminated = true;
+      switched.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void checkAndReportTerminatedUIThread() {
+    if( !thread.isAlive() ) {
+      String msg
+        = "Thread '"
+        + Thread.currentThread()
+        + "' is waiting for already terminated UIThread";
+      ServletLog.log( "", new RuntimeException( msg ) );
+    }
+  }
+
+  private void handleInterruptInSwitchThread( InterruptedException e )
+    throws UIThreadTerminatedError
+  {
+    Thread.interrupted();
+    if( uiThreadTerminating ) {
+      // Equip the UI thread that is continuing its execution with a
+      // service context and the proper phase (see terminateThread).
+      updateServiceContext();
+      CurrentPhase.set( PhaseId.PROCESS_ACTION );
+      uiThreadTerminating = false;
+      throw new UIThreadTerminatedError();
+    }
+    if( Thread.currentThread() != thread ) {
+      String msg = "Received InterruptedException on request thread";
+      ServletLog.log( msg, e );
+    }
+  }
+
+  @Override
+  public void terminateThread() {
+    // Prepare a service context to be used by the UI thread that may continue
+    // to run as a result of the interrupt call
+    ServiceContext serviceContext = ContextUtil.createFakeContext( uiSession );
+    setServiceContext( serviceContext );
+    uiThreadTerminating = true;
+    // interrupt the UI thread that is expected to wait in switchThread or already be terminated
+    lock.lock();
+    try {
+      thread.interrupt();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      thread.join();
+    } catch( InterruptedException e ) {
+      String msg = "Received InterruptedException while terminating UIThread";
+      ServletLog.log( msg, e );
+    }
+    uiThreadTerminating = false;
+  }
+
+  @Override
+  public Thread getThread() {
+    return thread;
+  }
+
+  @Override
+  public ReentrantLock getLock() {
+    return lock;
+  }
+
+  ////////////////////////////////////
+  // interface ISessionShutdownAdapter
+
+  @Override
+  public void setUISession( UISession uiSession ) {
+    this.uiSession = uiSession;
+  }
+
+  @Override
+  public void setShutdownCallback( Runnable shutdownCallback ) {
+    this.shutdownCallback = shutdownCallback;
+  }
+
+  @Override
+  public void interceptShutdown() {
+    terminateThread();
+  }
+
+  @Override
+  public void processShutdown() {
+    updateServiceContext();
+    UIThread.shutdownUISession( uiSession, shutdownCallback );
+  }
+
+  //////////////////
+  // thread creation
+
+  private static Thread newThread( Runnable runnable ) {
+    if( isVirtualThreadSupported() ) {
+      try {
+        return ( Thread )UNSTARTED.invoke( OF_VIRTUAL.invoke( null ), runnable );
+      } catch( Exception exception ) {
+        ServletLog.log( "Failed to create virtual thread, using platform thread", exception );
+      }
+    }
+    return new Thread( runnable );
+  }
+
+  // Thread#ofVirtual() is not available in the Java 17 execution environment of this bundle
+  private static Method findOfVirtualMethod() {
+    try {
+      return Thread.class.getMethod( "ofVirtual" );
+    } catch( @SuppressWarnings( "unused" ) NoSuchMethodException exception ) {
+      return null;
+    }
+  }
+
+  private static Method findUnstartedMethod() {
+    try {
+      Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+      return builderClass.getMethod( "unstarted", Runnable.class );
+    } catch( @SuppressWarnings( "unused" ) ReflectiveOperationException exception ) {
+      return null;
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -86,7 +86,7 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveEnabled( Widget widget, boolean enabled ) {
-    getAdapter( widget ).preserve( PROP_ENABLED, Boolean.valueOf( enabled ) );
+    getRemoteAdapter( widget ).preserve( PROP_ENABLED, enabled );
   }
 
   public static void preserveToolTipText( Widget widget, String toolTip ) {
@@ -107,9 +107,9 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveBackground( Widget widget, Color background, boolean transparency ) {
-    RemoteAdapter adapter = getAdapter( widget );
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
     adapter.preserve( PROP_BACKGROUND, background );
-    adapter.preserve( PROP_BACKGROUND_TRANSPARENCY, Boolean.valueOf( transparency ) );
+    adapter.preserve( PROP_BACKGROUND_TRANSPARENCY, transparency );
   }
 
   public static void preserveBackgroundGradient( Widget widget ) {
@@ -119,11 +119,10 @@ public final class WidgetLCAUtil {
       Color[] bgGradientColors = gfxAdapter.getBackgroundGradientColors();
       int[] bgGradientPercents = gfxAdapter.getBackgroundGradientPercents();
       boolean bgGradientVertical = gfxAdapter.isBackgroundGradientVertical();
-      RemoteAdapter widgetAdapter = getAdapter( widget );
+      WidgetRemoteAdapter widgetAdapter = getRemoteAdapter( widget );
       widgetAdapter.preserve( PROP_BACKGROUND_GRADIENT_COLORS, bgGradientColors );
       widgetAdapter.preserve( PROP_BACKGROUND_GRADIENT_PERCENTS, bgGradientPercents );
-      widgetAdapter.preserve( PROP_BACKGROUND_GRADIENT_VERTICAL,
-                              Boolean.valueOf( bgGradientVertical ) );
+      widgetAdapter.preserve( PROP_BACKGROUND_GRADIENT_VERTICAL, bgGradientVertical );
     }
   }
 
@@ -134,8 +133,8 @@ public final class WidgetLCAUtil {
       int width = gfxAdapter.getRoundedBorderWidth();
       Color color = gfxAdapter.getRoundedBorderColor();
       Rectangle radius = gfxAdapter.getRoundedBorderRadius();
-      RemoteAdapter widgetAdapter = getAdapter( widget );
-      widgetAdapter.preserve( PROP_ROUNDED_BORDER_WIDTH, Integer.valueOf( width ) );
+      WidgetRemoteAdapter widgetAdapter = getRemoteAdapter( widget );
+      widgetAdapter.preserve( PROP_ROUNDED_BORDER_WIDTH, width );
       widgetAdapter.preserve( PROP_ROUNDED_BORDER_COLOR, color );
       widgetAdapter.preserve( PROP_ROUNDED_BORDER_RADIUS, radius );
     }
@@ -330,11 +329,11 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveProperty( Widget widget, String property, int value ) {
-    preserveProperty( widget, property, Integer.valueOf( value ) );
+    getRemoteAdapter( widget ).preserve( property, value );
   }
 
   public static void preserveProperty( Widget widget, String property, boolean value ) {
-    preserveProperty( widget, property, Boolean.valueOf( value ) );
+    getRemoteAdapter( widget ).preserve( property, value );
   }
 
   public static void renderProperty( Widget widget,
@@ -396,9 +395,7 @@ public final class WidgetLCAUtil {
                                      int newValue,
                                      int defaultValue )
   {
-    Integer newValueObject = Integer.valueOf( newValue );
-    Integer defaultValueObject = Integer.valueOf( defaultValue );
-    if( hasChanged( widget, property, newValueObject, defaultValueObject ) ) {
+    if( changed( widget, property, newValue, defaultValue ) ) {
       getRemoteObject( widget ).set( property, newValue );
     }
   }
@@ -408,9 +405,7 @@ public final class WidgetLCAUtil {
                                      boolean newValue,
                                      boolean defaultValue )
   {
-    Boolean newValueObject = Boolean.valueOf( newValue );
-    Boolean defaultValueObject = Boolean.valueOf( defaultValue );
-    if( hasChanged( widget, property, newValueObject, defaultValueObject ) ) {
+    if( changed( widget, property, newValue, defaultValue ) ) {
       getRemoteObject( widget ).set( property, newValue );
     }
   }
@@ -547,7 +542,7 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveListener( Widget widget, String listener, boolean value ) {
-    getAdapter( widget ).preserve( listener, Boolean.valueOf( value ) );
+    getRemoteAdapter( widget ).preserve( listener, value );
   }
 
   public static void renderListener( Widget widget,
@@ -555,9 +550,7 @@ public final class WidgetLCAUtil {
                                      boolean newValue,
                                      boolean defaultValue )
   {
-    Boolean newValueObject = Boolean.valueOf( newValue );
-    Boolean defaultValueObject = Boolean.valueOf( defaultValue );
-    if( hasChanged( widget, listener, newValueObject, defaultValueObject ) ) {
+    if( changed( widget, listener, newValue, defaultValue ) ) {
       getRemoteObject( widget ).listen( listener, newValue );
     }
   }
@@ -628,6 +621,27 @@ public final class WidgetLCAUtil {
     return !equals( actualValue, defaultValue );
   }
 
+  // compares primitive values without boxing them
+  private static boolean changed( Widget widget, String property, int actualValue, int defaultValue ) {
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+    if( adapter.isInitialized() ) {
+      return !adapter.isPreserved( property, actualValue );
+    }
+    return actualValue != defaultValue;
+  }
+
+  private static boolean changed( Widget widget,
+                                  String property,
+                                  boolean actualValue,
+                                  boolean defaultValue )
+  {
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+    if( adapter.isInitialized() ) {
+      return !adapter.isPreserved( property, actualValue );
+    }
+    return actualValue != defaultValue;
+  }
+
   static boolean changed( Widget widget,
                           boolean actualValue,
                           boolean preservedValue,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,11 +10,14 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.protocol;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
@@ -24,7 +27,7 @@ import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
 
 public class ClientMessage extends RequestMessage {
 
-  private Map<String, List<Operation>> index;
+  private Map<String, TargetOperations> index;
 
   public ClientMessage( JsonObject json ) {
     super( json );
@@ -36,37 +39,50 @@ public class ClientMessage extends RequestMessage {
     createOperationsIndex();
   }
 
+  ClientMessage( JsonObject head, List<Operation> operations ) {
+    super( head, operations );
+    createOperationsIndex();
+  }
+
   private void createOperationsIndex() {
-    index = new HashMap<>();
+    index = new LinkedHashMap<>();
     for( Operation operation : getOperations() ) {
       String target = operation.getTarget();
-      List<Operation> targetOperations = index.get( target );
+      TargetOperations targetOperations = index.get( target );
       if( targetOperations == null ) {
-        targetOperations = new ArrayList<>();
+        targetOperations = new TargetOperations();
+        index.put( target, targetOperations );
       }
-      targetOperations.add( operation );
-      index.put( target, targetOperations );
+      targetOperations.operations.add( operation );
     }
   }
 
+  public Set<String> getAllTargets() {
+    return Collections.unmodifiableSet( index.keySet() );
+  }
+
   public List<Operation> getAllOperationsFor( String target ) {
-    List<Operation> operations = index.get( target );
-    if( operations == null ) {
+    TargetOperations targetOperations = index.get( target );
+    if( targetOperations == null ) {
       return Collections.emptyList();
     }
-    return Collections.unmodifiableList( operations );
+    return Collections.unmodifiableList( targetOperations.operations );
   }
 
   public List<CallOperation> getAllCallOperationsFor( String target, String methodName ) {
+    if( target != null ) {
+      TargetOperations targetOperations = index.get( target );
+      List<CallOperation> selected = targetOperations == null
+                                   ? null
+                                   : targetOperations.getCallOperations( methodName );
+      return selected == null ? new ArrayList<CallOperation>() : new ArrayList<>( selected );
+    }
     List<CallOperation> result = new ArrayList<>();
-    List<Operation> selected = target == null ? getOperations() : index.get( target );
-    if( selected != null ) {
-      for( Operation operation : selected ) {
-        if( operation instanceof CallOperation ) {
-          CallOperation currentOperation = ( CallOperation )operation;
-          if( methodName == null || currentOperation.getMethodName().equals( methodName ) ) {
-            result.add( currentOperation );
-          }
+    for( Operation operation : getOperations() ) {
+      if( operation instanceof CallOperation ) {
+        CallOperation currentOperation = ( CallOperation )operation;
+        if( methodName == null || currentOperation.getMethodName().equals( methodName ) ) {
+          result.add( currentOperation );
         }
       }
     }
@@ -74,15 +90,16 @@ public class ClientMessage extends RequestMessage {
   }
 
   public SetOperation getLastSetOperationFor( String target, String property ) {
+    if( target != null ) {
+      TargetOperations targetOperations = index.get( target );
+      return targetOperations == null ? null : targetOperations.getLastSetOperation( property );
+    }
     SetOperation result = null;
-    List<Operation> selected = target == null ? getOperations() : index.get( target );
-    if( selected != null ) {
-      for( Operation operation : selected ) {
-        if( operation instanceof SetOperation ) {
-          SetOperation setOperation = ( SetOperation )operation;
-          if( property == null || setOperation.getProperties().get( property ) != null ) {
-            result = setOperation;
-          }
+    for( Operation operation : getOperations() ) {
+      if( operation instanceof SetOperation ) {
+        SetOperation setOperation = ( SetOperation )operation;
+        if( property == null || setOperation.getProperties().get( property ) != null ) {
+          result = setOperation;
         }
       }
     }
@@ -90,19 +107,93 @@ public class ClientMessage extends RequestMessage {
   }
 
   public NotifyOperation getLastNotifyOperationFor( String target, String eventName ) {
+    if( target != null ) {
+      TargetOperations targetOperations = index.get( target );
+      return targetOperations == null ? null : targetOperations.getLastNotifyOperation( eventName );
+    }
     NotifyOperation result = null;
-    List<Operation> selected = target == null ? getOperations() : index.get( target );
-    if( selected != null ) {
-      for( Operation operation : selected ) {
-        if( operation instanceof NotifyOperation ) {
-          NotifyOperation currentOperation = ( NotifyOperation )operation;
-          if( eventName == null || currentOperation.getEventName().equals( eventName ) ) {
-            result = currentOperation;
-          }
+    for( Operation operation : getOperations() ) {
+      if( operation instanceof NotifyOperation ) {
+        NotifyOperation currentOperation = ( NotifyOperation )operation;
+        if( eventName == null || currentOperation.getEventName().equals( eventName ) ) {
+          result = currentOperation;
         }
       }
     }
     return result;
   }
 
+  /*
+   * The operations of a single target. The lookup tables are created when they are first needed,
+   * since the LCAs read most properties of the targets that are part of the message, but many
+   * messages are small.
+   */
+  private static final class TargetOperations implements Serializable {
+
+    final List<Operation> operations = new ArrayList<>( 2 );
+    private transient Map<String, SetOperation> lastSetOperations;
+    private transient Map<String, NotifyOperation> lastNotifyOperations;
+    private transient Map<String, List<CallOperation>> callOperations;
+    private transient SetOperation lastSetOperation;
+    private transient NotifyOperation lastNotifyOperation;
+    private transient List<CallOperation> allCallOperations;
+
+    SetOperation getLastSetOperation( String property ) {
+      ensureLookupTables();
+      return property == null ? lastSetOperation : lastSetOperations.get( property );
+    }
+
+    NotifyOperation getLastNotifyOperation( String eventName ) {
+      ensureLookupTables();
+      return eventName == null ? lastNotifyOperation : lastNotifyOperations.get( eventName );
+    }
+
+    List<CallOperation> getCallOperations( String methodName ) {
+      ensureLookupTables();
+      return methodName == null ? allCallOperations : callOperations.get( methodName );
+    }
+
+    private void ensureLookupTables() {
+      if( lastSetOperations == null ) {
+        Map<String, SetOperation> sets = new HashMap<>();
+        Map<String, NotifyOperation> notifies = new HashMap<>();
+        Map<String, List<CallOperation>> calls = new HashMap<>();
+        List<CallOperation> allCalls = new ArrayList<>();
+        for( Operation operation : operations ) {
+          if( operation instanceof SetOperation ) {
+            SetOperation setOperation = ( SetOperation )operation;
+            for( String property : setOperation.getProperties().names() ) {
+              sets.put( property, setOperation );
+            }
+            lastSetOperation = setOperation;
+          } else if( operation instanceof NotifyOperation ) {
+            NotifyOperation notifyOperation = ( NotifyOperation )operation;
+            notifies.put( notifyOperation.getEventName(), notifyOperation );
+            lastNotifyOperation = notifyOperation;
+          } else if( operation instanceof CallOperation ) {
+            CallOperation callOperation = ( CallOperation )operation;
+            addCallOperation( calls, callOperation );
+            allCalls.add( callOperation );
+          }
+        }
+        allCallOperations = allCalls;
+        callOperations = calls;
+        lastNotifyOperations = notifies;
+        lastSetOperations = sets;
+      }
+    }
+
+    private static void addCallOperation( Map<String, List<CallOperation>> calls,
+                                          CallOperation operation )
+    {
+      List<CallOperation> list = calls.get( operation.getMethodName() );
+      if( list == null ) {
+        list = new ArrayList<>( 1 );
+        calls.put( operation.getMethodName(), list );
+      }
+      list.add( operation );
+    }
+
+  }
+
 }
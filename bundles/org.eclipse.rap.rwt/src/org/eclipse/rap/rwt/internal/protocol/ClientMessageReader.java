@@ -0,0 +1,523 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.ListenOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * Reads a client message from a UTF-8 encoded stream. Unlike parsing the message with
+ * <code>JsonObject.readFrom()</code> and creating the operations from the JSON tree, the
+ * operations are created while the message is read. Short strings like the actions, targets and
+ * property names, which are repeated throughout a message, are shared instead of being created
+ * again for each occurrence.
+ * <p>
+ * A reader is meant to read a single message and is not thread-safe.
+ * </p>
+ */
+public final class ClientMessageReader {
+
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+  private static final int MAX_SHARED_LENGTH = 32;
+  private static final int SHARED_STRINGS_SIZE = 1024;
+  // integers with more digits could overflow a long
+  private static final int MAX_LONG_DIGITS = 18;
+  private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+  private final InputStream inputStream;
+  private final byte[] buffer;
+  private final String[] sharedStrings;
+  private int sharedStringCount;
+  private char[] chars;
+  private int charCount;
+  private int index;
+  private int fill;
+  private long bufferOffset;
+  private int current;
+
+  public ClientMessageReader( InputStream inputStream ) {
+    this( inputStream, DEFAULT_BUFFER_SIZE );
+  }
+
+  ClientMessageReader( InputStream inputStream, int bufferSize ) {
+    ParamCheck.notNull( inputStream, "inputStream" );
+    this.inputStream = inputStream;
+    buffer = new byte[ bufferSize ];
+    sharedStrings = new String[ SHARED_STRINGS_SIZE ];
+    chars = new char[ 64 ];
+  }
+
+  /**
+   * Reads the message. The result is the same as that of
+   * <code>new ClientMessage( JsonObject.readFrom( reader ) )</code>.
+   *
+   * @throws IllegalArgumentException if the message is not valid
+   */
+  public ClientMessage read() throws IOException {
+    advance();
+    skipWhiteSpace();
+    JsonObject head = null;
+    List<Operation> operations = null;
+    readRequiredChar( '{' );
+    skipWhiteSpace();
+    if( current != '}' ) {
+      do {
+        skipWhiteSpace();
+        String name = readString();
+        skipWhiteSpace();
+        readRequiredChar( ':' );
+        skipWhiteSpace();
+        if( "head".equals( name ) ) {
+          head = readObject();
+        } else if( "operations".equals( name ) ) {
+          operations = readOperations();
+        } else {
+          readValue();
+        }
+        skipWhiteSpace();
+      } while( readChar( ',' ) );
+    }
+    readRequiredChar( '}' );
+    skipWhiteSpace();
+    if( current != -1 ) {
+      throw error( "Unexpected character" );
+    }
+    if( head == null ) {
+      throw new IllegalArgumentException( "Failed to read head from JSON message" );
+    }
+    if( operations == null ) {
+      throw new IllegalArgumentException( "Failed to read operations from JSON message" );
+    }
+    return new ClientMessage( head, operations );
+  }
+
+  private List<Operation> readOperations() throws IOException {
+    readRequiredChar( '[' );
+    List<Operation> operations = new ArrayList<>();
+    skipWhiteSpace();
+    if( readChar( ']' ) ) {
+      return operations;
+    }
+    do {
+      skipWhiteSpace();
+      operations.add( readOperation() );
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    readRequiredChar( ']' );
+    return operations;
+  }
+
+  private Operation readOperation() throws IOException {
+    readRequiredChar( '[' );
+    skipWhiteSpace();
+    String action = readString();
+    String target = readStringElement();
+    Operation operation;
+    if( "set".equals( action ) ) {
+      operation = new SetOperation( target, readObjectElement() );
+    } else if( "notify".equals( action ) ) {
+      operation = new NotifyOperation( target, readStringElement(), readObjectElement() );
+    } else if( "call".equals( action ) ) {
+      operation = new CallOperation( target, readStringElement(), readObjectElement() );
+    } else if( "create".equals( action ) ) {
+      operation = new CreateOperation( target, readStringElement(), readObjectElement() );
+    } else if( "listen".equals( action ) ) {
+      operation = new ListenOperation( target, readObjectElement() );
+    } else if( "destroy".equals( action ) ) {
+      operation = new DestroyOperation( target );
+    } else {
+      throw error( "Unknown operation type: " + action );
+    }
+    skipWhiteSpace();
+    // like the OperationReader, ignore additional elements
+    while( readChar( ',' ) ) {
+      skipWhiteSpace();
+      readValue();
+      skipWhiteSpace();
+    }
+    readRequiredChar( ']' );
+    return operation;
+  }
+
+  private String readStringElement() throws IOException {
+    skipWhiteSpace();
+    readRequiredChar( ',' );
+    skipWhiteSpace();
+    return readString();
+  }
+
+  private JsonObject readObjectElement() throws IOException {
+    skipWhiteSpace();
+    readRequiredChar( ',' );
+    skipWhiteSpace();
+    return readObject();
+  }
+
+  private JsonValue readValue() throws IOException {
+    switch( current ) {
+      case 'n':
+        readLiteral( "null" );
+        return JsonValue.NULL;
+      case 't':
+        readLiteral( "true" );
+        return JsonValue.TRUE;
+      case 'f':
+        readLiteral( "false" );
+        return JsonValue.FALSE;
+      case '"':
+        return JsonValue.valueOf( readString() );
+      case '[':
+        return readArray();
+      case '{':
+        return readObject();
+      case '-':
+      case '0':
+      case '1':
+      case '2':
+      case '3':
+      case '4':
+      case '5':
+      case '6':
+      case '7':
+      case '8':
+      case '9':
+        return readNumber();
+      default:
+        throw expected( "value" );
+    }
+  }
+
+  private JsonArray readArray() throws IOException {
+    readRequiredChar( '[' );
+    JsonArray array = new JsonArray();
+    skipWhiteSpace();
+    if( readChar( ']' ) ) {
+      return array;
+    }
+    do {
+      skipWhiteSpace();
+      array.add( readValue() );
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    readRequiredChar( ']' );
+    return array;
+  }
+
+  private JsonObject readObject() throws IOException {
+    readRequiredChar( '{' );
+    JsonObject object = new JsonObject();
+    skipWhiteSpace();
+    if( readChar( '}' ) ) {
+      return object;
+    }
+    do {
+      skipWhiteSpace();
+      String name = readString();
+      skipWhiteSpace();
+      readRequiredChar( ':' );
+      skipWhiteSpace();
+      object.add( name, readValue() );
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    readRequiredChar( '}' );
+    return object;
+  }
+
+  private void readLiteral( String literal ) throws IOException {
+    for( int i = 0; i < literal.length(); i++ ) {
+      readRequiredChar( literal.charAt( i ) );
+    }
+  }
+
+  private JsonValue readNumber() throws IOException {
+    charCount = 0;
+    boolean integer = true;
+    captureChar( '-' );
+    int firstDigit = current;
+    if( !captureDigit() ) {
+      throw expected( "digit" );
+    }
+    if( firstDigit != '0' ) {
+      while( captureDigit() ) {
+      }
+    }
+    if( captureChar( '.' ) ) {
+      integer = false;
+      if( !captureDigit() ) {
+        throw expected( "digit" );
+      }
+      while( captureDigit() ) {
+      }
+    }
+    if( captureChar( 'e' ) || captureChar( 'E' ) ) {
+      integer = false;
+      if( !captureChar( '+' ) ) {
+        captureChar( '-' );
+      }
+      if( !captureDigit() ) {
+        throw expected( "digit" );
+      }
+      while( captureDigit() ) {
+      }
+    }
+    boolean negative = chars[ 0 ] == '-';
+    int digitCount = negative ? charCount - 1 : charCount;
+    if( integer && digitCount <= MAX_LONG_DIGITS ) {
+      long value = 0;
+      for( int i = negative ? 1 : 0; i < charCount; i++ ) {
+        value = value * 10 + chars[ i ] - '0';
+      }
+      // -0 would not be preserved
+      if( value != 0 || !negative ) {
+        return JsonValue.valueOf( negative ? -value : value );
+      }
+    }
+    return JsonValue.readFrom( new String( chars, 0, charCount ) );
+  }
+
+  private boolean captureChar( char ch ) throws IOException {
+    if( current != ch ) {
+      return false;
+    }
+    appendChar( ch );
+    advance();
+    return true;
+  }
+
+  private boolean captureDigit() throws IOException {
+    if( current < '0' || current > '9' ) {
+      return false;
+    }
+    appendChar( ( char )current );
+    advance();
+    return true;
+  }
+
+  private String readString() throws IOException {
+    if( current != '"' ) {
+      throw expected( "string" );
+    }
+    advance();
+    charCount = 0;
+    while( current != '"' ) {
+      if( current == '\\' ) {
+        readEscape();
+      } else if( current < 0x20 ) {
+        throw expected( "valid string character" );
+      } else if( current < 0x80 ) {
+        appendChar( ( char )current );
+        advance();
+      } else {
+        readMultiByteChar();
+      }
+    }
+    advance();
+    return createString();
+  }
+
+  private void readEscape() throws IOException {
+    advance();
+    switch( current ) {
+      case '"':
+      case '/':
+      case '\\':
+        appendChar( ( char )current );
+      break;
+      case 'b':
+        appendChar( '\b' );
+      break;
+      case 'f':
+        appendChar( '\f' );
+      break;
+      case 'n':
+        appendChar( '\n' );
+      break;
+      case 'r':
+        appendChar( '\r' );
+      break;
+      case 't':
+        appendChar( '\t' );
+      break;
+      case 'u':
+        int value = 0;
+        for( int i = 0; i < 4; i++ ) {
+          advance();
+          if( !isHexDigit() ) {
+            throw expected( "hexadecimal digit" );
+          }
+          value = value * 16 + Character.digit( current, 16 );
+        }
+        appendChar( ( char )value );
+      break;
+      default:
+        throw expected( "valid escape sequence" );
+    }
+    advance();
+  }
+
+  // malformed sequences are replaced, as an InputStreamReader would do
+  private void readMultiByteChar() throws IOException {
+    int lead = current;
+    int length;
+    int codePoint;
+    if( lead >= 0xC2 && lead <= 0xDF ) {
+      length = 2;
+      codePoint = lead & 0x1F;
+    } else if( lead >= 0xE0 && lead <= 0xEF ) {
+      length = 3;
+      codePoint = lead & 0x0F;
+    } else if( lead >= 0xF0 && lead <= 0xF4 ) {
+      length = 4;
+      codePoint = lead & 0x07;
+    } else {
+      appendChar( REPLACEMENT_CHAR );
+      advance();
+      return;
+    }
+    advance();
+    for( int i = 1; i < length; i++ ) {
+      if( ( current & 0xC0 ) != 0x80 || current == -1 ) {
+        appendChar( REPLACEMENT_CHAR );
+        return;
+      }
+      codePoint = ( codePoint << 6 ) | ( current & 0x3F );
+      advance();
+    }
+    if( length == 3 && ( codePoint < 0x800 || Character.isSurrogate( ( char )codePoint ) ) ) {
+      // overlong encoding or encoded surrogate
+      appendChar( REPLACEMENT_CHAR );
+    } else if( length == 4 && ( codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT ) ) {
+      appendChar( REPLACEMENT_CHAR );
+    } else if( length == 4 ) {
+      appendChar( Character.highSurrogate( codePoint ) );
+      appendChar( Character.lowSurrogate( codePoint ) );
+    } else {
+      appendChar( ( char )codePoint );
+    }
+  }
+
+  private void appendChar( char ch ) {
+    if( charCount == chars.length ) {
+      char[] newChars = new char[ chars.length * 2 ];
+      System.arraycopy( chars, 0, newChars, 0, charCount );
+      chars = newChars;
+    }
+    chars[ charCount++ ] = ch;
+  }
+
+  private String createString() {
+    if( charCount > MAX_SHARED_LENGTH ) {
+      return new String( chars, 0, charCount );
+    }
+    int hash = 0;
+    for( int i = 0; i < charCount; i++ ) {
+      hash = 31 * hash + chars[ i ];
+    }
+    int mask = sharedStrings.length - 1;
+    int slot = ( hash ^ ( hash >>> 16 ) ) & mask;
+    while( sharedStrings[ slot ] != null ) {
+      String string = sharedStrings[ slot ];
+      if( string.hashCode() == hash && equalsChars( string ) ) {
+        return string;
+      }
+      slot = ( slot + 1 ) & mask;
+    }
+    String result = new String( chars, 0, charCount );
+    // keep the table sparse, messages with many different strings don't benefit from sharing
+    if( sharedStringCount < sharedStrings.length / 2 ) {
+      sharedStrings[ slot ] = result;
+      sharedStringCount++;
+    }
+    return result;
+  }
+
+  private boolean equalsChars( String string ) {
+    if( string.length() != charCount ) {
+      return false;
+    }
+    for( int i = 0; i < charCount; i++ ) {
+      if( string.charAt( i ) != chars[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isHexDigit() {
+    return    current >= '0' && current <= '9'
+           || current >= 'a' && current <= 'f'
+           || current >= 'A' && current <= 'F';
+  }
+
+  private void skipWhiteSpace() throws IOException {
+    while( current == ' ' || current == '\t' || current == '\n' || current == '\r' ) {
+      advance();
+    }
+  }
+
+  private boolean readChar( char ch ) throws IOException {
+    if( current != ch ) {
+      return false;
+    }
+    advance();
+    return true;
+  }
+
+  private void readRequiredChar( char ch ) throws IOException {
+    if( !readChar( ch ) ) {
+      throw expected( "'" + ch + "'" );
+    }
+  }
+
+  private void advance() throws IOException {
+    if( current == -1 ) {
+      throw error( "Unexpected end of input" );
+    }
+    if( index == fill ) {
+      bufferOffset += fill;
+      fill = inputStream.read( buffer, 0, buffer.length );
+      index = 0;
+      if( fill == -1 ) {
+        fill = 0;
+        current = -1;
+        return;
+      }
+    }
+    current = buffer[ index++ ] & 0xFF;
+  }
+
+  private IllegalArgumentException expected( String expected ) {
+    if( current == -1 ) {
+      return error( "Unexpected end of input" );
+    }
+    return error( "Expected " + expected );
+  }
+
+  private IllegalArgumentException error( String message ) {
+    long offset = current == -1 ? bufferOffset : bufferOffset + index - 1;
+    return new IllegalArgumentException( message + " at offset " + offset );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,9 +10,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.remote;
 
-import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -23,129 +21,254 @@ import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
  * A remote object implementation that does not write operations directly, but keeps them in a
  * render queue. The {@link RemoteObjectLifeCycleAdapter} will write the operations by calling the
  * <code>render</code> method.
+ * <p>
+ * The render queue is stored in parallel arrays of operation codes, names and values that are
+ * reused across requests, so that queuing an operation does not allocate. Set operations for the
+ * same property are coalesced unless another operation (e.g. a call) has been queued in between,
+ * only the last value is rendered. The coalesced operation takes the place of the last one, so
+ * that the last set operations of all properties keep their relative order.
+ * </p>
  */
 public class DeferredRemoteObject extends RemoteObjectImpl {
 
-  private final List<RenderRunnable> renderQueue;
+  private static final byte CREATE = 0;
+  private static final byte SET_INT = 1;
+  private static final byte SET_DOUBLE = 2;
+  private static final byte SET_BOOLEAN = 3;
+  private static final byte SET_STRING = 4;
+  private static final byte SET_JSON = 5;
+  private static final byte LISTEN = 6;
+  private static final byte CALL = 7;
+  private static final byte DESTROY = 8;
+  // a set operation that has been replaced by a later one
+  private static final byte SUPERSEDED = 9;
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private byte[] opCodes;
+  // the property, event type, method or create type
+  private String[] names;
+  // the value of operations with a primitive value
+  private long[] primitiveValues;
+  // the value of operations with an object value
+  private Object[] objectValues;
+  private int size;
+  // open addressing hash table of set operations by name, holds positions + 1
+  private int[] setIndex;
+  // set operations at or after this index can be coalesced
+  private int coalesceStart;
   private boolean created;
 
-  public DeferredRemoteObject( final String id, final String createType ) {
+  public DeferredRemoteObject( String id, String createType ) {
     super( id );
-    renderQueue = new ArrayList<>();
     if( createType != null ) {
-      renderQueue.add( new RenderRunnable() {
-        @Override
-        public void render( ProtocolMessageWriter writer ) {
-          writer.appendCreate( id, createType );
-        }
-      } );
+      add( CREATE, createType, 0, null );
     }
   }
 
   @Override
-  public void set( final String name, final int value ) {
+  public void set( String name, int value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendSet( getId(), name, value );
-      }
-    } );
+    addSet( SET_INT, name, value, null );
   }
 
   @Override
-  public void set( final String name, final double value ) {
+  public void set( String name, double value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendSet( getId(), name, value );
-      }
-    } );
+    addSet( SET_DOUBLE, name, Double.doubleToRawLongBits( value ), null );
   }
 
   @Override
-  public void set( final String name, final boolean value ) {
+  public void set( String name, boolean value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendSet( getId(), name, value );
-      }
-    } );
+    addSet( SET_BOOLEAN, name, value ? 1 : 0, null );
   }
 
   @Override
-  public void set( final String name, final String value ) {
+  public void set( String name, String value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendSet( getId(), name, value );
-      }
-    } );
+    addSet( SET_STRING, name, 0, value );
   }
 
   @Override
-  public void set( final String name, final JsonValue value ) {
+  public void set( String name, JsonValue value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendSet( getId(), name, value );
-      }
-    } );
+    addSet( SET_JSON, name, 0, value );
   }
 
   @Override
-  public void listen( final String eventType, final boolean listen ) {
+  public void listen( String eventType, boolean listen ) {
     super.listen( eventType, listen );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendListen( getId(), eventType, listen );
-      }
-    } );
+    add( LISTEN, eventType, listen ? 1 : 0, null );
+    markPending();
   }
 
   @Override
-  public void call( final String method, final JsonObject parameters ) {
+  public void call( String method, JsonObject parameters ) {
     super.call( method, parameters );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendCall( getId(), method, parameters );
-      }
-    } );
+    add( CALL, method, 0, parameters );
+    markPending();
   }
 
   @Override
   public void destroy() {
     super.destroy();
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendDestroy( getId() );
-      }
-    } );
+    add( DESTROY, null, 0, null );
+    markPending();
   }
 
   public void render( ProtocolMessageWriter writer ) {
     if( isDestroyed() && !created ) {
       // skip rendering for objects that are disposed just after creation (see bug 395272)
     } else {
-      for( RenderRunnable runnable : renderQueue ) {
-        runnable.render( writer );
+      for( int i = 0; i < size; i++ ) {
+        render( writer, i );
       }
       created = true;
     }
-    renderQueue.clear();
+    clear();
   }
 
-  private static interface RenderRunnable extends Serializable {
+  private void render( ProtocolMessageWriter writer, int index ) {
+    String id = getId();
+    String name = names[ index ];
+    long primitiveValue = primitiveValues[ index ];
+    Object objectValue = objectValues[ index ];
+    switch( opCodes[ index ] ) {
+      case CREATE:
+        writer.appendCreate( id, name );
+        break;
+      case SET_INT:
+        writer.appendSet( id, name, ( int )primitiveValue );
+        break;
+      case SET_DOUBLE:
+        writer.appendSet( id, name, Double.longBitsToDouble( primitiveValue ) );
+        break;
+      case SET_BOOLEAN:
+        writer.appendSet( id, name, primitiveValue != 0 );
+        break;
+      case SET_STRING:
+        writer.appendSet( id, name, ( String )objectValue );
+        break;
+      case SET_JSON:
+        writer.appendSet( id, name, ( JsonValue )objectValue );
+        break;
+      case LISTEN:
+        writer.appendListen( id, name, primitiveValue != 0 );
+        break;
+      case CALL:
+        writer.appendCall( id, name, ( JsonObject )objectValue );
+        break;
+      case DESTROY:
+        writer.appendDestroy( id );
+        break;
+      case SUPERSEDED:
+        break;
+      default:
+        throw new IllegalStateException( "Unknown operation: " + opCodes[ index ] );
+    }
+  }
 
-    void render( ProtocolMessageWriter writer );
+  private void addSet( byte opCode, String name, long primitiveValue, Object objectValue ) {
+    int index = findSet( name );
+    if( index != -1 && index == size - 1 ) {
+      opCodes[ index ] = opCode;
+      primitiveValues[ index ] = primitiveValue;
+      objectValues[ index ] = objectValue;
+    } else {
+      if( index != -1 ) {
+        opCodes[ index ] = SUPERSEDED;
+        objectValues[ index ] = null;
+      }
+      add( opCode, name, primitiveValue, objectValue );
+      putSet( name, size - 1 );
+    }
+    markPending();
+  }
 
+  private int findSet( String name ) {
+    if( setIndex != null ) {
+      int mask = setIndex.length - 1;
+      for( int slot = name.hashCode() & mask; setIndex[ slot ] != 0; slot = ( slot + 1 ) & mask ) {
+        int position = setIndex[ slot ] - 1;
+        if( name.equals( names[ position ] ) ) {
+          // a set operation queued before another operation must not be changed
+          return position >= coalesceStart ? position : -1;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private void putSet( String name, int position ) {
+    if( setIndex == null || setIndex.length < ( size << 1 ) ) {
+      rebuildSetIndex();
+    } else {
+      insertSet( setIndex, name, position );
+    }
+  }
+
+  private void rebuildSetIndex() {
+    int length = 8;
+    while( length < ( size << 1 ) ) {
+      length <<= 1;
+    }
+    setIndex = new int[ length ];
+    for( int i = coalesceStart; i < size; i++ ) {
+      insertSet( setIndex, names[ i ], i );
+    }
+  }
+
+  private void insertSet( int[] index, String name, int position ) {
+    int mask = index.length - 1;
+    int slot = name.hashCode() & mask;
+    // replace an outdated entry for the same name
+    while( index[ slot ] != 0 && !name.equals( names[ index[ slot ] - 1 ] ) ) {
+      slot = ( slot + 1 ) & mask;
+    }
+    index[ slot ] = position + 1;
+  }
+
+  private void add( byte opCode, String name, long primitiveValue, Object objectValue ) {
+    ensureCapacity( size + 1 );
+    opCodes[ size ] = opCode;
+    names[ size ] = name;
+    primitiveValues[ size ] = primitiveValue;
+    objectValues[ size ] = objectValue;
+    size++;
+    if( opCode < SET_INT || opCode > SET_JSON ) {
+      // don't move a set operation across other operations
+      coalesceStart = size;
+    }
+  }
+
+  private void ensureCapacity( int capacity ) {
+    if( opCodes == null ) {
+      int initialCapacity = Math.max( capacity, INITIAL_CAPACITY );
+      opCodes = new byte[ initialCapacity ];
+      names = new String[ initialCapacity ];
+      primitiveValues = new long[ initialCapacity ];
+      objectValues = new Object[ initialCapacity ];
+    } else if( capacity > opCodes.length ) {
+      int newCapacity = Math.max( capacity, opCodes.length * 2 );
+      opCodes = Arrays.copyOf( opCodes, newCapacity );
+      names = Arrays.copyOf( names, newCapacity );
+      primitiveValues = Arrays.copyOf( primitiveValues, newCapacity );
+      objectValues = Arrays.copyOf( objectValues, newCapacity );
+    }
+  }
+
+  private void clear() {
+    if( size > 0 ) {
+      // keep the arrays for the next request, but release the values
+      Arrays.fill( names, 0, size, null );
+      Arrays.fill( objectValues, 0, size, null );
+      size = 0;
+    }
+    if( setIndex != null ) {
+      Arrays.fill( setIndex, 0 );
+    }
+    coalesceStart = 0;
   }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,15 +21,20 @@ import org.eclipse.rap.rwt.SingletonUtil;
 import org.eclipse.rap.rwt.service.UISession;
 
 
+/**
+ * Keeps the remote objects of a UI session. Objects that have been registered, have queued
+ * operations or have been destroyed since the last render phase are tracked as pending, so that
+ * the render phase only has to visit these objects.
+ */
 public class RemoteObjectRegistry implements Serializable {
 
   private final Map<String, RemoteObjectImpl> remoteObjects;
+  // ordered by the time an object became pending
+  private final Map<String, RemoteObjectImpl> pendingObjects;
 
   RemoteObjectRegistry() {
-    // TODO [rst] This is a linked list in order to provide an ordered list of remote objects to
-    //            iterate in the render phase. Once messages are rendered directly, this doesn't
-    //            have to be a linked list anymore.
     remoteObjects = new LinkedHashMap<>();
+    pendingObjects = new LinkedHashMap<>();
   }
 
   public static RemoteObjectRegistry getInstance() {
@@ -46,6 +51,8 @@ public class RemoteObjectRegistry implements Serializable {
       throw new IllegalArgumentException( "Remote object already registered, id: " + id );
     }
     remoteObjects.put( id, object );
+    pendingObjects.put( id, object );
+    object.setRegistry( this );
   }
 
   public void remove( RemoteObjectImpl object ) {
@@ -54,6 +61,7 @@ public class RemoteObjectRegistry implements Serializable {
       throw new IllegalArgumentException( "Remote object not found in registry, id: " + id );
     }
     remoteObjects.remove( id );
+    pendingObjects.remove( id );
   }
 
   public RemoteObjectImpl get( String id ) {
@@ -64,4 +72,22 @@ public class RemoteObjectRegistry implements Serializable {
     return new ArrayList<>( remoteObjects.values() );
   }
 
+  /**
+   * Returns the objects that became pending since the last call of this method, in the order in
+   * which they became pending.
+   */
+  public List<RemoteObjectImpl> removePendingObjects() {
+    List<RemoteObjectImpl> result = new ArrayList<>( pendingObjects.values() );
+    pendingObjects.clear();
+    return result;
+  }
+
+  void markPending( RemoteObjectImpl object ) {
+    String id = object.getId();
+    // ignore objects that have already been removed from the registry
+    if( remoteObjects.get( id ) == object ) {
+      pendingObjects.put( id, object );
+    }
+  }
+
 }
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+
+/**
+ * A registered resource that is served by the <code>RWTResourceFilter</code>, see
+ * <code>ResourceManagerImpl</code>. The content is either stored in the resources directory or
+ * kept in memory.
+ */
+public final class CachedResource {
+
+  private final ResourceContent content;
+  private final ResourceContent compressedContent;
+  private final String contentHash;
+
+  CachedResource( ResourceContent content, ResourceContent compressedContent, String contentHash ) {
+    this.content = content;
+    this.compressedContent = compressedContent;
+    this.contentHash = contentHash;
+  }
+
+  public String getContentHash() {
+    return contentHash;
+  }
+
+  /**
+   * @return whether the resource is also available gzip-compressed
+   */
+  public boolean hasCompressedContent() {
+    return compressedContent != null;
+  }
+
+  public long getContentLength( boolean compressed ) {
+    return getContent( compressed ).getLength();
+  }
+
+  public void writeContent( OutputStream outputStream, boolean compressed ) throws IOException {
+    getContent( compressed ).writeTo( outputStream );
+  }
+
+  InputStream openContent() throws IOException {
+    return content.openStream();
+  }
+
+  ResourceContent getContent() {
+    return content;
+  }
+
+  ResourceContent getCompressedContent() {
+    return compressedContent;
+  }
+
+  private ResourceContent getContent( boolean compressed ) {
+    if( compressed && compressedContent == null ) {
+      throw new IllegalStateException( "Resource has no compressed content" );
+    }
+    return compressed ? compressedContent : content;
+  }
+
+  long getMemorySize() {
+    long result = content.getMemorySize();
+    if( compressedContent != null ) {
+      result += compressedContent.getMemorySize();
+    }
+    return result;
+  }
+
+  void delete() {
+    content.delete();
+    if( compressedContent != null ) {
+      compressedContent.delete();
+    }
+  }
+
+}
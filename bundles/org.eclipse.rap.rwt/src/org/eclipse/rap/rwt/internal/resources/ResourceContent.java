@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+
+/**
+ * The stored content of a resource, either a file in the resources directory or a byte array.
+ */
+abstract class ResourceContent {
+
+  abstract long getLength();
+
+  abstract InputStream openStream() throws IOException;
+
+  abstract void writeTo( OutputStream outputStream ) throws IOException;
+
+  /**
+   * @return the number of bytes that this content occupies in memory
+   */
+  abstract long getMemorySize();
+
+  abstract void delete();
+
+  static final class FileContent extends ResourceContent {
+
+    private final File file;
+
+    FileContent( File file ) {
+      this.file = file;
+    }
+
+    File getFile() {
+      return file;
+    }
+
+    @Override
+    long getLength() {
+      return file.length();
+    }
+
+    @Override
+    InputStream openStream() throws IOException {
+      return new FileInputStream( file );
+    }
+
+    @Override
+    void writeTo( OutputStream outputStream ) throws IOException {
+      FileInputStream inputStream = new FileInputStream( file );
+      try {
+        FileChannel channel = inputStream.getChannel();
+        long size = channel.size();
+        // transfers the file in chunks, it is never read into memory as a whole
+        WritableByteChannel outputChannel = Channels.newChannel( outputStream );
+        long position = 0;
+        while( position < size ) {
+          position += channel.transferTo( position, size - position, outputChannel );
+        }
+      } finally {
+        inputStream.close();
+      }
+    }
+
+    @Override
+    long getMemorySize() {
+      return 0;
+    }
+
+    @Override
+    void delete() {
+      file.delete();
+    }
+
+  }
+
+  static final class ByteContent extends ResourceContent {
+
+    private final byte[] bytes;
+
+    ByteContent( byte[] bytes ) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    long getLength() {
+      return bytes.length;
+    }
+
+    @Override
+    InputStream openStream() {
+      return new ByteArrayInputStream( bytes );
+    }
+
+    @Override
+    void writeTo( OutputStream outputStream ) throws IOException {
+      outputStream.write( bytes );
+    }
+
+    @Override
+    long getMemorySize() {
+      return bytes.length;
+    }
+
+    @Override
+    void delete() {
+      // nothing to do, the bytes are released with the resource
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,19 +12,35 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.resources;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.FilterRegistration;
+import jakarta.servlet.ServletContext;
 
+import org.eclipse.rap.rwt.engine.RWTResourceFilter;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceLoader;
@@ -41,17 +57,60 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  * Implementation as singleton.
  * </p>
  * <p>
+ * With resource caching enabled, the content of every resource is hashed when it is registered
+ * and the hash is appended to its location, hence the location changes when the content changes.
+ * Text resources are also stored gzip-compressed. The <code>RWTResourceFilter</code> serves them
+ * with an ETag and, if requested with the current hash, as immutable.
+ * </p>
+ * <p>
+ * With a memory budget, resources are kept in memory instead of being written to the resources
+ * directory, until the budget is used up. Resources in memory can only be served by the
+ * <code>RWTResourceFilter</code>, hence the budget is ignored unless the filter is mapped to the
+ * resources directory of the servlet context. Resources that exceed the budget are streamed to
+ * disk without being buffered.
+ * </p>
+ * <p>
  * This class is not intended to be used by clients.
  * </p>
  */
 public class ResourceManagerImpl implements ResourceManager {
 
+  public static final String VERSION_PARAM = "v";
+
+  private static final String COMPRESSED_SUFFIX = ".gz";
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  // compressing smaller resources does not pay off
+  private static final int MIN_COMPRESSED_SIZE = 1024;
+  private static final String[] COMPRESSIBLE_EXTENSIONS = {
+    ".js", ".css", ".json", ".html", ".htm", ".svg", ".txt", ".xml"
+  };
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final String[] FILTER_PATTERNS = { "/*", "/" + ResourceDirectory.DIRNAME + "/*" };
+
   private final ResourceDirectory resourceDirectory;
+  private final boolean caching;
+  private final long memoryBudget;
+  private final Object lock;
+  private long memoryUsed;
   private final Set<String> resources;
+  private final Map<String, CachedResource> cachedResources;
 
   public ResourceManagerImpl( ResourceDirectory resourceDirectory ) {
+    this( resourceDirectory, RWTProperties.isResourceCaching(), 0 );
+  }
+
+  public ResourceManagerImpl( ResourceDirectory resourceDirectory, ServletContext servletContext ) {
+    this( resourceDirectory, RWTProperties.isResourceCaching(), getMemoryBudget( servletContext ) );
+  }
+
+  ResourceManagerImpl( ResourceDirectory resourceDirectory, boolean caching, long memoryBudget ) {
     this.resourceDirectory = resourceDirectory;
+    this.caching = caching;
+    this.memoryBudget = memoryBudget;
+    lock = new Object();
     resources = Collections.synchronizedSet( new HashSet<String>() );
+    cachedResources = new ConcurrentHashMap<>();
   }
 
   /////////////////////////////
@@ -90,8 +149,18 @@ public class ResourceManagerImpl implements ResourceManager {
     boolean result = false;
     if( resources.remove( name ) ) {
       result = true;
-      File file = getDiskLocation( name );
-      file.delete();
+      CachedResource cachedResource;
+      synchronized( lock ) {
+        cachedResource = cachedResources.remove( getRequestPath( name ) );
+        if( cachedResource != null ) {
+          memoryUsed -= cachedResource.getMemorySize();
+        }
+      }
+      if( cachedResource != null ) {
+        cachedResource.delete();
+      } else {
+        getDiskLocation( name ).delete();
+      }
     }
     return result;
   }
@@ -108,7 +177,12 @@ public class ResourceManagerImpl implements ResourceManager {
     if( !resources.contains( name ) ) {
       throw new IllegalArgumentException( "Resource does not exist: " + name );
     }
-    return createRequestUrl( name );
+    String result = createRequestUrl( name );
+    CachedResource cachedResource = cachedResources.get( getRequestPath( name ) );
+    if( caching && cachedResource != null ) {
+      result += "?" + VERSION_PARAM + "=" + cachedResource.getContentHash();
+    }
+    return result;
   }
 
   @Override
@@ -116,16 +190,32 @@ public class ResourceManagerImpl implements ResourceManager {
     ParamCheck.notNull( name, "name" );
     InputStream result = null;
     if( resources.contains( name ) ) {
-      File file = getDiskLocation( name );
+      CachedResource cachedResource = cachedResources.get( getRequestPath( name ) );
       try {
-        result = new FileInputStream( file );
-      } catch( FileNotFoundException fnfe ) {
-        throw new RuntimeException( fnfe );
+        if( cachedResource != null ) {
+          result = cachedResource.openContent();
+        } else {
+          result = new FileInputStream( getDiskLocation( name ) );
+        }
+      } catch( IOException exception ) {
+        throw new RuntimeException( exception );
       }
     }
     return result;
   }
 
+  /**
+   * Returns the resource with the given path relative to the resources directory, as it appears
+   * in its location.
+   *
+   * @return the resource or <code>null</code> if neither resource caching nor a memory budget is
+   *         enabled or if there is no resource with the given path
+   */
+  public CachedResource getCachedResource( String path ) {
+    ParamCheck.notNull( path, "path" );
+    return cachedResources.get( path );
+  }
+
   //////////////////
   // helping methods
 
@@ -133,38 +223,310 @@ public class ResourceManagerImpl implements ResourceManager {
     return new StringBuilder()
       .append( ResourceDirectory.DIRNAME )
       .append( "/" )
-      .append( escapeResourceName( resourceName.replace( '\\', '/' ) ) )
+      .append( getRequestPath( resourceName ) )
       .toString();
   }
 
+  private static String getRequestPath( String resourceName ) {
+    return escapeResourceName( resourceName.replace( '\\', '/' ) );
+  }
+
   private void internalRegister( String name, InputStream inputStream ) {
     File location = getDiskLocation( name );
     try {
-      createDirectories( location );
-      writeResource( inputStream, location );
+      if( caching || memoryBudget > 0 ) {
+        registerCached( name, inputStream, location );
+      } else {
+        createDirectories( location );
+        writeResource( inputStream, location );
+      }
     } catch ( IOException ioe ) {
       throw new RuntimeException( "Failed to register resource: " + name, ioe );
     }
     resources.add( name );
   }
 
-  private static void writeResource( InputStream inputStream, File location )
+  /*
+   * Reading, hashing, compressing and writing happen without holding the lock, new files are
+   * written to temporary files. The lock is only held to reserve memory and to publish the
+   * resource, which includes moving its files to their final location.
+   */
+  private void registerCached( String name, InputStream inputStream, File location )
+    throws IOException
+  {
+    MessageDigest digest = createDigest();
+    InputStream digestStream = new DigestInputStream( inputStream, digest );
+    String path = getRequestPath( name );
+    long reserved = 0;
+    ResourceContent content = null;
+    ResourceContent compressedContent = null;
+    boolean published = false;
+    try {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      boolean buffered
+        = memoryBudget > 0 && copy( digestStream, buffer, getAvailableMemory( path ) );
+      byte[] bytes = buffered ? buffer.toByteArray() : null;
+      if( bytes != null && reserveMemory( path, bytes.length ) ) {
+        reserved += bytes.length;
+        content = new ResourceContent.ByteContent( bytes );
+        if( isCompressible( name ) && bytes.length >= MIN_COMPRESSED_SIZE ) {
+          byte[] compressedBytes = compress( bytes );
+          if( compressedBytes.length < bytes.length ) {
+            if( reserveMemory( path, compressedBytes.length ) ) {
+              reserved += compressedBytes.length;
+              compressedContent = new ResourceContent.ByteContent( compressedBytes );
+            } else {
+              compressedContent = writeTempFile( compressedBytes, location );
+            }
+          }
+        }
+      } else {
+        // the bytes read so far are written first, the rest is streamed to disk
+        File file = createTempFile( location );
+        content = new ResourceContent.FileContent( file );
+        writeResource( buffer, digestStream, file );
+        if( isCompressible( name ) && file.length() >= MIN_COMPRESSED_SIZE ) {
+          File compressedFile = createTempFile( location );
+          compressedContent = new ResourceContent.FileContent( compressedFile );
+          compressResource( file, compressedFile );
+          if( compressedFile.length() >= file.length() ) {
+            compressedFile.delete();
+            compressedContent = null;
+          }
+        }
+      }
+      String contentHash = toHex( digest.digest(), 8 );
+      publish( path, location, content, compressedContent, contentHash );
+      published = true;
+    } finally {
+      if( !published ) {
+        releaseMemory( reserved );
+        deleteTempFile( content );
+        deleteTempFile( compressedContent );
+      }
+    }
+  }
+
+  private long getAvailableMemory( String path ) {
+    synchronized( lock ) {
+      return memoryBudget - memoryUsed + getReplacedMemory( path );
+    }
+  }
+
+  private boolean reserveMemory( String path, long size ) {
+    synchronized( lock ) {
+      // the memory of the resource that will be replaced is released when publishing
+      if( memoryUsed + size <= memoryBudget + getReplacedMemory( path ) ) {
+        memoryUsed += size;
+        return true;
+      }
+      return false;
+    }
+  }
+
+  private void releaseMemory( long size ) {
+    if( size > 0 ) {
+      synchronized( lock ) {
+        memoryUsed -= size;
+      }
+    }
+  }
+
+  // must be called while holding the lock
+  private long getReplacedMemory( String path ) {
+    CachedResource previous = cachedResources.get( path );
+    return previous == null ? 0 : previous.getMemorySize();
+  }
+
+  private void publish( String path,
+                        File location,
+                        ResourceContent content,
+                        ResourceContent compressedContent,
+                        String contentHash )
+    throws IOException
+  {
+    File compressedLocation = new File( location.getPath() + COMPRESSED_SUFFIX );
+    synchronized( lock ) {
+      ResourceContent finalContent = moveTempFile( content, location );
+      ResourceContent finalCompressedContent = moveTempFile( compressedContent, compressedLocation );
+      CachedResource cachedResource
+        = new CachedResource( finalContent, finalCompressedContent, contentHash );
+      CachedResource previous = cachedResources.put( path, cachedResource );
+      if( previous != null ) {
+        memoryUsed -= previous.getMemorySize();
+        // files of the same resource have the same location and are overwritten by a new version
+        deleteReplacedFile( previous.getContent(), finalContent );
+        deleteReplacedFile( previous.getCompressedContent(), finalCompressedContent );
+      }
+    }
+  }
+
+  private static ResourceContent writeTempFile( byte[] bytes, File location ) throws IOException {
+    File file = createTempFile( location );
+    ResourceContent result = new ResourceContent.FileContent( file );
+    OutputStream outputStream = null;
+    try {
+      outputStream = new FileOutputStream( file );
+      outputStream.write( bytes );
+    } catch( IOException exception ) {
+      file.delete();
+      throw exception;
+    } finally {
+      if( outputStream != null ) {
+        outputStream.close();
+      }
+    }
+    return result;
+  }
+
+  private static File createTempFile( File location ) throws IOException {
+    createDirectories( location );
+    Path directory = location.getParentFile().toPath();
+    return Files.createTempFile( directory, location.getName(), TEMP_SUFFIX ).toFile();
+  }
+
+  private static ResourceContent moveTempFile( ResourceContent content, File location )
     throws IOException
   {
-    BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-    OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( location ) );
+    if( content instanceof ResourceContent.FileContent ) {
+      File file = ( ( ResourceContent.FileContent )content ).getFile();
+      try {
+        Files.move( file.toPath(), location.toPath(), REPLACE_EXISTING, ATOMIC_MOVE );
+      } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+        Files.move( file.toPath(), location.toPath(), REPLACE_EXISTING );
+      }
+      return new ResourceContent.FileContent( location );
+    }
+    return content;
+  }
+
+  private static void deleteTempFile( ResourceContent content ) {
+    if( content instanceof ResourceContent.FileContent ) {
+      content.delete();
+    }
+  }
+
+  private static void deleteReplacedFile( ResourceContent previous, ResourceContent current ) {
+    if(    previous instanceof ResourceContent.FileContent
+        && !( current instanceof ResourceContent.FileContent ) )
+    {
+      previous.delete();
+    }
+  }
+
+  private static byte[] compress( byte[] bytes ) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream( bytes.length / 2 );
+    OutputStream outputStream = new GZIPOutputStream( result );
     try {
-      byte[] buffer = new byte[ 256 ];
-      int read = bufferedStream.read( buffer );
-      while( read != -1 ) {
-        outputStream.write( buffer, 0, read );
-        read = bufferedStream.read( buffer );
+      outputStream.write( bytes );
+    } finally {
+      outputStream.close();
+    }
+    return result.toByteArray();
+  }
+
+  private static boolean isCompressible( String name ) {
+    String lowerCaseName = name.toLowerCase( Locale.ENGLISH );
+    for( String extension : COMPRESSIBLE_EXTENSIONS ) {
+      if( lowerCaseName.endsWith( extension ) ) {
+        return true;
       }
+    }
+    return false;
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance( "SHA-256" );
+    } catch( NoSuchAlgorithmException exception ) {
+      throw new IllegalStateException( "SHA-256 not available", exception );
+    }
+  }
+
+  private static String toHex( byte[] bytes, int length ) {
+    char[] chars = new char[ length * 2 ];
+    for( int i = 0; i < length; i++ ) {
+      chars[ i * 2 ] = HEX_DIGITS[ ( bytes[ i ] >> 4 ) & 0xF ];
+      chars[ i * 2 + 1 ] = HEX_DIGITS[ bytes[ i ] & 0xF ];
+    }
+    return new String( chars );
+  }
+
+  private static void writeResource( InputStream inputStream, File location )
+    throws IOException
+  {
+    OutputStream outputStream = new FileOutputStream( location );
+    try {
+      copy( inputStream, outputStream );
+    } finally {
+      outputStream.close();
+    }
+  }
+
+  private static void writeResource( ByteArrayOutputStream buffer,
+                                     InputStream inputStream,
+                                     File location )
+    throws IOException
+  {
+    OutputStream outputStream = new FileOutputStream( location );
+    try {
+      buffer.writeTo( outputStream );
+      copy( inputStream, outputStream );
     } finally {
       outputStream.close();
     }
   }
 
+  private static void compressResource( File location, File compressedLocation )
+    throws IOException
+  {
+    InputStream inputStream = new FileInputStream( location );
+    try {
+      OutputStream outputStream = new GZIPOutputStream( new FileOutputStream( compressedLocation ) );
+      try {
+        copy( inputStream, outputStream );
+      } finally {
+        outputStream.close();
+      }
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  private static void copy( InputStream inputStream, OutputStream outputStream )
+    throws IOException
+  {
+    byte[] buffer = new byte[ 8192 ];
+    int read = inputStream.read( buffer );
+    // a read never returns zero bytes before the end of the stream
+    while( read > 0 ) {
+      outputStream.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+  }
+
+  /**
+   * Copies the stream until its end or until more than <code>limit</code> bytes were copied.
+   *
+   * @return <code>true</code> if the end of the stream was reached within the limit
+   */
+  private static boolean copy( InputStream inputStream, OutputStream outputStream, long limit )
+    throws IOException
+  {
+    byte[] buffer = new byte[ 8192 ];
+    long copied = 0;
+    int read = inputStream.read( buffer );
+    while( read > 0 ) {
+      outputStream.write( buffer, 0, read );
+      copied += read;
+      if( copied > limit ) {
+        return false;
+      }
+      read = inputStream.read( buffer );
+    }
+    return true;
+  }
+
   private static void createDirectories( File file ) throws IOException {
     File dir = new File( file.getParent() );
     if( !dir.mkdirs() ) {
@@ -182,6 +544,43 @@ public class ResourceManagerImpl implements ResourceManager {
   //////////////////
   // helping methods
 
+  private static long getMemoryBudget( ServletContext servletContext ) {
+    long result = RWTProperties.getResourceMemoryBudget( 0 );
+    if( result > 0 && !isResourceFilterMapped( servletContext ) ) {
+      String msg = "Ignoring "
+                 + RWTProperties.RESOURCE_MEMORY_BUDGET
+                 + ", RWTResourceFilter is not mapped to /"
+                 + ResourceDirectory.DIRNAME
+                 + "/*";
+      servletContext.log( msg );
+      result = 0;
+    }
+    return result;
+  }
+
+  private static boolean isResourceFilterMapped( ServletContext servletContext ) {
+    Map<String, ? extends FilterRegistration> registrations = null;
+    try {
+      registrations = servletContext.getFilterRegistrations();
+    } catch( UnsupportedOperationException exception ) {
+      // the filters of the servlet context are unknown, e.g. for programmatic listeners
+    }
+    if( registrations != null ) {
+      for( FilterRegistration registration : registrations.values() ) {
+        if( RWTResourceFilter.class.getName().equals( registration.getClassName() ) ) {
+          for( String pattern : registration.getUrlPatternMappings() ) {
+            for( String filterPattern : FILTER_PATTERNS ) {
+              if( filterPattern.equals( pattern ) ) {
+                return true;
+              }
+            }
+          }
+        }
+      }
+    }
+    return false;
+  }
+
   private static void checkPath( String path ) {
     if( path.length() == 0 ) {
       throw new IllegalArgumentException( "Path must not be empty" );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,13 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.serverpush;
 
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 
@@ -18,6 +25,7 @@ import org.eclipse.rap.rwt.SingletonUtil;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.rap.rwt.service.UISessionEvent;
 import org.eclipse.rap.rwt.service.UISessionListener;
@@ -40,6 +48,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   private int requestCheckInterval;
   private int requestReleaseInterval;
   private transient ServerPushRequestTracker serverPushRequestTracker;
+  private transient AsyncPushRequest asyncRequest;
 
   private ServerPushManager() {
     lock = new SerializableLock();
@@ -56,7 +65,7 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   public boolean isCallBackRequestBlocked() {
     synchronized( lock ) {
-      return !serverPushRequestTracker.hasActive();
+      return !serverPushRequestTracker.hasActive() || asyncRequest != null;
     }
   }
 
@@ -71,6 +80,9 @@ public final class ServerPushManager implements SerializableCompatibility {
   public void releaseBlockedRequest() {
     synchronized( lock ) {
       lock.notifyAll();
+      if( asyncRequest != null ) {
+        asyncRequest.check();
+      }
     }
   }
 
@@ -153,6 +165,34 @@ public final class ServerPushManager implements SerializableCompatibility {
     }
   }
 
+  /**
+   * Processes the callback request without blocking the calling thread. If the request has to be
+   * blocked, it is put into asynchronous mode and completed later on by the same events that
+   * release a blocking request, i.e. <code>releaseBlockedRequest()</code>, a subsequent callback
+   * request, the destruction of the UI session or a timeout that is executed by the scheduler of
+   * the application context. Requires a request that supports asynchronous processing.
+   */
+  void processAsyncRequest( HttpServletRequest request ) {
+    synchronized( lock ) {
+      if( isCallBackRequestBlocked() ) {
+        if( asyncRequest != null ) {
+          asyncRequest.complete();
+        }
+        releaseBlockedRequest();
+      }
+      long requestStartTime = System.currentTimeMillis();
+      if( mustBlockCallBackRequest( requestStartTime ) ) {
+        UISession uiSession = ContextProvider.getUISession();
+        SharedScheduler scheduler = ContextProvider.getApplicationContext().getScheduler();
+        AsyncContext asyncContext = request.startAsync();
+        // timeouts are handled by the scheduler, see AsyncPushRequest#scheduleCheck()
+        asyncContext.setTimeout( 0 );
+        asyncRequest = new AsyncPushRequest( asyncContext, uiSession, scheduler, requestStartTime );
+        asyncRequest.start();
+      }
+    }
+  }
+
   @SuppressWarnings( "unused" )
   private boolean canReleaseBlockedRequest( HttpServletResponse response, long requestStartTime ) {
     boolean result = false;
@@ -180,6 +220,14 @@ public final class ServerPushManager implements SerializableCompatibility {
     return serverPushActivationTracker.isActive();
   }
 
+  long getNextCheckDelay( long requestStartTime, long currentTime ) {
+    long deadline = requestStartTime + requestCheckInterval;
+    if( hasRunnables ) {
+      deadline = Math.min( deadline, requestStartTime + requestReleaseInterval );
+    }
+    return Math.max( 0, deadline - currentTime );
+  }
+
   private Object readResolve() {
     serverPushRequestTracker = new ServerPushRequestTracker();
     return this;
@@ -197,8 +245,11 @@ public final class ServerPushManager implements SerializableCompatibility {
   }
 
   static boolean isSessionExpired( long requestStartTime, long currentTime ) {
-    UISession uiSession = ContextProvider.getUISession();
-    if( uiSession == null ) {
+    return isSessionExpired( ContextProvider.getUISession(), requestStartTime, currentTime );
+  }
+
+  static boolean isSessionExpired( UISession uiSession, long requestStartTime, long currentTime ) {
+    if( uiSession == null || !uiSession.isBound() ) {
       return true;
     }
     HttpSession httpSession = uiSession.getHttpSession();
@@ -243,4 +294,119 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   }
 
+  private final class AsyncPushRequest implements AsyncListener, UISessionListener {
+
+    private transient final AsyncContext asyncContext;
+    private transient final UISession uiSession;
+    private transient final SharedScheduler scheduler;
+    private transient final long requestStartTime;
+    private transient ScheduledFuture<?> scheduledCheck;
+    private transient boolean completed;
+
+    private AsyncPushRequest( AsyncContext asyncContext,
+                              UISession uiSession,
+                              SharedScheduler scheduler,
+                              long requestStartTime )
+    {
+      this.asyncContext = asyncContext;
+      this.uiSession = uiSession;
+      this.scheduler = scheduler;
+      this.requestStartTime = requestStartTime;
+    }
+
+    // must be called while holding the lock
+    void start() {
+      asyncContext.addListener( this );
+      if( uiSession.addUISessionListener( this ) ) {
+        scheduleCheck();
+      } else {
+        complete();
+      }
+    }
+
+    // must be called while holding the lock
+    void check() {
+      long currentTime = System.currentTimeMillis();
+      if(    !mustBlockCallBackRequest( requestStartTime, currentTime )
+          || isSessionExpired( uiSession, requestStartTime, currentTime ) )
+      {
+        complete();
+      } else {
+        scheduleCheck();
+      }
+    }
+
+    // must be called while holding the lock
+    void complete() {
+      if( !completed ) {
+        dispose();
+        asyncContext.complete();
+      }
+    }
+
+    private void dispose() {
+      completed = true;
+      if( asyncRequest == this ) {
+        asyncRequest = null;
+      }
+      if( scheduledCheck != null ) {
+        scheduledCheck.cancel( false );
+      }
+      uiSession.removeUISessionListener( this );
+    }
+
+    private void scheduleCheck() {
+      if( scheduledCheck != null ) {
+        scheduledCheck.cancel( false );
+      }
+      long delay = getNextCheckDelay( requestStartTime, System.currentTimeMillis() );
+      scheduledCheck = scheduler.schedule( new Runnable() {
+        @Override
+        public void run() {
+          synchronized( lock ) {
+            if( !completed ) {
+              check();
+            }
+          }
+        }
+      }, delay, TimeUnit.MILLISECONDS );
+    }
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      synchronized( lock ) {
+        complete();
+      }
+    }
+
+    @Override
+    public void onComplete( AsyncEvent event ) {
+      synchronized( lock ) {
+        if( !completed ) {
+          dispose();
+        }
+      }
+    }
+
+    @Override
+    public void onTimeout( AsyncEvent event ) {
+      synchronized( lock ) {
+        complete();
+      }
+    }
+
+    @Override
+    public void onError( AsyncEvent event ) {
+      synchronized( lock ) {
+        complete();
+      }
+    }
+
+    @Override
+    public void onStartAsync( AsyncEvent event ) {
+      // not re-used
+    }
+
+  }
+
 }
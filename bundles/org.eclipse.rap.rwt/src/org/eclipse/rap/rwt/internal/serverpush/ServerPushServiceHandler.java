@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -31,7 +31,11 @@ public class ServerPushServiceHandler implements ServiceHandler {
   {
     setResponseHeaders( response );
     if( getUISession() != null ) {
-      ServerPushManager.getInstance().processRequest( response );
+      if( request.isAsyncSupported() ) {
+        ServerPushManager.getInstance().processAsyncRequest( request );
+      } else {
+        ServerPushManager.getInstance().processRequest( response );
+      }
     }
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,8 +10,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.service;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
@@ -20,36 +20,30 @@ public class ApplicationStoreImpl {
   private final Map<String,Object> attributes;
 
   public ApplicationStoreImpl() {
-    attributes = new HashMap<>();
+    attributes = new ConcurrentHashMap<>();
   }
 
   public Object getAttribute( String name ) {
     ParamCheck.notNull( name, "name" );
-    Object result;
-    synchronized( attributes ) {
-      result = attributes.get( name );
-    }
-    return result;
+    return attributes.get( name );
   }
 
   public void setAttribute( String name, Object value ) {
     ParamCheck.notNull( name, "name" );
-    synchronized( attributes ) {
+    if( value == null ) {
+      attributes.remove( name );
+    } else {
       attributes.put( name, value );
     }
   }
 
   public void removeAttribute( String name ) {
     ParamCheck.notNull( name, "name" );
-    synchronized( attributes ) {
-      attributes.remove( name );
-    }
+    attributes.remove( name );
   }
 
   public void reset() {
-    synchronized( attributes ) {
-      attributes.clear();
-    }
+    attributes.clear();
   }
 
 }
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * The encoded content of the last response of a UI session, kept to answer duplicate requests.
+ * The content is stored as bytes, optionally gzip compressed, in order to keep the footprint of
+ * the UI session small.
+ */
+final class BufferedResponse implements Serializable {
+
+  private static final int COPY_BUFFER_SIZE = 8192;
+
+  private final byte[] content;
+  private final boolean compressed;
+
+  private BufferedResponse( byte[] content, boolean compressed ) {
+    this.content = content;
+    this.compressed = compressed;
+  }
+
+  static BufferedResponse create( byte[] content, boolean compress ) {
+    if( compress ) {
+      return new BufferedResponse( compress( content ), true );
+    }
+    return new BufferedResponse( content, false );
+  }
+
+  /**
+   * Returns the number of bytes held by this buffer.
+   */
+  int getSize() {
+    return content.length;
+  }
+
+  boolean isCompressed() {
+    return compressed;
+  }
+
+  void writeTo( OutputStream outputStream ) throws IOException {
+    if( compressed ) {
+      try( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( content ) ) ) {
+        byte[] buffer = new byte[ COPY_BUFFER_SIZE ];
+        int read = inputStream.read( buffer );
+        while( read != -1 ) {
+          outputStream.write( buffer, 0, read );
+          read = inputStream.read( buffer );
+        }
+      }
+    } else {
+      outputStream.write( content );
+    }
+    outputStream.flush();
+  }
+
+  /**
+   * Writes the content as it is stored, i.e. gzip compressed if this buffer is compressed.
+   */
+  void writeStoredContentTo( OutputStream outputStream ) throws IOException {
+    outputStream.write( content );
+    outputStream.flush();
+  }
+
+  private static byte[] compress( byte[] content ) {
+    ByteArrayOutputStream result = new ByteArrayOutputStream( content.length / 4 );
+    try( GZIPOutputStream gzipStream = new GZIPOutputStream( result ) ) {
+      gzipStream.write( content );
+    } catch( IOException ioe ) {
+      // ByteArrayOutputStream does not throw IOExceptions
+      throw new RuntimeException( ioe );
+    }
+    return result.toByteArray();
+  }
+
+  /**
+   * An output stream that passes all data to the given stream and records a copy of it, unless
+   * the given limit is exceeded.
+   */
+  static final class Recorder extends OutputStream {
+
+    private final OutputStream outputStream;
+    private final int limit;
+    private ByteArrayOutputStream copy;
+
+    Recorder( OutputStream outputStream, int limit ) {
+      this.outputStream = outputStream;
+      this.limit = limit;
+      copy = new ByteArrayOutputStream();
+    }
+
+    @Override
+    public void write( int value ) throws IOException {
+      outputStream.write( value );
+      if( canRecord( 1 ) ) {
+        copy.write( value );
+      }
+    }
+
+    @Override
+    public void write( byte[] bytes, int offset, int length ) throws IOException {
+      outputStream.write( bytes, offset, length );
+      if( canRecord( length ) ) {
+        copy.write( bytes, offset, length );
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      outputStream.flush();
+    }
+
+    /**
+     * Returns the recorded content, or <code>null</code> if the content exceeded the limit.
+     */
+    byte[] getContent() {
+      return copy == null ? null : copy.toByteArray();
+    }
+
+    private boolean canRecord( int length ) {
+      if( copy != null && length > limit - copy.size() ) {
+        copy = null;
+      }
+      return copy != null;
+    }
+
+  }
+
+}
@@ -0,0 +1,327 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_DEFLATE;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+
+
+/**
+ * A response that compresses its content with an encoding accepted by the client, gzip is
+ * preferred over deflate. Content that does not exceed the compression threshold is sent
+ * uncompressed, compressing it would not pay off. Since the encoding is only decided when the
+ * threshold is exceeded, {@link #finish()} must be called once the content is complete.
+ * <p>
+ * Response compression is enabled with the system property
+ * <code>org.eclipse.rap.rwt.responseCompression</code>, the threshold in bytes can be changed
+ * with <code>org.eclipse.rap.rwt.responseCompressionThreshold</code>.
+ * </p>
+ */
+public final class CompressedResponse extends HttpServletResponseWrapper {
+
+  private static final int DEFAULT_THRESHOLD = 1024;
+  private static final int BUFFER_SIZE = 8192;
+  private static final int POOL_CAPACITY = 2 * Runtime.getRuntime().availableProcessors();
+  private static final byte[] GZIP_HEADER = {
+    0x1f, ( byte )0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+  };
+
+  static boolean enabled = RWTProperties.isResponseCompression();
+  static int threshold = RWTProperties.getResponseCompressionThreshold( DEFAULT_THRESHOLD );
+  static final DeflaterPool GZIP_DEFLATERS
+    = new DeflaterPool( Deflater.DEFAULT_COMPRESSION, true, POOL_CAPACITY );
+  static final DeflaterPool DEFLATE_DEFLATERS
+    = new DeflaterPool( Deflater.DEFAULT_COMPRESSION, false, POOL_CAPACITY );
+
+  private final String encoding;
+  private CompressingOutputStream outputStream;
+  private PrintWriter writer;
+
+  private CompressedResponse( HttpServletResponse response, String encoding ) {
+    super( response );
+    this.encoding = encoding;
+    response.addHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+  }
+
+  /**
+   * Creates a compressed response that wraps the given response, or returns <code>null</code> if
+   * response compression is disabled or the client accepts neither gzip nor deflate.
+   */
+  public static CompressedResponse create( HttpServletRequest request,
+                                           HttpServletResponse response )
+  {
+    if( enabled ) {
+      if( acceptsEncoding( request, ENCODING_GZIP ) ) {
+        return new CompressedResponse( response, ENCODING_GZIP );
+      }
+      if( acceptsEncoding( request, ENCODING_DEFLATE ) ) {
+        return new CompressedResponse( response, ENCODING_DEFLATE );
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns whether the <code>Accept-Encoding</code> header of the given request lists the given
+   * content encoding with a quality value greater than zero.
+   */
+  public static boolean acceptsEncoding( HttpServletRequest request, String encoding ) {
+    String acceptEncoding = request.getHeader( HEADER_ACCEPT_ENCODING );
+    if( acceptEncoding != null ) {
+      for( String element : acceptEncoding.split( "," ) ) {
+        String[] parts = element.split( ";" );
+        if( encoding.equalsIgnoreCase( parts[ 0 ].trim() ) ) {
+          // "gzip;q=0" explicitly refuses gzip
+          return parts.length == 1 || !parts[ 1 ].replace( " ", "" ).matches( "q=0(\\.0*)?" );
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public ServletOutputStream getOutputStream() throws IOException {
+    if( writer != null ) {
+      throw new IllegalStateException( "getWriter() has already been called" );
+    }
+    return getCompressingOutputStream();
+  }
+
+  @Override
+  public PrintWriter getWriter() throws IOException {
+    if( writer == null ) {
+      if( outputStream != null ) {
+        throw new IllegalStateException( "getOutputStream() has already been called" );
+      }
+      String charset = getCharacterEncoding();
+      writer = new PrintWriter( new OutputStreamWriter( getCompressingOutputStream(), charset ) );
+    }
+    return writer;
+  }
+
+  @Override
+  public void setContentLength( int length ) {
+    // the length of the sent content is set when the response is finished
+  }
+
+  @Override
+  public void setContentLengthLong( long length ) {
+    // the length of the sent content is set when the response is finished
+  }
+
+  @Override
+  public void flushBuffer() throws IOException {
+    // flushing the wrapped response would commit it before the encoding is decided
+    if( writer != null ) {
+      writer.flush();
+    }
+    if( outputStream != null ) {
+      outputStream.flush();
+    }
+  }
+
+  /**
+   * Returns the content encoding of this response, or <code>null</code> if the content has not
+   * been compressed (yet).
+   */
+  public String getContentEncoding() {
+    return outputStream != null && outputStream.deflater != null ? encoding : null;
+  }
+
+  /**
+   * Sends the remaining content of this response. Content that did not exceed the threshold is
+   * sent uncompressed.
+   */
+  public void finish() throws IOException {
+    if( writer != null ) {
+      writer.flush();
+    }
+    if( outputStream != null ) {
+      outputStream.finish();
+    }
+  }
+
+  /**
+   * Returns the resources held by this response to the pool without sending the remaining
+   * content. Has no effect if the response has already been finished.
+   */
+  public void release() {
+    if( outputStream != null ) {
+      outputStream.release();
+    }
+  }
+
+  private CompressingOutputStream getCompressingOutputStream() {
+    if( outputStream == null ) {
+      outputStream = new CompressingOutputStream();
+    }
+    return outputStream;
+  }
+
+  private DeflaterPool getDeflaterPool() {
+    return ENCODING_GZIP.equals( encoding ) ? GZIP_DEFLATERS : DEFLATE_DEFLATERS;
+  }
+
+  private final class CompressingOutputStream extends ServletOutputStream {
+
+    private final byte[] buffer;
+    // single bytes are passed on in this array, the deflater consumes its input before returning
+    private final byte[] singleByte;
+    private int count;
+    private boolean finished;
+    private boolean released;
+    private ServletOutputStream out;
+    private Deflater deflater;
+    private CRC32 checksum;
+    private byte[] deflateBuffer;
+
+    CompressingOutputStream() {
+      buffer = new byte[ threshold ];
+      singleByte = new byte[ 1 ];
+    }
+
+    @Override
+    public void write( int value ) throws IOException {
+      singleByte[ 0 ] = ( byte )value;
+      write( singleByte, 0, 1 );
+    }
+
+    @Override
+    public void write( byte[] bytes, int offset, int length ) throws IOException {
+      if( finished ) {
+        throw new IOException( "Response has already been finished" );
+      }
+      if( deflater == null ) {
+        if( count + length <= buffer.length ) {
+          System.arraycopy( bytes, offset, buffer, count, length );
+          count += length;
+          return;
+        }
+        startCompression();
+      }
+      deflate( bytes, offset, length );
+    }
+
+    @Override
+    public void flush() throws IOException {
+      // forcing the deflater to flush would degrade the compression
+      if( out != null ) {
+        out.flush();
+      }
+    }
+
+    @Override
+    public boolean isReady() {
+      try {
+        return getResponse().getOutputStream().isReady();
+      } catch( IOException exception ) {
+        throw new IllegalStateException( exception );
+      }
+    }
+
+    @Override
+    public void setWriteListener( WriteListener writeListener ) {
+      try {
+        getResponse().getOutputStream().setWriteListener( writeListener );
+      } catch( IOException exception ) {
+        throw new IllegalStateException( exception );
+      }
+    }
+
+    void finish() throws IOException {
+      if( !finished ) {
+        finished = true;
+        if( deflater == null ) {
+          getResponse().setContentLength( count );
+          getResponse().getOutputStream().write( buffer, 0, count );
+        } else {
+          try {
+            deflater.finish();
+            while( !deflater.finished() ) {
+              writeDeflated();
+            }
+            if( checksum != null ) {
+              writeInt( ( int )checksum.getValue() );
+              writeInt( ( int )deflater.getBytesRead() );
+            }
+          } finally {
+            release();
+          }
+        }
+      }
+    }
+
+    void release() {
+      if( deflater != null && !released ) {
+        released = true;
+        getDeflaterPool().release( deflater );
+      }
+    }
+
+    private void startCompression() throws IOException {
+      setHeader( HEADER_CONTENT_ENCODING, encoding );
+      out = getResponse().getOutputStream();
+      deflater = getDeflaterPool().acquire();
+      deflateBuffer = new byte[ BUFFER_SIZE ];
+      if( ENCODING_GZIP.equals( encoding ) ) {
+        checksum = new CRC32();
+        out.write( GZIP_HEADER );
+      }
+      deflate( buffer, 0, count );
+    }
+
+    private void deflate( byte[] bytes, int offset, int length ) throws IOException {
+      if( length > 0 ) {
+        if( checksum != null ) {
+          checksum.update( bytes, offset, length );
+        }
+        deflater.setInput( bytes, offset, length );
+        while( !deflater.needsInput() ) {
+          writeDeflated();
+        }
+      }
+    }
+
+    private void writeDeflated() throws IOException {
+      int length = deflater.deflate( deflateBuffer );
+      if( length > 0 ) {
+        out.write( deflateBuffer, 0, length );
+      }
+    }
+
+    private void writeInt( int value ) throws IOException {
+      // gzip stores integers in little-endian byte order
+      out.write( value & 0xff );
+      out.write( ( value >> 8 ) & 0xff );
+      out.write( ( value >> 16 ) & 0xff );
+      out.write( ( value >> 24 ) & 0xff );
+    }
+
+  }
+
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+
+/**
+ * A bounded pool of deflaters. Each deflater holds native zlib state, reusing them avoids
+ * allocating and freeing that state for every compressed response.
+ */
+final class DeflaterPool {
+
+  private final int level;
+  private final boolean nowrap;
+  private final BlockingQueue<Deflater> deflaters;
+
+  DeflaterPool( int level, boolean nowrap, int capacity ) {
+    this.level = level;
+    this.nowrap = nowrap;
+    deflaters = new ArrayBlockingQueue<>( capacity );
+  }
+
+  Deflater acquire() {
+    Deflater deflater = deflaters.poll();
+    return deflater == null ? new Deflater( level, nowrap ) : deflater;
+  }
+
+  void release( Deflater deflater ) {
+    deflater.reset();
+    if( !deflaters.offer( deflater ) ) {
+      deflater.end();
+    }
+  }
+
+  int size() {
+    return deflaters.size();
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,13 +15,22 @@ import static jakarta.servlet.http.HttpServletResponse.SC_FORBIDDEN;
 import static jakarta.servlet.http.HttpServletResponse.SC_PRECONDITION_FAILED;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.REQUEST_COUNTER;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.SHUTDOWN;
+import static org.eclipse.rap.rwt.internal.service.CompressedResponse.acceptsEncoding;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Serializable;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
 
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,26 +38,35 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
+import org.eclipse.rap.rwt.internal.protocol.ClientMessageReader;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
 import org.eclipse.rap.rwt.service.ServiceHandler;
 import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.service.UISessionEvent;
+import org.eclipse.rap.rwt.service.UISessionListener;
 
 
 public class LifeCycleServiceHandler implements ServiceHandler {
 
   private static final String PROP_ERROR = "error";
-  private static final String ATTR_LAST_RESPONSE_MESSAGE
-    = LifeCycleServiceHandler.class.getName() + "#lastResponseMessage";
+  private static final String ATTR_LAST_RESPONSE
+    = LifeCycleServiceHandler.class.getName() + "#lastResponse";
+  static int bufferLimit = RWTProperties.getResponseBufferLimit( Integer.MAX_VALUE );
+  static boolean compressBuffer = RWTProperties.isResponseBufferCompressed();
+  static boolean streamingClientMessage = RWTProperties.isStreamingClientMessage();
 
   private final MessageChainReference messageChainReference;
+  private final AtomicLong bufferedResponseSize;
 
   public LifeCycleServiceHandler( MessageChainReference messageChainReference ) {
     this.messageChainReference = messageChainReference;
+    bufferedResponseSize = new AtomicLong();
   }
 
   @Override
@@ -91,8 +109,8 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       shutdownUISession();
       writeEmptyMessage( response );
     } else if( !isRequestCounterValid( requestMessage ) ) {
-      if( isDuplicateRequest( requestMessage ) ) {
-        writeBufferedResponse( response );
+      if( isDuplicateRequest( requestMessage ) && getBufferedResponse() != null ) {
+        writeBufferedResponse( request, response );
       } else {
         writeInvalidRequestCounterError( response );
       }
@@ -105,6 +123,9 @@ public class LifeCycleServiceHandler implements ServiceHandler {
 
   private static RequestMessage readRequestMessage( HttpServletRequest request ) {
     try {
+      if( streamingClientMessage && isUTF8Encoded( request ) ) {
+        return new ClientMessageReader( request.getInputStream() ).read();
+      }
       return new ClientMessage( JsonObject.readFrom( getReader( request ) ) );
     } catch( IOException ioe ) {
       throw new IllegalStateException( "Unable to read the json message", ioe );
@@ -124,6 +145,11 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     return new InputStreamReader( request.getInputStream(), encoding );
   }
 
+  private static boolean isUTF8Encoded( HttpServletRequest request ) {
+    String encoding = request.getCharacterEncoding();
+    return encoding == null || CHARSET_UTF_8.equalsIgnoreCase( encoding );
+  }
+
   private ResponseMessage processMessage( RequestMessage requestMessage ) {
     return messageChainReference.get().handleMessage( requestMessage );
   }
@@ -165,7 +191,7 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     response.setStatus( statusCode );
     ProtocolMessageWriter writer = new ProtocolMessageWriter();
     writer.appendHead( PROP_ERROR, JsonValue.valueOf( errorType ) );
-    writer.createMessage().toJson().writeTo( response.getWriter() );
+    writer.createMessage().writeTo( response.getWriter() );
   }
 
   private static boolean isSessionShutdown( RequestMessage requestMessage ) {
@@ -178,30 +204,125 @@ public class LifeCycleServiceHandler implements ServiceHandler {
   }
 
   private static void writeEmptyMessage( ServletResponse response ) throws IOException {
-    new ProtocolMessageWriter().createMessage().toJson().writeTo( response.getWriter() );
+    new ProtocolMessageWriter().createMessage().writeTo( response.getWriter() );
   }
 
-  private static void writeResponseMessage( ResponseMessage responseMessage,
-                                            ServletResponse response )
+  private void writeResponseMessage( ResponseMessage responseMessage, ServletResponse response )
     throws IOException
   {
-    bufferMessage( responseMessage );
-    responseMessage.toJson().writeTo( response.getWriter() );
+    BufferedResponse.Recorder recorder
+      = new BufferedResponse.Recorder( response.getOutputStream(), bufferLimit );
+    Writer writer = new OutputStreamWriter( recorder, CHARSET_UTF_8 );
+    responseMessage.writeTo( writer );
+    writer.flush();
+    bufferResponse( recorder.getContent() );
   }
 
-  private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
-    getBufferedMessage().toJson().writeTo( response.getWriter() );
+  private static void writeBufferedResponse( HttpServletRequest request,
+                                             HttpServletResponse response )
+    throws IOException
+  {
+    BufferedResponse bufferedResponse = getBufferedResponse();
+    if( bufferedResponse.isCompressed() && acceptsEncoding( request, ENCODING_GZIP ) ) {
+      // the stored gzip content is sent as is, bypassing a compressing response wrapper
+      HttpServletResponse actualResponse = response;
+      if( response instanceof CompressedResponse ) {
+        actualResponse = ( HttpServletResponse )( ( CompressedResponse )response ).getResponse();
+      } else {
+        actualResponse.addHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+      }
+      actualResponse.setHeader( HEADER_CONTENT_ENCODING, ENCODING_GZIP );
+      actualResponse.setContentLength( bufferedResponse.getSize() );
+      bufferedResponse.writeStoredContentTo( actualResponse.getOutputStream() );
+    } else {
+      bufferedResponse.writeTo( response.getOutputStream() );
+    }
   }
 
-  private static void bufferMessage( ResponseMessage responseMessage ) {
+  private void bufferResponse( byte[] content ) {
     UISession uiSession = getUISession();
     if( uiSession != null ) {
-      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, responseMessage );
+      ResponseBuffer responseBuffer
+        = ( ResponseBuffer )uiSession.getAttribute( ATTR_LAST_RESPONSE );
+      if( content != null ) {
+        if( responseBuffer == null ) {
+          responseBuffer = new ResponseBuffer();
+          if( !uiSession.addUISessionListener( responseBuffer ) ) {
+            return;
+          }
+          uiSession.setAttribute( ATTR_LAST_RESPONSE, responseBuffer );
+        }
+        BufferedResponse bufferedResponse = BufferedResponse.create( content, compressBuffer );
+        responseBuffer.set( bufferedResponse, bufferedResponseSize );
+      } else if( responseBuffer != null ) {
+        // the response exceeds the buffer limit, a duplicate request will fail
+        responseBuffer.set( null, bufferedResponseSize );
+      }
     }
   }
 
-  private static ResponseMessage getBufferedMessage() {
-    return ( ResponseMessage )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  private static BufferedResponse getBufferedResponse() {
+    return getBufferedResponse( getUISession() );
+  }
+
+  private static BufferedResponse getBufferedResponse( UISession uiSession ) {
+    ResponseBuffer responseBuffer = ( ResponseBuffer )uiSession.getAttribute( ATTR_LAST_RESPONSE );
+    return responseBuffer == null ? null : responseBuffer.get();
+  }
+
+  /**
+   * Returns the number of bytes that are kept in the given UI session to answer a duplicate
+   * request, or zero if no response is buffered.
+   */
+  public static int getBufferedResponseSize( UISession uiSession ) {
+    BufferedResponse bufferedResponse = getBufferedResponse( uiSession );
+    return bufferedResponse == null ? 0 : bufferedResponse.getSize();
+  }
+
+  /**
+   * Returns the number of bytes that are kept in all UI sessions of the application to answer
+   * duplicate requests. Sessions that were deserialized are accounted for again once they
+   * buffer their next response.
+   */
+  public long getBufferedResponseSize() {
+    return bufferedResponseSize.get();
+  }
+
+  /*
+   * Holds the buffered response of a UI session and accounts its size to the application. The
+   * accounted size is transient as the application of a deserialized session has not accounted
+   * for it.
+   */
+  private static final class ResponseBuffer implements UISessionListener, Serializable {
+
+    private BufferedResponse bufferedResponse;
+    private transient AtomicLong totalSize;
+    private transient int accountedSize;
+
+    synchronized BufferedResponse get() {
+      return bufferedResponse;
+    }
+
+    synchronized void set( BufferedResponse bufferedResponse, AtomicLong totalSize ) {
+      if( this.totalSize != totalSize ) {
+        this.totalSize = totalSize;
+        accountedSize = 0;
+      }
+      this.bufferedResponse = bufferedResponse;
+      int size = bufferedResponse == null ? 0 : bufferedResponse.getSize();
+      totalSize.addAndGet( size - accountedSize );
+      accountedSize = size;
+    }
+
+    @Override
+    public synchronized void beforeDestroy( UISessionEvent event ) {
+      bufferedResponse = null;
+      if( totalSize != null ) {
+        totalSize.addAndGet( -accountedSize );
+        accountedSize = 0;
+      }
+    }
+
   }
 
 }
@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.zip.CRC32;
+
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * Persists the attributes of a setting store in a Java properties file (the snapshot) and an
+ * append-only log of the changes made since the snapshot was written.
+ * <p>
+ * Each log record carries a checksum. When loading, the log is replayed on top of the snapshot up
+ * to the first incomplete or corrupt record, which is what a crash during an append leaves
+ * behind. Once the log has grown larger than the snapshot, it is compacted into a new snapshot
+ * that is written to a temporary file and forced to disk. Then the log is renamed aside, the
+ * temporary file is renamed to the snapshot and the old log is deleted. The renames are atomic
+ * unless the file system does not support it. A compaction that was interrupted by a crash is
+ * completed when loading: if the old log is still there, the temporary file is either complete or
+ * has already replaced the snapshot, so the old log is never replayed over a newer snapshot.
+ * </p>
+ * <p>
+ * Stores that are not buffered can use <code>store()</code>, which rewrites the snapshot in place
+ * like a plain properties file.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public final class SettingStoreLog {
+
+  private static final String LOG_SUFFIX = ".log";
+  private static final String OLD_LOG_SUFFIX = ".log.old";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final byte SET = 1;
+  private static final byte REMOVE = 2;
+  // length and checksum
+  private static final int RECORD_OVERHEAD = 4 + 8;
+  private static final int MIN_COMPACT_RECORD_COUNT = 256;
+
+  private final File file;
+  private final File logFile;
+  private final File oldLogFile;
+  private final File tempFile;
+  private final String comment;
+  private final Properties persisted;
+  private int recordCount;
+
+  /**
+   * @param file the snapshot file, the log is kept in a file with the same name and a
+   *          <code>.log</code> suffix
+   * @param comment the comment to write into the snapshot file
+   */
+  public SettingStoreLog( File file, String comment ) {
+    ParamCheck.notNull( file, "file" );
+    this.file = file;
+    this.comment = comment;
+    logFile = new File( file.getPath() + LOG_SUFFIX );
+    oldLogFile = new File( file.getPath() + OLD_LOG_SUFFIX );
+    tempFile = new File( file.getPath() + TEMP_SUFFIX );
+    persisted = new Properties();
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public File getLogFile() {
+    return logFile;
+  }
+
+  public int getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Reads the snapshot and replays the log into the given properties. An incomplete log is
+   * compacted right away, so that later records are not appended behind a corrupt one.
+   */
+  public void load( Properties properties ) throws IOException {
+    completeCompaction();
+    persisted.clear();
+    recordCount = 0;
+    if( file.isFile() ) {
+      InputStream inputStream = new BufferedInputStream( new FileInputStream( file ) );
+      try {
+        persisted.load( inputStream );
+      } finally {
+        inputStream.close();
+      }
+    }
+    if( !replayLog() ) {
+      ServletLog.log( "Discarded incomplete setting store log: " + logFile, null );
+      writeSnapshot( persisted );
+    }
+    properties.putAll( persisted );
+  }
+
+  /**
+   * Appends the given changes to the log, a <code>null</code> value removes the attribute. Writes
+   * a new snapshot instead if the log would grow larger than the snapshot.
+   */
+  public void write( Map<String, String> changes ) throws IOException {
+    for( Entry<String, String> change : changes.entrySet() ) {
+      if( change.getValue() == null ) {
+        persisted.remove( change.getKey() );
+      } else {
+        persisted.setProperty( change.getKey(), change.getValue() );
+      }
+    }
+    int compactRecordCount = Math.max( MIN_COMPACT_RECORD_COUNT, persisted.size() );
+    if( recordCount + changes.size() > compactRecordCount ) {
+      writeSnapshot( persisted );
+    } else if( !changes.isEmpty() ) {
+      appendRecords( changes );
+      recordCount += changes.size();
+    }
+  }
+
+  /**
+   * Rewrites the snapshot with the given properties in place, without forcing it to disk. Writes
+   * a new snapshot with <code>writeSnapshot()</code> instead if there is a log to compact.
+   */
+  public void store( Properties properties ) throws IOException {
+    if( recordCount > 0 || logFile.exists() ) {
+      writeSnapshot( properties );
+    } else {
+      OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( file ) );
+      try {
+        properties.store( outputStream, comment );
+      } finally {
+        outputStream.close();
+      }
+      updatePersisted( properties );
+    }
+  }
+
+  /**
+   * Replaces the snapshot with the given properties and deletes the log.
+   */
+  public void writeSnapshot( Properties properties ) throws IOException {
+    FileOutputStream fileOutputStream = new FileOutputStream( tempFile );
+    try {
+      OutputStream outputStream = new BufferedOutputStream( fileOutputStream );
+      properties.store( outputStream, comment );
+      outputStream.flush();
+      // the content must be on disk before the rename makes it visible
+      fileOutputStream.getChannel().force( true );
+    } finally {
+      fileOutputStream.close();
+    }
+    if( logFile.exists() ) {
+      move( logFile, oldLogFile );
+    }
+    move( tempFile, file );
+    Files.deleteIfExists( oldLogFile.toPath() );
+    recordCount = 0;
+    updatePersisted( properties );
+  }
+
+  private void completeCompaction() throws IOException {
+    if( oldLogFile.exists() ) {
+      // the temporary file was complete before the log was renamed aside
+      if( tempFile.exists() ) {
+        move( tempFile, file );
+      }
+      Files.delete( oldLogFile.toPath() );
+    } else {
+      // left over by a compaction that was interrupted before the log was renamed aside
+      Files.deleteIfExists( tempFile.toPath() );
+    }
+  }
+
+  private void updatePersisted( Properties properties ) {
+    if( properties != persisted ) {
+      persisted.clear();
+      persisted.putAll( properties );
+    }
+  }
+
+  private void appendRecords( Map<String, String> changes ) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream( buffer );
+    for( Entry<String, String> change : changes.entrySet() ) {
+      byte[] payload = createPayload( change.getKey(), change.getValue() );
+      output.writeInt( payload.length );
+      output.write( payload );
+      output.writeLong( computeChecksum( payload, 0, payload.length ) );
+    }
+    output.flush();
+    FileOutputStream outputStream = new FileOutputStream( logFile, true );
+    try {
+      // write the whole batch at once, a crash can only leave the last record incomplete
+      buffer.writeTo( outputStream );
+      outputStream.getChannel().force( false );
+    } finally {
+      outputStream.close();
+    }
+  }
+
+  private boolean replayLog() throws IOException {
+    if( !logFile.isFile() ) {
+      return true;
+    }
+    byte[] bytes = Files.readAllBytes( logFile.toPath() );
+    ByteBuffer buffer = ByteBuffer.wrap( bytes );
+    while( buffer.remaining() >= RECORD_OVERHEAD ) {
+      int length = buffer.getInt();
+      int offset = buffer.position();
+      if( length < 1 || length > buffer.remaining() - 8 ) {
+        return false;
+      }
+      buffer.position( offset + length );
+      if( buffer.getLong() != computeChecksum( bytes, offset, length ) ) {
+        return false;
+      }
+      if( !replayRecord( ByteBuffer.wrap( bytes, offset, length ) ) ) {
+        return false;
+      }
+      recordCount++;
+    }
+    return !buffer.hasRemaining();
+  }
+
+  private boolean replayRecord( ByteBuffer record ) {
+    try {
+      byte type = record.get();
+      String name = readString( record );
+      if( type == SET ) {
+        persisted.setProperty( name, readString( record ) );
+        return true;
+      } else if( type == REMOVE ) {
+        persisted.remove( name );
+        return true;
+      }
+    } catch( @SuppressWarnings( "unused" ) BufferUnderflowException exception ) {
+      // fall through
+    }
+    return false;
+  }
+
+  private static void move( File source, File target ) throws IOException {
+    try {
+      Files.move( source.toPath(), target.toPath(), REPLACE_EXISTING, ATOMIC_MOVE );
+    } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+      Files.move( source.toPath(), target.toPath(), REPLACE_EXISTING );
+    }
+  }
+
+  private static byte[] createPayload( String name, String value ) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream( buffer );
+    output.writeByte( value == null ? REMOVE : SET );
+    writeString( output, name );
+    if( value != null ) {
+      writeString( output, value );
+    }
+    output.flush();
+    return buffer.toByteArray();
+  }
+
+  private static void writeString( DataOutputStream output, String string ) throws IOException {
+    // unlike writeUTF, this is not limited to 64k
+    byte[] bytes = string.getBytes( UTF_8 );
+    output.writeInt( bytes.length );
+    output.write( bytes );
+  }
+
+  private static String readString( ByteBuffer buffer ) {
+    int length = buffer.getInt();
+    if( length < 0 || length > buffer.remaining() ) {
+      throw new BufferUnderflowException();
+    }
+    String result = new String( buffer.array(), buffer.position(), length, UTF_8 );
+    buffer.position( buffer.position() + length );
+    return result;
+  }
+
+  private static long computeChecksum( byte[] bytes, int offset, int length ) {
+    CRC32 crc = new CRC32();
+    crc.update( bytes, offset, length );
+    return crc.getValue();
+  }
+
+}
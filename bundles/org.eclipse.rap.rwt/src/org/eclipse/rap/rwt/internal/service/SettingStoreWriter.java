@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * Writes the buffered changes of the setting stores of an application in a background thread. The
+ * thread is not a daemon thread, so that pending changes are written before the VM exits, but it
+ * terminates when there is nothing left to write.
+ * <p>
+ * On <code>shutdown()</code>, which is called when the application is deactivated, pending tasks
+ * are run right away in the calling thread, including tasks that are scheduled while shutting
+ * down.
+ * </p>
+ */
+public final class SettingStoreWriter {
+
+  private static final String THREAD_NAME = "RWT Setting Store Writer";
+  private static final long KEEP_ALIVE_SECONDS = 10;
+  private static final long TERMINATION_TIMEOUT_SECONDS = 10;
+
+  private final Object lock;
+  // access to the fields below is guarded by 'lock'
+  private final Set<Runnable> pendingTasks;
+  private ScheduledThreadPoolExecutor executor;
+  private boolean shuttingDown;
+
+  public SettingStoreWriter() {
+    lock = new Object();
+    pendingTasks = new LinkedHashSet<>();
+  }
+
+  /**
+   * Schedules the given task to be run after the given delay. A task that is scheduled again
+   * before it was run is only run once. While shutting down, the task is run by
+   * <code>shutdown()</code> instead.
+   */
+  public void schedule( final Runnable task, long delay ) {
+    ParamCheck.notNull( task, "task" );
+    synchronized( lock ) {
+      pendingTasks.add( task );
+      if( !shuttingDown ) {
+        if( executor == null ) {
+          executor = createExecutor();
+        }
+        executor.schedule( new Runnable() {
+          @Override
+          public void run() {
+            if( removePendingTask( task ) ) {
+              task.run();
+            }
+          }
+        }, delay, MILLISECONDS );
+      }
+    }
+  }
+
+  /**
+   * Waits for the task that is currently running, if any, and runs all pending tasks in the
+   * calling thread. Tasks can be scheduled again once this method has returned.
+   */
+  public void shutdown() {
+    ScheduledThreadPoolExecutor terminated;
+    synchronized( lock ) {
+      terminated = executor;
+      executor = null;
+      shuttingDown = true;
+    }
+    try {
+      if( terminated != null ) {
+        terminated.shutdown();
+        awaitTermination( terminated );
+      }
+      List<Runnable> tasks = drainPendingTasks();
+      while( tasks != null ) {
+        for( Runnable task : tasks ) {
+          task.run();
+        }
+        tasks = drainPendingTasks();
+      }
+    } finally {
+      synchronized( lock ) {
+        shuttingDown = false;
+      }
+    }
+  }
+
+  private boolean removePendingTask( Runnable task ) {
+    synchronized( lock ) {
+      return pendingTasks.remove( task );
+    }
+  }
+
+  /*
+   * Returns null and ends shutting down if there are no pending tasks left, tasks that are
+   * scheduled after that are run by the executor.
+   */
+  private List<Runnable> drainPendingTasks() {
+    synchronized( lock ) {
+      if( pendingTasks.isEmpty() ) {
+        shuttingDown = false;
+        return null;
+      }
+      List<Runnable> result = new ArrayList<>( pendingTasks );
+      pendingTasks.clear();
+      return result;
+    }
+  }
+
+  private static void awaitTermination( ScheduledThreadPoolExecutor terminated ) {
+    try {
+      if( !terminated.awaitTermination( TERMINATION_TIMEOUT_SECONDS, SECONDS ) ) {
+        ServletLog.log( "Timed out waiting for the setting store writer to terminate", null );
+      }
+    } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor createExecutor() {
+    ThreadFactory threadFactory = new ThreadFactory() {
+      @Override
+      public Thread newThread( Runnable runnable ) {
+        return new Thread( runnable, THREAD_NAME );
+      }
+    };
+    ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor( 1, threadFactory );
+    // delayed tasks are run by shutdown() instead of waiting for their delay
+    result.setExecuteExistingDelayedTasksAfterShutdownPolicy( false );
+    result.setKeepAliveTime( KEEP_ALIVE_SECONDS, SECONDS );
+    result.allowCoreThreadTimeOut( true );
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,12 +15,12 @@ import static org.eclipse.rap.rwt.internal.RWTProperties.isTextSizeStoreSessionS
 
 import java.text.MessageFormat;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.HttpSessionBindingEvent;
@@ -81,7 +81,7 @@ public class UISessionImpl
     this.connectionId = connectionId;
     requestLock = new SerializableLock();
     lock = new SerializableLock();
-    attributes = new HashMap<>();
+    attributes = new ConcurrentHashMap<>();
     listeners = new HashSet<>();
     id = Integer.toHexString( hashCode() );
     bound = true;
@@ -160,11 +160,8 @@ public class UISessionImpl
   @Override
   public Object getAttribute( String name ) {
     ParamCheck.notNull( name, "name" );
-    Object result = null;
-    synchronized( lock ) {
-      result = attributes.get( name );
-    }
-    return result;
+    // attributes are read on hot paths (e.g. by SingletonUtil), avoid locking
+    return attributes.get( name );
   }
 
   @Override
@@ -174,7 +171,11 @@ public class UISessionImpl
     synchronized( lock ) {
       if( bound ) {
         result = true;
-        attributes.put( name, value );
+        if( value == null ) {
+          attributes.remove( name );
+        } else {
+          attributes.put( name, value );
+        }
       }
     }
     return result;
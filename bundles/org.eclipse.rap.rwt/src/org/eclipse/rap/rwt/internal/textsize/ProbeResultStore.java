@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,8 +13,10 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.internal.SerializableCompatibility;
@@ -22,7 +24,11 @@ import org.eclipse.swt.internal.SerializableCompatibility;
 
 final class ProbeResultStore implements SerializableCompatibility  {
 
+  private static final String HEADER_USER_AGENT = "User-Agent";
+  private static final Pattern VERSION_NUMBER = Pattern.compile( "\\d+(\\.\\d+)*" );
+
   private final Map<FontData,ProbeResult> probeResults;
+  private String clientPlatform;
 
   static ProbeResultStore getInstance() {
     return SingletonUtil.getSessionInstance( ProbeResultStore.class );
@@ -32,7 +38,19 @@ final class ProbeResultStore implements SerializableCompatibility  {
     probeResults = new HashMap<>();
   }
 
+  /*
+   * The platform of the client that the probe results were measured on, i.e. its user agent
+   * without version numbers, or an empty string if unknown.
+   */
+  String getClientPlatform() {
+    return clientPlatform == null ? "" : clientPlatform;
+  }
+
   ProbeResult createProbeResult( Probe probe, Point size ) {
+    // probe results are sent by the client, hence the current request is the client's one
+    if( clientPlatform == null ) {
+      clientPlatform = readClientPlatform();
+    }
     ProbeResult result = new ProbeResult( probe, size );
     probeResults.put( probe.getFontData(), result );
     return result;
@@ -46,4 +64,14 @@ final class ProbeResultStore implements SerializableCompatibility  {
     return getProbeResult( fontData ) != null;
   }
 
+  private static String readClientPlatform() {
+    if( ContextProvider.hasContext() ) {
+      String userAgent = ContextProvider.getRequest().getHeader( HEADER_USER_AGENT );
+      if( userAgent != null ) {
+        return VERSION_NUMBER.matcher( userAgent ).replaceAll( "" );
+      }
+    }
+    return "";
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -43,11 +43,15 @@ public class ProbeStore implements Serializable {
 
   Probe createProbe( FontData fontData ) {
     Probe result = new Probe( fontData );
+    addProbe( result );
+    return result;
+  }
+
+  void addProbe( Probe probe ) {
     synchronized( probes ) {
-      probes.put( fontData, result );
+      probes.put( probe.getFontData(), probe );
     }
-    textSizeStorage.storeFont( fontData );
-    return result;
+    textSizeStorage.storeFont( probe.getFontData() );
   }
 
   Probe getProbe( FontData font ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,60 +13,54 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSize;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.math.BigDecimal;
 import java.text.MessageFormat;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
 
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 
+/**
+ * Application or session wide cache of measured text sizes.
+ * <p>
+ * The sizes are distributed over a fixed number of segments, each of which evicts with the
+ * CLOCK algorithm (an approximation of LRU) once it is full. Lookups do not block as long as
+ * the segment is not modified concurrently. Sizes are stored as primitives, a new
+ * <code>Point</code> is only created for a successful lookup.
+ * </p>
+ */
 public final class TextSizeStorage implements Serializable {
 
   public static final int MIN_STORE_SIZE = 1000;
   public static final int DEFAULT_STORE_SIZE = 10000;
 
+  private static final int SEGMENT_COUNT = 16;
+  private static final int SEGMENT_SHIFT = 28;
+
   private final SerializableLock lock;
   // access is guarded by 'lock'
   private final Set<FontData> fontDatas;
-  // access is guarded by 'lock'
-  private final Map<Integer,Entry> data;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+  private final LongAdder evictionCount;
+  private volatile Segment[] segments;
   private int maximumStoreSize;
-  private int clearRange;
-  private long clock;
-
-
-  private static class Entry implements Serializable {
-    private Point point;
-    private long timeStamp;
-  }
-
-  private static class EntryComparator implements Comparator<Entry>, Serializable {
-
-    @Override
-    public int compare( Entry entry1, Entry entry2 ) {
-      int result = 0;
-      if( entry1.timeStamp > entry2.timeStamp ) {
-        result = 1;
-      } else if( entry1.timeStamp < entry2.timeStamp ) {
-        result = -1;
-      }
-      return result;
-    }
-  }
-
 
   public TextSizeStorage() {
     lock = new SerializableLock();
-    data = new HashMap<>();
     fontDatas = new HashSet<>();
+    hitCount = new LongAdder();
+    missCount = new LongAdder();
+    evictionCount = new LongAdder();
     setMaximumStoreSize( getTextSizeStoreSize( DEFAULT_STORE_SIZE ) );
   }
 
@@ -85,62 +79,100 @@ public final class TextSizeStorage implements Serializable {
     }
   }
 
-  Point lookupTextSize( Integer key ) {
-    Point result = null;
-    synchronized( lock ) {
-      Entry entry = data.get( key );
-      if( entry != null ) {
-        updateTimestamp( entry );
-        result = entry.point;
-      }
+  Point lookupTextSize( int key ) {
+    int hash = spread( key );
+    Point result = segmentFor( hash ).lookup( key, hash );
+    if( result == null ) {
+      missCount.increment();
+    } else {
+      hitCount.increment();
     }
-    result = defensiveCopy( result );
     return result;
   }
 
-  void storeTextSize( Integer key, Point size ) {
-    Entry entry = new Entry();
-    entry.point = defensiveCopy( size );
-    updateTimestamp( entry );
-    synchronized( lock ) {
-      data.put( key, entry );
-      handleOverFlow();
+  void storeTextSize( int key, Point size ) {
+    storeTextSize( key, pack( size ) );
+  }
+
+  private void storeTextSize( int key, long size ) {
+    int hash = spread( key );
+    if( segmentFor( hash ).store( key, hash, size ) ) {
+      evictionCount.increment();
+    }
+  }
+
+  //////////////
+  // persistence
+
+  void writeTextSizes( DataOutput output ) throws IOException {
+    Segment[] current = segments;
+    output.writeInt( current.length );
+    for( Segment segment : current ) {
+      segment.writeTo( output );
+    }
+  }
+
+  void readTextSizes( DataInput input ) throws IOException {
+    int segmentCount = input.readInt();
+    for( int i = 0; i < segmentCount; i++ ) {
+      int count = input.readInt();
+      for( int j = 0; j < count; j++ ) {
+        int key = input.readInt();
+        storeTextSize( key, input.readLong() );
+      }
     }
   }
 
+  /////////////
+  // statistics
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  public int size() {
+    int result = 0;
+    for( Segment segment : segments ) {
+      result += segment.size();
+    }
+    return result;
+  }
+
   ////////////////////
   // overflow handling
 
+  /*
+   * Discards all stored sizes, the store is expected to be configured before it is used.
+   */
   void setMaximumStoreSize( int maximumStoreSize ) {
     checkLowerStoreSizeBoundary( maximumStoreSize );
-    calculateClearRange( maximumStoreSize );
+    Segment[] newSegments = new Segment[ SEGMENT_COUNT ];
+    for( int i = 0; i < newSegments.length; i++ ) {
+      newSegments[ i ] = new Segment( maximumStoreSize / SEGMENT_COUNT );
+    }
     this.maximumStoreSize = maximumStoreSize;
+    segments = newSegments;
   }
 
   int getMaximumStoreSize() {
     return maximumStoreSize;
   }
 
-  private void handleOverFlow() {
-    if( data.size() >= maximumStoreSize ) {
-      Entry[] entries = sortEntries();
-      for( int i = 0; i < clearRange; i++ ) {
-        data.values().remove( entries[ i ] );
-      }
-    }
-  }
-
-  private Entry[] sortEntries() {
-    Entry[] result = new Entry[ data.size() ];
-    data.values().toArray( result );
-    Arrays.sort( result, new EntryComparator() );
-    return result;
-  }
-
-
   //////////////////
   // helping methods
 
+  private Segment segmentFor( int hash ) {
+    return segments[ hash >>> SEGMENT_SHIFT ];
+  }
+
   private static void checkLowerStoreSizeBoundary( int maximumStoreSize ) {
     if( maximumStoreSize < MIN_STORE_SIZE ) {
       Object[] param = { Integer.valueOf( MIN_STORE_SIZE ) };
@@ -149,18 +181,200 @@ public final class TextSizeStorage implements Serializable {
     }
   }
 
-  private static Point defensiveCopy( Point point ) {
-    return point == null ? null : new Point( point.x, point.y );
+  // keys are hash codes themselves, mix them so that the high bits select the segment evenly
+  private static int spread( int key ) {
+    int result = key * 0x9E3779B9;
+    return result ^ ( result >>> 16 );
+  }
+
+  private static long pack( Point size ) {
+    return ( ( long )size.x << 32 ) | ( size.y & 0xFFFFFFFFL );
   }
 
-  private void updateTimestamp( Entry entry ) {
-    entry.timeStamp = clock++;
+  private static Point unpack( long size ) {
+    return new Point( ( int )( size >> 32 ), ( int )size );
   }
 
-  private void calculateClearRange( int maximumStoreSize ) {
-    BigDecimal ten = new BigDecimal( 10 );
-    BigDecimal bdStoreSize = new BigDecimal( maximumStoreSize );
-    clearRange = bdStoreSize.divide( ten, 0, BigDecimal.ROUND_HALF_UP ).intValue();
+  private static final class Segment implements Serializable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int maximumCapacity;
+    private volatile Table table;
+    // access to the fields below is guarded by 'lock'
+    private int count;
+    private int hand;
+    private transient StampedLock lock;
+
+    Segment( int maximumCapacity ) {
+      this.maximumCapacity = maximumCapacity;
+      table = new Table( Math.min( INITIAL_CAPACITY, maximumCapacity ) );
+      lock = new StampedLock();
+    }
+
+    int size() {
+      long stamp = lock.readLock();
+      try {
+        return count;
+      } finally {
+        lock.unlockRead( stamp );
+      }
+    }
+
+    Point lookup( int key, int hash ) {
+      long stamp = lock.tryOptimisticRead();
+      Table current = table;
+      int slot = current.findSlot( key, hash );
+      long size = slot >= 0 ? current.sizes[ slot ] : 0;
+      if( !lock.validate( stamp ) ) {
+        stamp = lock.readLock();
+        try {
+          current = table;
+          slot = current.findSlot( key, hash );
+          size = slot >= 0 ? current.sizes[ slot ] : 0;
+        } finally {
+          lock.unlockRead( stamp );
+        }
+      }
+      if( slot < 0 ) {
+        return null;
+      }
+      // racy by design, a lost update only changes which entry is evicted next
+      current.referenced[ slot ] = true;
+      return unpack( size );
+    }
+
+    boolean store( int key, int hash, long size ) {
+      long stamp = lock.writeLock();
+      try {
+        Table current = table;
+        int slot = current.findSlot( key, hash );
+        if( slot >= 0 ) {
+          current.sizes[ slot ] = size;
+          return false;
+        }
+        boolean evicted = false;
+        if( count == current.keys.length && count < maximumCapacity ) {
+          current = grow( current );
+        }
+        if( count < current.keys.length ) {
+          slot = count++;
+        } else {
+          slot = evict( current );
+          evicted = true;
+        }
+        current.put( slot, key, hash, size );
+        return evicted;
+      } finally {
+        lock.unlockWrite( stamp );
+      }
+    }
+
+    void writeTo( DataOutput output ) throws IOException {
+      long stamp = lock.readLock();
+      try {
+        output.writeInt( count );
+        for( int slot = 0; slot < count; slot++ ) {
+          output.writeInt( table.keys[ slot ] );
+          output.writeLong( table.sizes[ slot ] );
+        }
+      } finally {
+        lock.unlockRead( stamp );
+      }
+    }
+
+    private Table grow( Table current ) {
+      Table result = new Table( Math.min( current.keys.length * 2, maximumCapacity ) );
+      for( int slot = 0; slot < count; slot++ ) {
+        int key = current.keys[ slot ];
+        result.put( slot, key, spread( key ), current.sizes[ slot ] );
+        result.referenced[ slot ] = current.referenced[ slot ];
+      }
+      table = result;
+      return result;
+    }
+
+    private int evict( Table current ) {
+      int capacity = current.keys.length;
+      // give referenced entries a second chance, bounded as readers may set the flags anew
+      for( int i = 0; i < capacity && current.referenced[ hand ]; i++ ) {
+        current.referenced[ hand ] = false;
+        hand = ( hand + 1 ) % capacity;
+      }
+      int result = hand;
+      hand = ( hand + 1 ) % capacity;
+      current.remove( result );
+      return result;
+    }
+
+    private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+      stream.defaultReadObject();
+      lock = new StampedLock();
+    }
+  }
+
+  private static final class Table implements Serializable {
+
+    final int[] keys;
+    final long[] sizes;
+    final boolean[] referenced;
+    // open addressing with linear probing, holds slot + 1 and 0 for an empty bucket
+    final int[] index;
+
+    Table( int capacity ) {
+      keys = new int[ capacity ];
+      sizes = new long[ capacity ];
+      referenced = new boolean[ capacity ];
+      index = new int[ Integer.highestOneBit( capacity ) * 4 ];
+    }
+
+    // tolerates concurrent modifications, the caller validates the result
+    int findSlot( int key, int hash ) {
+      int mask = index.length - 1;
+      int bucket = hash & mask;
+      for( int i = 0; i < index.length; i++ ) {
+        int slot = index[ bucket ] - 1;
+        if( slot < 0 ) {
+          return -1;
+        }
+        if( keys[ slot ] == key ) {
+          return slot;
+        }
+        bucket = ( bucket + 1 ) & mask;
+      }
+      return -1;
+    }
+
+    void put( int slot, int key, int hash, long size ) {
+      keys[ slot ] = key;
+      sizes[ slot ] = size;
+      referenced[ slot ] = false;
+      int mask = index.length - 1;
+      int bucket = hash & mask;
+      while( index[ bucket ] != 0 ) {
+        bucket = ( bucket + 1 ) & mask;
+      }
+      index[ bucket ] = slot + 1;
+    }
+
+    void remove( int slot ) {
+      int mask = index.length - 1;
+      int free = spread( keys[ slot ] ) & mask;
+      while( index[ free ] != slot + 1 ) {
+        free = ( free + 1 ) & mask;
+      }
+      // shift back the entries that follow in the same cluster to keep probing sequences intact
+      int next = ( free + 1 ) & mask;
+      while( index[ next ] != 0 ) {
+        int home = spread( keys[ index[ next ] - 1 ] ) & mask;
+        if( ( ( next - home ) & mask ) >= ( ( next - free ) & mask ) ) {
+          index[ free ] = index[ next ];
+          free = next;
+        }
+        next = ( next + 1 ) & mask;
+      }
+      index[ free ] = 0;
+    }
   }
 
 }
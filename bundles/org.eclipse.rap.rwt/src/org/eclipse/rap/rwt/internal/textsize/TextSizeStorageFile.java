@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.zip.CRC32;
+
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+import org.eclipse.swt.graphics.FontData;
+
+
+/**
+ * Saves the probes of a <code>ProbeStore</code> and the measured text sizes of a
+ * <code>TextSizeStorage</code> to a binary file and restores them, so that a restarted
+ * application does not have to measure them again.
+ * <p>
+ * The restored probes are sent to new clients as startup probes. The storage keys of the text
+ * sizes include the client platform, i.e. the user agent without version numbers, as well as
+ * the probe size that the client measured for the font. Hence a restored size is only reused by
+ * a client of the same platform that measures the same probe size.
+ * </p>
+ */
+public final class TextSizeStorageFile {
+
+  private static final int MAGIC = 0x52545353; // "RTSS"
+  // version 1 keyed the text sizes by probe size only
+  private static final int VERSION = 2;
+
+  private final File file;
+  private final ProbeStore probeStore;
+  private final TextSizeStorage storage;
+
+  public TextSizeStorageFile( File file, ProbeStore probeStore, TextSizeStorage storage ) {
+    ParamCheck.notNull( file, "file" );
+    ParamCheck.notNull( probeStore, "probeStore" );
+    ParamCheck.notNull( storage, "storage" );
+    this.file = file;
+    this.probeStore = probeStore;
+    this.storage = storage;
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * Loads the probes and text sizes from the file into the stores. Returns <code>false</code>
+   * if the file does not exist. A file that is corrupt or has an unknown format is rejected as a
+   * whole.
+   */
+  public boolean load() throws IOException {
+    if( !file.isFile() ) {
+      return false;
+    }
+    byte[] bytes = Files.readAllBytes( file.toPath() );
+    DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes ) );
+    if( bytes.length < 16 || input.readInt() != MAGIC || input.readInt() != VERSION ) {
+      throw new IOException( "Unknown text size storage format: " + file );
+    }
+    if( readChecksum( bytes ) != computeChecksum( bytes, bytes.length - 8 ) ) {
+      throw new IOException( "Corrupt text size storage: " + file );
+    }
+    int probeCount = input.readInt();
+    for( int i = 0; i < probeCount; i++ ) {
+      String name = input.readUTF();
+      int height = input.readInt();
+      int style = input.readInt();
+      String text = input.readUTF();
+      probeStore.addProbe( new Probe( text, new FontData( name, height, style ) ) );
+    }
+    storage.readTextSizes( input );
+    return true;
+  }
+
+  /**
+   * Writes the probes and text sizes to a temporary file that replaces the file once completed.
+   */
+  public synchronized void save() throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream( buffer );
+    output.writeInt( MAGIC );
+    output.writeInt( VERSION );
+    Probe[] probes = probeStore.getProbes();
+    output.writeInt( probes.length );
+    for( Probe probe : probes ) {
+      FontData fontData = probe.getFontData();
+      output.writeUTF( fontData.getName() );
+      output.writeInt( fontData.getHeight() );
+      output.writeInt( fontData.getStyle() );
+      output.writeUTF( probe.getText() );
+    }
+    storage.writeTextSizes( output );
+    output.writeLong( computeChecksum( buffer.toByteArray(), buffer.size() ) );
+    output.flush();
+    File parent = file.getAbsoluteFile().getParentFile();
+    if( parent != null ) {
+      parent.mkdirs();
+    }
+    File tempFile = new File( file.getPath() + ".tmp" );
+    Files.write( tempFile.toPath(), buffer.toByteArray() );
+    Files.move( tempFile.toPath(), file.toPath(), REPLACE_EXISTING, ATOMIC_MOVE );
+  }
+
+  private static long readChecksum( byte[] bytes ) throws IOException {
+    DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes ) );
+    input.skipBytes( bytes.length - 8 );
+    return input.readLong();
+  }
+
+  private static long computeChecksum( byte[] bytes, int length ) {
+    CRC32 crc = new CRC32();
+    crc.update( bytes, 0, length );
+    return crc.getValue();
+  }
+
+}
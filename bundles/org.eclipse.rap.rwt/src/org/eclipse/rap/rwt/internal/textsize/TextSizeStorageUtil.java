@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,7 +26,7 @@ final class TextSizeStorageUtil {
     Point result = null;
     if( ProbeResultStore.getInstance().containsProbeResult( fontData ) ) {
       TextSizeStorage textSizeStorage = getTextSizeStorage();
-      Integer key = getKey( fontData, string, wrapWidth, mode );
+      int key = getKey( fontData, string, wrapWidth, mode );
       result = textSizeStorage.lookupTextSize( key );
       if( result == null && wrapWidth > 0 ) {
         key = getKey( fontData, string, SWT.DEFAULT, mode );
@@ -48,23 +48,27 @@ final class TextSizeStorageUtil {
                      Point measuredTextSize )
   {
     checkFontExists( fontData );
-    Integer key = getKey( fontData, string, wrapWidth, mode );
+    int key = getKey( fontData, string, wrapWidth, mode );
     getTextSizeStorage().storeTextSize( key, measuredTextSize );
   }
 
-  static Integer getKey( FontData fontData, String string, int wrapWidth, int mode ) {
+  static int getKey( FontData fontData, String string, int wrapWidth, int mode ) {
     ProbeResultStore instance = ProbeResultStore.getInstance();
     ProbeResult probeResult = instance.getProbeResult( fontData );
     String probeText = probeResult.getProbe().getText();
     Point probeSize = probeResult.getSize();
+    // sizes are only reused by clients of the same platform that measured the same probe size,
+    // Point#hashCode is not used since it is the same for many sizes
     int hashCode = 1;
+    hashCode = 31 * hashCode + instance.getClientPlatform().hashCode();
     hashCode = 31 * hashCode + probeText.hashCode();
-    hashCode = 31 * hashCode + probeSize.hashCode();
+    hashCode = 31 * hashCode + probeSize.x;
+    hashCode = 31 * hashCode + probeSize.y;
     hashCode = 31 * hashCode + fontData.hashCode();
     hashCode = 31 * hashCode + string.hashCode();
     hashCode = 31 * hashCode + wrapWidth;
     hashCode = 31 * hashCode + mode;
-    return Integer.valueOf( hashCode );
+    return hashCode;
   }
 
   static TextSizeStorage getTextSizeStorage() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -79,10 +79,12 @@ public final class CssValuesMap {
     String elementName = element.getName();
     String[] properties = element.getProperties();
     Map<String, ConditionalValue[]> valuesMap = new LinkedHashMap<>();
-    elementsMap.put( elementName, valuesMap );
+    // the names are read from theme files, interned names are found by identity when looked up
+    // with the string constants of the theme adapters
+    elementsMap.put( elementName.intern(), valuesMap );
     for( String propertyName : properties ) {
       ConditionalValue[] values = styleSheet.getValues( elementName, propertyName );
-      valuesMap.put( propertyName, filterValues( values, element ) );
+      valuesMap.put( propertyName.intern(), filterValues( values, element ) );
     }
   }
 
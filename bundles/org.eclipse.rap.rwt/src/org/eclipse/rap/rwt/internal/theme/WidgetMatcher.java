@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -25,76 +27,173 @@ public final class WidgetMatcher implements ValueSelector {
     boolean matches( Widget widget );
   }
 
+  // guards against callers that select from ad-hoc arrays, themes have far fewer
+  private static final int MAX_COMPILED_VALUES = 4096;
+
+  private final Map<String, Integer> styleMap;
   private final Map<String, Constraint> constraintMap;
+  private final Map<ConditionalValue[], CompiledValue[]> compiledValuesMap;
 
   public WidgetMatcher() {
-    // This map is accessed by all UI sessions simultaneously. However, We don't need to
+    // These maps are accessed by all UI sessions simultaneously. However, We don't need to
     // synchronize get and put since constraints are deterministic, i.e. in case of concurrent
     // insertions one constraint overwriting the other is not critical.
+    styleMap = new ConcurrentHashMap<>();
     constraintMap = new ConcurrentHashMap<>();
+    compiledValuesMap = new ConcurrentHashMap<>();
   }
 
   public void addStyle( String string, int style ) {
-    constraintMap.put( "[" + string, createStyleConstraint( style ) );
+    styleMap.put( "[" + string, Integer.valueOf( style ) );
+    compiledValuesMap.clear();
   }
 
   public void addState( String string, Constraint constraint ) {
     constraintMap.put( ":" + string, constraint );
+    compiledValuesMap.clear();
   }
 
   @Override
   public CssValue select( Widget widget, ConditionalValue... values ) {
-    CssValue result = null;
-    for( int i = 0; i < values.length && result == null; i++ ) {
-      ConditionalValue condValue = values[ i ];
-      String[] constraints = condValue.constraints;
-      if( matches( widget, constraints ) ) {
-        result = condValue.value;
+    CompiledValue[] compiledValues = getCompiledValues( values );
+    if( compiledValues.length == 0 ) {
+      return null;
+    }
+    WidgetProperties properties = new WidgetProperties( widget );
+    for( CompiledValue compiledValue : compiledValues ) {
+      if( compiledValue.matches( properties ) ) {
+        return compiledValue.value;
       }
     }
-    return result;
+    return null;
   }
 
-  private boolean matches( Widget widget, String[] constraints ) {
-    for( String string : constraints ) {
-      Constraint constraint = getConstraint( string );
-      if( constraint == null || !constraint.matches( widget ) ) {
-        return false;
+  /*
+   * The values arrays of a theme are created once and don't change, hence the constraints of
+   * every array are resolved only once and cached by identity. A new theme comes with new arrays.
+   */
+  private CompiledValue[] getCompiledValues( ConditionalValue[] values ) {
+    CompiledValue[] result = compiledValuesMap.get( values );
+    if( result == null ) {
+      result = compile( values );
+      if( compiledValuesMap.size() >= MAX_COMPILED_VALUES ) {
+        compiledValuesMap.clear();
       }
+      compiledValuesMap.put( values, result );
     }
-    return true;
+    return result;
   }
 
-  private Constraint getConstraint( String string ) {
-    Constraint constraint = constraintMap.get( string );
-    if( constraint == null && string.startsWith( "." ) ) {
-      constraint = createVariantConstraint( string.substring( 1 ) );
-      constraintMap.put( string, constraint );
+  private CompiledValue[] compile( ConditionalValue[] values ) {
+    List<CompiledValue> result = new ArrayList<>( values.length );
+    for( ConditionalValue value : values ) {
+      CompiledValue compiledValue = compile( value );
+      if( compiledValue != null ) {
+        result.add( compiledValue );
+      }
     }
-    return constraint;
+    return result.toArray( new CompiledValue[ result.size() ] );
   }
 
-  private static Constraint createStyleConstraint( final int style ) {
-    return new Constraint() {
-      @Override
-      public boolean matches( Widget widget ) {
-        return ( widget.getStyle() & style ) != 0;
+  /*
+   * Returns null for values that can never match, i.e. values with an unknown constraint or with
+   * two different variants.
+   */
+  private CompiledValue compile( ConditionalValue value ) {
+    List<Integer> styles = new ArrayList<>();
+    List<Constraint> states = new ArrayList<>();
+    String variant = null;
+    for( String string : value.constraints ) {
+      Integer style = styleMap.get( string );
+      if( style != null ) {
+        styles.add( style );
+      } else if( string.startsWith( "." ) ) {
+        String constraintVariant = string.substring( 1 );
+        if( variant != null && !variant.equals( constraintVariant ) ) {
+          return null;
+        }
+        variant = constraintVariant;
+      } else {
+        Constraint constraint = constraintMap.get( string );
+        if( constraint == null ) {
+          return null;
+        }
+        states.add( constraint );
       }
-    };
+    }
+    int[] styleMasks = new int[ styles.size() ];
+    for( int i = 0; i < styleMasks.length; i++ ) {
+      styleMasks[ i ] = styles.get( i ).intValue();
+    }
+    Constraint[] stateConstraints = states.toArray( new Constraint[ states.size() ] );
+    return new CompiledValue( value.value, styleMasks, variant, stateConstraints );
   }
 
-  private static Constraint createVariantConstraint( final String variant ) {
-    return new Constraint() {
-      @Override
-      public boolean matches( Widget widget ) {
-        return hasVariant( widget, variant );
+  private static final class CompiledValue {
+
+    final CssValue value;
+    final int[] styleMasks;
+    final String variant;
+    final Constraint[] states;
+
+    CompiledValue( CssValue value, int[] styleMasks, String variant, Constraint[] states ) {
+      this.value = value;
+      this.styleMasks = styleMasks;
+      this.variant = variant;
+      this.states = states;
+    }
+
+    boolean matches( WidgetProperties properties ) {
+      if( styleMasks.length > 0 ) {
+        int style = properties.getStyle();
+        for( int styleMask : styleMasks ) {
+          if( ( style & styleMask ) == 0 ) {
+            return false;
+          }
+        }
+      }
+      if( variant != null && !variant.equals( properties.getVariant() ) ) {
+        return false;
       }
-    };
+      for( Constraint state : states ) {
+        if( !state.matches( properties.widget ) ) {
+          return false;
+        }
+      }
+      return true;
+    }
+
   }
 
-  private static boolean hasVariant( Widget widget, String variant ) {
-    String actualVariant = WidgetUtil.getVariant( widget );
-    return actualVariant != null && actualVariant.equals( variant );
+  // reads the style and the variant of a widget at most once per selection
+  private static final class WidgetProperties {
+
+    final Widget widget;
+    private boolean hasStyle;
+    private int style;
+    private boolean hasVariant;
+    private String variant;
+
+    WidgetProperties( Widget widget ) {
+      this.widget = widget;
+    }
+
+    int getStyle() {
+      if( !hasStyle ) {
+        style = widget.getStyle();
+        hasStyle = true;
+      }
+      return style;
+    }
+
+    String getVariant() {
+      if( !hasVariant ) {
+        variant = WidgetUtil.getVariant( widget );
+        hasVariant = true;
+      }
+      return variant;
+    }
+
   }
 
 }
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A fixed number of daemon threads that execute delayed tasks on behalf of all sessions of an
+ * application. The threads are created when tasks are scheduled and terminated on
+ * <code>shutdown()</code>, after which no more tasks are accepted. Tasks must be short and must
+ * not block.
+ */
+public class SharedScheduler {
+
+  private final String threadName;
+  private final int poolSize;
+  private ScheduledThreadPoolExecutor executor;
+  private boolean shutdown;
+
+  public SharedScheduler( String threadName, int poolSize ) {
+    ParamCheck.notNull( threadName, "threadName" );
+    if( poolSize < 1 ) {
+      throw new IllegalArgumentException( "poolSize must be positive: " + poolSize );
+    }
+    this.threadName = threadName;
+    this.poolSize = poolSize;
+  }
+
+  /**
+   * @throws RejectedExecutionException if the scheduler has been shut down
+   */
+  public synchronized ScheduledFuture<?> schedule( Runnable task, long delay, TimeUnit unit ) {
+    ParamCheck.notNull( task, "task" );
+    if( shutdown ) {
+      throw new RejectedExecutionException( "Scheduler has been shut down: " + threadName );
+    }
+    if( executor == null ) {
+      executor = createExecutor();
+    }
+    return executor.schedule( task, delay, unit );
+  }
+
+  public synchronized boolean isRunning() {
+    return executor != null;
+  }
+
+  public synchronized void shutdown() {
+    shutdown = true;
+    if( executor != null ) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  private ScheduledThreadPoolExecutor createExecutor() {
+    ThreadFactory threadFactory = new ThreadFactory() {
+      @Override
+      public Thread newThread( Runnable runnable ) {
+        Thread thread = new Thread( runnable, threadName );
+        thread.setDaemon( true );
+        return thread;
+      }
+    };
+    ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor( poolSize, threadFactory );
+    // cancelled timeouts are the common case, don't keep them in the queue until they expire
+    result.setRemoveOnCancelPolicy( true );
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,25 +11,41 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.service;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.service.SettingStoreLog;
+import org.eclipse.rap.rwt.internal.service.SettingStoreWriter;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
 
 /**
  * A setting store implementation that persists all settings on the file system using Java
  * {@link Properties} files.
+ * <p>
+ * By default, every change rewrites the properties file of the store. If the system property
+ * <code>org.eclipse.rap.rwt.settingStoreWriteBehind</code> is set to <code>true</code>, changes
+ * are buffered and written to an append-only log by a background thread instead, at most
+ * <code>org.eclipse.rap.rwt.settingStoreFlushDelay</code> milliseconds (default 1000) after they
+ * have been made. Changes to the same attribute within that time are written only once. The log is
+ * compacted into the properties file once it has grown larger than the file. Changes that could
+ * not be written are retried after the same delay. Pending changes are written when the
+ * application is stopped. Write-behind requires an application context when the store is created,
+ * stores created outside of one write every change immediately. Listeners are notified immediately in both modes.
+ * </p>
  *
  * @since 2.0
  */
@@ -42,9 +58,23 @@ public final class FileSettingStore implements SettingStore {
   public static final String FILE_SETTING_STORE_DIR
     = "org.eclipse.rap.rwt.service.FileSettingStore.dir";
 
+  private static final int DEFAULT_FLUSH_DELAY = 1000;
+  // flush right away once this many changes are buffered
+  private static final int MAX_PENDING_CHANGES = 1024;
+  private static final Set<FileSettingStore> PENDING_STORES = ConcurrentHashMap.newKeySet();
+
   private final File workDir;
   private final Properties props;
   private final Set<SettingStoreListener> listeners;
+  private final SettingStoreWriter writer;
+  private final boolean writeBehind;
+  private final long flushDelay;
+  // guards the log, acquired before pendingChanges
+  private final Object flushLock;
+  private final Map<String, String> pendingChanges;
+  private final Runnable flushTask;
+  private boolean flushScheduled;
+  private SettingStoreLog log;
   private String id;
 
   /**
@@ -61,6 +91,21 @@ public final class FileSettingStore implements SettingStore {
     workDir = baseDirectory;
     props = new Properties();
     listeners = new HashSet<>();
+    writer = ContextProvider.hasContext() ? getApplicationContext().getSettingStoreWriter() : null;
+    writeBehind = writer != null && RWTProperties.isSettingStoreWriteBehind();
+    flushDelay = RWTProperties.getSettingStoreFlushDelay( DEFAULT_FLUSH_DELAY );
+    flushLock = new Object();
+    pendingChanges = new LinkedHashMap<>();
+    flushTask = new Runnable() {
+      @Override
+      public void run() {
+        try {
+          flush();
+        } catch( IOException ioe ) {
+          log( "Failed to write setting store " + id, ioe );
+        }
+      }
+    };
   }
 
   @Override
@@ -83,7 +128,7 @@ public final class FileSettingStore implements SettingStore {
       String oldValue = ( String )props.setProperty( name, value );
       if( !value.equals( oldValue ) ) {
         notifyListeners( name, oldValue, value );
-        persist();
+        persist( name, value );
       }
     }
   }
@@ -106,18 +151,17 @@ public final class FileSettingStore implements SettingStore {
   @Override
   public synchronized void loadById( String id ) throws IOException {
     ParamCheck.notNullOrEmpty( id, "id" );
+    File file = getStoreFile( id );
+    flushPendingStores( file );
+    synchronized( flushLock ) {
+      flush();
+      log = new SettingStoreLog( file, FileSettingStore.class.getName() );
+    }
     this.id = id;
     notifyForEachAttribute( true );
     props.clear();
-    BufferedInputStream inputStream = getInputStream( id );
-    if( inputStream != null ) {
-      try {
-        props.load( inputStream );
-        notifyForEachAttribute( false );
-      } finally {
-        inputStream.close();
-      }
-    }
+    log.load( props );
+    notifyForEachAttribute( false );
   }
 
   @Override
@@ -125,7 +169,7 @@ public final class FileSettingStore implements SettingStore {
     String oldValue = ( String )props.remove( name );
     if( oldValue != null ) {
       notifyListeners( name, oldValue, null );
-      persist();
+      persist( name, null );
     }
   }
 
@@ -141,30 +185,37 @@ public final class FileSettingStore implements SettingStore {
     listeners.remove( listener );
   }
 
-  //////////////////
-  // helping methods
-
   /**
-   * @return a BufferedInputStream or <code>null</code> if this file does not exist
+   * Writes the changes that have not been written yet. Has no effect unless write-behind is
+   * enabled, as otherwise all changes are written immediately.
+   *
+   * @throws IOException if the changes could not be written, they will be written again with the
+   *           next flush, which is scheduled after the flush delay
+   * @since 4.1
    */
-  private BufferedInputStream getInputStream( String streamId ) {
-    BufferedInputStream result = null;
-    File file = getStoreFile( streamId );
-    if( file.exists() ) {
+  public void flush() throws IOException {
+    synchronized( flushLock ) {
+      Map<String, String> changes;
+      synchronized( pendingChanges ) {
+        if( pendingChanges.isEmpty() ) {
+          return;
+        }
+        changes = new LinkedHashMap<>( pendingChanges );
+        pendingChanges.clear();
+        flushScheduled = false;
+        PENDING_STORES.remove( this );
+      }
       try {
-        result = new BufferedInputStream( new FileInputStream( file ) );
-      } catch( FileNotFoundException fnf ) {
-        log( "Should not happen", fnf );
+        log.write( changes );
+      } catch( IOException ioe ) {
+        requeueChanges( changes );
+        throw ioe;
       }
     }
-    return result;
   }
 
-  private BufferedOutputStream getOutputStream( String streamId )
-  throws FileNotFoundException {
-    File file = getStoreFile( streamId );
-    return new BufferedOutputStream( new FileOutputStream( file ) );
-  }
+  //////////////////
+  // helping methods
 
   private File getStoreFile( String fileName ) {
     return new File( workDir, fileName );
@@ -203,12 +254,64 @@ public final class FileSettingStore implements SettingStore {
     }
   }
 
-  private void persist() throws IOException {
-    BufferedOutputStream outputStream = getOutputStream( id );
-    try {
-      props.store( outputStream, FileSettingStore.class.getName() );
-    } finally {
-      outputStream.close();
+  private void persist( String name, String value ) throws IOException {
+    if( log == null ) {
+      throw new IllegalStateException( "Setting store has not been loaded" );
+    }
+    if( writeBehind ) {
+      queueChange( name, value );
+    } else {
+      log.store( props );
+    }
+  }
+
+  private void queueChange( String name, String value ) {
+    synchronized( pendingChanges ) {
+      pendingChanges.put( name, value );
+      PENDING_STORES.add( this );
+      if( !flushScheduled ) {
+        writer.schedule( flushTask, flushDelay );
+        flushScheduled = true;
+      } else if( pendingChanges.size() == MAX_PENDING_CHANGES ) {
+        writer.schedule( flushTask, 0 );
+      }
+    }
+  }
+
+  private void requeueChanges( Map<String, String> changes ) {
+    synchronized( pendingChanges ) {
+      for( Entry<String, String> change : changes.entrySet() ) {
+        // keep changes that have been made in the meantime
+        if( !pendingChanges.containsKey( change.getKey() ) ) {
+          pendingChanges.put( change.getKey(), change.getValue() );
+        }
+      }
+      PENDING_STORES.add( this );
+      // retry unless a flush is scheduled anyway
+      if( !flushScheduled ) {
+        writer.schedule( flushTask, flushDelay );
+        flushScheduled = true;
+      }
+    }
+  }
+
+  /*
+   * Makes changes of other stores with the same file visible to this store. Must not be called
+   * while holding the flushLock, which would risk a deadlock with another store doing the same.
+   */
+  private void flushPendingStores( File file ) throws IOException {
+    for( FileSettingStore store : PENDING_STORES ) {
+      if( store != this ) {
+        store.flushIfStoredIn( file );
+      }
+    }
+  }
+
+  private void flushIfStoredIn( File file ) throws IOException {
+    synchronized( flushLock ) {
+      if( log != null && log.getFile().equals( file ) ) {
+        flush();
+      }
     }
   }
 
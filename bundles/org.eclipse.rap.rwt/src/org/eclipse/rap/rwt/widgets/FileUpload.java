@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -115,6 +116,7 @@ public class FileUpload extends Canvas {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.text = text;
   }
 
@@ -150,6 +152,7 @@ public class FileUpload extends Canvas {
    */
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -225,6 +228,7 @@ public class FileUpload extends Canvas {
    */
   public void setFilterExtensions( String[] extensions ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( extensions == null ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -268,6 +272,7 @@ public class FileUpload extends Canvas {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( fileNames.length > 0 ) {
       this.url  = url;
     }
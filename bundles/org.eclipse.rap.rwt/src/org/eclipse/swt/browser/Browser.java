@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2020 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicatio
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.ProcessActionRunner;
 import org.eclipse.rap.rwt.internal.lifecycle.SimpleLifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
@@ -137,6 +138,7 @@ public class Browser extends Composite {
    */
   public boolean setUrl( String url ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( url == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -193,6 +195,7 @@ public class Browser extends Composite {
    */
   public boolean setText( String html ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( html == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -397,6 +400,7 @@ public class Browser extends Composite {
    */
   public void addLocationListener( LocationListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -422,6 +426,7 @@ public class Browser extends Composite {
    */
   public void removeLocationListener( LocationListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     removeListener( EventTypes.LOCALTION_CHANGED, listener );
     removeListener( EventTypes.LOCALTION_CHANGING, listener );
   }
@@ -446,6 +451,7 @@ public class Browser extends Composite {
    */
   public void addProgressListener( ProgressListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -474,6 +480,7 @@ public class Browser extends Composite {
    */
   public void removeProgressListener( ProgressListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     removeListener( EventTypes.PROGRESS_CHANGED, listener );
     removeListener( EventTypes.PROGRESS_COMPLETED, listener );
   }
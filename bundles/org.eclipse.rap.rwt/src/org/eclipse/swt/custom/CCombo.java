@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.swt.custom;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -167,6 +168,7 @@ public class CCombo extends Composite {
    */
   public void select( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( -1 <= index && index < getItemCount() ) {
       model.setSelection( index );
       updateText();
@@ -187,6 +189,7 @@ public class CCombo extends Composite {
    */
   public void deselect( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( index == model.getSelectionIndex() ) {
       model.setSelection( -1 );
       updateText();
@@ -209,6 +212,7 @@ public class CCombo extends Composite {
    */
   public void deselectAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.deselectAll();
     updateText();
   }
@@ -231,6 +235,7 @@ public class CCombo extends Composite {
    */
   public void setSelection( Point selection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selection == null ) {
       SWT.error ( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -284,6 +289,7 @@ public class CCombo extends Composite {
    */
   public void setTextLimit( int limit ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( limit == 0 ) {
       SWT.error ( SWT.ERROR_CANNOT_BE_ZERO );
     }
@@ -350,6 +356,7 @@ public class CCombo extends Composite {
    */
   public void clearSelection() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     resetSelection();
   }
 
@@ -370,6 +377,7 @@ public class CCombo extends Composite {
    */
   public void add( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.add( string );
   }
 
@@ -398,6 +406,7 @@ public class CCombo extends Composite {
    */
   public void add( String string, int index) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.add( string, index );
   }
 
@@ -417,6 +426,7 @@ public class CCombo extends Composite {
    */
   public void remove( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int selectionIndex = getSelectionIndex();
     if( selectionIndex == index ) {
       deselect( index );
@@ -442,6 +452,7 @@ public class CCombo extends Composite {
    */
   public void remove( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int selectionIndex = getSelectionIndex();
     String[] items = model.getItems();
     for( int i = start; i <= end; i++ ) {
@@ -471,6 +482,7 @@ public class CCombo extends Composite {
    */
   public void remove( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int indexOfThisString = indexOf( string );
     int selectionIndex = getSelectionIndex();
     if( selectionIndex == indexOfThisString ) {
@@ -490,6 +502,7 @@ public class CCombo extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     deselectAll();
     model.removeAll();
   }
@@ -514,6 +527,7 @@ public class CCombo extends Composite {
    */
   public void setItem( int index, String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.setItem( index, string );
   }
 
@@ -533,6 +547,7 @@ public class CCombo extends Composite {
    */
   public void setItems( String... items ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.setItems( items );
   }
 
@@ -624,6 +639,7 @@ public class CCombo extends Composite {
    */
   public void setVisibleItemCount( int count ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( count >= 0 ) {
       visibleCount = count;
     }
@@ -665,6 +681,7 @@ public class CCombo extends Composite {
    */
   public void setListVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     dropped = visible;
   }
 
@@ -763,6 +780,7 @@ public class CCombo extends Composite {
    */
   public void setText( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( string == null ) {
       SWT.error ( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -801,6 +819,7 @@ public class CCombo extends Composite {
    */
   public void setEditable( boolean editable ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.editable = editable;
   }
 
@@ -888,6 +907,7 @@ public class CCombo extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -915,6 +935,7 @@ public class CCombo extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -943,6 +964,7 @@ public class CCombo extends Composite {
    */
   public void addModifyListener( ModifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -969,6 +991,7 @@ public class CCombo extends Composite {
    */
   public void removeModifyListener( ModifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -997,6 +1020,7 @@ public class CCombo extends Composite {
    */
   public void addVerifyListener( VerifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1024,6 +1048,7 @@ public class CCombo extends Composite {
    */
   public void removeVerifyListener( VerifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1054,6 +1079,7 @@ public class CCombo extends Composite {
   @Override
   public void setLayout( Layout layout ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     return;
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -279,6 +280,7 @@ public class CLabel extends Canvas {
    */
   public void setAlignment( int align ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if ( align != SWT.LEFT && align != SWT.RIGHT && align != SWT.CENTER ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -319,6 +321,7 @@ public class CLabel extends Canvas {
    */
   public void setBackground( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( image != backgroundImage ) {
       backgroundImage = image;
       if( image != null ) {
@@ -390,6 +393,7 @@ public class CLabel extends Canvas {
    */
   public void setBackground( Color[] colors, int[] percents, boolean vertical ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( colors != null ) {
       if( percents == null || percents.length != colors.length - 1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
@@ -443,6 +447,7 @@ public class CLabel extends Canvas {
    */
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if ( image != this.image ) {
       this.image = image;
     }
@@ -461,6 +466,7 @@ public class CLabel extends Canvas {
    */
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( text == null ) {
       this.text = "";
     } else if( !text.equals( this.text ) ) {
@@ -552,6 +558,7 @@ public class CLabel extends Canvas {
    */
   public void setMargins( int leftMargin, int topMargin, int rightMargin, int bottomMargin ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.leftMargin = Math.max( 0, leftMargin );
     this.topMargin = Math.max( 0, topMargin );
     this.rightMargin = Math.max( 0, rightMargin );
@@ -572,6 +579,7 @@ public class CLabel extends Canvas {
    */
   public void setLeftMargin( int leftMargin ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( leftMargin >= 0 ) {
       this.leftMargin = leftMargin;
     }
@@ -603,6 +611,7 @@ public class CLabel extends Canvas {
    */
   public void setTopMargin( int topMargin ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( topMargin >= 0 ) {
       this.topMargin = topMargin;
     }
@@ -634,6 +643,7 @@ public class CLabel extends Canvas {
    */
   public void setRightMargin( int rightMargin ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( rightMargin >= 0 ) {
       this.rightMargin = rightMargin;
     }
@@ -665,6 +675,7 @@ public class CLabel extends Canvas {
    */
   public void setBottomMargin( int bottomMargin ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( bottomMargin >= 0 ) {
       this.bottomMargin = bottomMargin;
     }
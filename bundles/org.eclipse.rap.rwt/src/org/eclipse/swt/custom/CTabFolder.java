@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.custom;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -219,7 +220,7 @@ public class CTabFolder extends Composite {
     };
     addControlListener( resizeListener );
     registerDisposeListener();
-    selectionGraphicsAdapter = new WidgetGraphicsAdapter();
+    selectionGraphicsAdapter = new WidgetGraphicsAdapter( this );
   }
 
   //////////////////
@@ -342,6 +343,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelection( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( index >= 0 && index <= itemHolder.size() - 1 ) {
       if( selectedIndex != index ) {
         int oldSelectionIndex = selectedIndex;
@@ -397,6 +399,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelection( CTabItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -437,6 +440,7 @@ public class CTabFolder extends Composite {
    */
   public void showSelection () {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selectedIndex != -1 ) {
       showItem( getSelection() );
     }
@@ -462,6 +466,7 @@ public class CTabFolder extends Composite {
    */
   public void showItem( CTabItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -524,6 +529,7 @@ public class CTabFolder extends Composite {
    */
   public void setMRUVisible( boolean show ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( mru != show ) {
       mru = show;
       if( !mru ) {
@@ -589,6 +595,7 @@ public class CTabFolder extends Composite {
    */
   public void setMaximizeVisible( boolean maximizeVisible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( showMax != maximizeVisible ) {
       showMax = maximizeVisible;
       updateItems();
@@ -624,6 +631,7 @@ public class CTabFolder extends Composite {
    */
   public void setMinimizeVisible( boolean minimizeVisible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( showMin != minimizeVisible ) {
       showMin = minimizeVisible;
       updateItems();
@@ -659,6 +667,7 @@ public class CTabFolder extends Composite {
    */
   public void setMinimized( boolean minimized ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.minimized != minimized ) {
       if( minimized && maximized ) {
         setMaximized( false );
@@ -694,6 +703,7 @@ public class CTabFolder extends Composite {
    */
   public void setMaximized( boolean maximized ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.maximized != maximized ) {
       if( maximized && minimized ) {
         setMinimized( false );
@@ -739,6 +749,7 @@ public class CTabFolder extends Composite {
   @Override
   public void setLayout( Layout layout ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     // ignore - CTabFolder manages its own layout
   }
 
@@ -757,6 +768,7 @@ public class CTabFolder extends Composite {
    */
   public void setTabHeight( int height ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( height < -1 ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -810,6 +822,7 @@ public class CTabFolder extends Composite {
    */
   public void setMinimumCharacters( int minimumCharacters ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( minimumCharacters < 0 ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -856,6 +869,7 @@ public class CTabFolder extends Composite {
    */
   public void setSingle( boolean single ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.single != single ) {
       this.single = single;
       updateItemsWithResizeEvent();
@@ -891,6 +905,7 @@ public class CTabFolder extends Composite {
    */
   public void setTabPosition( int position ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( position != SWT.TOP && position != SWT.BOTTOM ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -930,6 +945,7 @@ public class CTabFolder extends Composite {
    */
   public void setBorderVisible( boolean show ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( borderLeft != 1 ) != !show ) {
       borderLeft = borderRight = show ? 1 : 0;
       borderTop = onBottom ? borderLeft : 0;
@@ -965,6 +981,7 @@ public class CTabFolder extends Composite {
    */
   public void setUnselectedImageVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( showUnselectedImage != visible ) {
       showUnselectedImage = visible;
       updateItems();
@@ -995,6 +1012,7 @@ public class CTabFolder extends Composite {
    */
   public void setUnselectedCloseVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( showUnselectedClose != visible ) {
       showUnselectedClose = visible;
       updateItems();
@@ -1053,6 +1071,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionBackground( Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( null != color && color.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1144,6 +1163,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionBackground( Color[] colors, int[] percents, boolean vertical ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( colors != null ) {
       for( int i = 0; i < colors.length; i++ ) {
         if( colors[ i ] != null && colors[ i ].isDisposed() ) {
@@ -1207,6 +1227,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionBackground( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     selectionBgImage = image;
   }
 
@@ -1222,6 +1243,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionForeground( Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     selectionForeground = color;
   }
 
@@ -1268,6 +1290,7 @@ public class CTabFolder extends Composite {
    */
   public void setTopRight( Control control ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setTopRight( control, SWT.RIGHT );
   }
 
@@ -1295,6 +1318,7 @@ public class CTabFolder extends Composite {
    */
   public void setTopRight( Control control, int alignment ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( alignment != SWT.RIGHT && alignment != SWT.FILL ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1371,6 +1395,7 @@ public class CTabFolder extends Composite {
   @Override
   public void setFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != getFont() ) {
       super.setFont( font );
       if( !updateTabHeight( false ) ) {
@@ -1432,6 +1457,7 @@ public class CTabFolder extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1456,6 +1482,7 @@ public class CTabFolder extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1486,6 +1513,7 @@ public class CTabFolder extends Composite {
    */
   public void addCTabFolder2Listener( CTabFolder2Listener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1515,6 +1543,7 @@ public class CTabFolder extends Composite {
    */
   public void removeCTabFolder2Listener( CTabFolder2Listener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2481,6 +2510,7 @@ CTabItem[] items = itemHolder.getItems();
 
     @Override
     public void doRedraw() {
+      DirtyWidgets.markChanged( CTabFolder.this );
       setButtonBounds();
     }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TOOLTIP;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
@@ -177,6 +178,7 @@ public class CTabItem extends Item {
   @Override
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -191,6 +193,7 @@ public class CTabItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( image != getImage() ) {
       super.setImage( image );
       if( !parent.updateTabHeight( false ) ) {
@@ -220,6 +223,7 @@ public class CTabItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -285,6 +289,7 @@ public class CTabItem extends Item {
    */
   public void setControl( Control control ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( control != null ) {
       if( control.isDisposed() ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
@@ -321,6 +326,7 @@ public class CTabItem extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -369,6 +375,7 @@ public class CTabItem extends Item {
    */
   public void setShowClose( boolean close ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( parent.getStyle() & SWT.CLOSE ) == 0 && showClose != close ) {
       showClose = close;
       parent.updateItems();
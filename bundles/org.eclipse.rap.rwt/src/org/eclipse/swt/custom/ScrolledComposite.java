@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.custom;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.rap.rwt.theme.ControlThemeAdapter;
@@ -117,6 +118,7 @@ public class ScrolledComposite extends Composite {
   @Override
   public void setLayout( Layout layout ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     // ignore - ScrolledComposite manages its own layout
   }
 
@@ -158,6 +160,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setOrigin( int left, int top ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( content != null && left >= 0 && top >= 0 ) {
       int x = left;
       int y = top;
@@ -220,6 +223,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setAlwaysShowScrollBars( boolean show ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( !show != !alwaysShowScroll ) {
       alwaysShowScroll = show;
       ScrollBar hBar = getHorizontalBar();
@@ -298,6 +302,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setExpandHorizontal( boolean expand ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( expand != expandHorizontal ) {
       expandHorizontal = expand;
       // layout( false );
@@ -322,6 +327,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setExpandVertical( boolean expand ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( expand != expandVertical ) {
       expandVertical = expand;
       // layout( false );
@@ -429,6 +435,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setMinSize( int width, int height ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( width != minWidth || height != minHeight ) {
       minWidth = Math.max( 0, width );
       minHeight = Math.max( 0, height );
@@ -452,6 +459,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setContent( Control content ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.content != null && !this.content.isDisposed() ) {
       this.content.removeControlListener( contentListener );
       this.content.setBounds( new Rectangle( -200, -200, 0, 0 ) );
@@ -512,6 +520,7 @@ public class ScrolledComposite extends Composite {
    */
   public void setShowFocusedControl( boolean show ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( showFocusedControl != show ) {
       showFocusedControl = show;
       if( showFocusedControl ) {
@@ -559,6 +568,7 @@ public class ScrolledComposite extends Composite {
    */
   public void showControl( Control control ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( control == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.swt.custom;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.events.ControlEvent;
@@ -323,6 +324,7 @@ public class ViewForm extends Composite {
    */
   public void setContent( Control content ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( content != null && content.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -351,6 +353,7 @@ public class ViewForm extends Composite {
    */
   public void setLayout( Layout layout ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     return;
   }
 
@@ -381,6 +384,7 @@ public class ViewForm extends Composite {
    */
   public void setTopCenter( Control topCenter ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( topCenter != null && topCenter.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -410,6 +414,7 @@ public class ViewForm extends Composite {
    */
   public void setTopLeft( Control c ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( c != null && c.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -440,6 +445,7 @@ public class ViewForm extends Composite {
    */
   public void setTopRight( Control c ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( c != null && c.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -464,6 +470,7 @@ public class ViewForm extends Composite {
    */
   public void setBorderVisible( boolean show ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( showBorder == show )
       return;
     showBorder = show;
@@ -495,6 +502,7 @@ public class ViewForm extends Composite {
    */
   public void setTopCenterSeparate( boolean show ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     separateTopCenter = show;
     layout(false);
   }
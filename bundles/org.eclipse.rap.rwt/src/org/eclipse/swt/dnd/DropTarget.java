@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  *******************************************************************************/
 package org.eclipse.swt.dnd;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTError;
@@ -350,6 +351,7 @@ public class DropTarget extends Widget {
    *              </ul>
    */
   public void setTransfer( Transfer[] transferAgents ) {
+    DirtyWidgets.markChanged( this );
     if( transferAgents == null ) {
       DND.error( SWT.ERROR_NULL_ARGUMENT );
     }
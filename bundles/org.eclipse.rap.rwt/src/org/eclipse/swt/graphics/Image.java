@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -115,7 +115,7 @@ public class Image extends Resource implements Drawable {
     if( stream == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    internalImage = findInternalImage( stream );
+    internalImage = findInternalImage( this, stream );
   }
 
   /**
@@ -151,7 +151,7 @@ public class Image extends Resource implements Drawable {
     if( fileName == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    internalImage = findInternalImage( fileName );
+    internalImage = findInternalImage( this, fileName );
   }
 
   /**
@@ -198,6 +198,7 @@ public class Image extends Resource implements Drawable {
     switch( flag ) {
       case SWT.IMAGE_COPY:
         internalImage = srcImage.internalImage;
+        internalImage.retain( this );
       break;
       case SWT.IMAGE_DISABLE: {
         ImageData data = srcImage.getImageData();
@@ -264,7 +265,7 @@ public class Image extends Resource implements Drawable {
             offset++ ;
           }
         }
-        internalImage = findInternalImage( newData );
+        internalImage = findInternalImage( this, newData );
         break;
       }
       case SWT.IMAGE_GRAY: {
@@ -331,7 +332,7 @@ public class Image extends Resource implements Drawable {
             }
           }
         }
-        internalImage = findInternalImage( newData );
+        internalImage = findInternalImage( this, newData );
         break;
       }
       default:
@@ -363,7 +364,7 @@ public class Image extends Resource implements Drawable {
     if( imageData == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    internalImage = findInternalImage( imageData );
+    internalImage = findInternalImage( this, imageData );
   }
 
   /**
@@ -405,7 +406,7 @@ public class Image extends Resource implements Drawable {
     Color white = device.getSystemColor( SWT.COLOR_WHITE );
     PaletteData palette = new PaletteData( new RGB[] { white.getRGB() } );
     ImageData imageData = new ImageData( width, height, 8, palette );
-    internalImage = findInternalImage( imageData );
+    internalImage = findInternalImage( this, imageData );
   }
 
   /**
@@ -532,6 +533,13 @@ public class Image extends Resource implements Drawable {
     return null;
   }
 
+  @Override
+  void destroy() {
+    if( !isDisposed() ) {
+      internalImage.release( this );
+    }
+  }
+
   private void writeObject( ObjectOutputStream stream ) throws IOException {
     if( device == null ) {
       throw new NotSerializableException( getClass().getName() );
@@ -549,16 +557,16 @@ public class Image extends Resource implements Drawable {
     return (ApplicationContextImpl)adapter.getUISession().getApplicationContext();
   }
 
-  private static InternalImage findInternalImage( ImageData imageData ) {
-    return getInternalImageFactory().findInternalImage( imageData );
+  private static InternalImage findInternalImage( Image owner, ImageData imageData ) {
+    return getInternalImageFactory().findInternalImage( owner, imageData );
   }
 
-  private static InternalImage findInternalImage( InputStream stream ) {
-    return getInternalImageFactory().findInternalImage( stream );
+  private static InternalImage findInternalImage( Image owner, InputStream stream ) {
+    return getInternalImageFactory().findInternalImage( owner, stream );
   }
 
-  private static InternalImage findInternalImage( String fileName ) {
-    return getInternalImageFactory().findInternalImage( fileName );
+  private static InternalImage findInternalImage( Image owner, String fileName ) {
+    return getInternalImageFactory().findInternalImage( owner, fileName );
   }
 
   private static InternalImageFactory getInternalImageFactory() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2013 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,7 +10,6 @@
  ******************************************************************************/
 package org.eclipse.swt.graphics;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InvalidObjectException;
@@ -19,11 +18,13 @@ import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
 import org.eclipse.rap.rwt.internal.resources.ResourceUtil;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.swt.internal.graphics.InternalImageFactory;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.widgets.Display;
 
@@ -49,8 +50,11 @@ class ImageSerializer {
     public void validateObject() throws InvalidObjectException {
       PostDeserialization.addProcessor( getUISession(), new Runnable() {
         public void run() {
-          InputStream inputStream = new ByteArrayInputStream( imageBytes.data );
-          getResourceManager().register( image.internalImage.getResourceName(), inputStream );
+          // the image is cached again, hence its resource is not unregistered by an eviction
+          getInternalImageFactory().restoreInternalImage( image,
+                                                          image.internalImage,
+                                                          imageBytes.data,
+                                                          getResourceManager() );
         }
       } );
     }
@@ -94,4 +98,10 @@ class ImageSerializer {
   private ResourceManager getResourceManager() {
     return getUISession().getApplicationContext().getResourceManager();
   }
+
+  private InternalImageFactory getInternalImageFactory() {
+    ApplicationContextImpl applicationContext
+      = ( ApplicationContextImpl )getUISession().getApplicationContext();
+    return applicationContext.getInternalImageFactory();
+  }
 }
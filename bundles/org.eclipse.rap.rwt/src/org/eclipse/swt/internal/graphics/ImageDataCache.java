@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,10 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.util.HashMap;
+import static org.eclipse.rap.rwt.internal.RWTProperties.getImageDataCacheSize;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
@@ -19,19 +22,31 @@ import org.eclipse.swt.graphics.ImageData;
 
 
 /**
- * Cache for small image data, mainly for decorator images.
+ * Cache for decoded image data with a limit on the total number of bytes held. When the limit
+ * is exceeded, the least recently used image data is discarded.
  */
-final class ImageDataCache {
+public final class ImageDataCache {
 
-  /** Maximum size of image data that is being cached */
-  private static final int MAX_DATA_SIZE = 1024;
+  /** Default limit for the size of all cached image data in bytes */
+  static final int DEFAULT_MAXIMUM_SIZE = 4 * 1024 * 1024;
 
-  private final Map<InternalImage,ImageData> cache;
   private final Object cacheLock;
+  // access is guarded by 'cacheLock', iteration order is least recently used first
+  private final Map<InternalImage,ImageData> cache;
+  private final long maximumSize;
+  private long size;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
 
   ImageDataCache() {
+    this( getImageDataCacheSize( DEFAULT_MAXIMUM_SIZE ) );
+  }
+
+  ImageDataCache( long maximumSize ) {
+    this.maximumSize = maximumSize;
     cacheLock = new Object();
-    cache = new HashMap<InternalImage,ImageData>( 25 );
+    cache = new LinkedHashMap<>( 25, 0.75f, true );
   }
 
   ImageData getImageData( InternalImage internalImage ) {
@@ -39,6 +54,11 @@ final class ImageDataCache {
     ImageData cached;
     synchronized( cacheLock ) {
       cached = cache.get( internalImage );
+      if( cached == null ) {
+        missCount++;
+      } else {
+        hitCount++;
+      }
     }
     return cached != null ? ( ImageData )cached.clone() : null;
   }
@@ -46,11 +66,75 @@ final class ImageDataCache {
   void putImageData( InternalImage internalImage, ImageData imageData ) {
     ParamCheck.notNull( internalImage, "internalImage" );
     ParamCheck.notNull( imageData, "imageData" );
-    if( imageData.data.length <= MAX_DATA_SIZE ) {
+    long dataSize = getDataSize( imageData );
+    if( dataSize <= maximumSize ) {
+      ImageData copy = ( ImageData )imageData.clone();
       synchronized( cacheLock ) {
-        // TODO [rst] Implement replacement strategy (LRU or LFU)
-        cache.put( internalImage, ( ImageData )imageData.clone() );
+        ImageData replaced = cache.put( internalImage, copy );
+        if( replaced != null ) {
+          size -= getDataSize( replaced );
+        }
+        size += dataSize;
+        evict();
       }
     }
   }
+
+  /////////////
+  // statistics
+
+  public long getMaximumSize() {
+    return maximumSize;
+  }
+
+  public long getSize() {
+    synchronized( cacheLock ) {
+      return size;
+    }
+  }
+
+  public int getEntryCount() {
+    synchronized( cacheLock ) {
+      return cache.size();
+    }
+  }
+
+  public long getHitCount() {
+    synchronized( cacheLock ) {
+      return hitCount;
+    }
+  }
+
+  public long getMissCount() {
+    synchronized( cacheLock ) {
+      return missCount;
+    }
+  }
+
+  public long getEvictionCount() {
+    synchronized( cacheLock ) {
+      return evictionCount;
+    }
+  }
+
+  private void evict() {
+    Iterator<ImageData> iterator = cache.values().iterator();
+    while( size > maximumSize && iterator.hasNext() ) {
+      size -= getDataSize( iterator.next() );
+      iterator.remove();
+      evictionCount++;
+    }
+  }
+
+  static long getDataSize( ImageData imageData ) {
+    long result = imageData.data == null ? 0 : imageData.data.length;
+    if( imageData.alphaData != null ) {
+      result += imageData.alphaData.length;
+    }
+    if( imageData.maskData != null ) {
+      result += imageData.maskData.length;
+    }
+    return result;
+  }
+
 }
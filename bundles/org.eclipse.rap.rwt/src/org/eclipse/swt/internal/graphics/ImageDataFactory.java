@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,7 +21,7 @@ import org.eclipse.swt.graphics.ImageData;
 public class ImageDataFactory {
   private final ResourceManager resourceManager;
   private final ImageDataCache imageDataCache;
-  
+
   public ImageDataFactory( ResourceManager resourceManager ) {
     this.resourceManager = resourceManager;
     this.imageDataCache = new ImageDataCache();
@@ -42,6 +42,10 @@ public class ImageDataFactory {
     return result;
   }
 
+  public ImageDataCache getImageDataCache() {
+    return imageDataCache;
+  }
+
   private ImageData createImageData( InternalImage internalImage ) {
     ImageData result = null;
     String imagePath = internalImage.getResourceName();
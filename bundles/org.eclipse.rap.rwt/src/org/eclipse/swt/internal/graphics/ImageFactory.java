@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -81,7 +81,8 @@ public class ImageFactory {
 
   public Image createImage( Device device, String key, InputStream inputStream ) {
     InternalImageFactory internalImageFactory = getApplicationContext().getInternalImageFactory();
-    InternalImage internalImage = internalImageFactory.findInternalImage( key, inputStream );
+    // shared images are cached for the lifetime of the application, so is this factory
+    InternalImage internalImage = internalImageFactory.findInternalImage( this, key, inputStream );
     return createImageInstance( device, internalImage );
   }
 
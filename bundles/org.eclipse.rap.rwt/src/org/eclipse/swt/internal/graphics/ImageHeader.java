@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import java.util.zip.CRC32;
+
+import org.eclipse.swt.SWT;
+
+
+/**
+ * The format and dimensions of an encoded image, read from the file header without decoding
+ * the pixels. Supports PNG, GIF, JPEG and BMP. For GIF images, the dimensions of the first
+ * frame are read, as this is what <code>ImageData</code> reports.
+ * <p>
+ * The structure of the whole file is checked as well, so that truncated or corrupt images are
+ * not mistaken for valid ones: PNG chunks must be complete and match their checksums, GIF blocks
+ * must be complete up to the trailer, JPEG segments must be complete up to the scan and the image
+ * must end with an end-of-image marker, and uncompressed BMP pixel data must be complete. The
+ * compressed pixel data itself is not checked.
+ * </p>
+ */
+final class ImageHeader {
+
+  private static final byte[] PNG_SIGNATURE = {
+    ( byte )0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+  };
+
+  final int type;
+  final int width;
+  final int height;
+
+  ImageHeader( int type, int width, int height ) {
+    this.type = type;
+    this.width = width;
+    this.height = height;
+  }
+
+  /**
+   * Returns the header of the given image or <code>null</code> if the format is not supported
+   * or the file is incomplete or corrupt.
+   */
+  static ImageHeader read( byte[] bytes ) {
+    ImageHeader result = null;
+    if( startsWith( bytes, PNG_SIGNATURE ) ) {
+      result = readPNG( bytes );
+    } else if( startsWith( bytes, new byte[] { 'G', 'I', 'F', '8' } ) ) {
+      result = readGIF( bytes );
+    } else if( startsWith( bytes, new byte[] { ( byte )0xFF, ( byte )0xD8 } ) ) {
+      result = readJPEG( bytes );
+    } else if( startsWith( bytes, new byte[] { 'B', 'M' } ) ) {
+      result = readBMP( bytes );
+    }
+    if( result != null && ( result.width <= 0 || result.height <= 0 ) ) {
+      result = null;
+    }
+    return result;
+  }
+
+  private static ImageHeader readPNG( byte[] bytes ) {
+    // the IHDR chunk is the first chunk after the signature
+    if(    bytes.length < 24
+        || !matches( bytes, 12, new byte[] { 'I', 'H', 'D', 'R' } )
+        || !checkPNGChunks( bytes ) )
+    {
+      return null;
+    }
+    return new ImageHeader( SWT.IMAGE_PNG, readIntBE( bytes, 16 ), readIntBE( bytes, 20 ) );
+  }
+
+  private static boolean checkPNGChunks( byte[] bytes ) {
+    boolean hasData = false;
+    int offset = PNG_SIGNATURE.length;
+    // chunk: length, type, data, checksum of type and data
+    while( offset + 12 <= bytes.length ) {
+      int length = readIntBE( bytes, offset );
+      if( length < 0 || length > bytes.length - offset - 12 ) {
+        return false;
+      }
+      CRC32 crc = new CRC32();
+      crc.update( bytes, offset + 4, length + 4 );
+      if( crc.getValue() != ( readIntBE( bytes, offset + 8 + length ) & 0xFFFFFFFFL ) ) {
+        return false;
+      }
+      if( matches( bytes, offset + 4, new byte[] { 'I', 'D', 'A', 'T' } ) ) {
+        hasData = true;
+      } else if( matches( bytes, offset + 4, new byte[] { 'I', 'E', 'N', 'D' } ) ) {
+        return hasData;
+      }
+      offset += 12 + length;
+    }
+    return false;
+  }
+
+  private static ImageHeader readGIF( byte[] bytes ) {
+    if( bytes.length < 13 ) {
+      return null;
+    }
+    int packed = bytes[ 10 ] & 0xFF;
+    int offset = 13;
+    if( ( packed & 0x80 ) != 0 ) {
+      // skip global color table
+      offset += 3 * ( 1 << ( ( packed & 0x07 ) + 1 ) );
+    }
+    ImageHeader result = null;
+    while( offset < bytes.length ) {
+      int blockType = bytes[ offset ] & 0xFF;
+      if( blockType == 0x2C ) {
+        // image descriptor: separator, left, top, width, height, packed fields
+        if( offset + 11 > bytes.length ) {
+          return null;
+        }
+        if( result == null ) {
+          int width = readShortLE( bytes, offset + 5 );
+          int height = readShortLE( bytes, offset + 7 );
+          result = new ImageHeader( SWT.IMAGE_GIF, width, height );
+        }
+        int imagePacked = bytes[ offset + 9 ] & 0xFF;
+        offset += 10;
+        if( ( imagePacked & 0x80 ) != 0 ) {
+          // skip local color table
+          offset += 3 * ( 1 << ( ( imagePacked & 0x07 ) + 1 ) );
+        }
+        // skip LZW minimum code size and image data sub-blocks
+        offset = skipGIFSubBlocks( bytes, offset + 1 );
+      } else if( blockType == 0x21 ) {
+        // extension: introducer, label, data sub-blocks terminated by a zero length block
+        offset = skipGIFSubBlocks( bytes, offset + 2 );
+      } else if( blockType == 0x3B ) {
+        // trailer
+        return result;
+      } else {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  private static int skipGIFSubBlocks( byte[] bytes, int offset ) {
+    int result = offset;
+    while( result < bytes.length && bytes[ result ] != 0 ) {
+      result += ( bytes[ result ] & 0xFF ) + 1;
+    }
+    // a missing terminator moves the offset past the end
+    return result + 1;
+  }
+
+  private static ImageHeader readJPEG( byte[] bytes ) {
+    ImageHeader result = null;
+    int offset = 2;
+    while( offset + 3 < bytes.length ) {
+      if( bytes[ offset ] != ( byte )0xFF ) {
+        return null;
+      }
+      int marker = bytes[ offset + 1 ] & 0xFF;
+      if( marker == 0xFF ) {
+        // fill byte
+        offset++;
+      } else if( marker == 0x01 || marker >= 0xD0 && marker <= 0xD8 ) {
+        // markers without a segment
+        offset += 2;
+      } else if( marker == 0xD9 ) {
+        // end of image before any scan
+        return null;
+      } else if( marker == 0xDA ) {
+        // start of scan, the entropy-coded data is followed by the end-of-image marker
+        int segmentEnd = offset + 2 + readShortBE( bytes, offset + 2 );
+        return segmentEnd <= bytes.length - 2 && endsWithEndOfImage( bytes ) ? result : null;
+      } else if( isStartOfFrame( marker ) ) {
+        if( offset + 9 > bytes.length ) {
+          return null;
+        }
+        if( result == null ) {
+          int height = readShortBE( bytes, offset + 5 );
+          int width = readShortBE( bytes, offset + 7 );
+          result = new ImageHeader( SWT.IMAGE_JPEG, width, height );
+        }
+        offset += 2 + readShortBE( bytes, offset + 2 );
+      } else {
+        offset += 2 + readShortBE( bytes, offset + 2 );
+      }
+    }
+    return null;
+  }
+
+  private static boolean endsWithEndOfImage( byte[] bytes ) {
+    int length = bytes.length;
+    return bytes[ length - 2 ] == ( byte )0xFF && bytes[ length - 1 ] == ( byte )0xD9;
+  }
+
+  private static boolean isStartOfFrame( int marker ) {
+    // SOF0 to SOF15, except for DHT, JPG and DAC which share the range
+    return    marker >= 0xC0
+           && marker <= 0xCF
+           && marker != 0xC4
+           && marker != 0xC8
+           && marker != 0xCC;
+  }
+
+  private static ImageHeader readBMP( byte[] bytes ) {
+    if( bytes.length < 26 ) {
+      return null;
+    }
+    int headerSize = readIntLE( bytes, 14 );
+    int width;
+    int height;
+    int bitCount;
+    if( headerSize == 12 ) {
+      // OS/2 bitmap core header
+      width = readShortLE( bytes, 18 );
+      height = readShortLE( bytes, 20 );
+      bitCount = readShortLE( bytes, 24 );
+    } else {
+      if( bytes.length < 34 ) {
+        return null;
+      }
+      width = readIntLE( bytes, 18 );
+      // a negative height denotes a top-down bitmap
+      height = Math.abs( readIntLE( bytes, 22 ) );
+      bitCount = readShortLE( bytes, 28 );
+      int compression = readIntLE( bytes, 30 );
+      // only uncompressed (BI_RGB) and bit field (BI_BITFIELDS) pixel data is checked
+      if( compression != 0 && compression != 3 ) {
+        return null;
+      }
+    }
+    // rows are padded to multiples of four bytes
+    long rowSize = ( ( long )bitCount * width + 31 ) / 32 * 4;
+    long pixelDataEnd = ( readIntLE( bytes, 10 ) & 0xFFFFFFFFL ) + rowSize * height;
+    if( width <= 0 || pixelDataEnd > bytes.length ) {
+      return null;
+    }
+    return new ImageHeader( SWT.IMAGE_BMP, width, height );
+  }
+
+  private static boolean startsWith( byte[] bytes, byte[] prefix ) {
+    return bytes.length >= prefix.length && matches( bytes, 0, prefix );
+  }
+
+  private static boolean matches( byte[] bytes, int offset, byte[] expected ) {
+    for( int i = 0; i < expected.length; i++ ) {
+      if( bytes[ offset + i ] != expected[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int readIntBE( byte[] bytes, int offset ) {
+    return   ( bytes[ offset ] & 0xFF ) << 24
+           | ( bytes[ offset + 1 ] & 0xFF ) << 16
+           | ( bytes[ offset + 2 ] & 0xFF ) << 8
+           | bytes[ offset + 3 ] & 0xFF;
+  }
+
+  private static int readIntLE( byte[] bytes, int offset ) {
+    return   ( bytes[ offset + 3 ] & 0xFF ) << 24
+           | ( bytes[ offset + 2 ] & 0xFF ) << 16
+           | ( bytes[ offset + 1 ] & 0xFF ) << 8
+           | bytes[ offset ] & 0xFF;
+  }
+
+  private static int readShortBE( byte[] bytes, int offset ) {
+    return ( bytes[ offset ] & 0xFF ) << 8 | bytes[ offset + 1 ] & 0xFF;
+  }
+
+  private static int readShortLE( byte[] bytes, int offset ) {
+    return ( bytes[ offset + 1 ] & 0xFF ) << 8 | bytes[ offset ] & 0xFF;
+  }
+
+}
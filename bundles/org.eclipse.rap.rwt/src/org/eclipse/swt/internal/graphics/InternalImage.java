@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,11 @@ package org.eclipse.swt.internal.graphics;
 
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.Rectangle;
@@ -27,6 +32,9 @@ public final class InternalImage implements SerializableCompatibility {
   private final int width;
   private final int height;
   private final boolean external;
+  // the owners are referenced weakly, an owner that is garbage collected without releasing the
+  // image, e.g. an Image that was never disposed, does not keep the image referenced
+  private transient List<WeakReference<Object>> owners;
 
   InternalImage( String resourceName, int width, int height, boolean external ) {
     ParamCheck.notNull( resourceName, "resourceName" );
@@ -55,4 +63,46 @@ public final class InternalImage implements SerializableCompatibility {
     return external;
   }
 
+  /**
+   * Marks this image as being used by the given owner, usually an <code>Image</code>. Referenced
+   * images are not evicted from the <code>InternalImageFactory</code>. The owner is held weakly,
+   * the image is no longer referenced by an owner that has been garbage collected.
+   */
+  public synchronized void retain( Object owner ) {
+    ParamCheck.notNull( owner, "owner" );
+    if( owners == null ) {
+      owners = new ArrayList<>( 1 );
+    }
+    owners.add( new WeakReference<>( owner ) );
+  }
+
+  public synchronized void release( Object owner ) {
+    if( owners != null ) {
+      Iterator<WeakReference<Object>> iterator = owners.iterator();
+      while( iterator.hasNext() ) {
+        Object current = iterator.next().get();
+        if( current == null || current == owner ) {
+          iterator.remove();
+          if( current == owner ) {
+            break;
+          }
+        }
+      }
+    }
+  }
+
+  public synchronized boolean isReferenced() {
+    if( owners != null ) {
+      Iterator<WeakReference<Object>> iterator = owners.iterator();
+      while( iterator.hasNext() ) {
+        if( iterator.next().get() == null ) {
+          iterator.remove();
+        } else {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2023 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,17 +11,22 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.io.BufferedInputStream;
+import static org.eclipse.rap.rwt.internal.RWTProperties.getImageCacheSize;
+
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 import org.eclipse.rap.rwt.RWT;
-import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
-import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.ImageData;
@@ -29,121 +34,297 @@ import org.eclipse.swt.graphics.ImageLoader;
 import org.eclipse.swt.graphics.RGB;
 
 
+/**
+ * Creates and registers the resources for images and caches them by key.
+ * <p>
+ * The size of the registered resources is limited. When the limit is exceeded, the least
+ * recently used images that are not referenced by an <code>Image</code> are removed from the
+ * cache and their resources are unregistered. The <code>findInternalImage</code> methods
+ * reference the returned image on behalf of the given owner, which should release it when it is
+ * no longer used. Owners are held weakly, hence an image whose owners have all been garbage
+ * collected without releasing it, e.g. <code>Image</code>s that were never disposed, can be
+ * evicted as well.
+ * </p>
+ */
 public class InternalImageFactory {
 
-  private final SharedInstanceBuffer<String, InternalImage> cache;
+  /** Default limit for the size of all registered image resources in bytes */
+  static final int DEFAULT_MAXIMUM_SIZE = 64 * 1024 * 1024;
+
+  private final Object lock;
+  // access to the fields below is guarded by 'lock'
+  // iteration order is least recently used first
+  private final Map<String,Entry> cache;
+  // number of cache entries per resource name, an image may be cached under more than one key
+  private final Map<String,Integer> resourceUsages;
+  private final long maximumSize;
+  private long size;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
 
   public InternalImageFactory() {
-    cache = new SharedInstanceBuffer<String, InternalImage>();
+    this( getImageCacheSize( DEFAULT_MAXIMUM_SIZE ) );
+  }
+
+  InternalImageFactory( long maximumSize ) {
+    this.maximumSize = maximumSize;
+    lock = new Object();
+    cache = new LinkedHashMap<>( 16, 0.75f, true );
+    resourceUsages = new HashMap<>();
   }
 
-  public InternalImage findInternalImage( final String fileName ) {
-    return cache.get( fileName, new InstanceCreator<String, InternalImage>() {
+  public InternalImage findInternalImage( Object owner, String fileName ) {
+    return get( owner, fileName, new EntryCreator() {
       @Override
-      public InternalImage createInstance( String fileName ) {
-        return createInternalImage( fileName );
+      public Entry create( String fileName ) {
+        return createEntry( fileName );
       }
     } );
   }
 
-  public InternalImage findInternalImage( InputStream stream ) {
-    final BufferedInputStream bufferedStream = new BufferedInputStream( stream );
-    final ImageData imageData = readImageData( bufferedStream );
-    final String path = createGeneratedImagePath( imageData );
-    return cache.get( path, new InstanceCreator<String, InternalImage>() {
+  public InternalImage findInternalImage( Object owner, InputStream stream ) {
+    final EncodedImage encodedImage = readEncodedImage( stream );
+    return get( owner, encodedImage.path, new EntryCreator() {
       @Override
-      public InternalImage createInstance( String path ) {
-        return createInternalImage( path, bufferedStream, imageData );
+      public Entry create( String path ) {
+        return createEntry( encodedImage );
       }
     } );
   }
 
-  public InternalImage findInternalImage( final ImageData imageData ) {
+  public InternalImage findInternalImage( Object owner, final ImageData imageData ) {
     final String path = createGeneratedImagePath( imageData );
-    return cache.get( path, new InstanceCreator<String, InternalImage>() {
+    return get( owner, path, new EntryCreator() {
       @Override
-      public InternalImage createInstance( String path ) {
-        InputStream stream = createInputStream( imageData );
-        return createInternalImage( path, stream, imageData );
+      public Entry create( String path ) {
+        // the image is encoded only if it is not yet registered
+        byte[] bytes = encode( imageData );
+        return createEntry( path, bytes, imageData.width, imageData.height );
       }
     } );
   }
 
-  InternalImage findInternalImage( String key, final InputStream inputStream ) {
-    return cache.get( key, new InstanceCreator<String, InternalImage>() {
+  InternalImage findInternalImage( Object owner, String key, final InputStream inputStream ) {
+    return get( owner, key, new EntryCreator() {
       @Override
-      public InternalImage createInstance( String key ) {
-        BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-        ImageData imageData = readImageData( bufferedStream );
-        String path = createGeneratedImagePath( imageData );
-        return createInternalImage( path, bufferedStream, imageData );
+      public Entry create( String key ) {
+        return createEntry( readEncodedImage( inputStream ) );
       }
     } );
   }
 
+  /**
+   * Adds an image that was deserialized with its owner to the cache and registers its resource
+   * unless it is registered already. If an image with the same resource is cached, that image is
+   * referenced on behalf of the owner instead. Either way, the resource is not unregistered by
+   * an eviction while the owner uses it.
+   * <p>
+   * As this method is called after deserialization, when there may be no current application
+   * context, the resource manager must be given explicitly and no images are evicted.
+   * </p>
+   */
+  public void restoreInternalImage( Object owner,
+                                    InternalImage image,
+                                    byte[] bytes,
+                                    ResourceManager resourceManager )
+  {
+    String resourceName = image.getResourceName();
+    synchronized( lock ) {
+      Entry entry = cache.get( resourceName );
+      if( entry == null ) {
+        if( !resourceManager.isRegistered( resourceName ) ) {
+          resourceManager.register( resourceName, new ByteArrayInputStream( bytes ) );
+        }
+        entry = new Entry( image, bytes.length );
+        cache.put( resourceName, entry );
+        addResourceUsage( resourceName );
+        size += entry.size;
+      }
+      entry.image.retain( owner );
+    }
+  }
+
   public void destroyInternalImage( String key ) {
-    InternalImage internalImage = cache.remove( key );
-    RWT.getResourceManager().unregister( internalImage.getResourceName() );
-  }
-
-  static ImageData readImageData( InputStream stream ) throws SWTException {
-    ////////////////////////////////////////////////////////////////////////////
-    // TODO: [fappel] Image size calculation and resource registration both
-    //                read the input stream. Because of this I use a workaround
-    //                with a BufferedInputStream. Resetting it after reading the
-    //                image size enables the ResourceManager to reuse it for
-    //                registration. Note that the order is crucial here, since
-    //                the ResourceManager seems to close the stream (shrug).
-    //                It would be nice to find a solution without reading the
-    //                stream twice.
-    stream.mark( Integer.MAX_VALUE );
-    ImageData result = new ImageData( stream );
-    try {
-      stream.reset();
-    } catch( IOException shouldNotHappen ) {
-      String msg = "Could not reset input stream after reading image";
-      throw new RuntimeException( msg, shouldNotHappen );
+    synchronized( lock ) {
+      Entry entry = cache.remove( key );
+      if( entry != null ) {
+        removeEntry( entry );
+      }
+    }
+  }
+
+  /////////////
+  // statistics
+
+  public long getMaximumSize() {
+    return maximumSize;
+  }
+
+  public long getSize() {
+    synchronized( lock ) {
+      return size;
+    }
+  }
+
+  public int getEntryCount() {
+    synchronized( lock ) {
+      return cache.size();
+    }
+  }
+
+  public long getHitCount() {
+    synchronized( lock ) {
+      return hitCount;
+    }
+  }
+
+  public long getMissCount() {
+    synchronized( lock ) {
+      return missCount;
+    }
+  }
+
+  public long getEvictionCount() {
+    synchronized( lock ) {
+      return evictionCount;
+    }
+  }
+
+  ////////////////
+  // cache access
+
+  private InternalImage get( Object owner, String key, EntryCreator creator ) {
+    synchronized( lock ) {
+      Entry entry = cache.get( key );
+      if( entry == null ) {
+        missCount++;
+        entry = creator.create( key );
+        cache.put( key, entry );
+        addResourceUsage( entry.image.getResourceName() );
+        size += entry.size;
+        entry.image.retain( owner );
+        evict();
+      } else {
+        hitCount++;
+        entry.image.retain( owner );
+      }
+      return entry.image;
+    }
+  }
+
+  private void evict() {
+    Iterator<Entry> iterator = cache.values().iterator();
+    while( size > maximumSize && iterator.hasNext() ) {
+      Entry entry = iterator.next();
+      if( !entry.image.isReferenced() ) {
+        iterator.remove();
+        removeEntry( entry );
+        evictionCount++;
+      }
     }
-    return result;
+  }
+
+  private void removeEntry( Entry entry ) {
+    size -= entry.size;
+    String resourceName = entry.image.getResourceName();
+    if( removeResourceUsage( resourceName ) ) {
+      RWT.getResourceManager().unregister( resourceName );
+    }
+  }
+
+  private void addResourceUsage( String resourceName ) {
+    Integer usages = resourceUsages.get( resourceName );
+    int newUsages = usages == null ? 1 : usages.intValue() + 1;
+    resourceUsages.put( resourceName, Integer.valueOf( newUsages ) );
+  }
+
+  private boolean removeResourceUsage( String resourceName ) {
+    int usages = resourceUsages.get( resourceName ).intValue() - 1;
+    if( usages == 0 ) {
+      resourceUsages.remove( resourceName );
+      return true;
+    }
+    resourceUsages.put( resourceName, Integer.valueOf( usages ) );
+    return false;
   }
 
   static InputStream createInputStream( ImageData imageData ) {
+    return new ByteArrayInputStream( encode( imageData ) );
+  }
+
+  /*
+   * Reads the stream once into memory while computing the checksum for the resource name.
+   * Only the header is parsed to obtain the image size and the structure of the file is checked,
+   * the pixels are decoded lazily by the ImageDataFactory when requested. Unknown formats and
+   * files that fail the check are decoded, which throws an SWTException for invalid images.
+   * The resource name depends on the checksum, hence the bytes cannot be streamed into the
+   * resource manager while reading and are copied once more when the resource is registered.
+   */
+  static EncodedImage readEncodedImage( InputStream stream ) {
+    if( stream == null ) {
+      // e.g. a resource that could not be found by the class loader
+      throw new SWTException( SWT.ERROR_IO, "Stream is null" );
+    }
+    CRC32 crc32 = new CRC32();
+    byte[] bytes = readBytes( new CheckedInputStream( stream, crc32 ) );
+    ImageHeader header = ImageHeader.read( bytes );
+    if( header == null ) {
+      ImageData imageData = new ImageData( new ByteArrayInputStream( bytes ) );
+      header = new ImageHeader( getOutputFormat( imageData ), imageData.width, imageData.height );
+    }
+    String hash = Long.toHexString( crc32.getValue() );
+    String path = "generated/" + hash + getExtension( header.type );
+    return new EncodedImage( path, bytes, header );
+  }
+
+  private static byte[] readBytes( InputStream stream ) {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 8192 ];
+    try {
+      int read = stream.read( buffer );
+      while( read != -1 ) {
+        outputStream.write( buffer, 0, read );
+        read = stream.read( buffer );
+      }
+    } catch( IOException ioe ) {
+      throw new SWTException( SWT.ERROR_IO, ioe.getMessage() );
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static byte[] encode( ImageData imageData ) {
     ImageLoader imageLoader = new ImageLoader();
     ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
     imageLoader.data = new ImageData[] { imageData };
     imageLoader.save( outputStream, getOutputFormat( imageData ) );
-    byte[] bytes = outputStream.toByteArray();
-    return new ByteArrayInputStream( bytes );
+    return outputStream.toByteArray();
   }
 
-  private static InternalImage createInternalImage( String fileName ) {
-    InternalImage result;
+  private static Entry createEntry( String fileName ) {
+    EncodedImage encodedImage;
     try {
       FileInputStream stream = new FileInputStream( fileName );
       try {
-        result = createInternalImage( stream );
+        encodedImage = readEncodedImage( stream );
       } finally {
         stream.close();
       }
     } catch( IOException ioe ) {
       throw new SWTException( SWT.ERROR_IO, ioe.getMessage() );
     }
-    return result;
+    return createEntry( encodedImage );
   }
 
-  private static InternalImage createInternalImage( InputStream stream ) {
-    InputStream bufferedStream = new BufferedInputStream( stream );
-    ImageData imageData = readImageData( bufferedStream );
-    String path = createGeneratedImagePath( imageData );
-    return createInternalImage( path, bufferedStream, imageData );
+  private static Entry createEntry( EncodedImage encodedImage ) {
+    ImageHeader header = encodedImage.header;
+    return createEntry( encodedImage.path, encodedImage.bytes, header.width, header.height );
   }
 
-  private static InternalImage createInternalImage( String path,
-                                                    InputStream stream,
-                                                    ImageData imageData )
-  {
-    RWT.getResourceManager().register( path, stream );
-    return new InternalImage( path, imageData.width, imageData.height, false );
+  private static Entry createEntry( String path, byte[] bytes, int width, int height ) {
+    RWT.getResourceManager().register( path, new ByteArrayInputStream( bytes ) );
+    InternalImage image = new InternalImage( path, width, height, false );
+    return new Entry( image, bytes.length );
   }
 
   private static int getOutputFormat( ImageData imageData ) {
@@ -155,9 +336,12 @@ public class InternalImageFactory {
   }
 
   private static String createGeneratedImagePath( ImageData data ) {
-    int outputFormat = getOutputFormat( data );
+    return "generated/" + getHash( data ) + getExtension( getOutputFormat( data ) );
+  }
+
+  private static String getExtension( int type ) {
     String extension;
-    switch( outputFormat ) {
+    switch( type ) {
       case SWT.IMAGE_BMP:
       case SWT.IMAGE_BMP_RLE:
         extension = ".bmp";
@@ -179,8 +363,7 @@ public class InternalImageFactory {
         extension = ".png";
         break;
     }
-    String hash = getHash( data ) + extension;
-    return "generated/" + hash;
+    return extension;
   }
 
   /*
@@ -237,4 +420,33 @@ public class InternalImageFactory {
     crc32.update( imageData.disposalMethod );
     return Long.toHexString( crc32.getValue() );
   }
+
+  private static final class Entry {
+
+    final InternalImage image;
+    final long size;
+
+    Entry( InternalImage image, long size ) {
+      this.image = image;
+      this.size = size;
+    }
+  }
+
+  static final class EncodedImage {
+
+    final String path;
+    final byte[] bytes;
+    final ImageHeader header;
+
+    EncodedImage( String path, byte[] bytes, ImageHeader header ) {
+      this.path = path;
+      this.bytes = bytes;
+      this.header = header;
+    }
+  }
+
+  private interface EntryCreator {
+    Entry create( String key );
+  }
+
 }
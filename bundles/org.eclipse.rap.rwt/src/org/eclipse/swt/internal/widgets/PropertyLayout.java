@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+
+/**
+ * Assigns the names of preserved properties to slot indexes. A layout is shared by the remote
+ * adapters of all widgets of the same type, which preserve the same properties in every request.
+ * Properties are added when they are preserved for the first time, hence the LCAs don't have to
+ * declare them.
+ * <p>
+ * Layouts are shared across sessions. Lookups do not lock, adding a property replaces the
+ * internal table.
+ * </p>
+ */
+final class PropertyLayout {
+
+  private static final ClassValue<PropertyLayout> LAYOUTS = new ClassValue<PropertyLayout>() {
+    @Override
+    protected PropertyLayout computeValue( Class<?> type ) {
+      return new PropertyLayout();
+    }
+  };
+
+  private volatile Table table;
+
+  PropertyLayout() {
+    table = new Table( 16, 0 );
+  }
+
+  static PropertyLayout forType( Class<?> type ) {
+    return LAYOUTS.get( type );
+  }
+
+  int size() {
+    return table.size;
+  }
+
+  /**
+   * @return the slot of the given property or -1 if the property is not part of this layout
+   */
+  int getSlot( String propertyName ) {
+    return table.get( propertyName );
+  }
+
+  int getOrAddSlot( String propertyName ) {
+    int slot = table.get( propertyName );
+    return slot == -1 ? addSlot( propertyName ) : slot;
+  }
+
+  private synchronized int addSlot( String propertyName ) {
+    int slot = table.get( propertyName );
+    if( slot == -1 ) {
+      Table oldTable = table;
+      slot = oldTable.size;
+      int length = oldTable.names.length;
+      Table newTable = new Table( ( slot + 1 ) * 2 > length ? length * 2 : length, slot + 1 );
+      for( int i = 0; i < length; i++ ) {
+        if( oldTable.names[ i ] != null ) {
+          newTable.put( oldTable.names[ i ], oldTable.slots[ i ] );
+        }
+      }
+      newTable.put( propertyName, slot );
+      table = newTable;
+    }
+    return slot;
+  }
+
+  // open addressing hash table, not modified once it has been published
+  private static final class Table {
+
+    final String[] names;
+    final int[] slots;
+    final int size;
+
+    Table( int length, int size ) {
+      names = new String[ length ];
+      slots = new int[ length ];
+      this.size = size;
+    }
+
+    int get( String name ) {
+      int mask = names.length - 1;
+      for( int i = name.hashCode() & mask; names[ i ] != null; i = ( i + 1 ) & mask ) {
+        // property names are usually constants, try identity first
+        if( names[ i ] == name || names[ i ].equals( name ) ) {
+          return slots[ i ];
+        }
+      }
+      return -1;
+    }
+
+    void put( String name, int slot ) {
+      int mask = names.length - 1;
+      int i = name.hashCode() & mask;
+      while( names[ i ] != null ) {
+        i = ( i + 1 ) & mask;
+      }
+      names[ i ] = name;
+      slots[ i ] = slot;
+    }
+
+  }
+
+}
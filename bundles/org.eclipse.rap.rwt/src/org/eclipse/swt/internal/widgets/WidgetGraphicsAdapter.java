@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2011 EclipseSource and others. All rights reserved.
+ * Copyright (c) 2009, 2026 EclipseSource and others. All rights reserved.
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v1.0 which accompanies this distribution,
  * and is available at http://www.eclipse.org/legal/epl-v10.html
@@ -9,15 +9,18 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.widgets.Widget;
 
 public final class WidgetGraphicsAdapter 
   implements IWidgetGraphicsAdapter, SerializableCompatibility 
 {
-  
+
+  private final Widget widget;
   private int roundedBorderWidth;
   private Color roundedBorderColor;
   private Rectangle roundedBorderRadius;
@@ -25,6 +28,14 @@ public final class WidgetGraphicsAdapter
   private int[] backgroundGradientPercents;
   private boolean backgroundGradientVertical;
 
+  public WidgetGraphicsAdapter() {
+    this( null );
+  }
+
+  public WidgetGraphicsAdapter( Widget widget ) {
+    this.widget = widget;
+  }
+
   public Color[] getBackgroundGradientColors() {
     Color[] result = null;
     if( backgroundGradientColors != null ) {
@@ -46,6 +57,7 @@ public final class WidgetGraphicsAdapter
   }
 
   public void setBackgroundGradient( Color[] gradientColors, int[] percents, boolean vertical ) {
+    markChanged();
     if( gradientColors != null && percents != null ) {
       if( gradientColors.length != percents.length ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
@@ -94,6 +106,7 @@ public final class WidgetGraphicsAdapter
                                 int topRightRadius,
                                 int bottomRightRadius,
                                 int bottomLeftRadius ) {
+    markChanged();
     roundedBorderWidth = width;
     roundedBorderColor = color;
     roundedBorderRadius = new Rectangle( topLeftRadius,
@@ -101,4 +114,11 @@ public final class WidgetGraphicsAdapter
                                          bottomRightRadius,
                                          bottomLeftRadius );
   }
+
+  private void markChanged() {
+    if( widget != null ) {
+      DirtyWidgets.markChanged( widget );
+    }
+  }
+
 }
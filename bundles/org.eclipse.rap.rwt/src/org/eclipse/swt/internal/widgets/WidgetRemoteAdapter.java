@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,8 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
@@ -28,24 +27,45 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   private static final int DATA = 1;
   private static final int LISTENERS = 2;
   private static final int VARIANT = 3;
+  // the kinds of preserved values
+  private static final byte NONE = 0;
+  private static final byte OBJECT = 1;
+  private static final byte INT = 2;
+  private static final byte BOOLEAN = 3;
 
   private final String id;
+  private final Class<?> type;
   private Widget parent;
   private boolean initialized;
+  private transient boolean dirty;
   private transient int preserved;
-  private transient Map<String, Object> preservedValues;
+  // preserved values are stored in the slots of the layout shared by all widgets of this type
+  private transient PropertyLayout layout;
+  private transient byte[] preservedKinds;
+  private transient Object[] preservedObjects;
+  private transient int[] preservedPrimitives;
+  private transient boolean hasPreservedValues;
   private transient long preservedListeners;
   private transient Runnable[] renderRunnables;
   private transient Object[] data;
   private transient String variant;
 
   public WidgetRemoteAdapter( String id ) {
+    this( id, Widget.class );
+  }
+
+  /**
+   * @param type the type of the widget, adapters of the same type share the layout of their
+   *          preserved values
+   */
+  public WidgetRemoteAdapter( String id, Class<?> type ) {
     this.id = id;
+    this.type = type;
     initialize();
   }
 
   void initialize() {
-    preservedValues = new HashMap<>();
+    layout = PropertyLayout.forType( type );
   }
 
   @Override
@@ -71,14 +91,83 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     this.initialized = initialized;
   }
 
+  public boolean isDirty() {
+    return dirty;
+  }
+
+  public void setDirty( boolean dirty ) {
+    this.dirty = dirty;
+  }
+
   @Override
   public void preserve( String propertyName, Object value ) {
-    preservedValues.put( propertyName, value );
+    int slot = getOrAddSlot( propertyName );
+    preservedKinds[ slot ] = OBJECT;
+    preservedObjects[ slot ] = value;
+  }
+
+  public void preserve( String propertyName, int value ) {
+    int slot = getOrAddSlot( propertyName );
+    preservedKinds[ slot ] = INT;
+    preservedObjects[ slot ] = null;
+    preservedPrimitives[ slot ] = value;
+  }
+
+  public void preserve( String propertyName, boolean value ) {
+    int slot = getOrAddSlot( propertyName );
+    preservedKinds[ slot ] = BOOLEAN;
+    preservedObjects[ slot ] = null;
+    preservedPrimitives[ slot ] = value ? 1 : 0;
   }
 
   @Override
   public Object getPreserved( String propertyName ) {
-    return preservedValues.get( propertyName );
+    int slot = getSlot( propertyName );
+    if( slot != -1 ) {
+      switch( preservedKinds[ slot ] ) {
+        case OBJECT:
+          return preservedObjects[ slot ];
+        case INT:
+          return Integer.valueOf( preservedPrimitives[ slot ] );
+        case BOOLEAN:
+          return Boolean.valueOf( preservedPrimitives[ slot ] != 0 );
+        default:
+          return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns whether the given value has been preserved for the given property, without boxing it.
+   */
+  public boolean isPreserved( String propertyName, int value ) {
+    int slot = getSlot( propertyName );
+    if( slot != -1 ) {
+      if( preservedKinds[ slot ] == INT ) {
+        return preservedPrimitives[ slot ] == value;
+      }
+      if( preservedKinds[ slot ] == OBJECT && preservedObjects[ slot ] instanceof Integer ) {
+        return ( ( Integer )preservedObjects[ slot ] ).intValue() == value;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether the given value has been preserved for the given property, without boxing it.
+   */
+  public boolean isPreserved( String propertyName, boolean value ) {
+    int slot = getSlot( propertyName );
+    if( slot != -1 ) {
+      if( preservedKinds[ slot ] == BOOLEAN ) {
+        return ( preservedPrimitives[ slot ] != 0 ) == value;
+      }
+      if( preservedKinds[ slot ] == OBJECT && preservedObjects[ slot ] instanceof Boolean ) {
+        return ( ( Boolean )preservedObjects[ slot ] ).booleanValue() == value;
+      }
+    }
+    return false;
   }
 
   public void preserveListeners( long eventList ) {
@@ -122,7 +211,12 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   public void clearPreserved() {
     preserved = 0;
-    preservedValues.clear();
+    if( hasPreservedValues ) {
+      // keep the slots for the next request
+      Arrays.fill( preservedKinds, NONE );
+      Arrays.fill( preservedObjects, null );
+      hasPreservedValues = false;
+    }
     preservedListeners = 0;
     data = null;
     variant = null;
@@ -136,6 +230,30 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     return ( preserved & ( 1 << index ) ) != 0;
   }
 
+  private int getSlot( String propertyName ) {
+    int slot = layout.getSlot( propertyName );
+    // the layout may have grown since the slots of this adapter have been created
+    return preservedKinds == null || slot >= preservedKinds.length ? -1 : slot;
+  }
+
+  private int getOrAddSlot( String propertyName ) {
+    int slot = layout.getOrAddSlot( propertyName );
+    if( preservedKinds == null || slot >= preservedKinds.length ) {
+      int length = Math.max( slot + 1, layout.size() );
+      if( preservedKinds == null ) {
+        preservedKinds = new byte[ length ];
+        preservedObjects = new Object[ length ];
+        preservedPrimitives = new int[ length ];
+      } else {
+        preservedKinds = Arrays.copyOf( preservedKinds, length );
+        preservedObjects = Arrays.copyOf( preservedObjects, length );
+        preservedPrimitives = Arrays.copyOf( preservedPrimitives, length );
+      }
+    }
+    hasPreservedValues = true;
+    return slot;
+  }
+
   protected RemoteObject getRemoteObject() {
     return RemoteObjectFactory.getRemoteObject( getId() );
   }
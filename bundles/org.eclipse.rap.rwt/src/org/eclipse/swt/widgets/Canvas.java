@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -121,6 +122,7 @@ public class Canvas extends Composite {
    */
   public void addPaintListener( PaintListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -148,6 +150,7 @@ public class Canvas extends Composite {
    */
   public void removePaintListener( PaintListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -182,6 +185,7 @@ public class Canvas extends Composite {
   }
 
   private void repaint( Rectangle paintRect ) {
+    DirtyWidgets.markChanged( this );
     if( gcAdapter != null ) {
       gcAdapter.clearGCOperations();
       gcAdapter.setForceRedraw( true );
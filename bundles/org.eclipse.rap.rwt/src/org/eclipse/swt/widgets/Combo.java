@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -163,6 +164,7 @@ public class Combo extends Composite {
    */
   public void select( int selectionIndex ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( 0 <= selectionIndex && selectionIndex < getItemCount() ) {
       model.setSelection( selectionIndex );
       updateText();
@@ -183,6 +185,7 @@ public class Combo extends Composite {
    */
   public void deselect( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( index == model.getSelectionIndex() ) {
       model.setSelection( -1 );
     }
@@ -205,6 +208,7 @@ public class Combo extends Composite {
    */
   public void deselectAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.deselectAll();
     text = "";
     notifyListeners( SWT.Modify, new Event() );
@@ -230,6 +234,7 @@ public class Combo extends Composite {
    */
   public void setSelection( Point selection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selection == null ) {
       SWT.error ( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -295,6 +300,7 @@ public class Combo extends Composite {
    */
   public void clearSelection() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     resetSelection();
   }
 
@@ -315,6 +321,7 @@ public class Combo extends Composite {
    */
   public void add( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.add( string );
   }
 
@@ -343,6 +350,7 @@ public class Combo extends Composite {
    */
   public void add( String string, int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.add( string, index );
   }
 
@@ -362,6 +370,7 @@ public class Combo extends Composite {
    */
   public void remove( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int selectionIndex = getSelectionIndex();
     if( selectionIndex == index ) {
       deselect( index );
@@ -387,6 +396,7 @@ public class Combo extends Composite {
    */
   public void remove( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     String[] items = model.getItems();
     int lastIndex = items.length - 1;
     if(    start < 0
@@ -425,6 +435,7 @@ public class Combo extends Composite {
    */
   public void remove( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int indexOfThisString = indexOf( string );
     int selectionIndex = getSelectionIndex();
     if( selectionIndex == indexOfThisString ) {
@@ -444,6 +455,7 @@ public class Combo extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     deselectAll();
     model.removeAll();
   }
@@ -468,6 +480,7 @@ public class Combo extends Composite {
    */
   public void setItem( int index, String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.setItem( index, string );
   }
 
@@ -487,6 +500,7 @@ public class Combo extends Composite {
    */
   public void setItems( String... items ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.setItems( items );
   }
 
@@ -584,6 +598,7 @@ public class Combo extends Composite {
    */
   public void setVisibleItemCount( int count ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( count >= 0 ) {
       visibleCount = count;
     }
@@ -629,6 +644,7 @@ public class Combo extends Composite {
    */
   public void setListVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     dropped = visible;
   }
 
@@ -754,6 +770,7 @@ public class Combo extends Composite {
    */
   public void setText( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( string == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -814,6 +831,7 @@ public class Combo extends Composite {
    */
   public void setTextLimit( int limit ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( limit == 0 ) {
       error( SWT.ERROR_CANNOT_BE_ZERO );
     }
@@ -914,6 +932,7 @@ public class Combo extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -941,6 +960,7 @@ public class Combo extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -969,6 +989,7 @@ public class Combo extends Composite {
    */
   public void addModifyListener( ModifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -995,6 +1016,7 @@ public class Combo extends Composite {
    */
   public void removeModifyListener( ModifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1022,6 +1044,7 @@ public class Combo extends Composite {
    */
   public void addVerifyListener( VerifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1048,6 +1071,7 @@ public class Combo extends Composite {
    */
   public void removeVerifyListener( VerifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.swt.widgets;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.ProcessActionRunner;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
@@ -152,6 +153,7 @@ public class Composite extends Scrollable {
    */
   public void setLayout( Layout layout ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.layout = layout;
   }
 
@@ -195,6 +197,7 @@ public class Composite extends Scrollable {
    */
   public void setLayoutDeferred( boolean defer ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( !defer ) {
       if( --layoutCount == 0 ) {
         if( hasState( LAYOUT_CHILD ) || hasState( LAYOUT_NEEDED ) ) {
@@ -712,6 +715,7 @@ public class Composite extends Scrollable {
    */
   public void setBackgroundMode( int mode ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     backgroundMode = mode;
     for( Control child : children ) {
       child.updateBackgroundMode();
@@ -738,6 +742,7 @@ public class Composite extends Scrollable {
   @Override
   public boolean setFocus() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     for( Control child : children ) {
       if( child.setFocus() ) {
         return true;
@@ -766,6 +771,8 @@ public class Composite extends Scrollable {
    */
   public void setTabList( Control[] tabList ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
+    DirtyWidgets.markTabOrderChanged( this );
     Control[] newList = tabList;
     if( tabList != null ) {
       for( int i = 0; i < tabList.length; i++ ) {
@@ -875,16 +882,19 @@ public class Composite extends Scrollable {
   }
 
   void addChild( Control control ) {
+    markChildrenChanged();
     getRemoteAdapter().preserveChildren( children.toArray( new Control[ 0 ] ) );
     children.add( control );
   }
 
   void removeChild( Control control ) {
+    markChildrenChanged();
     getRemoteAdapter().preserveChildren( children.toArray( new Control[ 0 ] ) );
     children.remove( control );
   }
 
   void moveAbove( Control control1, Control control2 ) {
+    markChildrenChanged();
     getRemoteAdapter().preserveChildren( children.toArray( new Control[ 0 ] ) );
     children.remove( control1 );
     int index = control2 != null ? children.indexOf( control2 ) : 0;
@@ -892,12 +902,20 @@ public class Composite extends Scrollable {
   }
 
   void moveBelow( Control control1, Control control2 ) {
+    markChildrenChanged();
     getRemoteAdapter().preserveChildren( children.toArray( new Control[ 0 ] ) );
     children.remove( control1 );
     int index = control2 != null ? children.indexOf( control2 ) + 1 : children.size();
     children.add( index, control1 );
   }
 
+  private void markChildrenChanged() {
+    if( DirtyWidgets.isEnabled() ) {
+      DirtyWidgets.markDirty( this );
+      DirtyWidgets.markTabOrderChanged( this );
+    }
+  }
+
   @Override
   void notifyResize( Point oldSize ) {
     // TODO [rh] revise this: the SWT code (method sendResize) first calls
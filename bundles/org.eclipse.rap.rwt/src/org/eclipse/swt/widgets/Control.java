@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TOOLTIP;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.ReparentedControls;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -329,6 +330,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( hasState( HIDDEN ) != !visible ) {
       preserveState( HIDDEN );
       internalSetVisible( visible );
@@ -419,6 +421,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( hasState( DISABLED ) != !enabled ) {
       preserveState( DISABLED );
       internalSetEnabled( enabled );
@@ -512,6 +515,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setBackground( Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -578,6 +582,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setBackgroundImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( image != null && image.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -625,6 +630,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setForeground( Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -702,6 +708,7 @@ public abstract class Control extends Widget implements Drawable {
    * Applies the background according to PARENT_BACKGROUND state.
    */
   private void updateBackground() {
+    DirtyWidgets.markChanged( this );
     getRemoteAdapter().preserveBackground( background, backgroundTransparency );
     backgroundTransparency =    background == null
                              && backgroundImage == null
@@ -744,6 +751,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -796,6 +804,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setCursor( Cursor cursor ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( cursor != null && cursor.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -843,6 +852,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public boolean setFocus() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     boolean result = false;
     if( ( style & SWT.NO_FOCUS ) == 0 ) {
       result = forceFocus();
@@ -865,6 +875,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public boolean forceFocus() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     // if (display.focusEvent == SWT.FocusOut) return false;
     Shell shell = getShell(); // was: Decorations shell = menuShell();
     shell.setSavedFocus( this );
@@ -1378,6 +1389,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setLayoutData( Object layoutData ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.layoutData = layoutData;
   }
 
@@ -1407,6 +1419,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -1463,6 +1476,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setMenu( Menu menu ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.menu != menu ) {
       if( menu != null ) {
         if( menu.isDisposed() ) {
@@ -1526,6 +1540,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void moveAbove( Control control ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( control != null && control.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1558,6 +1573,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void moveBelow( Control control ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( control != null && control.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1587,7 +1603,7 @@ public abstract class Control extends Widget implements Drawable {
 
   @Override
   RemoteAdapter createRemoteAdapter( Widget parent, String id ) {
-    ControlRemoteAdapter remoteAdapter = new ControlRemoteAdapter( id );
+    ControlRemoteAdapter remoteAdapter = new ControlRemoteAdapter( id, getClass() );
     remoteAdapter.setParent( parent );
     return remoteAdapter;
   }
@@ -1616,6 +1632,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addControlListener( ControlListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1643,6 +1660,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeControlListener( ControlListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1673,6 +1691,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addMouseListener( MouseListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1703,6 +1722,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeMouseListener( MouseListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1753,6 +1773,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addKeyListener( KeyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1782,6 +1803,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeKeyListener( KeyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1812,6 +1834,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addTraverseListener( TraverseListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1840,6 +1863,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeTraverseListener( TraverseListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1867,6 +1891,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addFocusListener( FocusListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1894,6 +1919,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeFocusListener( FocusListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1923,6 +1949,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addHelpListener( HelpListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1950,6 +1977,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeHelpListener( HelpListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1979,6 +2007,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addDragDetectListener( DragDetectListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2007,6 +2036,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeDragDetectListener( DragDetectListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2037,6 +2067,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addMenuDetectListener( MenuDetectListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2066,6 +2097,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeMenuDetectListener( MenuDetectListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2122,6 +2154,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setRedraw( boolean redraw ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     internalSetRedraw( redraw );
   }
 
@@ -2234,6 +2267,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public boolean setParent( Composite parent ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( parent == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2294,6 +2328,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setOrientation( int orientation ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int flags = SWT.RIGHT_TO_LEFT | SWT.LEFT_TO_RIGHT;
     if( ( orientation & flags ) == 0 || ( orientation & flags ) == flags ) {
       return;
@@ -2385,6 +2420,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addGestureListener( GestureListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -2408,6 +2444,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeGestureListener( GestureListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -2437,6 +2474,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void addTouchListener( TouchListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -2460,6 +2498,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void removeTouchListener( TouchListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -2477,6 +2516,7 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void setTouchEnabled( boolean enabled ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -2598,6 +2638,9 @@ public abstract class Control extends Widget implements Drawable {
   }
 
   void _setBounds( Rectangle rectangle ) {
+    if( !rectangle.equals( bounds ) ) {
+      DirtyWidgets.markChanged( this );
+    }
     getRemoteAdapter().preserveBounds( bounds );
     bounds = rectangle;
     bounds.width = Math.max( 0, bounds.width );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  *******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -1225,6 +1226,7 @@ public class CoolBar extends Composite {
    */
   public void setLocked( boolean locked ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( isLocked != locked ) {
       redraw();
     }
@@ -1250,6 +1252,7 @@ public class CoolBar extends Composite {
    */
   public void setWrapIndices( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int[] newIndices = indices;
     if ( newIndices == null )
       newIndices = new int[0];
@@ -1325,6 +1328,7 @@ public class CoolBar extends Composite {
    */
   public void setItemLayout( int[] itemOrder, int[] wrapIndices, Point[] sizes ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setItemOrder( itemOrder );
     setWrapIndices( wrapIndices );
     setItemSizes( sizes );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.swt.widgets;
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -205,6 +206,7 @@ public class CoolItem extends Item {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -533,6 +535,7 @@ public class CoolItem extends Item {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -578,6 +581,7 @@ public class CoolItem extends Item {
    */
   public void setControl( Control control ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if ( control != null ) {
       if ( control.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
@@ -616,6 +620,7 @@ public class CoolItem extends Item {
    */
   public void setMinimumSize( int width, int height ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     Point point = parent.fixPoint( width, height );
     minimumWidth = point.x;
     minimumHeight = point.y;
@@ -642,6 +647,7 @@ public class CoolItem extends Item {
    */
   public void setMinimumSize( Point size ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if ( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -665,6 +671,7 @@ public class CoolItem extends Item {
    */
   public void setPreferredSize( int width, int height ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     ideal = true;
     Point point = parent.fixPoint( width, height );
     preferredWidth = Math.max( point.x, MINIMUM_WIDTH );
@@ -690,6 +697,7 @@ public class CoolItem extends Item {
    */
   public void setPreferredSize( Point size ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if ( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ import java.util.GregorianCalendar;
 import java.util.StringTokenizer;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -256,6 +257,7 @@ public class DateTime extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -284,6 +286,7 @@ public class DateTime extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -456,6 +459,7 @@ public class DateTime extends Composite {
    */
   public void setHours( int hours ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( checkTime( hours, getMinutes(), getSeconds() ) ) {
       rightNow.set( Calendar.HOUR_OF_DAY, hours );
       applyLimits();
@@ -478,6 +482,7 @@ public class DateTime extends Composite {
    */
   public void setMinutes( int minutes ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( checkTime( getHours(), minutes, getSeconds() ) ) {
       rightNow.set( Calendar.MINUTE, minutes );
       applyLimits();
@@ -500,6 +505,7 @@ public class DateTime extends Composite {
    */
   public void setSeconds( int seconds ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( checkTime( getHours(), getMinutes(), seconds ) ) {
       rightNow.set( Calendar.SECOND, seconds );
       applyLimits();
@@ -523,6 +529,7 @@ public class DateTime extends Composite {
    */
   public void setDay( int day ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int month = rightNow.get( Calendar.MONTH );
     int year = rightNow.get( Calendar.YEAR );
     if( checkDate( year, month, day ) ) {
@@ -547,6 +554,7 @@ public class DateTime extends Composite {
    */
   public void setMonth( int month ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int day = rightNow.get( Calendar.DATE );
     int year = rightNow.get( Calendar.YEAR );
     if( checkDate( year, month, day ) ) {
@@ -571,6 +579,7 @@ public class DateTime extends Composite {
    */
   public void setYear( int year ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int day = rightNow.get( Calendar.DATE );
     int month = rightNow.get( Calendar.MONTH );
     if( checkDate( year, month, day ) ) {
@@ -594,6 +603,7 @@ public class DateTime extends Composite {
    */
   public void setMinimum( Date date ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( date == null ) {
       minimum = null;
       applyLimits();
@@ -618,6 +628,7 @@ public class DateTime extends Composite {
    */
   public void setMaximum( Date date ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( date == null ) {
       maximum = null;
       applyLimits();
@@ -648,6 +659,7 @@ public class DateTime extends Composite {
    */
   public void setDate( int year, int month, int day ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( checkDate( year, month, day ) ) {
       // reset
       ignoreLimits = true;
@@ -680,6 +692,7 @@ public class DateTime extends Composite {
    */
   public void setTime( int hours, int minutes, int seconds ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( checkTime( hours, minutes, seconds ) ) {
       setHours( hours );
       setMinutes( minutes );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.ProcessActionRunner;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -85,6 +86,7 @@ public class Decorations extends Canvas {
    */
   public void setImages( Image[] images ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( images == null ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -148,6 +150,7 @@ public class Decorations extends Canvas {
    */
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.image = image;
   }
 
@@ -195,6 +198,7 @@ public class Decorations extends Canvas {
    */
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -237,6 +241,7 @@ public class Decorations extends Canvas {
    */
   public void setMenuBar( Menu menuBar ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.menuBar != menuBar ) {
       if( menuBar != null ) {
         if( menuBar.isDisposed() ) {
@@ -305,6 +310,7 @@ public class Decorations extends Canvas {
    */
   public void setDefaultButton( Button button ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( button != null ) {
       if( button.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
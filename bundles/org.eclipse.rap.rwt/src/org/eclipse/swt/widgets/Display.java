@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2021 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -800,7 +800,7 @@ public class Display extends Device implements Adaptable {
     if( adapter == RemoteAdapter.class ) {
       if( remoteAdapter == null ) {
         String id = IdGenerator.getInstance( uiSession ).createId( this );
-        remoteAdapter = new WidgetRemoteAdapter( id );
+        remoteAdapter = new WidgetRemoteAdapter( id, Display.class );
       }
       return ( T )remoteAdapter;
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.swt.widgets;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.swt.SWT;
@@ -122,6 +123,7 @@ public class ExpandBar extends Composite {
    */
   public void addExpandListener( ExpandListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -150,6 +152,7 @@ public class ExpandBar extends Composite {
    */
   public void removeExpandListener( ExpandListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -411,6 +414,7 @@ public class ExpandBar extends Composite {
    */
   public void setSpacing( int spacing ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( spacing >= 0 ) {
       if( spacing != this.spacing ) {
         this.spacing = spacing;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.textsize.TextSizeUtil.textExtent;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
@@ -319,6 +320,7 @@ public class ExpandItem extends Item {
    */
   public void setControl( Control control ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( control != null ) {
       if( control.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
@@ -355,6 +357,7 @@ public class ExpandItem extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.expanded = expanded;
     parent.showItem( this );
   }
@@ -373,6 +376,7 @@ public class ExpandItem extends Item {
    */
   public void setHeight( int height ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( height >= 0 ) {
       setBounds( 0, 0, width, height, false, true );
       if( expanded ) {
@@ -384,6 +388,7 @@ public class ExpandItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( image != getImage() ) {
       super.setImage( image );
       updateBounds();
@@ -404,6 +409,7 @@ public class ExpandItem extends Item {
   @Override
   public void setText( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( string == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
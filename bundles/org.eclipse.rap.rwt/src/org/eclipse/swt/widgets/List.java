@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -239,6 +240,7 @@ public class List extends Scrollable {
   // TODO [rh] selection is not scrolled into view (see List.js)
   public void setSelection( int selection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -266,6 +268,7 @@ public class List extends Scrollable {
    */
   public void setSelection( int[] selection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -293,6 +296,7 @@ public class List extends Scrollable {
    */
   public void setSelection( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.setSelection( start, end );
     updateFocusIndexAfterSelectionChange();
   }
@@ -321,6 +325,7 @@ public class List extends Scrollable {
    */
   public void setSelection( String[] selection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -339,6 +344,7 @@ public class List extends Scrollable {
    */
   public void select( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( style & SWT.SINGLE ) != 0 ) {
       if( index >= 0 && index < model.getItemCount() ) {
         model.setSelection( index );
@@ -372,6 +378,7 @@ public class List extends Scrollable {
    */
   public void select( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -410,6 +417,7 @@ public class List extends Scrollable {
    */
   public void select( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( end >= 0 && start <= end && ( ( style & SWT.SINGLE ) == 0 || start == end ) ) {
       int count = model.getItemCount();
       if( count != 0 && start < count ) {
@@ -438,6 +446,7 @@ public class List extends Scrollable {
    */
   public void selectAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.selectAll();
     updateFocusIndexAfterSelectionChange();
   }
@@ -452,6 +461,7 @@ public class List extends Scrollable {
    */
   public void deselectAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.deselectAll();
     updateFocusIndexAfterSelectionChange();
   }
@@ -472,6 +482,7 @@ public class List extends Scrollable {
    */
   public void deselect( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     removeFromSelection( index );
   }
 
@@ -494,6 +505,7 @@ public class List extends Scrollable {
    */
   public void deselect( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( start == 0 && end == model.getItemCount() - 1 ) {
       deselectAll();
     } else {
@@ -525,6 +537,7 @@ public class List extends Scrollable {
    */
   public void deselect( int [] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -599,6 +612,7 @@ public class List extends Scrollable {
    */
   public void setTopIndex( int topIndex ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int count = model.getItemCount();
     if( this.topIndex != topIndex && topIndex >= 0 && topIndex < count ) {
       this.topIndex = topIndex;
@@ -638,6 +652,7 @@ public class List extends Scrollable {
    */
   public void showSelection() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int index = getSelectionIndex();
     if( index != -1 ) {
       int itemCount = getVisibleItemCount();
@@ -687,6 +702,7 @@ public class List extends Scrollable {
    */
   public void add( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.add( string );
     updateFocusIndexAfterItemChange();
     updateScrollBars();
@@ -717,6 +733,7 @@ public class List extends Scrollable {
    */
   public void add( String string, int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.add( string, index );
     updateFocusIndexAfterItemChange();
     updateScrollBars();
@@ -738,6 +755,7 @@ public class List extends Scrollable {
    */
   public void remove( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.remove( index );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -762,6 +780,7 @@ public class List extends Scrollable {
    */
   public void remove( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.remove( start, end );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -785,6 +804,7 @@ public class List extends Scrollable {
    */
   public void remove( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.remove( indices );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -809,6 +829,7 @@ public class List extends Scrollable {
    */
   public void remove( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.remove( string );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -825,6 +846,7 @@ public class List extends Scrollable {
    */
   public void removeAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     model.removeAll();
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -851,6 +873,7 @@ public class List extends Scrollable {
    */
   public void setItem( int index, String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     validateMarkup( new String[] { string } );
     model.setItem( index, string );
     updateScrollBars();
@@ -872,6 +895,7 @@ public class List extends Scrollable {
    */
   public void setItems( String[] items ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     validateMarkup( items );
     model.setItems( items );
     updateScrollBars();
@@ -1034,6 +1058,7 @@ public class List extends Scrollable {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1061,6 +1086,7 @@ public class List extends Scrollable {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
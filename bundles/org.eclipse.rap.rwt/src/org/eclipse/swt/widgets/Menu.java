@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -336,6 +337,7 @@ public class Menu extends Widget {
    */
   public void setOrientation( int orientation ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( style & ( SWT.BAR | SWT.DROP_DOWN ) ) == 0 ) {
       int flags = SWT.RIGHT_TO_LEFT | SWT.LEFT_TO_RIGHT;
       if( ( orientation & flags ) == 0 || ( orientation & flags ) == flags ) {
@@ -385,6 +387,7 @@ public class Menu extends Widget {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( style & ( SWT.BAR | SWT.DROP_DOWN ) ) == 0 ) {
       if( this.visible != visible ) {
         this.visible = visible;
@@ -467,6 +470,7 @@ public class Menu extends Widget {
    */
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     removeState( DISABLED );
     if( !enabled ) {
       addState( DISABLED );
@@ -622,6 +626,7 @@ public class Menu extends Widget {
    */
   public void setDefaultItem( MenuItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -700,6 +705,7 @@ public class Menu extends Widget {
    */
   public void addMenuListener( MenuListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -727,6 +733,7 @@ public class Menu extends Widget {
    */
   public void removeMenuListener( MenuListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -756,6 +763,7 @@ public class Menu extends Widget {
    */
   public void addHelpListener( HelpListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -783,6 +791,7 @@ public class Menu extends Widget {
    */
   public void removeHelpListener( HelpListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.swt.widgets;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isToolTipMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -179,6 +180,7 @@ public class MenuItem extends Item {
    */
   public void setMenu( Menu menu ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.menu != menu ) {
       if( ( style & SWT.CASCADE ) == 0 ) {
         SWT.error( SWT.ERROR_MENUITEM_NOT_CASCADE );
@@ -241,6 +243,7 @@ public class MenuItem extends Item {
    */
   public void setID( int id ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( id < 0 ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -279,6 +282,7 @@ public class MenuItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( style & SWT.SEPARATOR ) == 0 ) {
       super.setImage( image );
     }
@@ -299,6 +303,7 @@ public class MenuItem extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -346,6 +351,7 @@ public class MenuItem extends Item {
    */
   public void setAccelerator( int accelerator ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( accelerator != 0 ) {
       if( acceleratorBinding == null ) {
         acceleratorBinding = new AcceleratorBinding( this );
@@ -397,6 +403,7 @@ public class MenuItem extends Item {
    */
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     removeState( DISABLED );
     if( !enabled ) {
       addState( DISABLED );
@@ -479,6 +486,7 @@ public class MenuItem extends Item {
    */
   public void setSelection( boolean selection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( style & ( SWT.CHECK | SWT.RADIO ) ) != 0 ) {
       this.selection = selection;
     }
@@ -513,6 +521,7 @@ public class MenuItem extends Item {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -540,6 +549,7 @@ public class MenuItem extends Item {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -569,6 +579,7 @@ public class MenuItem extends Item {
    */
   public void addHelpListener( HelpListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -596,6 +607,7 @@ public class MenuItem extends Item {
    */
   public void removeHelpListener( HelpListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -624,6 +636,7 @@ public class MenuItem extends Item {
    */
   public void addArmListener( ArmListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -651,6 +664,7 @@ public class MenuItem extends Item {
    */
   public void removeArmListener( ArmListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     removeListener( SWT.Arm, listener );
   }
 
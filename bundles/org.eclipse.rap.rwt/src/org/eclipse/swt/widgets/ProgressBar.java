@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
@@ -180,6 +181,7 @@ public class ProgressBar extends Control {
    */
   public void setMaximum( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value > getMinimum() ) {
       maximum = value;
       if( selection > maximum ) {
@@ -206,6 +208,7 @@ public class ProgressBar extends Control {
    */
   public void setMinimum( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value > 0 && value < getMaximum() ) {
       minimum = value;
       if( minimum > selection ) {
@@ -229,6 +232,7 @@ public class ProgressBar extends Control {
    */
   public void setSelection( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value < minimum ) {
       selection = minimum;
     } else if( value > maximum ) {
@@ -256,6 +260,7 @@ public class ProgressBar extends Control {
    */
   public void setState( int state ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( state == SWT.NORMAL || state == SWT.PAUSED || state == SWT.ERROR ) {
       this.state = state;
     }
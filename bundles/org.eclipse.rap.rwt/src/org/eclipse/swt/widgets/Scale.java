@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.swt.SWT;
@@ -109,6 +110,7 @@ public class Scale extends Control {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -135,6 +137,7 @@ public class Scale extends Control {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -255,6 +258,7 @@ public class Scale extends Control {
    */
   public void setIncrement( int increment ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( increment >= 1 && increment <= maximum - minimum ) {
       this.increment = increment;
     }
@@ -276,6 +280,7 @@ public class Scale extends Control {
    */
   public void setMaximum( int maximum ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( 0 <= minimum && minimum < maximum ) {
       this.maximum = maximum;
       if( selection > this.maximum ) {
@@ -300,6 +305,7 @@ public class Scale extends Control {
    */
   public void setMinimum( int minimum ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( 0 <= minimum && minimum < maximum ) {
       this.minimum = minimum;
       if( selection < this.minimum ) {
@@ -322,6 +328,7 @@ public class Scale extends Control {
    */
   public void setPageIncrement( int pageIncrement ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( pageIncrement >= 1 && pageIncrement <= maximum - minimum ) {
       this.pageIncrement = pageIncrement;
     }
@@ -340,6 +347,7 @@ public class Scale extends Control {
    */
   public void setSelection( int selection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selection >= minimum && selection <= maximum ) {
       this.selection = selection;
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
 import org.eclipse.swt.SWT;
@@ -178,6 +179,7 @@ public class ScrollBar extends Widget {
     checkWidget();
     boolean isVisible = !hasState( HIDDEN );
     if( isVisible != visible ) {
+      DirtyWidgets.markChanged( this );
       if( visible ) {
         removeState( HIDDEN );
       } else {
@@ -245,6 +247,7 @@ public class ScrollBar extends Widget {
    */
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( enabled ) {
       removeState( DISABLED );
     } else {
@@ -349,6 +352,7 @@ public class ScrollBar extends Widget {
    */
   public void setThumb( int thumb ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.thumb = thumb;
   }
 
@@ -382,6 +386,7 @@ public class ScrollBar extends Widget {
    */
   public void setMaximum( int maximum ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.maximum = maximum;
   }
 
@@ -415,6 +420,7 @@ public class ScrollBar extends Widget {
    */
   public void setMinimum( int minimum ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.minimum = minimum;
   }
 
@@ -432,6 +438,7 @@ public class ScrollBar extends Widget {
    */
   public void setSelection( int selection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.selection != selection ) {
       this.selection = selection;
     }
@@ -489,6 +496,7 @@ public class ScrollBar extends Widget {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -516,6 +524,7 @@ public class ScrollBar extends Widget {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.ProcessActionRunner;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.theme.CssBoxDimensions;
@@ -198,6 +199,10 @@ public class Shell extends Decorations {
     reskinWidget();
     createWidget();
     setInitialSize();
+    if( DirtyWidgets.isEnabled() ) {
+      DirtyWidgets.markDirty( this );
+      DirtyWidgets.markTabOrderChanged( this );
+    }
   }
 
 
@@ -474,6 +479,7 @@ public class Shell extends Decorations {
    */
   public void setActive() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( isVisible() ) {
       display.setActiveShell( this );
     }
@@ -501,6 +507,7 @@ public class Shell extends Decorations {
    */
   public void forceActive() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setActive();
   }
 
@@ -653,6 +660,7 @@ public class Shell extends Decorations {
   @Override
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( getEnabled() != enabled ) {
       super.setEnabled( enabled );
       if( enabled ) {
@@ -681,6 +689,7 @@ public class Shell extends Decorations {
   @Override
   public void setVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     boolean wasVisible = getVisible();
     super.setVisible( visible );
     // Emulate OS behavior: in SWT, a layout is triggered during
@@ -714,6 +723,7 @@ public class Shell extends Decorations {
    */
   public void open() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     // Order of setActiveShell/bringToTop/setVisible is crucial
     display.setActiveShell( this );
     bringToTop();
@@ -740,6 +750,7 @@ public class Shell extends Decorations {
    */
   public void close() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     ProcessActionRunner.add( new Runnable() {
       @Override
       public void run() {
@@ -772,6 +783,7 @@ public class Shell extends Decorations {
    */
   public void setAlpha( int alpha ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.alpha = alpha & 0xFF;
   }
 
@@ -807,6 +819,7 @@ public class Shell extends Decorations {
    */
   public void setModified ( boolean modified ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.modified = modified;
   }
 
@@ -843,6 +856,7 @@ public class Shell extends Decorations {
    */
   public void setMinimumSize( int width, int height ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     minWidth = Math.max( MIN_WIDTH_LIMIT, width );
     minHeight = Math.max( getMinHeightLimit(), height );
     Point size = getSize();
@@ -872,6 +886,7 @@ public class Shell extends Decorations {
    */
   public void setMinimumSize( Point size ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -950,6 +965,7 @@ public class Shell extends Decorations {
    */
   public void addShellListener( ShellListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -978,6 +994,7 @@ public class Shell extends Decorations {
    */
   public void removeShellListener( ShellListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1112,6 +1129,7 @@ public class Shell extends Decorations {
    */
   public void setMinimized( boolean minimized ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( minimized ) {
       mode |= MODE_MINIMIZED;
     } else {
@@ -1147,6 +1165,7 @@ public class Shell extends Decorations {
    */
   public void setMaximized( boolean maximized ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( mode & MODE_FULLSCREEN ) == 0 ) {
       if( maximized ) {
         if( ( mode & MODE_MAXIMIZED ) == 0 ) {
@@ -1230,6 +1249,7 @@ public class Shell extends Decorations {
    */
   public void setFullScreen( boolean fullScreen ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( ( mode & MODE_FULLSCREEN ) != 0 ) != fullScreen ) {
       if( fullScreen ) {
         setActive();
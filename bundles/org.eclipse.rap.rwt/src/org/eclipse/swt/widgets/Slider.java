@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.swt.SWT;
@@ -154,6 +155,7 @@ public class Slider extends Control {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -181,6 +183,7 @@ public class Slider extends Control {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -334,6 +337,7 @@ public class Slider extends Control {
    */
   public void setIncrement( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value >= 1 && value <= maximum - minimum ) {
       increment = value;
     }
@@ -354,6 +358,7 @@ public class Slider extends Control {
    */
   public void setMaximum( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( 0 <= minimum && minimum < value ) {
       maximum = value;
       if( selection > maximum - thumb ) {
@@ -381,6 +386,7 @@ public class Slider extends Control {
    */
   public void setMinimum( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( 0 <= value && value < maximum ) {
       minimum = value;
       if( selection < minimum ) {
@@ -408,6 +414,7 @@ public class Slider extends Control {
    */
   public void setPageIncrement( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value >= 1 && value <= maximum - minimum ) {
       pageIncrement = value;
     }
@@ -427,6 +434,7 @@ public class Slider extends Control {
    */
   public void setSelection( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value < minimum ) {
       selection = minimum;
     } else if ( value > maximum - thumb ) {
@@ -452,6 +460,7 @@ public class Slider extends Control {
    */
   public void setThumb( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value >= 1 ) {
       thumb = value;
     }
@@ -490,6 +499,7 @@ public class Slider extends Control {
                          int pageIncrement )
   {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selection >= minimum && selection <= maximum ) {
       this.selection = selection;
     }
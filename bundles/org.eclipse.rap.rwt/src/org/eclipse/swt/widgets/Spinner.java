@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.swt.widgets;
 import java.text.NumberFormat;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -149,6 +150,7 @@ public class Spinner extends Composite {
    */
   public void setDigits( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value < 0 ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -188,6 +190,7 @@ public class Spinner extends Composite {
    */
   public void setIncrement( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value >= 1 ) {
       increment = value;
     }
@@ -223,6 +226,7 @@ public class Spinner extends Composite {
    */
   public void setMinimum( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value <= maximum ) {
       minimum = value;
       if( selection < minimum ) {
@@ -261,6 +265,7 @@ public class Spinner extends Composite {
    */
   public void setMaximum( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value >= minimum ) {
       maximum = value;
       if( selection > maximum ) {
@@ -299,6 +304,7 @@ public class Spinner extends Composite {
    */
   public void setPageIncrement( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value >= 1 ) {
       pageIncrement = value;
     }
@@ -334,6 +340,7 @@ public class Spinner extends Composite {
    */
   public void setSelection( int value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     selection = Math.min( Math.max( minimum, value ), maximum );
     notifyListeners( SWT.Modify, new Event() );
   }
@@ -367,6 +374,7 @@ public class Spinner extends Composite {
                          int pageIncrement )
   {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( maximum >= minimum && digits >= 0 && increment >= 1 && pageIncrement >= 1 ) {
       this.minimum = minimum;
       this.maximum = maximum;
@@ -430,6 +438,7 @@ public class Spinner extends Composite {
    */
   public void setTextLimit( int textLimit ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( textLimit == 0 ) {
       error( SWT.ERROR_CANNOT_BE_ZERO );
     }
@@ -553,6 +562,7 @@ public class Spinner extends Composite {
    */
   public void addModifyListener( ModifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -579,6 +589,7 @@ public class Spinner extends Composite {
    */
   public void removeModifyListener( ModifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -613,6 +624,7 @@ public class Spinner extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -642,6 +654,7 @@ public class Spinner extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
@@ -281,6 +282,7 @@ public class TabFolder extends Composite {
    */
   public void setSelection( TabItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -304,6 +306,7 @@ public class TabFolder extends Composite {
    */
   public void setSelection( TabItem[] items ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( items == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -334,6 +337,7 @@ public class TabFolder extends Composite {
    */
   public void setSelection( int index ) {
     checkWidget ();
+    DirtyWidgets.markChanged( this );
     if( index >= 0 && index < itemHolder.size() ) {
       setSelection( index, false );
     }
@@ -472,6 +476,7 @@ public class TabFolder extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -499,6 +504,7 @@ public class TabFolder extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.ProcessActionRunner;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
@@ -543,6 +544,7 @@ public class Table extends Composite {
    */
   public void setColumnOrder( int[] order ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( order == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -633,6 +635,7 @@ public class Table extends Composite {
    */
   public void setItemCount( int count ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount && !isInDispose() ) {
@@ -815,6 +818,7 @@ public class Table extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     while( itemCount > 0 ) {
       removeItem( itemCount - 1 );
     }
@@ -841,6 +845,7 @@ public class Table extends Composite {
    */
   public void remove( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( start <= end ) {
       if( !( 0 <= start && start <= end && end < itemCount ) ) {
         error( SWT.ERROR_INVALID_RANGE );
@@ -869,6 +874,7 @@ public class Table extends Composite {
    */
   public void remove( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( !( 0 <= index && index < itemCount ) ) {
       SWT.error( SWT.ERROR_ITEM_NOT_REMOVED );
     }
@@ -895,6 +901,7 @@ public class Table extends Composite {
    */
   public void remove( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -941,6 +948,7 @@ public class Table extends Composite {
    */
   public void clear( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( index < 0 || index >= itemCount ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -973,6 +981,7 @@ public class Table extends Composite {
    */
   public void clear( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( start <= end ) {
       if( !( 0 <= start && start <= end && end < itemCount ) ) {
         SWT.error( SWT.ERROR_INVALID_RANGE );
@@ -1006,6 +1015,7 @@ public class Table extends Composite {
    */
   public void clearAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     for( int i = 0; i < itemCount; i++ ) {
       TableItem item = items[ i ];
       if( item != null ) {
@@ -1037,6 +1047,7 @@ public class Table extends Composite {
    */
   public void clear( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1105,6 +1116,7 @@ public class Table extends Composite {
    */
   public void setSelection( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     deselectAll();
     select( index );
     setFocusIndex( index );
@@ -1150,6 +1162,7 @@ public class Table extends Composite {
    */
   public void setSelection( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     deselectAll();
     select( start, end );
     if( end >= 0 && start <= end && ( ( style & SWT.SINGLE ) == 0 || start == end ) ) {
@@ -1208,6 +1221,7 @@ public class Table extends Composite {
    */
   public void setSelection( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1240,6 +1254,7 @@ public class Table extends Composite {
    */
   public void setSelection( TableItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1272,6 +1287,7 @@ public class Table extends Composite {
    */
   public void setSelection( TableItem[] items ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( items == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1347,6 +1363,7 @@ public class Table extends Composite {
    */
   public void select( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( index >= 0 && index < itemCount ) {
       if( ( style & SWT.SINGLE ) != 0 ) {
         selection = new int[] { index };
@@ -1387,6 +1404,7 @@ public class Table extends Composite {
    */
   public void select( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( end >= 0 && start <= end && ( ( style & SWT.SINGLE ) == 0 || start == end ) ) {
       if( itemCount != 0 && start < itemCount ) {
         int adjustedStart = Math.max( 0, start );
@@ -1427,6 +1445,7 @@ public class Table extends Composite {
    */
   public void select( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1453,6 +1472,7 @@ public class Table extends Composite {
   //      selectAll is called. Compare how SWT handles this.
   public void selectAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( style & SWT.SINGLE ) == 0 ) {
       setSelection( getItems() );
     }
@@ -1472,6 +1492,7 @@ public class Table extends Composite {
    */
   public void deselect( int index ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     removeFromSelection( index );
   }
 
@@ -1492,6 +1513,7 @@ public class Table extends Composite {
    */
   public void deselect( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( start == 0 && end == itemCount - 1 ) {
       deselectAll();
     } else {
@@ -1521,6 +1543,7 @@ public class Table extends Composite {
    */
   public void deselect( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1539,6 +1562,7 @@ public class Table extends Composite {
    */
   public void deselectAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     selection = EMPTY_SELECTION;
   }
 
@@ -1559,6 +1583,7 @@ public class Table extends Composite {
    */
   public void setTopIndex( int topIndex ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.topIndex != topIndex && topIndex >= 0 && topIndex < itemCount ) {
       this.topIndex = topIndex;
       adjustTopIndex();
@@ -1605,6 +1630,7 @@ public class Table extends Composite {
    */
   public void showItem( TableItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1642,6 +1668,7 @@ public class Table extends Composite {
    */
   public void showColumn( TableColumn column ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( column == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1693,6 +1720,7 @@ public class Table extends Composite {
    */
   public void showSelection() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int index = getSelectionIndex();
     if( index != -1 ) {
       showItem( _getItem( index ) );
@@ -1720,6 +1748,7 @@ public class Table extends Composite {
    */
   public void setHeaderVisible( boolean headerVisible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     boolean changed = headerVisible != this.headerVisible;
     this.headerVisible = headerVisible;
     if( changed ) {
@@ -1765,6 +1794,7 @@ public class Table extends Composite {
    */
   public void setHeaderBackground( Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1803,6 +1833,7 @@ public class Table extends Composite {
    */
   public void setHeaderForeground( Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1865,6 +1896,7 @@ public class Table extends Composite {
    */
   public void setLinesVisible( boolean linesVisible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.linesVisible = linesVisible;
   }
 
@@ -1885,6 +1917,7 @@ public class Table extends Composite {
    */
   public void setSortColumn( TableColumn column ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( column != null && column.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1923,6 +1956,7 @@ public class Table extends Composite {
    */
   public void setSortDirection( int direction ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( direction & ( SWT.UP | SWT.DOWN ) ) != 0 || direction == SWT.NONE ) {
       sortDirection = direction;
     }
@@ -2061,6 +2095,7 @@ public class Table extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2088,6 +2123,7 @@ public class Table extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2448,6 +2484,7 @@ public class Table extends Composite {
     boolean result = true;
     boolean virtual = ( style & SWT.VIRTUAL ) != 0;
     if( virtual && !item.cached && index >= 0 && index < itemCount ) {
+      DirtyWidgets.markChanged( item );
       item.cached = true;
       Event event = new Event();
       event.item = item;
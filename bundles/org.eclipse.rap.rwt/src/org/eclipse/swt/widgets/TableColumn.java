@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TOOLTIP;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
@@ -185,6 +186,7 @@ public class TableColumn extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -224,6 +226,7 @@ public class TableColumn extends Item {
    */
   public void setAlignment( int alignment ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER ) ) != 0 ) {
       style &= ~( SWT.LEFT | SWT.RIGHT | SWT.CENTER );
       style |= alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER );
@@ -266,6 +269,7 @@ public class TableColumn extends Item {
    */
   public void setWidth( int width ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( width >= 0 ) {
       this.width = width;
       parent.updateScrollBars();
@@ -315,6 +319,7 @@ public class TableColumn extends Item {
    */
   public void setMoveable( boolean moveable ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.moveable = moveable;
   }
 
@@ -357,6 +362,7 @@ public class TableColumn extends Item {
    */
   public void setResizable( boolean resizable ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.resizable = resizable;
   }
 
@@ -401,6 +407,7 @@ public class TableColumn extends Item {
    */
   public void addControlListener( ControlListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -428,6 +435,7 @@ public class TableColumn extends Item {
    */
   public void removeControlListener( ControlListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -461,6 +469,7 @@ public class TableColumn extends Item {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -488,6 +497,7 @@ public class TableColumn extends Item {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisab
 
 import java.util.Arrays;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.swt.SWT;
@@ -178,6 +179,7 @@ public class TableItem extends Item {
   @Override
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setText( 0, text );
   }
 
@@ -197,6 +199,7 @@ public class TableItem extends Item {
    */
   public void setText( int index, String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -235,6 +238,7 @@ public class TableItem extends Item {
    */
   public void setText( String[] strings ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( strings == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -282,6 +286,7 @@ public class TableItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setImage( 0, image );
   }
 
@@ -301,6 +306,7 @@ public class TableItem extends Item {
    */
   public void setImage( int index, Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( image != null && image.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -336,6 +342,7 @@ public class TableItem extends Item {
    */
   public void setImage( Image[] images ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( images == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -403,6 +410,7 @@ public class TableItem extends Item {
    */
   public void setBackground( Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -456,6 +464,7 @@ public class TableItem extends Item {
    */
   public void setBackground( int index, Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -513,6 +522,7 @@ public class TableItem extends Item {
    */
   public void setForeground( Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -565,6 +575,7 @@ public class TableItem extends Item {
    */
   public void setForeground( int index, Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -620,6 +631,7 @@ public class TableItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -677,6 +689,7 @@ public class TableItem extends Item {
    */
   public void setFont( int index, Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -734,6 +747,7 @@ public class TableItem extends Item {
    */
   public void setChecked( boolean checked ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( parent.style & SWT.CHECK ) != 0 ) {
       if( this.checked != checked ) {
         this.checked = checked;
@@ -779,6 +793,7 @@ public class TableItem extends Item {
    */
   public void setGrayed( boolean grayed ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( parent.style & SWT.CHECK ) != 0 ) {
       if( this.grayed != grayed ) {
         this.grayed = grayed;
@@ -1121,6 +1136,7 @@ public class TableItem extends Item {
 
   private void markCached() {
     if( ( parent.style & SWT.VIRTUAL ) != 0 ) {
+      DirtyWidgets.markChanged( this );
       cached = true;
     }
   }
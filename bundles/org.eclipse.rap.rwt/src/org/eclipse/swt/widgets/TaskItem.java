@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Image;
@@ -197,6 +198,7 @@ public class TaskItem extends Item {
    */
   public void setMenu( Menu menu ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -228,6 +230,7 @@ public class TaskItem extends Item {
    */
   public void setOverlayImage( Image overlayImage ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -258,6 +261,7 @@ public class TaskItem extends Item {
    */
   public void setOverlayText( String overlayText ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -287,6 +291,7 @@ public class TaskItem extends Item {
    */
   public void setProgress( int progress ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -326,6 +331,7 @@ public class TaskItem extends Item {
    */
   public void setProgressState( int progressState ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
 }
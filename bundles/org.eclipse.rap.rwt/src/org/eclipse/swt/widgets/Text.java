@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2021 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.Size;
@@ -178,6 +179,7 @@ public class Text extends Scrollable {
    */
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -225,6 +227,7 @@ public class Text extends Scrollable {
    */
   public void setTextChars( char[] text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -316,6 +319,7 @@ public class Text extends Scrollable {
   // TODO [rh] fire VerifyEvent missing
   public void append( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( string == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -376,6 +380,7 @@ public class Text extends Scrollable {
    */
   public void setMessage( String message ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( message == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -427,6 +432,7 @@ public class Text extends Scrollable {
    */
   public void setEchoChar( char echo ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( style & SWT.MULTI ) == 0 ) {
       echoChar = echo;
     }
@@ -481,6 +487,7 @@ public class Text extends Scrollable {
    */
   public void setTextLimit( int textLimit ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( textLimit == 0 ) {
       error( SWT.ERROR_CANNOT_BE_ZERO );
     }
@@ -553,6 +560,7 @@ public class Text extends Scrollable {
    */
   public void setSelection( int start ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setSelection( start, start );
  }
 
@@ -583,6 +591,7 @@ public class Text extends Scrollable {
    */
   public void setSelection( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int validatedStart = selection.x;
     int validatedEnd = selection.y;
     if( start >= 0 && end >= start ) {
@@ -627,6 +636,7 @@ public class Text extends Scrollable {
    */
   public void setSelection( Point selection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selection == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -696,6 +706,7 @@ public class Text extends Scrollable {
    */
   public void clearSelection() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     selection.x = selection.y;
   }
 
@@ -709,6 +720,7 @@ public class Text extends Scrollable {
    */
   public void selectAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     selection.x = 0;
     selection.y = text.length();
   }
@@ -744,6 +756,7 @@ public class Text extends Scrollable {
    */
   public void setEditable( boolean editable ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     style &= ~SWT.READ_ONLY;
     if( !editable ) {
       style |= SWT.READ_ONLY;
@@ -783,6 +796,7 @@ public class Text extends Scrollable {
    */
   public void insert( String string ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( string == null ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -886,6 +900,7 @@ public class Text extends Scrollable {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -913,6 +928,7 @@ public class Text extends Scrollable {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -941,6 +957,7 @@ public class Text extends Scrollable {
    */
   public void addModifyListener( ModifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -967,6 +984,7 @@ public class Text extends Scrollable {
    */
   public void removeModifyListener( ModifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -994,6 +1012,7 @@ public class Text extends Scrollable {
    */
   public void addVerifyListener( VerifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1020,6 +1039,7 @@ public class Text extends Scrollable {
    */
   public void removeVerifyListener( VerifyListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1045,6 +1065,7 @@ public class Text extends Scrollable {
    */
   public void cut() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( style & SWT.READ_ONLY ) == 0 ) {
       try {
         Clipboard clipboard = new Clipboard( display );
@@ -1077,6 +1098,7 @@ public class Text extends Scrollable {
    */
   public void copy() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     try {
       Clipboard clipboard = new Clipboard( display );
       Transfer[] transfers = new Transfer[] { TextTransfer.getInstance() };
@@ -1107,6 +1129,7 @@ public class Text extends Scrollable {
    */
   public void paste() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( style & SWT.READ_ONLY ) == 0 ) {
       try {
         Clipboard clipboard = new Clipboard( display );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,36 +17,41 @@ import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
-import java.util.LinkedList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 
 
+/*
+ * Tasks are executed by the scheduler of the application context that is shared by all
+ * sessions. The tasks only hand their runnable over to the display, hence no session can
+ * block the scheduler threads for a noticeable time.
+ */
 class TimerExecScheduler implements SerializableCompatibility {
 
   final Display display;
   final ServerPushManager serverPushManager;
-  private final Collection<TimerExecTask> tasks;
-  private transient Timer timer;
+  private final Map<Runnable, TimerExecTask> tasks;
 
   TimerExecScheduler( Display display ) {
     this.display = display;
     serverPushManager = ServerPushManager.getInstance();
-    tasks = new LinkedList<>();
+    tasks = new IdentityHashMap<>();
   }
 
   void schedule( int milliseconds, Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      initializeTimer();
       TimerExecTask task = findOrAddTask( runnable );
-      timer.schedule( task, milliseconds );
+      scheduleTask( task, milliseconds );
     }
   }
 
@@ -59,34 +64,31 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   void dispose() {
     synchronized( display.getDeviceLock() ) {
-      Collection<TimerExecTask> tasksToCancel = new ArrayList<>( tasks );
+      Collection<TimerExecTask> tasksToCancel = new ArrayList<>( tasks.values() );
       tasksToCancel.forEach( task -> task.cancel() );
-      if( timer != null ) {
-        timer.cancel();
-      }
       tasks.clear();
     }
   }
 
-  private void initializeTimer() {
-    if( timer == null ) {
-      timer = createTimer();
-    }
+  SharedScheduler getSharedScheduler() {
+    UISessionImpl uiSession = ( UISessionImpl )getUISession();
+    return uiSession.getApplicationContext().getScheduler();
   }
 
-  Timer createTimer() {
-    return new Timer( "RWT timerExec scheduler", true );
+  private void scheduleTask( TimerExecTask task, long delay ) {
+    long executionTime = System.currentTimeMillis() + delay;
+    ScheduledFuture<?> future
+      = getSharedScheduler().schedule( task, delay, TimeUnit.MILLISECONDS );
+    task.setFuture( future, executionTime );
   }
 
   private TimerExecTask findOrAddTask( Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          return task;
-        }
+      TimerExecTask task = tasks.get( runnable );
+      if( task == null ) {
+        task = createTask( runnable );
+        tasks.put( runnable, task );
       }
-      TimerExecTask task = createTask( runnable );
-      tasks.add( task );
       return task;
     }
   }
@@ -97,33 +99,30 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   private TimerExecTask findAndRemoveTask( Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          tasks.remove( task );
-          return task;
-        }
-      }
+      return tasks.remove( runnable );
     }
-    return null;
   }
 
-  void removeTask( TimerTask task ) {
+  void removeTask( TimerExecTask task ) {
     synchronized( display.getDeviceLock() ) {
-      tasks.remove( task );
+      tasks.remove( task.getRunnable(), task );
     }
   }
 
   private void rescheduleTasks() {
     synchronized( display.getDeviceLock() ) {
-      if( tasks.size() > 0 ) {
-        initializeTimer();
-        for( TimerExecTask task : tasks ) {
-          timer.schedule( task, new Date( task.scheduledExecutionTime() ) );
-        }
+      long now = System.currentTimeMillis();
+      for( TimerExecTask task : tasks.values() ) {
+        scheduleTask( task, Math.max( 0, task.getExecutionTime() - now ) );
       }
     }
   }
 
+  private UISession getUISession() {
+    IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
+    return adapter.getUISession();
+  }
+
   private void writeObject( ObjectOutputStream stream ) throws IOException {
     synchronized( display.getDeviceLock() ) {
       stream.defaultWriteObject();
@@ -138,18 +137,12 @@ class TimerExecScheduler implements SerializableCompatibility {
   private class PostDeserializationValidation implements ObjectInputValidation {
     @Override
     public void validateObject() throws InvalidObjectException {
-      UISession uiSession = getUISession();
-      PostDeserialization.addProcessor( uiSession, new Runnable() {
+      PostDeserialization.addProcessor( getUISession(), new Runnable() {
         @Override
         public void run() {
           rescheduleTasks();
         }
       } );
     }
-
-    private UISession getUISession() {
-      IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
-      return adapter.getUISession();
-    }
   }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,15 +10,20 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
 
 import org.eclipse.swt.internal.SerializableCompatibility;
 
 
-class TimerExecTask extends TimerTask implements SerializableCompatibility {
+class TimerExecTask implements Runnable, SerializableCompatibility {
 
   private final TimerExecScheduler scheduler;
   private final Runnable runnable;
+  private long executionTime;
+  private transient ScheduledFuture<?> future;
+  // number of scheduled runs that could not be cancelled, a run that has already fired when the
+  // task is rescheduled is still pending and must not execute the runnable, guarded by device lock
+  private transient int pendingRuns;
 
   TimerExecTask( TimerExecScheduler scheduler, Runnable runnable ) {
     this.scheduler = scheduler;
@@ -29,6 +34,12 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
   @Override
   public void run() {
     synchronized( scheduler.display.getDeviceLock() ) {
+      if( pendingRuns > 1 ) {
+        // superseded by the run that was scheduled after this one had already fired
+        pendingRuns--;
+        return;
+      }
+      pendingRuns = 0;
       scheduler.removeTask( this );
       if( !scheduler.display.isDisposed() ) {
         scheduler.display.asyncExec( runnable );
@@ -37,14 +48,35 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.deactivateServerPushFor( this );
   }
 
-  @Override
-  public boolean cancel() {
+  boolean cancel() {
     scheduler.serverPushManager.deactivateServerPushFor( this );
-    return super.cancel();
+    synchronized( scheduler.display.getDeviceLock() ) {
+      return cancelFuture();
+    }
   }
 
   Runnable getRunnable() {
     return runnable;
   }
 
+  // must be called while holding the device lock
+  void setFuture( ScheduledFuture<?> future, long executionTime ) {
+    cancelFuture();
+    this.future = future;
+    this.executionTime = executionTime;
+    pendingRuns++;
+  }
+
+  long getExecutionTime() {
+    return executionTime;
+  }
+
+  private boolean cancelFuture() {
+    boolean result = future != null && future.cancel( false );
+    if( result ) {
+      pendingRuns--;
+    }
+    return result;
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2019 Rüdiger Herrmann and others.
+ * Copyright (c) 2011, 2026 Rüdiger Herrmann and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
 import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisabledFor;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -173,6 +174,7 @@ public class ToolTip extends Widget {
    */
   public void setAutoHide( boolean autoHide ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.autoHide = autoHide;
   }
 
@@ -238,6 +240,7 @@ public class ToolTip extends Widget {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     this.visible = visible;
   }
 
@@ -272,6 +275,7 @@ public class ToolTip extends Widget {
    */
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -312,6 +316,7 @@ public class ToolTip extends Widget {
    */
   public void setMessage( String message ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( message == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -400,6 +405,7 @@ public class ToolTip extends Widget {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -427,6 +433,7 @@ public class ToolTip extends Widget {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.events.MenuDetectListener;
@@ -122,6 +123,7 @@ public class TrayItem extends Item {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -179,6 +181,7 @@ public class TrayItem extends Item {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -198,6 +201,7 @@ public class TrayItem extends Item {
    */
   public void setToolTipText( String value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -214,6 +218,7 @@ public class TrayItem extends Item {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
@@ -239,6 +244,7 @@ public class TrayItem extends Item {
    */
   public void addMenuDetectListener( MenuDetectListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -266,6 +272,7 @@ public class TrayItem extends Item {
    */
   public void removeMenuDetectListener( MenuDetectListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -286,6 +293,7 @@ public class TrayItem extends Item {
    */
   public void setToolTip( ToolTip toolTip ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
   }
 
   /**
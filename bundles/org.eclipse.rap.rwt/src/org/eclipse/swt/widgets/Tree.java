@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.internal.theme.Size;
@@ -266,6 +267,7 @@ public class Tree extends Composite {
    */
   public void setItemCount( int count ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount ) {
@@ -427,6 +429,7 @@ public class Tree extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     for( int i = itemCount - 1; i >= 0; i-- ) {
       if( items[ i ] != null ) {
         items[ i ].dispose();
@@ -457,6 +460,7 @@ public class Tree extends Composite {
    */
   public void showItem( TreeItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -504,6 +508,7 @@ public class Tree extends Composite {
    */
   public void setTopItem( TreeItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -579,6 +584,7 @@ public class Tree extends Composite {
    */
   public void showColumn( TreeColumn column ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( column == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -630,6 +636,7 @@ public class Tree extends Composite {
    */
   public void showSelection() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selection.length == 0 ) {
       return;
     }
@@ -696,6 +703,7 @@ public class Tree extends Composite {
    */
   public void setSelection( TreeItem selection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selection == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -727,6 +735,7 @@ public class Tree extends Composite {
    */
   public void setSelection( TreeItem[] selection ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( selection == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -787,6 +796,7 @@ public class Tree extends Composite {
    */
   public void select( TreeItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -819,6 +829,7 @@ public class Tree extends Composite {
    */
   public void selectAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( style & SWT.MULTI ) != 0 ) {
       final java.util.List<TreeItem> allItems = new ArrayList<>();
       WidgetTreeUtil.accept( this, new WidgetTreeVisitor() {
@@ -854,6 +865,7 @@ public class Tree extends Composite {
    */
   public void deselect( TreeItem item ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -879,6 +891,7 @@ public class Tree extends Composite {
    */
   public void deselectAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     selection = EMPTY_SELECTION;
   }
 
@@ -900,6 +913,7 @@ public class Tree extends Composite {
    */
   public void setLinesVisible( boolean value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( linesVisible == value ) {
       return; /* no change */
     }
@@ -967,6 +981,7 @@ public class Tree extends Composite {
    */
   public void clear( int index, boolean recursive ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( index < 0 || index >= itemCount ) {
       error( SWT.ERROR_INVALID_RANGE );
     }
@@ -1062,6 +1077,7 @@ public class Tree extends Composite {
    */
   public void clearAll( boolean recursive ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     for( int i = 0; i < itemCount; i++ ) {
       TreeItem item = items[ i ];
       if( item != null ) {
@@ -1205,6 +1221,7 @@ public class Tree extends Composite {
    */
   public void setHeaderVisible( boolean value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( headerVisible != value ) {
       headerVisible = value;
       layoutCache.invalidateHeaderHeight();
@@ -1249,6 +1266,7 @@ public class Tree extends Composite {
    */
   public void setHeaderBackground( Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1287,6 +1305,7 @@ public class Tree extends Composite {
    */
   public void setHeaderForeground( Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1422,6 +1441,7 @@ public class Tree extends Composite {
    */
   public void setColumnOrder( int[] order ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( order == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1476,6 +1496,7 @@ public class Tree extends Composite {
    */
   public void setSortColumn( TreeColumn column ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( column != null && column.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1504,6 +1525,7 @@ public class Tree extends Composite {
    */
   public void setSortDirection( int direction ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( direction != SWT.UP && direction != SWT.DOWN && direction != SWT.NONE )
     {
       return;
@@ -1618,6 +1640,7 @@ public class Tree extends Composite {
    */
   public void addSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1644,6 +1667,7 @@ public class Tree extends Composite {
    */
   public void removeSelectionListener( SelectionListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1670,6 +1694,7 @@ public class Tree extends Composite {
    */
   public void addTreeListener( TreeListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1696,6 +1721,7 @@ public class Tree extends Composite {
    */
   public void removeTreeListener( TreeListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
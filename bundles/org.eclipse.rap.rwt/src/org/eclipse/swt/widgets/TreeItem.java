@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -358,6 +359,7 @@ public class TreeItem extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( this.expanded != expanded && ( !expanded || itemCount > 0 ) ) {
       this.expanded = expanded;
       if( !expanded ) {
@@ -528,6 +530,7 @@ public class TreeItem extends Item {
    */
   public void setBackground( int index, Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -561,6 +564,7 @@ public class TreeItem extends Item {
    */
   public void setFont( int index, Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -595,6 +599,7 @@ public class TreeItem extends Item {
    */
   public void setForeground( int index, Color color ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -627,6 +632,7 @@ public class TreeItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -683,6 +689,7 @@ public class TreeItem extends Item {
    */
   public void setBackground( Color value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value != null && value.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -758,6 +765,7 @@ public class TreeItem extends Item {
    */
   public void setForeground( Color value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value != null && value.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -780,6 +788,7 @@ public class TreeItem extends Item {
    */
   public void setChecked( boolean checked ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( parent.getStyle() & SWT.CHECK ) != 0 ) {
       if( this.checked != checked ) {
         this.checked = checked;
@@ -819,6 +828,7 @@ public class TreeItem extends Item {
    */
   public void setGrayed( boolean grayed ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( ( parent.getStyle() & SWT.CHECK ) != 0 ) {
       if( this.grayed != grayed ) {
         this.grayed = grayed;
@@ -933,6 +943,7 @@ public class TreeItem extends Item {
    */
   public void setText( String[] value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -957,6 +968,7 @@ public class TreeItem extends Item {
   @Override
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setText( 0, text );
   }
 
@@ -974,6 +986,7 @@ public class TreeItem extends Item {
    */
   public void setText( int index, String text ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1108,6 +1121,7 @@ public class TreeItem extends Item {
    */
   public void clear( int index, boolean recursive ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( index < 0 || index >= itemCount ) {
       error( SWT.ERROR_INVALID_RANGE );
     }
@@ -1126,6 +1140,7 @@ public class TreeItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     setImage( 0, image );
   }
 
@@ -1146,6 +1161,7 @@ public class TreeItem extends Item {
    */
   public void setImage( int index, Image image ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( image != null && image.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1183,6 +1199,7 @@ public class TreeItem extends Item {
    */
   public void setImage( Image[] value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( value == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1383,6 +1400,7 @@ public class TreeItem extends Item {
    */
   public void removeAll() {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     for( int i = itemCount - 1; i >= 0; i-- ) {
       if( items[ i ] != null ) {
         items[ i ].dispose();
@@ -1405,6 +1423,7 @@ public class TreeItem extends Item {
    */
   public void setItemCount( int count ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount ) {
@@ -1536,6 +1555,7 @@ public class TreeItem extends Item {
 
   void markCached() {
     if( parent.isVirtual() ) {
+      DirtyWidgets.markChanged( this );
       cached = true;
     }
   }
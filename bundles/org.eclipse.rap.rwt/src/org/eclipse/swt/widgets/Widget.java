@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import org.eclipse.rap.rwt.Adaptable;
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.CurrentPhase;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetDataUtil;
@@ -158,6 +159,13 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     display = parent.display;
     reskinWidget();
     remoteAdapter = new ParentHolderRemoteAdapter( parent );
+    if( DirtyWidgets.isEnabled() ) {
+      DirtyWidgets.markDirty( parent );
+      DirtyWidgets.markDirty( this );
+      if( this instanceof Control ) {
+        DirtyWidgets.markTabOrderChanged( this );
+      }
+    }
   }
 
   /**
@@ -183,7 +191,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     }
     if( adapter == IWidgetGraphicsAdapter.class ) {
       if( widgetGraphicsAdapter == null ) {
-        widgetGraphicsAdapter = new WidgetGraphicsAdapter();
+        widgetGraphicsAdapter = new WidgetGraphicsAdapter( this );
       }
       return (T) widgetGraphicsAdapter;
     }
@@ -241,6 +249,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void setData( Object data ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( hasState( KEYED_DATA ) ) {
       ( ( Object[] )this.data )[ 0 ] = data;
     } else {
@@ -315,6 +324,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void setData( String key, Object value ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( key == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -449,6 +459,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void addDisposeListener( DisposeListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -475,6 +486,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void removeDisposeListener( DisposeListener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -513,6 +525,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void addListener( int eventType, Listener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -549,6 +562,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void removeListener( int eventType, Listener listener ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     if( listener == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -736,6 +750,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
    */
   public void reskin( int flags ) {
     checkWidget();
+    DirtyWidgets.markChanged( this );
     reskinWidget();
     if( ( flags & SWT.ALL ) != 0 ) {
       reskinChildren( flags );
@@ -836,6 +851,12 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
       if( !isValidThread() ) {
         error( SWT.ERROR_THREAD_INVALID_ACCESS );
       }
+      if( DirtyWidgets.isEnabled() ) {
+        DirtyWidgets.markDirty( getAdapter( RemoteAdapter.class ).getParent() );
+        if( this instanceof Control ) {
+          DirtyWidgets.markTabOrderChanged( this );
+        }
+      }
       if( !hasState( DISPOSE_SENT ) ) {
         addState( DISPOSE_SENT );
         notifyListeners( SWT.Dispose, new Event() );
@@ -848,6 +869,9 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
         releaseParent();
         releaseWidget();
         getAdapter( RemoteAdapter.class ).markDisposed( this );
+        if( DirtyWidgets.isEnabled() ) {
+          DirtyWidgets.getInstance( display ).unregister( remoteAdapter.getId() );
+        }
       }
     }
   }
@@ -1048,11 +1072,14 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
 
   private RemoteAdapter createRemoteAdapter( Widget parent ) {
     String id = IdGenerator.getInstance( RWT.getUISession( display ) ).createId( this );
+    if( DirtyWidgets.isEnabled() ) {
+      DirtyWidgets.getInstance( display ).register( id, this );
+    }
     return createRemoteAdapter( parent, id );
   }
 
   RemoteAdapter createRemoteAdapter( Widget parent, String id ) {
-    WidgetRemoteAdapter remoteAdapter = new WidgetRemoteAdapter( id );
+    WidgetRemoteAdapter remoteAdapter = new WidgetRemoteAdapter( id, getClass() );
     remoteAdapter.setParent( parent );
     return remoteAdapter;
   }
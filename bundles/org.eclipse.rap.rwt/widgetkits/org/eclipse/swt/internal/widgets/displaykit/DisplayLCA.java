@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,6 +30,7 @@ import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
@@ -67,7 +68,11 @@ public class DisplayLCA {
 
   public void readData( Display display ) {
     handleOperations( display );
-    visitWidgets( display );
+    if( DirtyWidgets.isEnabled() ) {
+      visitTargetWidgets( display );
+    } else {
+      visitWidgets( display );
+    }
     DNDSupport.handleOperations();
     RemoteObjectLifeCycleAdapter.readData( ProtocolUtil.getClientMessage() );
   }
@@ -80,7 +85,9 @@ public class DisplayLCA {
     ActiveKeysUtil.preserveActiveKeys( display );
     ActiveKeysUtil.preserveCancelKeys( display );
     ActiveKeysUtil.preserveMnemonicActivator( display );
-    if( adapter.isInitialized() ) {
+    if( adapter.isInitialized() && DirtyWidgets.isEnabled() ) {
+      preserveTargetWidgets( display );
+    } else if( adapter.isInitialized() ) {
       for( Shell shell : getShells( display ) ) {
         WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
           @Override
@@ -100,7 +107,11 @@ public class DisplayLCA {
     renderDisposeWidgets();
     renderExitConfirmation( display );
     renderEnableUiTests( display );
-    renderShells( display );
+    if( DirtyWidgets.isEnabled() && DirtyWidgets.getInstance( display ).isTracking() ) {
+      renderDirtyWidgets( display );
+    } else {
+      renderShells( display );
+    }
     renderFocus( display );
     renderBeep( display );
     renderResizeListener( display );
@@ -116,6 +127,10 @@ public class DisplayLCA {
 
   public void clearPreserved( Display display ) {
     ( ( WidgetRemoteAdapter )getAdapter( display ) ).clearPreserved();
+    if( DirtyWidgets.isEnabled() && DirtyWidgets.getInstance( display ).isTracking() ) {
+      DirtyWidgets.getInstance( display ).clear();
+      return;
+    }
     for( Shell shell : getShells( display ) ) {
       WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
         @Override
@@ -125,6 +140,10 @@ public class DisplayLCA {
         }
       } );
     }
+    if( DirtyWidgets.isEnabled() ) {
+      // widgets accessed by the full tree walk are not dirty
+      DirtyWidgets.getInstance( display ).clear();
+    }
   }
 
   private static void handleOperations( Display display ) {
@@ -151,6 +170,27 @@ public class DisplayLCA {
     }
   }
 
+  private static void visitTargetWidgets( Display display ) {
+    DirtyWidgets dirtyWidgets = DirtyWidgets.getInstance( display );
+    for( String target : ProtocolUtil.getClientMessage().getAllTargets() ) {
+      Widget widget = dirtyWidgets.find( target );
+      if( widget != null && !widget.isDisposed() ) {
+        getLCA( widget ).readData( widget );
+      }
+    }
+  }
+
+  private static void preserveTargetWidgets( Display display ) {
+    DirtyWidgets dirtyWidgets = DirtyWidgets.getInstance( display );
+    dirtyWidgets.startTracking();
+    for( Shell shell : getShells( display ) ) {
+      DirtyWidgets.markDirty( shell );
+    }
+    for( String target : ProtocolUtil.getClientMessage().getAllTargets() ) {
+      DirtyWidgets.markDirty( dirtyWidgets.find( target ) );
+    }
+  }
+
   private static void renderOverflow( Display display ) {
     if( !getAdapter( display ).isInitialized() ) {
       String overflow = getEntryPointProperties().get( WebClient.PAGE_OVERFLOW );
@@ -188,6 +228,14 @@ public class DisplayLCA {
     }
   }
 
+  private static void renderDirtyWidgets( Display display ) throws IOException {
+    DirtyWidgets dirtyWidgets = DirtyWidgets.getInstance( display );
+    dirtyWidgets.startRendering();
+    RenderVisitor visitor = new RenderVisitor();
+    dirtyWidgets.accept( visitor );
+    visitor.reThrowProblem();
+  }
+
   private static void renderExitConfirmation( Display display ) {
     String exitConfirmation = getExitConfirmation();
     RemoteAdapter adapter = getAdapter( display );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ import java.io.InputStream;
 import java.util.*;
 
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.swt.SWT;
@@ -588,6 +589,7 @@ public class FormText extends Canvas {
    *            </samp> otherwise.
    */
   public void setParagraphsSeparated(boolean value) {
+    DirtyWidgets.markChanged( this );
     paragraphsSeparated = value;
   }
 
@@ -615,6 +617,7 @@ public class FormText extends Canvas {
    *            an object of a type <samp>Image </samp>.
    */
   public void setImage(String key, Image image) {
+    DirtyWidgets.markChanged( this );
     resourceTable.put("i." + key, image); //$NON-NLS-1$
   }
 
@@ -633,6 +636,7 @@ public class FormText extends Canvas {
    *            if the key needs to be cleared.
    */
   public void setColor(String key, Color color) {
+    DirtyWidgets.markChanged( this );
     String fullKey = "c." + key; //$NON-NLS-1$
     if (color == null)
       resourceTable.remove(fullKey);
@@ -655,6 +659,7 @@ public class FormText extends Canvas {
    *            if the key needs to be cleared.
    */
   public void setFont(String key, Font font) {
+    DirtyWidgets.markChanged( this );
     String fullKey = "f." + key; //$NON-NLS-1$
     if (font == null)
       resourceTable.remove(fullKey);
@@ -680,6 +685,7 @@ public class FormText extends Canvas {
    * @since 3.1
    */
   public void setControl(String key, Control control) {
+    DirtyWidgets.markChanged( this );
     String fullKey = "o." + key; //$NON-NLS-1$
     if (control == null)
       resourceTable.remove(fullKey);
@@ -722,6 +728,7 @@ public class FormText extends Canvas {
    *            converted into hyperlinks.
    */
   public void setText(String text, boolean parseTags, boolean expandURLs) {
+    DirtyWidgets.markChanged( this );
     disposeResourceTable(false);
     entered = null;
     if (parseTags)
@@ -746,6 +753,7 @@ public class FormText extends Canvas {
    *            converted into hyperlinks.
    */
   public void setContents(InputStream is, boolean expandURLs) {
+    DirtyWidgets.markChanged( this );
     entered = null;
     disposeResourceTable(false);
     model.parseInputStream(is, expandURLs);
@@ -936,6 +944,7 @@ public class FormText extends Canvas {
    *            <code>false</code> otherwise.
    */
   public void setWhitespaceNormalized(boolean value) {
+    DirtyWidgets.markChanged( this );
     model.setWhitespaceNormalized(value);
   }
 
@@ -1012,6 +1021,7 @@ public class FormText extends Canvas {
    *            hyperlink settings for this control
    */
   public void setHyperlinkSettings(HyperlinkSettings settings) {
+    DirtyWidgets.markChanged( this );
     model.setHyperlinkSettings(settings);
   }
 
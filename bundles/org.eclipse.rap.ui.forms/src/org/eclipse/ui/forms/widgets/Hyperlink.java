@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  *******************************************************************************/
 package org.eclipse.ui.forms.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.accessibility.*;
@@ -77,6 +78,7 @@ public class Hyperlink extends AbstractHyperlink {
           private int underlineMode;
           @Override
           public void setActiveForeground( final Color activeForeground ) {
+            DirtyWidgets.markChanged( Hyperlink.this );
             this.activeForeground = activeForeground;
           }
           @Override
@@ -85,6 +87,7 @@ public class Hyperlink extends AbstractHyperlink {
           }
           @Override
           public void setActiveBackground( final Color activeBackground ) {
+            DirtyWidgets.markChanged( Hyperlink.this );
             this.activeBackground = activeBackground;
           }
           @Override
@@ -93,6 +96,7 @@ public class Hyperlink extends AbstractHyperlink {
           }
           @Override
           public void setUnderlineMode( final int underlineMode ) {
+            DirtyWidgets.markChanged( Hyperlink.this );
             this.underlineMode = underlineMode;
           }
           @Override
@@ -176,6 +180,7 @@ public class Hyperlink extends AbstractHyperlink {
    *            each wrapped line.
    */
   public void setUnderlined(boolean underlined) {
+    DirtyWidgets.markChanged( this );
     this.underlined = underlined;
     redraw();
   }
@@ -240,6 +245,7 @@ public class Hyperlink extends AbstractHyperlink {
    *            the hyperlink text
    */
   public void setText(String text) {
+    DirtyWidgets.markChanged( this );
     if (text != null)
       this.text = text;
     else
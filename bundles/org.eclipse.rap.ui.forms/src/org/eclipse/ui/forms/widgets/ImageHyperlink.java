@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.ui.forms.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
@@ -215,6 +216,7 @@ public class ImageHyperlink extends Hyperlink {
    *
    */
   public void setActiveImage(Image activeImage) {
+    DirtyWidgets.markChanged( this );
     this.activeImage = activeImage;
   }
 
@@ -233,6 +235,7 @@ public class ImageHyperlink extends Hyperlink {
    * @param hoverImage
    */
   public void setHoverImage(Image hoverImage) {
+    DirtyWidgets.markChanged( this );
     this.hoverImage = hoverImage;
   }
 
@@ -251,6 +254,7 @@ public class ImageHyperlink extends Hyperlink {
    * @param image
    */
   public void setImage(Image image) {
+    DirtyWidgets.markChanged( this );
     this.image = image;
 // RAP [if] unused
 //    if (disabledImage != null)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  *******************************************************************************/
 package org.eclipse.ui.forms.widgets;
 
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
 import org.eclipse.swt.SWT;
 //import org.eclipse.swt.accessibility.*;
@@ -90,6 +91,7 @@ public abstract class ToggleHyperlink extends AbstractHyperlink {
    * @param decorationColor
    */
   public void setDecorationColor(Color decorationColor) {
+    DirtyWidgets.markChanged( this );
     this.decorationColor = decorationColor;
   }
   /**
@@ -108,6 +110,7 @@ public abstract class ToggleHyperlink extends AbstractHyperlink {
    *            the hover color to use
    */
   public void setHoverDecorationColor(Color hoverColor) {
+    DirtyWidgets.markChanged( this );
     this.hoverColor = hoverColor;
   }
   /**
@@ -171,6 +174,7 @@ public abstract class ToggleHyperlink extends AbstractHyperlink {
    * @param expanded the expansion state
    */
   public void setExpanded(boolean expanded) {
+    DirtyWidgets.markChanged( this );
     this.expanded = expanded;
     redraw();
   }
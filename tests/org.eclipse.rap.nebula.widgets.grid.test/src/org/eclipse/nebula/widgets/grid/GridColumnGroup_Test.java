@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,9 @@
 package org.eclipse.nebula.widgets.grid;
 
 import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridColumns;
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
 import static org.eclipse.nebula.widgets.grid.GridTestUtil.loadImage;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
@@ -27,6 +29,7 @@ import org.eclipse.swt.events.TreeAdapter;
 import org.eclipse.swt.events.TreeListener;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 import org.junit.Before;
@@ -90,6 +93,20 @@ public class GridColumnGroup_Test {
     assertFalse( group.getExpanded() );
   }
 
+  @Test
+  public void testSetExpanded_DeselectsCollapsedCells() {
+    GridColumn[] columns = createGridColumns( group, 2, SWT.NONE );
+    columns[ 1 ].setSummary( false );
+    createGridItems( grid, 2, 0 );
+    grid.setCellSelectionEnabled( true );
+    grid.selectAllCells();
+
+    group.setExpanded( false );
+
+    Point[] expected = new Point[] { new Point( 0, 0 ), new Point( 0, 1 ) };
+    assertArrayEquals( expected, grid.getCellSelection() );
+  }
+
   @Test
   public void testAddRemoveTreeListener() {
     TreeListener listener = new TreeAdapter() {};
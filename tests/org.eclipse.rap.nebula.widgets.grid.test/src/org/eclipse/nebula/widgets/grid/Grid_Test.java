@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -293,6 +293,28 @@ public class Grid_Test {
     assertEquals( 2, grid.indexOf( items[ 4 ] ) );
   }
 
+  @Test
+  public void testIndexOf_AfterInsert() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+
+    GridItem item = new GridItem( grid, SWT.NONE, 0 );
+
+    assertEquals( 0, grid.indexOf( item ) );
+    assertEquals( 2, grid.indexOf( items[ 1 ] ) );
+    assertEquals( 6, grid.indexOf( items[ 5 ] ) );
+  }
+
+  @Test
+  public void testIndexOf_AfterDisposeLast() {
+    GridItem[] items = createGridItems( grid, 3, 0 );
+
+    items[ 2 ].dispose();
+    GridItem item = new GridItem( grid, SWT.NONE );
+
+    assertEquals( 1, grid.indexOf( items[ 1 ] ) );
+    assertEquals( 2, grid.indexOf( item ) );
+  }
+
   @Test
   public void testGetColumnCount() {
     createGridColumns( grid, 5, SWT.NONE );
@@ -721,6 +743,76 @@ public class Grid_Test {
     assertTrue( Arrays.equals( expected, grid.getCellSelection() ) );
   }
 
+  @Test
+  public void testGetCellSelection_afterItemDisposal() {
+    createGridColumns( grid, 3, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 3, 0 );
+    grid.setCellSelectionEnabled( true );
+    Point[] cells = new Point[] { new Point( 0, 0 ), new Point( 1, 1 ), new Point( 2, 2 ) };
+    grid.setCellSelection( cells );
+
+    items[ 1 ].dispose();
+
+    Point[] expected = new Point[] { new Point( 0, 0 ), new Point( 2, 1 ) };
+    assertTrue( Arrays.equals( expected, grid.getCellSelection() ) );
+  }
+
+  @Test
+  public void testGetCellSelection_afterItemInsertion() {
+    createGridColumns( grid, 3, SWT.NONE );
+    createGridItems( grid, 3, 0 );
+    grid.setCellSelectionEnabled( true );
+    Point[] cells = new Point[] { new Point( 0, 0 ), new Point( 1, 1 ), new Point( 2, 2 ) };
+    grid.setCellSelection( cells );
+
+    new GridItem( grid, SWT.NONE, 1 );
+
+    Point[] expected = new Point[] { new Point( 0, 0 ), new Point( 1, 2 ), new Point( 2, 3 ) };
+    assertTrue( Arrays.equals( expected, grid.getCellSelection() ) );
+  }
+
+  @Test
+  public void testIsCellSelected_withInvalidCell() {
+    createGridColumns( grid, 3, SWT.NONE );
+    createGridItems( grid, 3, 0 );
+    grid.setCellSelectionEnabled( true );
+
+    grid.selectCell( new Point( 1, 2 ) );
+
+    assertTrue( grid.isCellSelected( new Point( 1, 2 ) ) );
+    assertFalse( grid.isCellSelected( new Point( 2, 1 ) ) );
+    assertFalse( grid.isCellSelected( new Point( -1, 2 ) ) );
+    assertFalse( grid.isCellSelected( new Point( 1, 5 ) ) );
+  }
+
+  @Test
+  public void testIsCellSelected_afterSelectAllCells() {
+    grid = new Grid( shell, SWT.MULTI );
+    createGridColumns( grid, 70, SWT.NONE );
+    createGridItems( grid, 100, 0 );
+    grid.setCellSelectionEnabled( true );
+
+    grid.selectAllCells();
+
+    assertEquals( 7000, grid.getCellSelectionCount() );
+    assertTrue( grid.isCellSelected( new Point( 69, 99 ) ) );
+  }
+
+  @Test
+  public void testGetSelectionIndices_WithCellSelection() {
+    createGridColumns( grid, 3, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 3, 0 );
+    grid.setCellSelectionEnabled( true );
+    Point[] cells = new Point[] { new Point( 2, 2 ), new Point( 0, 0 ), new Point( 1, 2 ) };
+
+    grid.setCellSelection( cells );
+
+    assertArrayEquals( new GridItem[] { items[ 0 ], items[ 2 ] }, grid.getSelection() );
+    assertArrayEquals( new int[] { 0, 2 }, grid.getSelectionIndices() );
+    assertEquals( 2, grid.getSelectionCount() );
+    assertEquals( 0, grid.getSelectionIndex() );
+  }
+
   @Test
   public void testIsCellSelectionEnabled_Initial() {
     assertFalse( grid.isCellSelectionEnabled() );
@@ -816,10 +908,10 @@ public class Grid_Test {
 
     Point[] expected = new Point[] {
       new Point( 3, 0 ),
-      new Point( 3, 1 ),
-      new Point( 3, 2 ),
       new Point( 4, 0 ),
+      new Point( 3, 1 ),
       new Point( 4, 1 ),
+      new Point( 3, 2 ),
       new Point( 4, 2 )
     };
     assertTrue( Arrays.equals( expected, grid.getCellSelection() ) );
@@ -2720,6 +2812,28 @@ public class Grid_Test {
     assertEquals( 14, grid.getTopIndex() );
   }
 
+  @Test
+  public void testGetTopIndex_DifferentItemHeight_AfterHeightChange() {
+    GridItem[] items = createGridItems( grid, 20, 0 );
+    items[ 16 ].setHeight( grid.getItemHeight() * 2  );
+    grid.setTopIndex( 18 );
+
+    items[ 16 ].setHeight( grid.getItemHeight() );
+
+    assertEquals( 13, grid.getTopIndex() );
+  }
+
+  @Test
+  public void testGetTopIndex_DifferentItemHeight_AfterInsert() {
+    GridItem[] items = createGridItems( grid, 20, 0 );
+    items[ 16 ].setHeight( grid.getItemHeight() * 2  );
+
+    new GridItem( grid, SWT.NONE, 0 );
+    grid.setTopIndex( 19 );
+
+    assertEquals( 15, grid.getTopIndex() );
+  }
+
   @Test
   public void testAdjustTopIndexOnResize() {
     createGridItems( grid, 15, 3 );
@@ -2896,6 +3010,18 @@ public class Grid_Test {
     assertEquals( expected, grid.getOrigin( columns[ 3 ], items[ 48 ] ) );
   }
 
+  @Test
+  public void testGetOrigin_DifferentItemHeight() {
+    GridColumn[] columns = createGridColumns( grid, 10, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 20, 3 );
+    items[ 44 ].setHeight( 50 );
+    horizontalBar.setSelection( 150 );
+    grid.setTopIndex( 40 );
+
+    Point expected = new Point( -30, grid.getItemHeight() + 50 );
+    assertEquals( expected, grid.getOrigin( columns[ 3 ], items[ 48 ] ) );
+  }
+
   @Test
   public void testGetOrigin_HeaderVisible() {
     GridColumn[] columns = createGridColumns( grid, 10, SWT.NONE );
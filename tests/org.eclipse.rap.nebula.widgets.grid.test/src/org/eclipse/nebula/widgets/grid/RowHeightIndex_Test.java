@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class RowHeightIndex_Test {
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  private Grid grid;
+  private RowHeightIndex index;
+
+  @Before
+  public void setUp() {
+    Display display = new Display();
+    Shell shell = new Shell( display );
+    grid = new Grid( shell, SWT.NONE );
+    index = new RowHeightIndex();
+  }
+
+  @Test
+  public void testInitial() {
+    assertFalse( index.isValid() );
+    assertEquals( 0, index.size() );
+    assertEquals( 0, index.getHeight( 0, 20 ) );
+  }
+
+  @Test
+  public void testRebuild() {
+    GridItem[] items = createGridItems( grid, 3, 2 );
+
+    index.rebuild( Arrays.asList( items ) );
+
+    assertTrue( index.isValid() );
+    assertEquals( 9, index.size() );
+    assertEquals( 3, index.getVisibleCount( 9 ) );
+    assertEquals( 60, index.getHeight( 9, 20 ) );
+  }
+
+  @Test
+  public void testInvalidate() {
+    index.rebuild( Arrays.asList( createGridItems( grid, 3, 0 ) ) );
+
+    index.invalidate();
+
+    assertFalse( index.isValid() );
+  }
+
+  @Test
+  public void testGetHeight_withCustomHeight() {
+    GridItem[] items = createGridItems( grid, 5, 0 );
+    items[ 1 ].setHeight( 50 );
+
+    index.rebuild( Arrays.asList( items ) );
+
+    assertEquals( 20, index.getHeight( 1, 20 ) );
+    assertEquals( 70, index.getHeight( 2, 20 ) );
+    assertEquals( 130, index.getHeight( 5, 20 ) );
+    assertEquals( 110, index.getHeight( 5, 15 ) );
+  }
+
+  @Test
+  public void testAdd() {
+    GridItem[] items = createGridItems( grid, 40, 0 );
+    items[ 7 ].setHeight( 50 );
+    items[ 33 ].setVisible( false );
+
+    for( GridItem item : items ) {
+      index.add( item );
+    }
+
+    assertEquals( 40, index.size() );
+    assertEquals( 39, index.getVisibleCount( 40 ) );
+    assertEquals( 38 * 20 + 50, index.getHeight( 40, 20 ) );
+    assertEquals( 32 * 20 + 50, index.getHeight( 33, 20 ) );
+    assertEquals( 32 * 20 + 50, index.getHeight( 34, 20 ) );
+  }
+
+  @Test
+  public void testRemoveLast() {
+    GridItem[] items = createGridItems( grid, 17, 0 );
+    items[ 16 ].setHeight( 50 );
+    index.rebuild( Arrays.asList( items ) );
+
+    index.removeLast();
+    index.add( items[ 0 ] );
+
+    assertEquals( 17, index.size() );
+    assertEquals( 17 * 20, index.getHeight( 17, 20 ) );
+  }
+
+  @Test
+  public void testUpdate() {
+    GridItem[] items = createGridItems( grid, 10, 0 );
+    index.rebuild( Arrays.asList( items ) );
+
+    items[ 2 ].setHeight( 50 );
+    items[ 5 ].setVisible( false );
+    index.update( 2, items[ 2 ] );
+    index.update( 5, items[ 5 ] );
+
+    assertEquals( 9, index.getVisibleCount( 10 ) );
+    assertEquals( 8 * 20 + 50, index.getHeight( 10, 20 ) );
+  }
+
+  @Test
+  public void testFindVisible() {
+    GridItem[] items = createGridItems( grid, 3, 2 );
+    index.rebuild( Arrays.asList( items ) );
+
+    assertEquals( 0, index.findVisible( 1 ) );
+    assertEquals( 3, index.findVisible( 2 ) );
+    assertEquals( 6, index.findVisible( 3 ) );
+  }
+
+  @Test
+  public void testFindVisible_outOfRange() {
+    index.rebuild( Arrays.asList( createGridItems( grid, 3, 2 ) ) );
+
+    assertEquals( -1, index.findVisible( 0 ) );
+    assertEquals( -1, index.findVisible( 4 ) );
+  }
+
+  @Test
+  public void testFindEnd() {
+    GridItem[] items = createGridItems( grid, 5, 0 );
+    items[ 1 ].setHeight( 50 );
+    index.rebuild( Arrays.asList( items ) );
+
+    assertEquals( 0, index.findEnd( -1, 20 ) );
+    assertEquals( 0, index.findEnd( 19, 20 ) );
+    assertEquals( 1, index.findEnd( 69, 20 ) );
+    assertEquals( 2, index.findEnd( 70, 20 ) );
+    assertEquals( 5, index.findEnd( 1000, 20 ) );
+  }
+
+  @Test
+  public void testFindEnd_skipsInvisibleRows() {
+    GridItem[] items = createGridItems( grid, 2, 2 );
+    index.rebuild( Arrays.asList( items ) );
+
+    assertEquals( 3, index.findEnd( 39, 20 ) );
+  }
+
+}
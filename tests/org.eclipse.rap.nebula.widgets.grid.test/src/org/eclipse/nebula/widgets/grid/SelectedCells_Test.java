@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.graphics.Point;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class SelectedCells_Test {
+
+  private SelectedCells cells;
+
+  @Before
+  public void setUp() {
+    cells = new SelectedCells();
+  }
+
+  @Test
+  public void testInitial() {
+    assertEquals( 0, cells.size() );
+    assertFalse( cells.contains( 0, 0 ) );
+    assertEquals( -1, cells.nextRow( 0 ) );
+    assertEquals( 0, cells.toArray().length );
+  }
+
+  @Test
+  public void testAdd() {
+    assertTrue( cells.add( 1, 2 ) );
+
+    assertEquals( 1, cells.size() );
+    assertTrue( cells.contains( 1, 2 ) );
+    assertFalse( cells.contains( 2, 1 ) );
+  }
+
+  @Test
+  public void testAdd_twice() {
+    cells.add( 1, 2 );
+
+    assertFalse( cells.add( 1, 2 ) );
+    assertEquals( 1, cells.size() );
+  }
+
+  @Test
+  public void testAdd_growsRows() {
+    cells.add( 0, 0 );
+
+    cells.add( 3, 1000 );
+
+    assertTrue( cells.contains( 0, 0 ) );
+    assertTrue( cells.contains( 3, 1000 ) );
+  }
+
+  @Test
+  public void testAdd_growsColumns() {
+    cells.add( 5, 0 );
+    cells.add( 63, 1 );
+
+    cells.add( 130, 1 );
+
+    assertTrue( cells.contains( 5, 0 ) );
+    assertTrue( cells.contains( 63, 1 ) );
+    assertTrue( cells.contains( 130, 1 ) );
+    assertFalse( cells.contains( 130, 0 ) );
+    assertEquals( 3, cells.size() );
+  }
+
+  @Test
+  public void testContains_withInvalidCell() {
+    cells.add( 0, 0 );
+
+    assertFalse( cells.contains( -1, 0 ) );
+    assertFalse( cells.contains( 0, -1 ) );
+    assertFalse( cells.contains( 64, 0 ) );
+  }
+
+  @Test
+  public void testRemove() {
+    cells.add( 1, 2 );
+    cells.add( 2, 2 );
+
+    assertTrue( cells.remove( 1, 2 ) );
+
+    assertFalse( cells.contains( 1, 2 ) );
+    assertFalse( cells.remove( 1, 2 ) );
+    assertEquals( 1, cells.size() );
+  }
+
+  @Test
+  public void testClear() {
+    cells.add( 1, 2 );
+
+    cells.clear();
+
+    assertEquals( 0, cells.size() );
+    assertFalse( cells.contains( 1, 2 ) );
+  }
+
+  @Test
+  public void testClearRow() {
+    cells.add( 0, 1 );
+    cells.add( 1, 1 );
+    cells.add( 1, 2 );
+
+    cells.clearRow( 1 );
+
+    assertEquals( 1, cells.size() );
+    assertFalse( cells.isRowSelected( 1 ) );
+    assertTrue( cells.contains( 1, 2 ) );
+  }
+
+  @Test
+  public void testRemoveRow() {
+    cells.add( 0, 0 );
+    cells.add( 0, 1 );
+    cells.add( 1, 2 );
+
+    cells.removeRow( 1 );
+
+    assertArrayEquals( new Point[] { new Point( 0, 0 ), new Point( 1, 1 ) }, cells.toArray() );
+  }
+
+  @Test
+  public void testInsertRow() {
+    cells.add( 0, 0 );
+    cells.add( 0, 1 );
+    cells.add( 1, 2 );
+
+    cells.insertRow( 1 );
+
+    Point[] expected = new Point[] { new Point( 0, 0 ), new Point( 0, 2 ), new Point( 1, 3 ) };
+    assertArrayEquals( expected, cells.toArray() );
+  }
+
+  @Test
+  public void testInsertRow_growsWhenLastRowIsSelected() {
+    for( int row = 0; row < 16; row++ ) {
+      cells.add( 0, row );
+    }
+
+    cells.insertRow( 0 );
+
+    assertFalse( cells.contains( 0, 0 ) );
+    assertTrue( cells.contains( 0, 16 ) );
+    assertEquals( 16, cells.size() );
+  }
+
+  @Test
+  public void testClearColumn() {
+    cells.add( 1, 0 );
+    cells.add( 1, 1 );
+    cells.add( 2, 1 );
+
+    cells.clearColumn( 1 );
+
+    assertArrayEquals( new Point[] { new Point( 2, 1 ) }, cells.toArray() );
+  }
+
+  @Test
+  public void testRemoveColumn() {
+    cells.add( 0, 0 );
+    cells.add( 1, 0 );
+    cells.add( 2, 0 );
+    cells.add( 64, 0 );
+
+    cells.removeColumn( 1 );
+
+    Point[] expected = new Point[] { new Point( 0, 0 ), new Point( 1, 0 ), new Point( 63, 0 ) };
+    assertArrayEquals( expected, cells.toArray() );
+    assertEquals( 3, cells.size() );
+  }
+
+  @Test
+  public void testNextRow() {
+    cells.add( 0, 3 );
+    cells.add( 70, 5 );
+
+    assertEquals( 3, cells.nextRow( 0 ) );
+    assertEquals( 5, cells.nextRow( 4 ) );
+    assertEquals( -1, cells.nextRow( 6 ) );
+  }
+
+  @Test
+  public void testNextColumn() {
+    cells.add( 2, 1 );
+    cells.add( 70, 1 );
+
+    assertEquals( 2, cells.nextColumn( 1, 0 ) );
+    assertEquals( 70, cells.nextColumn( 1, 3 ) );
+    assertEquals( -1, cells.nextColumn( 1, 71 ) );
+    assertEquals( -1, cells.nextColumn( 0, 0 ) );
+  }
+
+  @Test
+  public void testToArray_isOrderedByRowAndColumn() {
+    cells.add( 2, 1 );
+    cells.add( 0, 1 );
+    cells.add( 1, 0 );
+
+    Point[] expected = new Point[] { new Point( 1, 0 ), new Point( 0, 1 ), new Point( 2, 1 ) };
+    assertArrayEquals( expected, cells.toArray() );
+  }
+
+}
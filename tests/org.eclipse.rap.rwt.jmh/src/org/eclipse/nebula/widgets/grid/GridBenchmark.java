@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Scrolls through a tree grid with 200k items, half of the root items are expanded and every
+ * seventh item has a custom height. Resolves the item indices, the visible range and the origin
+ * of an item, and changes the height of an item while scrolling.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class GridBenchmark {
+
+  private static final int ROOT_ITEMS = 40000;
+  private static final int CHILD_ITEMS = 4;
+
+  private Display display;
+  private Grid grid;
+  private GridColumn column;
+  private GridItem[] items;
+  private int position;
+
+  @Setup
+  public void setUp() {
+    Fixture.setUp();
+    display = new Display();
+    Shell shell = new Shell( display );
+    grid = new Grid( shell, SWT.H_SCROLL | SWT.V_SCROLL );
+    grid.setSize( 800, 600 );
+    column = new GridColumn( grid, SWT.NONE );
+    column.setWidth( 200 );
+    items = new GridItem[ ROOT_ITEMS * ( CHILD_ITEMS + 1 ) ];
+    int index = 0;
+    for( int i = 0; i < ROOT_ITEMS; i++ ) {
+      GridItem item = new GridItem( grid, SWT.NONE );
+      items[ index++ ] = item;
+      for( int j = 0; j < CHILD_ITEMS; j++ ) {
+        items[ index++ ] = new GridItem( item, SWT.NONE );
+      }
+      item.setExpanded( i % 2 == 0 );
+    }
+    for( int i = 0; i < items.length; i += 7 ) {
+      items[ i ].setHeight( 40 );
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    display.dispose();
+    Fixture.tearDown();
+  }
+
+  @Benchmark
+  public void indexOf( Blackhole blackhole ) {
+    for( int i = 0; i < 1000; i++ ) {
+      blackhole.consume( grid.indexOf( items[ nextPosition() ] ) );
+    }
+  }
+
+  @Benchmark
+  public void scroll( Blackhole blackhole ) {
+    grid.setTopIndex( topItemIndex() );
+    blackhole.consume( grid.getTopIndex() );
+    blackhole.consume( grid.getBottomIndex() );
+    blackhole.consume( grid.getOrigin( column, items[ grid.getBottomIndex() ] ) );
+  }
+
+  @Benchmark
+  public void scrollAfterHeightChange( Blackhole blackhole ) {
+    int index = topItemIndex();
+    items[ index ].setHeight( items[ index ].getHeight() == 40 ? 30 : 40 );
+    grid.setTopIndex( index );
+    blackhole.consume( grid.getTopIndex() );
+    blackhole.consume( grid.getBottomIndex() );
+  }
+
+  private int topItemIndex() {
+    // root items are always visible
+    return nextPosition() / ( CHILD_ITEMS + 1 ) * ( CHILD_ITEMS + 1 );
+  }
+
+  private int nextPosition() {
+    position = ( position + 7919 ) % items.length;
+    return position;
+  }
+
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Looks up existing session singletons from several threads at once, as the UI thread and
+ * background threads (e.g. server push) do in a busy session. Run with <code>-t 1</code> to
+ * measure the uncontended case.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@Threads( 4 )
+public class SingletonManagerBenchmark {
+
+  private ServiceContext serviceContext;
+  private UISession uiSession;
+
+  @Setup
+  public void setUp() {
+    Fixture.setUp();
+    serviceContext = ContextProvider.getContext();
+    uiSession = ContextProvider.getUISession();
+    SingletonUtil.getUniqueInstance( FirstSingleton.class, uiSession );
+    SingletonUtil.getUniqueInstance( SecondSingleton.class, uiSession );
+  }
+
+  @TearDown
+  public void tearDown() {
+    // the trial may be torn down by another thread than the one that set it up
+    if( !ContextProvider.hasContext() ) {
+      ContextProvider.setContext( serviceContext );
+    }
+    Fixture.tearDown();
+  }
+
+  @Benchmark
+  public Object getUniqueInstance() {
+    return SingletonUtil.getUniqueInstance( FirstSingleton.class, uiSession );
+  }
+
+  @Benchmark
+  public Object getUniqueInstances() {
+    SingletonUtil.getUniqueInstance( FirstSingleton.class, uiSession );
+    return SingletonUtil.getUniqueInstance( SecondSingleton.class, uiSession );
+  }
+
+  public static class FirstSingleton {
+  }
+
+  public static class SecondSingleton {
+  }
+
+}
@@ -0,0 +1,348 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.CTabFolder;
+import org.eclipse.swt.custom.CTabItem;
+import org.eclipse.swt.internal.widgets.displaykit.DisplayLCA;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Group;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Runs the phases of a request on large widget trees. Each phase is measured on its own:
+ * preserving the widget values, reading an (empty) client message, rendering after a small change
+ * and serializing the initial response message. Run with <code>-prof gc</code> to report the
+ * allocation per operation. The written response bytes are reported as
+ * <code>responseBytes</code> in the same unit as the score, dividing it by the score gives the size
+ * of a single response.
+ * <p>
+ * The <code>form</code> tree resembles a forms-based editor with many labeled fields. To measure
+ * with dirty tracking, pass <code>-jvmArgsAppend -Dorg.eclipse.rap.rwt.enableDirtyTracking=true</code>.
+ * </p>
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class LifeCycleBenchmark {
+
+  private static final String TEXT_SIZE_MEASUREMENT = "rwt.client.TextSizeMeasurement";
+  private static final int TABLE_ROWS = 10000;
+  private static final int TABLE_COLUMNS = 3;
+  private static final int TREE_DEPTH = 6;
+  private static final int TREE_CHILDREN = 4;
+  private static final int TAB_COUNT = 100;
+  private static final int FORM_SECTIONS = 50;
+  private static final int FORM_FIELDS = 10;
+
+  @Param( { "table", "tree", "tabFolder", "form" } )
+  public String widgetTree;
+
+  private Display display;
+  private Shell shell;
+  private DisplayLCA displayLCA;
+  private ResponseMessage initialMessage;
+  private int changeCount;
+
+  @Setup
+  public void setUp() throws IOException {
+    Fixture.setUp();
+    display = new Display();
+    shell = new Shell( display );
+    shell.setLayout( new FillLayout() );
+    createWidgetTree( shell );
+    shell.setBounds( 0, 0, 1024, 768 );
+    shell.layout();
+    shell.open();
+    displayLCA = DisplayUtil.getLCA( display );
+    Fixture.fakePhase( PhaseId.RENDER );
+    displayLCA.render( display );
+    initialMessage = ContextProvider.getProtocolWriter().createMessage();
+    // answer like the client does, otherwise the texts are measured again in every response
+    JsonObject measurements = createMeasurementResults( initialMessage );
+    if( !measurements.isEmpty() ) {
+      Fixture.fakeNewRequest();
+      JsonObject parameters = new JsonObject().add( "results", measurements );
+      Fixture.fakeCallOperation( TEXT_SIZE_MEASUREMENT, "storeMeasurements", parameters );
+      Fixture.readDataAndProcessAction( display );
+      Fixture.fakePhase( PhaseId.RENDER );
+      displayLCA.render( display );
+    }
+    Fixture.fakeNewRequest();
+  }
+
+  @TearDown
+  public void tearDown() {
+    display.dispose();
+    Fixture.tearDown();
+  }
+
+  @Benchmark
+  public Object preserveValues() {
+    preserve();
+    return display;
+  }
+
+  @Benchmark
+  public Object readData() {
+    Fixture.fakePhase( PhaseId.READ_DATA );
+    displayLCA.readData( display );
+    return display;
+  }
+
+  // includes preserving the values, which is needed to detect the change
+  @Benchmark
+  public Object render( ResponseCounters counters ) throws IOException {
+    Fixture.fakeResponseWriter();
+    preserve();
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    shell.setText( "Change " + changeCount++ );
+    Fixture.fakePhase( PhaseId.RENDER );
+    displayLCA.render( display );
+    ResponseMessage message = ContextProvider.getProtocolWriter().createMessage();
+    CountingWriter writer = new CountingWriter();
+    message.writeTo( writer );
+    counters.responseBytes += writer.getByteCount();
+    return message;
+  }
+
+  @Benchmark
+  public long serialize( ResponseCounters counters ) throws IOException {
+    CountingWriter writer = new CountingWriter();
+    initialMessage.writeTo( writer );
+    counters.responseBytes += writer.getByteCount();
+    return writer.getByteCount();
+  }
+
+  private void preserve() {
+    Fixture.fakePhase( PhaseId.RENDER );
+    displayLCA.clearPreserved( display );
+    Fixture.fakePhase( PhaseId.READ_DATA );
+    displayLCA.preserveValues( display );
+  }
+
+  private static JsonObject createMeasurementResults( ResponseMessage message ) {
+    JsonObject result = new JsonObject();
+    for( JsonValue operation : message.toJson().get( "operations" ).asArray() ) {
+      JsonArray call = operation.asArray();
+      if(    TEXT_SIZE_MEASUREMENT.equals( call.get( 1 ).asString() )
+          && "measureItems".equals( call.get( 2 ).asString() ) )
+      {
+        for( JsonValue item : call.get( 3 ).asObject().get( "items" ).asArray() ) {
+          String id = item.asArray().get( 0 ).asString();
+          String text = item.asArray().get( 1 ).asString();
+          result.add( id, new JsonArray().add( text.length() * 7 ).add( 16 ) );
+        }
+      }
+    }
+    return result;
+  }
+
+  private void createWidgetTree( Composite parent ) {
+    if( "table".equals( widgetTree ) ) {
+      createTable( parent );
+    } else if( "tree".equals( widgetTree ) ) {
+      createTree( parent );
+    } else if( "tabFolder".equals( widgetTree ) ) {
+      createTabFolder( parent );
+    } else if( "form".equals( widgetTree ) ) {
+      createForm( parent );
+    } else {
+      throw new IllegalArgumentException( "Unknown widget tree: " + widgetTree );
+    }
+  }
+
+  private static void createTable( Composite parent ) {
+    Table table = new Table( parent, SWT.BORDER | SWT.FULL_SELECTION );
+    table.setHeaderVisible( true );
+    for( int column = 0; column < TABLE_COLUMNS; column++ ) {
+      new TableColumn( table, SWT.NONE ).setText( "Column " + column );
+    }
+    for( int row = 0; row < TABLE_ROWS; row++ ) {
+      TableItem item = new TableItem( table, SWT.NONE );
+      for( int column = 0; column < TABLE_COLUMNS; column++ ) {
+        item.setText( column, "Item " + row + "/" + column );
+      }
+    }
+  }
+
+  private static void createTree( Composite parent ) {
+    Tree tree = new Tree( parent, SWT.BORDER );
+    for( int i = 0; i < TREE_CHILDREN; i++ ) {
+      TreeItem item = new TreeItem( tree, SWT.NONE );
+      item.setText( "Item " + i );
+      createTreeItems( item, TREE_DEPTH - 1 );
+      item.setExpanded( true );
+    }
+  }
+
+  private static void createTreeItems( TreeItem parent, int depth ) {
+    if( depth > 0 ) {
+      for( int i = 0; i < TREE_CHILDREN; i++ ) {
+        TreeItem item = new TreeItem( parent, SWT.NONE );
+        item.setText( parent.getText() + "." + i );
+        createTreeItems( item, depth - 1 );
+        item.setExpanded( true );
+      }
+    }
+  }
+
+  private static void createTabFolder( Composite parent ) {
+    CTabFolder folder = new CTabFolder( parent, SWT.BORDER );
+    for( int i = 0; i < TAB_COUNT; i++ ) {
+      CTabItem item = new CTabItem( folder, SWT.CLOSE );
+      item.setText( "Tab " + i );
+      Composite page = new Composite( folder, SWT.NONE );
+      createFields( page, "Tab " + i, 5 );
+      item.setControl( page );
+    }
+    folder.setSelection( 0 );
+  }
+
+  private static void createForm( Composite parent ) {
+    Composite form = new Composite( parent, SWT.NONE );
+    form.setLayout( new GridLayout( 2, true ) );
+    for( int i = 0; i < FORM_SECTIONS; i++ ) {
+      Group section = new Group( form, SWT.NONE );
+      section.setText( "Section " + i );
+      section.setLayoutData( new GridData( SWT.FILL, SWT.TOP, true, false ) );
+      createFields( section, "Section " + i, FORM_FIELDS );
+    }
+  }
+
+  private static void createFields( Composite parent, String prefix, int count ) {
+    parent.setLayout( new GridLayout( 3, false ) );
+    for( int i = 0; i < count; i++ ) {
+      new Label( parent, SWT.NONE ).setText( prefix + " field " + i + ":" );
+      Text text = new Text( parent, SWT.BORDER );
+      text.setText( "Value " + i );
+      text.setLayoutData( new GridData( SWT.FILL, SWT.CENTER, true, false ) );
+      if( i % 2 == 0 ) {
+        new Button( parent, SWT.PUSH ).setText( "Browse..." );
+      } else {
+        Combo combo = new Combo( parent, SWT.READ_ONLY );
+        combo.setItems( new String[] { "First", "Second", "Third" } );
+        combo.select( 0 );
+      }
+    }
+  }
+
+  /**
+   * Accumulates the size of all response messages written in an iteration. JMH normalizes the
+   * counter like the operations of the benchmark.
+   */
+  @State( Scope.Thread )
+  @AuxCounters( AuxCounters.Type.OPERATIONS )
+  public static class ResponseCounters {
+
+    public long responseBytes;
+
+    @Setup( Level.Iteration )
+    public void reset() {
+      responseBytes = 0;
+    }
+
+  }
+
+  // counts the UTF-8 encoded size of the written characters
+  private static final class CountingWriter extends Writer {
+
+    private long byteCount;
+
+    long getByteCount() {
+      return byteCount;
+    }
+
+    @Override
+    public void write( char[] buffer, int offset, int length ) {
+      for( int i = offset; i < offset + length; i++ ) {
+        count( buffer[ i ] );
+      }
+    }
+
+    @Override
+    public void write( String string, int offset, int length ) {
+      for( int i = offset; i < offset + length; i++ ) {
+        count( string.charAt( i ) );
+      }
+    }
+
+    @Override
+    public void write( int character ) {
+      count( ( char )character );
+    }
+
+    @Override
+    public void flush() {
+      // nothing to flush
+    }
+
+    @Override
+    public void close() {
+      // nothing to close
+    }
+
+    private void count( char character ) {
+      if( character < 0x80 ) {
+        byteCount++;
+      } else if( character < 0x800 || Character.isSurrogate( character ) ) {
+        // a surrogate pair is encoded in four bytes
+        byteCount += 2;
+      } else {
+        byteCount += 3;
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Keeps a UI thread for each of a number of simulated sessions parked in
+ * <code>switchThread()</code>, like the UI threads of idle sessions, and measures the round trip
+ * of a request thread switching to one of them and back, as well as starting and terminating
+ * another UI thread. The UI threads are either platform threads (<code>UIThread</code>) or
+ * virtual threads if the runtime supports them (<code>VirtualUIThread</code>, Java 21 and later).
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class UIThreadBenchmark {
+
+  @Param( { "UIThread", "VirtualUIThread" } )
+  public String holder;
+
+  @Param( { "1000", "10000" } )
+  public int sessions;
+
+  private UISession uiSession;
+  private List<IUIThreadHolder> uiThreads;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    Fixture.setUp();
+    uiSession = ContextProvider.getUISession();
+    uiThreads = new ArrayList<>( sessions );
+    for( int i = 0; i < sessions; i++ ) {
+      uiThreads.add( startUIThread() );
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    for( IUIThreadHolder uiThread : uiThreads ) {
+      uiThread.terminateThread();
+    }
+    Fixture.tearDown();
+  }
+
+  @Benchmark
+  public Object switchThread() {
+    IUIThreadHolder uiThread = uiThreads.get( next );
+    next = ( next + 1 ) % uiThreads.size();
+    uiThread.switchThread();
+    return uiThread;
+  }
+
+  @Benchmark
+  public Object startAndTerminate() {
+    IUIThreadHolder uiThread = startUIThread();
+    uiThread.terminateThread();
+    return uiThread;
+  }
+
+  private IUIThreadHolder startUIThread() {
+    final AtomicReference<IUIThreadHolder> uiThread = new AtomicReference<>();
+    uiThread.set( createHolder( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          RWTLifeCycle.runWithLock( uiThread.get(), new Runnable() {
+            @Override
+            public void run() {
+              while( true ) {
+                uiThread.get().switchThread();
+              }
+            }
+          } );
+        } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError expected ) {
+          ContextProvider.releaseContextHolder();
+        }
+      }
+    } ) );
+    RWTLifeCycle.runWithLock( uiThread.get(), new Runnable() {
+      @Override
+      public void run() {
+        uiThread.get().getThread().start();
+        uiThread.get().switchThread();
+      }
+    } );
+    return uiThread.get();
+  }
+
+  private IUIThreadHolder createHolder( Runnable runnable ) {
+    if( "UIThread".equals( holder ) ) {
+      UIThread result = new UIThread( runnable );
+      result.setDaemon( true );
+      result.setUISession( uiSession );
+      return result;
+    } else if( "VirtualUIThread".equals( holder ) ) {
+      VirtualUIThread result = new VirtualUIThread( runnable );
+      result.getThread().setDaemon( true );
+      result.setUISession( uiSession );
+      return result;
+    }
+    throw new IllegalArgumentException( "Unknown UI thread holder: " + holder );
+  }
+
+}
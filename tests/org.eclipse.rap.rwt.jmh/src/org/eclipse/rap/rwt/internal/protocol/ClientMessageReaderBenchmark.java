@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Reads a client message with many set operations, like a grid with many edited cells sends, and
+ * looks up the properties like the LCAs do. Run with <code>-prof gc</code> to compare the
+ * allocation rate of both readers.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ClientMessageReaderBenchmark {
+
+  @Param( { "10", "1000" } )
+  public int operationCount;
+
+  private byte[] message;
+
+  @Setup
+  public void setUp() {
+    JsonArray operations = new JsonArray();
+    for( int i = 0; i < operationCount; i++ ) {
+      JsonObject properties = new JsonObject()
+        .add( "text", "Cell text " + i )
+        .add( "selection", new JsonArray().add( 0 ).add( i ) );
+      operations.add( new JsonArray().add( "set" ).add( "w" + i % 100 ).add( properties ) );
+    }
+    JsonObject json = new JsonObject()
+      .add( "head", new JsonObject().add( "requestCounter", 42 ) )
+      .add( "operations", operations );
+    message = json.toString().getBytes( UTF_8 );
+  }
+
+  @Benchmark
+  public Object readJsonObject() throws IOException {
+    InputStreamReader reader = new InputStreamReader( new ByteArrayInputStream( message ), UTF_8 );
+    return lookUpProperties( new ClientMessage( JsonObject.readFrom( reader ) ) );
+  }
+
+  @Benchmark
+  public Object readStreaming() throws IOException {
+    return lookUpProperties( new ClientMessageReader( new ByteArrayInputStream( message ) ).read() );
+  }
+
+  private static Object lookUpProperties( ClientMessage clientMessage ) {
+    Object result = null;
+    for( int i = 0; i < 100; i++ ) {
+      result = clientMessage.getLastSetOperationFor( "w" + i, "text" );
+      result = clientMessage.getLastSetOperationFor( "w" + i, "selection" );
+    }
+    return result;
+  }
+
+}
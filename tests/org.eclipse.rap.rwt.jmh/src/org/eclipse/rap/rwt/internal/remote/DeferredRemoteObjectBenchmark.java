@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.remote;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Queues property updates on a deferred remote object and renders them, as custom widgets like
+ * charts do in every request. Run with <code>-prof gc</code> to compare the allocation rate.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class DeferredRemoteObjectBenchmark {
+
+  @Param( { "10", "100" } )
+  public int propertyCount;
+
+  // the number of times each property is set within one request
+  @Param( { "1", "10" } )
+  public int updateCount;
+
+  private String[] names;
+  private DeferredRemoteObject remoteObject;
+
+  @Setup
+  public void setUp() {
+    // remote objects must be called from a thread with a service context
+    Fixture.setUp();
+    names = new String[ propertyCount ];
+    for( int i = 0; i < propertyCount; i++ ) {
+      names[ i ] = "property" + i;
+    }
+    remoteObject = new DeferredRemoteObject( "r1", "rwt.Chart" );
+    remoteObject.render( new ProtocolMessageWriter() );
+  }
+
+  @TearDown
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Benchmark
+  public void queueOperations( Blackhole blackhole ) {
+    queueSets();
+    // render into a writer that discards the operations to measure the queue only
+    remoteObject.render( DiscardingWriter.INSTANCE );
+    blackhole.consume( remoteObject );
+  }
+
+  @Benchmark
+  public void queueAndRenderOperations( Blackhole blackhole ) {
+    queueSets();
+    ProtocolMessageWriter writer = new ProtocolMessageWriter();
+    remoteObject.render( writer );
+    blackhole.consume( writer.createMessage() );
+  }
+
+  private void queueSets() {
+    for( int update = 0; update < updateCount; update++ ) {
+      for( int i = 0; i < propertyCount; i++ ) {
+        remoteObject.set( names[ i ], update * i );
+      }
+    }
+  }
+
+  private static final class DiscardingWriter extends ProtocolMessageWriter {
+
+    static final DiscardingWriter INSTANCE = new DiscardingWriter();
+
+    @Override
+    public void appendSet( String target, String property, int value ) {
+      // discard
+    }
+
+  }
+
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.theme.ControlThemeAdapter;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Group;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Resolves themed values for the controls of a large form, once through the theme adapters of
+ * the controls and once by laying out the entire form, which computes the preferred size of every
+ * control. Some of the fields have a custom variant.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ThemeBenchmark {
+
+  private static final int FORM_SECTIONS = 50;
+  private static final int FORM_FIELDS = 10;
+
+  private Display display;
+  private Shell shell;
+  private List<Control> controls;
+
+  @Setup
+  public void setUp() {
+    Fixture.setUp();
+    display = new Display();
+    shell = new Shell( display );
+    shell.setLayout( new FillLayout() );
+    controls = new ArrayList<>();
+    createForm( shell );
+    shell.setBounds( 0, 0, 1024, 768 );
+    shell.layout();
+  }
+
+  @TearDown
+  public void tearDown() {
+    display.dispose();
+    Fixture.tearDown();
+  }
+
+  @Benchmark
+  public void getThemeValues( Blackhole blackhole ) {
+    for( Control control : controls ) {
+      ControlThemeAdapter adapter = control.getAdapter( ControlThemeAdapter.class );
+      blackhole.consume( adapter.getBorder( control ) );
+      blackhole.consume( adapter.getPadding( control ) );
+      blackhole.consume( adapter.getForeground( control ) );
+      blackhole.consume( adapter.getBackground( control ) );
+      blackhole.consume( adapter.getFont( control ) );
+    }
+  }
+
+  @Benchmark
+  public Object layout() {
+    // flush the cached sizes to compute all of them again
+    shell.layout( true, true );
+    return shell;
+  }
+
+  private void createForm( Composite parent ) {
+    Composite form = new Composite( parent, SWT.NONE );
+    form.setLayout( new GridLayout( 2, true ) );
+    for( int i = 0; i < FORM_SECTIONS; i++ ) {
+      Group group = new Group( form, SWT.NONE );
+      group.setText( "Section " + i );
+      group.setLayout( new GridLayout( 3, false ) );
+      controls.add( group );
+      for( int j = 0; j < FORM_FIELDS; j++ ) {
+        Label label = new Label( group, SWT.NONE );
+        label.setText( "Field " + j );
+        Control field = createField( group, j );
+        field.setLayoutData( new GridData( SWT.FILL, SWT.CENTER, true, false ) );
+        Button button = new Button( group, j % 2 == 0 ? SWT.PUSH : SWT.CHECK );
+        button.setText( "..." );
+        if( j % 5 == 0 ) {
+          field.setData( RWT.CUSTOM_VARIANT, "mandatory" );
+          button.setData( RWT.CUSTOM_VARIANT, "mandatory" );
+        }
+        controls.add( label );
+        controls.add( field );
+        controls.add( button );
+      }
+    }
+  }
+
+  private static Control createField( Composite parent, int index ) {
+    if( index % 3 == 2 ) {
+      Combo combo = new Combo( parent, SWT.BORDER | SWT.READ_ONLY );
+      combo.setItems( new String[] { "one", "two", "three" } );
+      return combo;
+    }
+    Text text = new Text( parent, SWT.BORDER );
+    text.setText( "value " + index );
+    return text;
+  }
+
+}
@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.engine;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.FilterRegistration;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+
+
+public class RWTResourceFilter_Test {
+
+  private static final String TEXT = "var foo = 'bar';";
+
+  private File directory;
+  private ApplicationContextImpl applicationContext;
+  private ResourceManagerImpl resourceManager;
+  private RWTResourceFilter filter;
+  private FilterChain chain;
+  private TestRequest request;
+  private TestResponse response;
+
+  @Before
+  public void setUp() {
+    directory = new File( Fixture.TEMP_DIR, "resourcefilter" );
+    System.setProperty( RWTProperties.RESOURCE_CACHING, "true" );
+    try {
+      resourceManager = new ResourceManagerImpl( createResourceDirectory() );
+    } finally {
+      System.getProperties().remove( RWTProperties.RESOURCE_CACHING );
+    }
+    applicationContext = mock( ApplicationContextImpl.class );
+    when( applicationContext.getResourceManager() ).thenReturn( resourceManager );
+    when( Boolean.valueOf( applicationContext.allowsRequests() ) ).thenReturn( Boolean.TRUE );
+    filter = new RWTResourceFilter();
+    filter.init( mockFilterConfig( applicationContext ) );
+    chain = mock( FilterChain.class );
+    request = new TestRequest();
+    request.setMethod( "GET" );
+    response = new TestResponse();
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( directory );
+  }
+
+  @Test
+  public void testDoFilter_sendsResource() throws Exception {
+    register( "script.js", TEXT );
+    request.setServletPath( "/rwt-resources/script.js" );
+
+    filter.doFilter( request, response, chain );
+
+    assertEquals( TEXT, response.getContent() );
+    assertEquals( "text/javascript", response.getContentType() );
+    assertEquals( "\"" + getContentHash( "script.js" ) + "\"", response.getHeader( "ETag" ) );
+    verify( chain, never() ).doFilter( request, response );
+  }
+
+  @Test
+  public void testDoFilter_withMemoryBudget_sendsResourceFromMemory() throws Exception {
+    System.setProperty( RWTProperties.RESOURCE_MEMORY_BUDGET, "1000" );
+    try {
+      ServletContext servletContext = mockServletContextWithFilter();
+      resourceManager = new ResourceManagerImpl( createResourceDirectory(), servletContext );
+    } finally {
+      System.getProperties().remove( RWTProperties.RESOURCE_MEMORY_BUDGET );
+    }
+    when( applicationContext.getResourceManager() ).thenReturn( resourceManager );
+    register( "script.js", TEXT );
+    request.setServletPath( "/rwt-resources/script.js" );
+
+    filter.doFilter( request, response, chain );
+
+    assertEquals( TEXT, response.getContent() );
+    assertFalse( new File( directory, "rwt-resources/script.js" ).exists() );
+  }
+
+  @Test
+  public void testDoFilter_withPathInfo() throws Exception {
+    register( "path/to/script.js", TEXT );
+    request.setServletPath( "/rwt-resources" );
+    request.setPathInfo( "/path/to/script.js" );
+
+    filter.doFilter( request, response, chain );
+
+    assertEquals( TEXT, response.getContent() );
+  }
+
+  @Test
+  public void testDoFilter_withCurrentVersion_isImmutable() throws Exception {
+    register( "script.js", TEXT );
+    request.setServletPath( "/rwt-resources/script.js" );
+    request.setParameter( "v", getContentHash( "script.js" ) );
+
+    filter.doFilter( request, response, chain );
+
+    assertEquals( "public, max-age=31536000, immutable", response.getHeader( "Cache-Control" ) );
+  }
+
+  @Test
+  public void testDoFilter_withOutdatedVersion_mustRevalidate() throws Exception {
+    register( "script.js", TEXT );
+    request.setServletPath( "/rwt-resources/script.js" );
+    request.setParameter( "v", "0123456789abcdef" );
+
+    filter.doFilter( request, response, chain );
+
+    assertEquals( "no-cache", response.getHeader( "Cache-Control" ) );
+  }
+
+  @Test
+  public void testDoFilter_withMatchingETag() throws Exception {
+    register( "script.js", TEXT );
+    request.setServletPath( "/rwt-resources/script.js" );
+    request.setHeader( "If-None-Match", "\"foo\", \"" + getContentHash( "script.js" ) + "\"" );
+
+    filter.doFilter( request, response, chain );
+
+    assertEquals( SC_NOT_MODIFIED, response.getStatus() );
+    assertEquals( "", response.getContent() );
+  }
+
+  @Test
+  public void testDoFilter_withDifferentETag() throws Exception {
+    register( "script.js", TEXT );
+    request.setServletPath( "/rwt-resources/script.js" );
+    request.setHeader( "If-None-Match", "\"foo\"" );
+
+    filter.doFilter( request, response, chain );
+
+    assertEquals( TEXT, response.getContent() );
+  }
+
+  @Test
+  public void testDoFilter_withGzip() throws Exception {
+    String text = createLongText();
+    register( "script.js", text );
+    request.setServletPath( "/rwt-resources/script.js" );
+    request.setHeader( "Accept-Encoding", "deflate, gzip" );
+
+    filter.doFilter( request, response, chain );
+
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+    String hash = getContentHash( "script.js" );
+    assertEquals( "\"" + hash + "-gzip\"", response.getHeader( "ETag" ) );
+    assertTrue( response.getContent().length() < text.length() );
+  }
+
+  @Test
+  public void testDoFilter_withGzipRefused() throws Exception {
+    String text = createLongText();
+    register( "script.js", text );
+    request.setServletPath( "/rwt-resources/script.js" );
+    request.setHeader( "Accept-Encoding", "gzip;q=0" );
+
+    filter.doFilter( request, response, chain );
+
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertEquals( text, response.getContent() );
+  }
+
+  @Test
+  public void testDoFilter_withHead() throws Exception {
+    register( "script.js", TEXT );
+    request.setMethod( "HEAD" );
+    request.setServletPath( "/rwt-resources/script.js" );
+
+    filter.doFilter( request, response, chain );
+
+    assertEquals( "", response.getContent() );
+    assertEquals( "\"" + getContentHash( "script.js" ) + "\"", response.getHeader( "ETag" ) );
+  }
+
+  @Test
+  public void testDoFilter_withUnknownResource() throws Exception {
+    request.setServletPath( "/rwt-resources/unknown.js" );
+
+    filter.doFilter( request, response, chain );
+
+    verify( chain ).doFilter( request, response );
+  }
+
+  @Test
+  public void testDoFilter_withPost() throws Exception {
+    register( "script.js", TEXT );
+    request.setMethod( "POST" );
+    request.setServletPath( "/rwt-resources/script.js" );
+
+    filter.doFilter( request, response, chain );
+
+    verify( chain ).doFilter( request, response );
+  }
+
+  @Test
+  public void testDoFilter_whenApplicationDoesNotAllowRequests() throws Exception {
+    register( "script.js", TEXT );
+    when( Boolean.valueOf( applicationContext.allowsRequests() ) ).thenReturn( Boolean.FALSE );
+    request.setServletPath( "/rwt-resources/script.js" );
+
+    filter.doFilter( request, response, chain );
+
+    verify( chain ).doFilter( request, response );
+  }
+
+  @Test
+  public void testDoFilter_withoutApplicationContext() throws IOException, ServletException {
+    filter.init( mockFilterConfig( null ) );
+    request.setServletPath( "/rwt-resources/script.js" );
+
+    filter.doFilter( request, response, chain );
+
+    verify( chain ).doFilter( request, response );
+  }
+
+  private ResourceDirectory createResourceDirectory() {
+    ResourceDirectory resourceDirectory = new ResourceDirectory();
+    resourceDirectory.configure( directory.getPath() );
+    return resourceDirectory;
+  }
+
+  private void register( String name, String content ) {
+    byte[] bytes = content.getBytes( StandardCharsets.UTF_8 );
+    resourceManager.register( name, new ByteArrayInputStream( bytes ) );
+  }
+
+  private String getContentHash( String path ) {
+    return resourceManager.getCachedResource( path ).getContentHash();
+  }
+
+  private static String createLongText() {
+    StringBuilder builder = new StringBuilder();
+    for( int i = 0; i < 200; i++ ) {
+      builder.append( "var x" ).append( i ).append( " = " ).append( i ).append( ";\n" );
+    }
+    return builder.toString();
+  }
+
+  private static ServletContext mockServletContextWithFilter() {
+    FilterRegistration registration = mock( FilterRegistration.class );
+    when( registration.getClassName() ).thenReturn( RWTResourceFilter.class.getName() );
+    when( registration.getUrlPatternMappings() ).thenReturn( asList( "/rwt-resources/*" ) );
+    ServletContext servletContext = mock( ServletContext.class );
+    doReturn( singletonMap( "rwtResourceFilter", registration ) )
+      .when( servletContext ).getFilterRegistrations();
+    return servletContext;
+  }
+
+  private static FilterConfig mockFilterConfig( ApplicationContextImpl applicationContext ) {
+    ServletContext servletContext = mock( ServletContext.class );
+    when( servletContext.getAttribute( anyString() ) ).thenReturn( applicationContext );
+    when( servletContext.getMimeType( anyString() ) ).thenReturn( "text/javascript" );
+    FilterConfig filterConfig = mock( FilterConfig.class );
+    when( filterConfig.getServletContext() ).thenReturn( servletContext );
+    return filterConfig;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.rap.rwt.service.ApplicationContext;
@@ -195,6 +196,24 @@ public class SingletonManager_Test {
     assertEquals( 2, instances.size() );
   }
 
+  @Test
+  public void testGetSingleton_createsSingletonOnlyOnce() throws InterruptedException {
+    final SingletonManager singletonManager = new SingletonManager();
+    CountingTestSingleton.instanceCount.set( 0 );
+    Runnable runnable = new Runnable() {
+      @Override
+      public void run() {
+        for( int i = 0; i < 100; i++ ) {
+          singletonManager.getSingleton( CountingTestSingleton.class );
+        }
+      }
+    };
+
+    joinThreads( startThreads( 20, runnable ) );
+
+    assertEquals( 1, CountingTestSingleton.instanceCount.get() );
+  }
+
   @Test
   public void testGetSingleton_fromMultiThreadedNestedCalls() {
     SingletonManager.install( uiSession );
@@ -234,6 +253,17 @@ public class SingletonManager_Test {
   private static class OtherTestSingleton {
   }
 
+  private static class CountingTestSingleton {
+
+    static final AtomicInteger instanceCount = new AtomicInteger();
+
+    private CountingTestSingleton() throws InterruptedException {
+      instanceCount.incrementAndGet();
+      // widen the window for concurrent creation
+      Thread.sleep( 10 );
+    }
+  }
+
   private static class DependantTestSingleton {
 
     static UISession currentUISession;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,12 +32,15 @@ import static org.mockito.Mockito.when;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.servlet.ServletContext;
 
 import org.eclipse.rap.rwt.application.Application;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.DefaultEntryPointFactory;
 import org.eclipse.rap.rwt.internal.lifecycle.TestEntryPoint;
 import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
@@ -57,6 +60,7 @@ import org.eclipse.rap.rwt.service.UIThreadListener;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -85,6 +89,12 @@ public class ApplicationContextImpl_Test {
     uiThreadListener = mock( UIThreadListener.class );
   }
 
+  @After
+  public void tearDown() {
+    System.getProperties().remove( RWTProperties.TEXT_SIZE_STORE_FILE );
+    getTextSizeStoreFile().delete();
+  }
+
   @Test
   public void testApplicationContextSingletons() {
     applicationContext = new ApplicationContextImpl( null, null );
@@ -153,6 +163,9 @@ public class ApplicationContextImpl_Test {
 
     assertNotNull( applicationContext.getClientSelector() );
     assertSame( applicationContext.getClientSelector(), applicationContext.getClientSelector() );
+
+    assertNotNull( applicationContext.getScheduler() );
+    assertSame( applicationContext.getScheduler(), applicationContext.getScheduler() );
   }
 
   @Test
@@ -219,6 +232,30 @@ public class ApplicationContextImpl_Test {
     assertTrue( applicationContext.getSettingStoreManager().hasFactory() );
   }
 
+  @Test
+  public void testActivate_logsUnreadableTextSizeStoreFile() throws IOException {
+    Files.write( getTextSizeStoreFile().toPath(), new byte[] { 1, 2, 3 } );
+    System.setProperty( RWTProperties.TEXT_SIZE_STORE_FILE, getTextSizeStoreFile().getPath() );
+    ServletContext servletContext = createServletContext();
+    applicationContext = new ApplicationContextImpl( createConfiguration(), servletContext );
+
+    applicationContext.activate();
+
+    assertTrue( applicationContext.isActive() );
+    verify( servletContext ).log( anyString(), any( IOException.class ) );
+  }
+
+  @Test
+  public void testDeactivate_savesTextSizeStoreFile() {
+    System.setProperty( RWTProperties.TEXT_SIZE_STORE_FILE, getTextSizeStoreFile().getPath() );
+    applicationContext = new ApplicationContextImpl( createConfiguration(), createServletContext() );
+    applicationContext.activate();
+
+    applicationContext.deactivate();
+
+    assertTrue( getTextSizeStoreFile().isFile() );
+  }
+
   @Test
   public void testActivate_canBeCalledTwice() {
     applicationContext = createApplicationContextSpy();
@@ -259,6 +296,7 @@ public class ApplicationContextImpl_Test {
     ServletContext servletContext = createServletContext();
     applicationContext = new ApplicationContextImpl( createConfiguration(), servletContext );
     applicationContext.activate();
+    applicationContext.getScheduler().schedule( mock( Runnable.class ), 1, TimeUnit.HOURS );
 
     applicationContext.deactivate();
 
@@ -272,6 +310,7 @@ public class ApplicationContextImpl_Test {
     checkApplicationStoreHasBeenReset();
     checkLifeCycleHasBeenReset();
     checkStartupPageTemplateHasBeenReset();
+    checkSchedulerHasBeenShutDown();
   }
 
   @Test
@@ -536,6 +575,10 @@ public class ApplicationContextImpl_Test {
     return tempDir;
   }
 
+  private static File getTextSizeStoreFile() {
+    return new File( Fixture.TEMP_DIR, "textsizes.bin" );
+  }
+
   private ApplicationConfiguration createConfiguration() {
     return new ApplicationConfiguration() {
       @Override
@@ -665,6 +708,10 @@ public class ApplicationContextImpl_Test {
     assertNull( StartupPageTestUtil.getStartupPageTemplate( applicationContext.getStartupPage() ) );
   }
 
+  private void checkSchedulerHasBeenShutDown() {
+    assertFalse( applicationContext.getScheduler().isRunning() );
+  }
+
   private static ApplicationContextImpl createApplicationContextSpy() {
     return spy( new ApplicationContextImpl( null, null ) {
       @Override
@@ -0,0 +1,445 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static java.util.Arrays.asList;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.widgets.FileUpload;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Widget;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class DirtyWidgets_Test {
+
+  private Display display;
+  private Shell shell;
+  private DirtyWidgets dirtyWidgets;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    DirtyWidgets.enabled = true;
+    display = new Display();
+    shell = new Shell( display );
+    dirtyWidgets = DirtyWidgets.getInstance( display );
+  }
+
+  @After
+  public void tearDown() {
+    DirtyWidgets.enabled = false;
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testGetInstance_isSessionSingleton() {
+    assertSame( dirtyWidgets, DirtyWidgets.getInstance( display ) );
+  }
+
+  @Test
+  public void testCreatedWidgetsAreDirty() {
+    Button button = new Button( shell, SWT.PUSH );
+
+    assertEquals( asList( shell, button ), dirtyWidgets.getAll() );
+  }
+
+  @Test
+  public void testMarkDirty_addsWidgetOnlyOnce() {
+    Button button = createInitializedButton();
+    clearInitialized();
+
+    DirtyWidgets.markDirty( button );
+    DirtyWidgets.markDirty( button );
+
+    assertEquals( asList( button ), dirtyWidgets.getAll() );
+  }
+
+  @Test
+  public void testMarkDirty_whenDisabled() {
+    Button button = createInitializedButton();
+    clearInitialized();
+    DirtyWidgets.enabled = false;
+
+    DirtyWidgets.markDirty( button );
+
+    assertTrue( dirtyWidgets.getAll().isEmpty() );
+  }
+
+  @Test
+  public void testMarkDirty_ignoresNullAndDisposedWidgets() {
+    Button button = createInitializedButton();
+    button.dispose();
+    clearInitialized();
+
+    DirtyWidgets.markDirty( null );
+    DirtyWidgets.markDirty( button );
+
+    assertTrue( dirtyWidgets.getAll().isEmpty() );
+  }
+
+  @Test
+  public void testSetterMarksWidgetDirty() {
+    Button button = createInitializedButton();
+    clearInitialized();
+
+    button.setText( "foo" );
+
+    assertEquals( asList( button ), dirtyWidgets.getAll() );
+  }
+
+  @Test
+  public void testFileUploadSetters_markWidgetDirty() {
+    FileUpload fileUpload = new FileUpload( shell, SWT.NONE );
+    Image image = new Image( display, 1, 1 );
+    clearInitialized();
+
+    fileUpload.setText( "foo" );
+    List<Widget> afterSetText = new ArrayList<>( dirtyWidgets.getAll() );
+    dirtyWidgets.clear();
+    fileUpload.setImage( image );
+    List<Widget> afterSetImage = new ArrayList<>( dirtyWidgets.getAll() );
+    dirtyWidgets.clear();
+    fileUpload.setFilterExtensions( new String[] { ".txt" } );
+
+    assertEquals( asList( fileUpload ), afterSetText );
+    assertEquals( asList( fileUpload ), afterSetImage );
+    assertEquals( asList( fileUpload ), dirtyWidgets.getAll() );
+  }
+
+  @Test
+  public void testSetBackgroundMode_marksChildrenWithChangedBackgroundDirty() {
+    Composite composite = new Composite( shell, SWT.NONE );
+    Button button = new Button( composite, SWT.PUSH );
+    clearInitialized();
+
+    shell.setBackgroundMode( SWT.INHERIT_FORCE );
+
+    assertEquals( asList( shell, composite, button ), dirtyWidgets.getAll() );
+  }
+
+  @Test
+  public void testGetterDoesNotMarkWidgetDirty() {
+    Button button = createInitializedButton();
+    clearInitialized();
+
+    button.getText();
+    button.getBounds();
+    button.computeSize( SWT.DEFAULT, SWT.DEFAULT );
+
+    assertTrue( dirtyWidgets.getAll().isEmpty() );
+  }
+
+  @Test
+  public void testSetBounds_marksWidgetDirty() {
+    Button button = createInitializedButton();
+    button.setBounds( 1, 2, 3, 4 );
+    clearInitialized();
+
+    button.setBounds( 1, 2, 3, 5 );
+
+    assertEquals( asList( button ), dirtyWidgets.getAll() );
+  }
+
+  @Test
+  public void testSetBounds_withUnchangedBounds() {
+    Button button = createInitializedButton();
+    button.setBounds( 1, 2, 3, 4 );
+    clearInitialized();
+
+    button.setBounds( 1, 2, 3, 4 );
+
+    assertTrue( dirtyWidgets.getAll().isEmpty() );
+  }
+
+  @Test
+  public void testLayout_withUnchangedBounds() {
+    shell.setLayout( new FillLayout() );
+    shell.setSize( 200, 100 );
+    new Button( shell, SWT.PUSH );
+    new Button( shell, SWT.PUSH );
+    shell.layout();
+    clearInitialized();
+
+    shell.layout();
+
+    assertTrue( dirtyWidgets.getAll().isEmpty() );
+  }
+
+  @Test
+  public void testMarkChanged_isIgnoredWhileRendering() {
+    Button button = createInitializedButton();
+    clearInitialized();
+    dirtyWidgets.startTracking();
+    dirtyWidgets.startRendering();
+
+    button.setText( "foo" );
+
+    assertTrue( dirtyWidgets.getAll().isEmpty() );
+  }
+
+  @Test
+  public void testMarkChanged_marksOwnerWithoutOtherDependents() {
+    Table table = new Table( shell, SWT.NONE );
+    TableItem item1 = new TableItem( table, SWT.NONE );
+    TableItem item2 = new TableItem( table, SWT.NONE );
+    clearInitialized();
+
+    item1.setText( "foo" );
+
+    assertEquals( asList( item1, table ), getVisited() );
+    assertFalse( getRemoteAdapter( item2 ).isDirty() );
+  }
+
+  @Test
+  public void testMarkChanged_preservesOwnerOnlyOnce() {
+    Table table = new Table( shell, SWT.NONE );
+    TableItem item = new TableItem( table, SWT.NONE );
+    table.setHeaderVisible( false );
+    clearInitialized();
+    dirtyWidgets.startTracking();
+
+    item.setText( "foo" );
+    table.setHeaderVisible( true );
+
+    assertEquals( Boolean.FALSE, getRemoteAdapter( table ).getPreserved( "headerVisible" ) );
+  }
+
+  @Test
+  public void testMarkDirty_isHonoredWhileRendering() {
+    Button button = createInitializedButton();
+    clearInitialized();
+    dirtyWidgets.startTracking();
+    dirtyWidgets.startRendering();
+
+    DirtyWidgets.markDirty( button );
+
+    assertEquals( asList( button ), dirtyWidgets.getAll() );
+  }
+
+  @Test
+  public void testMarkDirty_preservesValuesWhileTracking() {
+    Button button = createInitializedButton();
+    button.setText( "foo" );
+    clearInitialized();
+    dirtyWidgets.startTracking();
+
+    button.setText( "bar" );
+
+    assertEquals( "foo", getRemoteAdapter( button ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testMarkDirty_doesNotPreserveWithoutTracking() {
+    Button button = createInitializedButton();
+    button.setText( "foo" );
+    clearInitialized();
+
+    button.setText( "bar" );
+
+    assertNull( getRemoteAdapter( button ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testAccept_includesDependentWidgets() {
+    Table table = new Table( shell, SWT.NONE );
+    TableItem item = new TableItem( table, SWT.NONE );
+    clearInitialized();
+
+    table.setHeaderVisible( true );
+
+    assertEquals( asList( table, item ), getVisited().subList( 0, 2 ) );
+  }
+
+  @Test
+  public void testAccept_excludesChildControls() {
+    Button button = new Button( shell, SWT.PUSH );
+    clearInitialized();
+
+    shell.setText( "foo" );
+
+    assertEquals( asList( shell ), getVisited() );
+    assertFalse( getRemoteAdapter( button ).isDirty() );
+  }
+
+  @Test
+  public void testAccept_visitsWidgetsOnlyOnce() {
+    Table table = new Table( shell, SWT.NONE );
+    TableItem item = new TableItem( table, SWT.NONE );
+    clearInitialized();
+
+    item.setText( "foo" );
+    table.setHeaderVisible( true );
+
+    List<Widget> visited = getVisited();
+    assertEquals( asList( item, table ), visited.subList( 0, 2 ) );
+    assertEquals( 1, Collections.frequency( visited, item ) );
+  }
+
+  @Test
+  public void testAccept_skipsDisposedWidgets() {
+    Button button = new Button( shell, SWT.PUSH );
+    clearInitialized();
+
+    button.setText( "foo" );
+    button.dispose();
+
+    assertEquals( asList( shell ), getVisited() );
+  }
+
+  @Test
+  public void testClear_resetsDirtyState() {
+    Button button = createInitializedButton();
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.clear();
+
+    assertTrue( dirtyWidgets.getAll().isEmpty() );
+    assertFalse( getRemoteAdapter( button ).isDirty() );
+  }
+
+  @Test
+  public void testClear_keepsTracking() {
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.clear();
+
+    assertTrue( dirtyWidgets.isTracking() );
+  }
+
+  @Test
+  public void testIsTabOrderChanged_withoutTracking() {
+    assertTrue( dirtyWidgets.isTabOrderChanged() );
+  }
+
+  @Test
+  public void testIsTabOrderChanged_afterCreatingControl() {
+    dirtyWidgets.startTracking();
+    dirtyWidgets.clear();
+
+    new Button( shell, SWT.PUSH );
+
+    assertTrue( dirtyWidgets.isTabOrderChanged() );
+  }
+
+  @Test
+  public void testIsTabOrderChanged_afterChangingProperty() {
+    Button button = createInitializedButton();
+    dirtyWidgets.startTracking();
+    dirtyWidgets.clear();
+
+    button.setText( "foo" );
+
+    assertFalse( dirtyWidgets.isTabOrderChanged() );
+  }
+
+  @Test
+  public void testClear_clearsPreservedValues() {
+    Button button = createInitializedButton();
+    button.setText( "foo" );
+    clearInitialized();
+    dirtyWidgets.startTracking();
+    button.setText( "bar" );
+
+    dirtyWidgets.clear();
+
+    assertNull( getRemoteAdapter( button ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testClear_keepsUninitializedWidgets() {
+    clearInitialized();
+    Button button = new Button( shell, SWT.PUSH );
+
+    dirtyWidgets.clear();
+
+    assertEquals( asList( button ), dirtyWidgets.getAll() );
+    assertTrue( getRemoteAdapter( button ).isDirty() );
+  }
+
+  @Test
+  public void testFind() {
+    Button button = new Button( shell, SWT.PUSH );
+
+    assertSame( button, dirtyWidgets.find( getId( button ) ) );
+  }
+
+  @Test
+  public void testFind_afterDispose() {
+    Button button = new Button( shell, SWT.PUSH );
+    String id = getId( button );
+
+    button.dispose();
+
+    assertNull( dirtyWidgets.find( id ) );
+  }
+
+  private Button createInitializedButton() {
+    Button button = new Button( shell, SWT.PUSH );
+    markAllInitialized();
+    return button;
+  }
+
+  private void markAllInitialized() {
+    Fixture.markInitialized( display );
+    dirtyWidgets.accept( new WidgetTreeVisitor() {
+      @Override
+      public boolean visit( Widget widget ) {
+        Fixture.markInitialized( widget );
+        return true;
+      }
+    } );
+  }
+
+  private void clearInitialized() {
+    markAllInitialized();
+    dirtyWidgets.clear();
+  }
+
+  private List<Widget> getVisited() {
+    final List<Widget> result = new ArrayList<>();
+    dirtyWidgets.accept( new WidgetTreeVisitor() {
+      @Override
+      public boolean visit( Widget widget ) {
+        result.add( widget );
+        return true;
+      }
+    } );
+    return result;
+  }
+
+  private static WidgetRemoteAdapter getRemoteAdapter( Widget widget ) {
+    return ( WidgetRemoteAdapter )WidgetUtil.getAdapter( widget );
+  }
+
+}
@@ -808,6 +808,63 @@ public class RWTLifeCycle_Test {
     assertEquals( "", log.toString() );
   }
 
+  @Test
+  public void testCreatesPlatformUIThreadByDefault() throws IOException {
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestEntryPoint.class, null );
+
+    getLifeCycle().execute();
+
+    assertTrue( LifeCycleUtil.getUIThread( ContextProvider.getUISession() ) instanceof UIThread );
+  }
+
+  @Test
+  public void testCreatesVirtualUIThread_whenConfigured() throws IOException {
+    getApplicationContext().setAttribute( RWTLifeCycle.VIRTUAL_UI_THREADS, Boolean.TRUE );
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, TestEntryPoint.class, null );
+
+    getLifeCycle().execute();
+
+    IUIThreadHolder uiThread = LifeCycleUtil.getUIThread( ContextProvider.getUISession() );
+    assertTrue( uiThread instanceof VirtualUIThread );
+  }
+
+  @Test
+  public void testVirtualUIThread_sessionInvalidateWithRunningEventLoop() throws Throwable {
+    getApplicationContext().setAttribute( RWTLifeCycle.VIRTUAL_UI_THREADS, "true" );
+    UISession uiSession = ContextProvider.getUISession();
+    final AtomicBoolean hasContext = new AtomicBoolean();
+    uiSession.addUISessionListener( new UISessionListener() {
+      @Override
+      public void beforeDestroy( UISessionEvent event ) {
+        hasContext.set( ContextProvider.hasContext() );
+      }
+    } );
+    Class<? extends EntryPoint> entryPointClass = SessionInvalidateWithEventLoopEntryPoint.class;
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH, entryPointClass, null );
+    getLifeCycle().execute();
+    IUIThreadHolder uiThreadHolder = LifeCycleUtil.getUIThread( uiSession );
+
+    invalidateSession( uiSession );
+
+    assertTrue( uiThreadHolder instanceof VirtualUIThread );
+    assertFalse( uiThreadHolder.getThread().isAlive() );
+    assertFalse( uiSession.isBound() );
+    assertTrue( hasContext.get() );
+    assertEquals( "", log.toString() );
+  }
+
+  @Test
+  public void testVirtualUIThread_requestThreadExec() throws IOException {
+    getApplicationContext().setAttribute( RWTLifeCycle.VIRTUAL_UI_THREADS, Boolean.TRUE );
+    entryPointManager.register( TestRequest.DEFAULT_SERVLET_PATH,
+                                RequestThreadExecEntryPoint.class,
+                                null );
+
+    getLifeCycle().execute();
+
+    assertEquals( "ui|request|ui|", log.toString() );
+  }
+
   @Test
   public void testExceptionInRender() {
     fakeServletPath( TestRequest.DEFAULT_SERVLET_PATH );
@@ -1176,6 +1233,22 @@ public class RWTLifeCycle_Test {
     }
   }
 
+  public static class RequestThreadExecEntryPoint implements EntryPoint {
+    @Override
+    public int createUI() {
+      new Display();
+      log.append( "ui|" );
+      RWT.requestThreadExec( new Runnable() {
+        @Override
+        public void run() {
+          log.append( "request|" );
+        }
+      } );
+      log.append( "ui|" );
+      return 0;
+    }
+  }
+
   public static class SessionInvalidateWithoutEventLoopEntryPoint
     implements EntryPoint
   {
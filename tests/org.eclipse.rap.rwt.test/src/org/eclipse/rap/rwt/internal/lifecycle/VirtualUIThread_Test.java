@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+
+import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class VirtualUIThread_Test {
+
+  private StringBuffer log;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    log = new StringBuffer();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testGetLock_isLock() {
+    IUIThreadHolder uiThread = new VirtualUIThread( mock( Runnable.class ) );
+
+    assertTrue( uiThread.getLock() instanceof Lock );
+  }
+
+  @Test
+  public void testGetThread_isNotStarted() {
+    VirtualUIThread uiThread = new VirtualUIThread( mock( Runnable.class ) );
+
+    assertFalse( uiThread.getThread().isAlive() );
+  }
+
+  @Test
+  public void testGetCurrent_onForeignThread() {
+    assertNull( VirtualUIThread.getCurrent() );
+  }
+
+  @Test
+  public void testGetCurrent_onUIThread() throws InterruptedException {
+    final AtomicReference<VirtualUIThread> current = new AtomicReference<>();
+    VirtualUIThread uiThread = new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        current.set( VirtualUIThread.getCurrent() );
+      }
+    } );
+
+    uiThread.getThread().start();
+    uiThread.getThread().join();
+
+    assertSame( uiThread, current.get() );
+  }
+
+  @Test
+  public void testSwitchThread_handsOffControl() {
+    final AtomicReference<VirtualUIThread> uiThread = new AtomicReference<>();
+    uiThread.set( new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          RWTLifeCycle.runWithLock( uiThread.get(), new Runnable() {
+            @Override
+            public void run() {
+              log.append( "ui1|" );
+              uiThread.get().switchThread();
+              log.append( "ui2|" );
+              uiThread.get().switchThread();
+            }
+          } );
+        } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError expected ) {
+          ContextProvider.releaseContextHolder();
+        }
+      }
+    } ) );
+    uiThread.get().setUISession( ContextProvider.getUISession() );
+
+    RWTLifeCycle.runWithLock( uiThread.get(), new Runnable() {
+      @Override
+      public void run() {
+        uiThread.get().getThread().start();
+        uiThread.get().switchThread();
+        log.append( "request1|" );
+        uiThread.get().switchThread();
+        log.append( "request2|" );
+      }
+    } );
+    uiThread.get().terminateThread();
+
+    assertEquals( "ui1|request1|ui2|request2|", log.toString() );
+  }
+
+  @Test
+  public void testSwitchThread_returnsWhenUIThreadEnds() {
+    final AtomicReference<VirtualUIThread> uiThread = new AtomicReference<>();
+    uiThread.set( new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        RWTLifeCycle.runWithLock( uiThread.get(), new Runnable() {
+          @Override
+          public void run() {
+            log.append( "ui|" );
+          }
+        } );
+      }
+    } ) );
+
+    RWTLifeCycle.runWithLock( uiThread.get(), new Runnable() {
+      @Override
+      public void run() {
+        uiThread.get().getThread().start();
+        uiThread.get().switchThread();
+        log.append( "request1|" );
+        uiThread.get().switchThread();
+        log.append( "request2|" );
+      }
+    } );
+
+    assertEquals( "ui|request1|request2|", log.toString() );
+  }
+
+  @Test
+  public void testTerminateThread_throwsUIThreadTerminatedErrorInUIThread() throws Exception {
+    final AtomicBoolean terminated = new AtomicBoolean();
+    final AtomicReference<ServiceContext> uiContext = new AtomicReference<>();
+    final VirtualUIThread uiThread = createWaitingUIThread( new Runnable() {
+      @Override
+      public void run() {
+        terminated.set( true );
+        uiContext.set( ContextProvider.getContext() );
+        ContextProvider.releaseContextHolder();
+      }
+    } );
+
+    uiThread.terminateThread();
+
+    assertTrue( terminated.get() );
+    assertFalse( uiThread.getThread().isAlive() );
+    assertSame( ContextProvider.getUISession(), uiContext.get().getUISession() );
+  }
+
+  @Test
+  public void testProcessShutdown_runsShutdownCallback() throws Exception {
+    final AtomicReference<VirtualUIThread> uiThread = new AtomicReference<>();
+    Runnable shutdownCallback = mock( Runnable.class );
+    uiThread.set( createWaitingUIThread( new Runnable() {
+      @Override
+      public void run() {
+        uiThread.get().processShutdown();
+      }
+    } ) );
+    uiThread.get().setShutdownCallback( shutdownCallback );
+
+    uiThread.get().interceptShutdown();
+
+    verify( shutdownCallback ).run();
+  }
+
+  private static VirtualUIThread createWaitingUIThread( final Runnable onTerminate ) {
+    final UISession uiSession = ContextProvider.getUISession();
+    final AtomicReference<VirtualUIThread> result = new AtomicReference<>();
+    result.set( new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          RWTLifeCycle.runWithLock( result.get(), new Runnable() {
+            @Override
+            public void run() {
+              result.get().switchThread();
+            }
+          } );
+        } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError expected ) {
+          onTerminate.run();
+        }
+      }
+    } ) );
+    result.get().setUISession( uiSession );
+    RWTLifeCycle.runWithLock( result.get(), new Runnable() {
+      @Override
+      public void run() {
+        result.get().getThread().start();
+        result.get().switchThread();
+      }
+    } );
+    return result.get();
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1040,4 +1040,53 @@ public class WidgetLCAUtil_Test {
     assertEquals( JsonValue.TRUE, operation.getProperties().get( "foo" ) );
   }
 
+  @Test
+  public void testRenderProperty_int_unchanged() {
+    Fixture.markInitialized( widget );
+    WidgetLCAUtil.preserveProperty( widget, "foo", 1000 );
+
+    WidgetLCAUtil.renderProperty( widget, "foo", 1000, 0 );
+
+    assertNull( getProtocolMessage().findSetOperation( widget, "foo" ) );
+  }
+
+  @Test
+  public void testRenderProperty_int_changed() {
+    Fixture.markInitialized( widget );
+    WidgetLCAUtil.preserveProperty( widget, "foo", 1000 );
+
+    WidgetLCAUtil.renderProperty( widget, "foo", 1001, 0 );
+
+    assertEquals( JsonValue.valueOf( 1001 ), getProtocolMessage().findSetProperty( widget, "foo" ) );
+  }
+
+  @Test
+  public void testRenderProperty_int_withoutPreservedValue() {
+    Fixture.markInitialized( widget );
+
+    WidgetLCAUtil.renderProperty( widget, "foo", 0, 0 );
+
+    assertEquals( JsonValue.valueOf( 0 ), getProtocolMessage().findSetProperty( widget, "foo" ) );
+  }
+
+  @Test
+  public void testRenderProperty_boolean_unchanged() {
+    Fixture.markInitialized( widget );
+    WidgetLCAUtil.preserveProperty( widget, "foo", true );
+
+    WidgetLCAUtil.renderProperty( widget, "foo", true, false );
+
+    assertNull( getProtocolMessage().findSetOperation( widget, "foo" ) );
+  }
+
+  @Test
+  public void testRenderListener_unchanged() {
+    Fixture.markInitialized( widget );
+    WidgetLCAUtil.preserveListener( widget, "foo", true );
+
+    WidgetLCAUtil.renderListener( widget, "foo", true, false );
+
+    assertNull( getProtocolMessage().findListenOperation( widget, "foo" ) );
+  }
+
 }
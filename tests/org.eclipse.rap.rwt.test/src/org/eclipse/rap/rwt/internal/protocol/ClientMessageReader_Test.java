@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.ListenOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.junit.Test;
+
+
+public class ClientMessageReader_Test {
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullInputStream() {
+    new ClientMessageReader( null );
+  }
+
+  @Test
+  public void testRead_emptyMessage() throws IOException {
+    ClientMessage message = read( "{ \"head\" : {}, \"operations\" : [] }" );
+
+    assertTrue( message.getHead().isEmpty() );
+    assertTrue( message.getOperations().isEmpty() );
+  }
+
+  @Test
+  public void testRead_head() throws IOException {
+    ClientMessage message = read( "{\"head\":{\"requestCounter\":3},\"operations\":[]}" );
+
+    assertEquals( 3, message.getHead().get( "requestCounter" ).asInt() );
+  }
+
+  @Test
+  public void testRead_operations() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"foo\" : 23 } ],"
+                + "[ \"notify\", \"w3\", \"Selection\", { \"detail\" : \"check\" } ],"
+                + "[ \"call\", \"w4\", \"method\", { \"count\" : 1 } ],"
+                + "[ \"create\", \"w5\", \"type\", { \"style\" : [] } ],"
+                + "[ \"listen\", \"w5\", { \"Selection\" : true } ],"
+                + "[ \"destroy\", \"w5\" ]"
+                + "] }";
+
+    ClientMessage message = read( json );
+
+    assertTrue( message.getOperations().get( 0 ) instanceof SetOperation );
+    assertTrue( message.getOperations().get( 1 ) instanceof NotifyOperation );
+    assertTrue( message.getOperations().get( 2 ) instanceof CallOperation );
+    assertTrue( message.getOperations().get( 3 ) instanceof CreateOperation );
+    assertTrue( message.getOperations().get( 4 ) instanceof ListenOperation );
+    assertTrue( message.getOperations().get( 5 ) instanceof DestroyOperation );
+    assertReadLikeJsonObject( json );
+  }
+
+  @Test
+  public void testRead_createsIndex() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"foo\" : 23 } ],"
+                + "[ \"set\", \"w3\", { \"bar\" : 42 } ]"
+                + "] }";
+
+    ClientMessage message = read( json );
+
+    SetOperation operation = message.getLastSetOperationFor( "w3", "foo" );
+    assertEquals( 23, operation.getProperties().get( "foo" ).asInt() );
+  }
+
+  @Test
+  public void testRead_values() throws IOException {
+    assertReadLikeJsonObject( "{ \"head\" : {}, \"operations\" : ["
+                              + "[ \"set\", \"w3\", { "
+                              + "\"string\" : \"foo\", "
+                              + "\"true\" : true, "
+                              + "\"false\" : false, "
+                              + "\"null\" : null, "
+                              + "\"array\" : [ 1, [ 2, 3 ], {} ], "
+                              + "\"object\" : { \"a\" : { \"b\" : [] } } "
+                              + "} ]"
+                              + "] }" );
+  }
+
+  @Test
+  public void testRead_numbers() throws IOException {
+    assertReadLikeJsonObject( "{ \"head\" : {}, \"operations\" : ["
+                              + "[ \"set\", \"w3\", { "
+                              + "\"a\" : 0, \"b\" : -0, \"c\" : 23, \"d\" : -42, "
+                              + "\"e\" : 1.5, \"f\" : -0.25, \"g\" : 1e3, \"h\" : 2.5E-3, "
+                              + "\"i\" : 9223372036854775807, "
+                              + "\"j\" : 123456789012345678901234567890"
+                              + "} ]"
+                              + "] }" );
+  }
+
+  @Test
+  public void testRead_escapedStrings() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"text\" : "
+                + "\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\te\\u00e4\\u20AC\" } ]"
+                + "] }";
+
+    ClientMessage message = read( json );
+
+    assertEquals( "a\"b\\c/d\b\f\n\r\te\u00e4\u20ac", readText( message ) );
+  }
+
+  @Test
+  public void testRead_multiByteCharacters() throws IOException {
+    // two, three and four bytes in UTF-8
+    String text = "\u00e4\u20ac\ud83d\ude00";
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"text\" : \"" + text + "\" } ]"
+                + "] }";
+
+    ClientMessage message = read( json );
+
+    assertEquals( text, readText( message ) );
+  }
+
+  @Test
+  public void testRead_replacesMalformedCharacters() throws IOException {
+    byte[] prefix = "{\"head\":{\"text\":\"a".getBytes( UTF_8 );
+    byte[] suffix = "b\"},\"operations\":[]}".getBytes( UTF_8 );
+    byte[] bytes = new byte[ prefix.length + 2 + suffix.length ];
+    System.arraycopy( prefix, 0, bytes, 0, prefix.length );
+    bytes[ prefix.length ] = ( byte )0xFF;
+    bytes[ prefix.length + 1 ] = ( byte )0xC3;
+    System.arraycopy( suffix, 0, bytes, prefix.length + 2, suffix.length );
+
+    ClientMessage message = new ClientMessageReader( new ByteArrayInputStream( bytes ) ).read();
+
+    assertEquals( "a\ufffd\ufffdb", message.getHead().get( "text" ).asString() );
+  }
+
+  @Test
+  public void testRead_acrossBufferBoundaries() throws IOException {
+    String json = "{ \"head\" : { \"requestCounter\" : 12345 }, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"text\" : \"\u00e4\u20ac\ud83d\ude00\\u00e4\", "
+                + "\"x\" : -1.5e2 } ],"
+                + "[ \"notify\", \"w3\", \"Selection\", { \"detail\" : null } ]"
+                + "] }";
+    JsonObject expected = new ClientMessage( JsonObject.readFrom( json ) ).toJson();
+
+    for( int bufferSize = 1; bufferSize < 16; bufferSize++ ) {
+      ByteArrayInputStream inputStream = new ByteArrayInputStream( json.getBytes( UTF_8 ) );
+      ClientMessage message = new ClientMessageReader( inputStream, bufferSize ).read();
+
+      assertEquals( expected, message.toJson() );
+    }
+  }
+
+  @Test
+  public void testRead_sharesRepeatedStrings() throws IOException {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"selection\" : 1 } ],"
+                + "[ \"set\", \"w3\", { \"selection\" : 2 } ]"
+                + "] }";
+
+    ClientMessage message = read( json );
+
+    Operation first = message.getOperations().get( 0 );
+    Operation second = message.getOperations().get( 1 );
+    assertSame( first.getTarget(), second.getTarget() );
+    assertSame( ( ( SetOperation )first ).getProperties().names().get( 0 ),
+                ( ( SetOperation )second ).getProperties().names().get( 0 ) );
+  }
+
+  @Test
+  public void testRead_ignoresAdditionalMembers() throws IOException {
+    String json = "{ \"foo\" : [ 1 ], \"head\" : {}, \"operations\" : [], \"bar\" : {} }";
+
+    ClientMessage message = read( json );
+
+    assertTrue( message.getOperations().isEmpty() );
+  }
+
+  @Test
+  public void testRead_ignoresAdditionalOperationElements() throws IOException {
+    assertReadLikeJsonObject( "{ \"head\" : {}, \"operations\" : ["
+                              + "[ \"destroy\", \"w3\", 23 ]"
+                              + "] }",
+                              "{ \"head\" : {}, \"operations\" : ["
+                              + "[ \"destroy\", \"w3\" ]"
+                              + "] }" );
+  }
+
+  @Test
+  public void testRead_failsWithoutHead() throws IOException {
+    assertFails( "{ \"operations\" : [] }", "Failed to read head" );
+  }
+
+  @Test
+  public void testRead_failsWithoutOperations() throws IOException {
+    assertFails( "{ \"head\" : {} }", "Failed to read operations" );
+  }
+
+  @Test
+  public void testRead_failsWithUnknownOperationType() throws IOException {
+    assertFails( "{ \"head\" : {}, \"operations\" : [ [ \"foo\", \"w3\" ] ] }",
+                 "Unknown operation type: foo" );
+  }
+
+  @Test
+  public void testRead_failsWithIncompleteOperation() throws IOException {
+    assertFails( "{ \"head\" : {}, \"operations\" : [ [ \"set\", \"w3\" ] ] }", "Expected ','" );
+  }
+
+  @Test
+  public void testRead_failsWithInvalidJson() throws IOException {
+    assertFails( "{ \"head\" : {}, \"operations\" : [ }", "Expected '['" );
+    assertFails( "{ \"head\" : { \"a\" : tru }, \"operations\" : [] }", "Expected 'e'" );
+    assertFails( "{ \"head\" : { \"a\" : 01 }, \"operations\" : [] }", "Expected '}'" );
+    assertFails( "{ \"head\" : { \"a\" : \"\\x\" }, \"operations\" : [] }", "valid escape" );
+    assertFails( "{ \"head\" : {}, \"operations\" : [] } x", "Unexpected character" );
+  }
+
+  @Test
+  public void testRead_failsWithTruncatedMessage() throws IOException {
+    assertFails( "", "Unexpected end of input" );
+    assertFails( "{ \"head\" : {}, \"operations\" : [", "Unexpected end of input" );
+    assertFails( "{ \"head\" : { \"a\" : \"foo", "Unexpected end of input" );
+  }
+
+  @Test
+  public void testRead_reportsOffset() throws IOException {
+    assertFails( "{ \"head\" : x", "at offset 11" );
+  }
+
+  private static ClientMessage read( String json ) throws IOException {
+    return new ClientMessageReader( new ByteArrayInputStream( json.getBytes( UTF_8 ) ) ).read();
+  }
+
+  private static String readText( ClientMessage message ) {
+    SetOperation operation = message.getLastSetOperationFor( "w3", "text" );
+    return operation.getProperties().get( "text" ).asString();
+  }
+
+  private static void assertReadLikeJsonObject( String json ) throws IOException {
+    assertReadLikeJsonObject( json, json );
+  }
+
+  private static void assertReadLikeJsonObject( String json, String expected ) throws IOException {
+    JsonObject expectedJson = new ClientMessage( JsonObject.readFrom( expected ) ).toJson();
+    assertEquals( expectedJson, read( json ).toJson() );
+  }
+
+  private static void assertFails( String json, String expectedMessage ) throws IOException {
+    try {
+      read( json );
+      fail();
+    } catch( IllegalArgumentException exception ) {
+      assertTrue( exception.getMessage(), exception.getMessage().contains( expectedMessage ) );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@ package org.eclipse.rap.rwt.internal.protocol;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.List;
@@ -187,6 +188,82 @@ public class ClientMessage_Test {
     assertEquals( 3, operation.getProperties().get( "foo" ).asInt() );
   }
 
+  @Test
+  public void testGetLastSetOperationFor_withoutProperty() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"foo\" : 1 } ],"
+                + "[ \"set\", \"w3\", { \"bar\" : 2 } ]," // <---
+                + "[ \"set\", \"w4\", { \"foo\" : 3 } ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    SetOperation operation = message.getLastSetOperationFor( "w3", null );
+
+    assertEquals( 2, operation.getProperties().get( "bar" ).asInt() );
+  }
+
+  @Test
+  public void testGetLastSetOperationFor_withoutMatchingProperty() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"foo\" : 1 } ],"
+                + "[ \"notify\", \"w3\", \"bar\", {} ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    assertNull( message.getLastSetOperationFor( "w3", "bar" ) );
+    assertNull( message.getLastSetOperationFor( "w4", "foo" ) );
+  }
+
+  @Test
+  public void testGetLastSetOperationFor_withNullValue() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"foo\" : 1 } ],"
+                + "[ \"set\", \"w3\", { \"foo\" : null } ]" // <---
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    SetOperation operation = message.getLastSetOperationFor( "w3", "foo" );
+
+    assertTrue( operation.getProperties().get( "foo" ).isNull() );
+  }
+
+  @Test
+  public void testGetLastSetOperationFor_withNullTarget() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"foo\" : 1 } ],"
+                + "[ \"set\", \"w4\", { \"foo\" : 2 } ]," // <---
+                + "[ \"set\", \"w5\", { \"bar\" : 3 } ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    SetOperation operation = message.getLastSetOperationFor( null, "foo" );
+
+    assertEquals( "w4", operation.getTarget() );
+  }
+
+  @Test
+  public void testGetAllCallOperations_withoutMatchingOperations() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"call\", \"w3\", \"foo\", {} ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    assertTrue( message.getAllCallOperationsFor( "w3", "bar" ).isEmpty() );
+    assertTrue( message.getAllCallOperationsFor( "w4", null ).isEmpty() );
+  }
+
+  @Test
+  public void testGetAllCallOperations_returnsNewList() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"call\", \"w3\", \"foo\", {} ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    message.getAllCallOperationsFor( "w3", "foo" ).clear();
+
+    assertEquals( 1, message.getAllCallOperationsFor( "w3", "foo" ).size() );
+  }
+
   @Test
   public void testGetLastNotifyOperation() {
     String json = "{ \"head\" : {}, \"operations\" : ["
@@ -204,6 +281,30 @@ public class ClientMessage_Test {
     assertEquals( 3, operation.getProperties().get( "count" ).asInt() );
   }
 
+  @Test
+  public void testGetLastNotifyOperation_withoutEventName() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"notify\", \"w3\", \"foo\", {} ],"
+                + "[ \"notify\", \"w3\", \"bar\", {} ]," // <---
+                + "[ \"notify\", \"w4\", \"foo\", {} ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    NotifyOperation operation = message.getLastNotifyOperationFor( "w3", null );
+
+    assertEquals( "bar", operation.getEventName() );
+  }
+
+  @Test
+  public void testGetLastNotifyOperation_withoutMatchingEvent() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"notify\", \"w3\", \"foo\", {} ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    assertNull( message.getLastNotifyOperationFor( "w3", "bar" ) );
+  }
+
   @Test
   public void testGetLastNotifyOperation_withNullTarget() {
     String json = "{ \"head\" : {}, \"operations\" : ["
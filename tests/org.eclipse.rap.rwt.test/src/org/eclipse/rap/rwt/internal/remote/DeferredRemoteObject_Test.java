@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,10 +13,14 @@ package org.eclipse.rap.rwt.internal.remote;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getProtocolWriter;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -31,6 +35,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 
 
 public class DeferredRemoteObject_Test {
@@ -239,6 +244,28 @@ public class DeferredRemoteObject_Test {
     verify( remoteObjectSpy ).checkState();
   }
 
+  @Test
+  public void testSet_marksObjectPending() {
+    RemoteObjectRegistry registry = RemoteObjectRegistry.getInstance();
+    registry.register( remoteObject );
+    registry.removePendingObjects();
+
+    remoteObject.set( "foo", 23 );
+
+    assertTrue( registry.removePendingObjects().contains( remoteObject ) );
+  }
+
+  @Test
+  public void testCall_marksObjectPending() {
+    RemoteObjectRegistry registry = RemoteObjectRegistry.getInstance();
+    registry.register( remoteObject );
+    registry.removePendingObjects();
+
+    remoteObject.call( "method", null );
+
+    assertTrue( registry.removePendingObjects().contains( remoteObject ) );
+  }
+
   @Test
   public void testRenderQueueIsClearedAfterRender() {
     remoteObject.set( "property", 23 );
@@ -258,6 +285,111 @@ public class DeferredRemoteObject_Test {
     verifyNoInteractions( writer );
   }
 
+  @Test
+  public void testSet_coalescesRepeatedSets() {
+    remoteObject.set( "property", 23 );
+    remoteObject.set( "property", 42 );
+
+    remoteObject.render( writer );
+
+    verify( writer, never() ).appendSet( eq( objectId ), eq( "property" ), eq( 23 ) );
+    verify( writer ).appendSet( eq( objectId ), eq( "property" ), eq( 42 ) );
+  }
+
+  @Test
+  public void testSet_coalescesSetsWithDifferentTypes() {
+    remoteObject.set( "property", 23 );
+    remoteObject.set( "property", "foo" );
+
+    remoteObject.render( writer );
+
+    verify( writer, never() ).appendSet( eq( objectId ), eq( "property" ), eq( 23 ) );
+    verify( writer ).appendSet( eq( objectId ), eq( "property" ), eq( "foo" ) );
+  }
+
+  @Test
+  public void testSet_coalescedSetKeepsOrderOfLastSets() {
+    remoteObject.set( "items", "X" );
+    remoteObject.set( "selection", 0 );
+    remoteObject.set( "items", "Y" );
+
+    remoteObject.render( writer );
+
+    InOrder inOrder = inOrder( writer );
+    inOrder.verify( writer ).appendSet( eq( objectId ), eq( "selection" ), eq( 0 ) );
+    inOrder.verify( writer ).appendSet( eq( objectId ), eq( "items" ), eq( "Y" ) );
+    verify( writer, never() ).appendSet( eq( objectId ), eq( "items" ), eq( "X" ) );
+  }
+
+  @Test
+  public void testSet_doesNotCoalesceSetsAcrossCall() {
+    remoteObject.set( "property", 23 );
+    remoteObject.call( "method", null );
+    remoteObject.set( "property", 42 );
+
+    remoteObject.render( writer );
+
+    InOrder inOrder = inOrder( writer );
+    inOrder.verify( writer ).appendSet( eq( objectId ), eq( "property" ), eq( 23 ) );
+    inOrder.verify( writer ).appendCall( eq( objectId ), eq( "method" ), isNull() );
+    inOrder.verify( writer ).appendSet( eq( objectId ), eq( "property" ), eq( 42 ) );
+  }
+
+  @Test
+  public void testSet_coalescesManyProperties() {
+    for( int i = 0; i < 50; i++ ) {
+      remoteObject.set( "property" + i, i );
+      remoteObject.set( "property" + i, i + 1 );
+    }
+    remoteObject.call( "method", null );
+    remoteObject.set( "property0", 23 );
+    remoteObject.set( "property0", 42 );
+
+    remoteObject.render( writer );
+
+    InOrder inOrder = inOrder( writer );
+    for( int i = 0; i < 50; i++ ) {
+      inOrder.verify( writer ).appendSet( eq( objectId ), eq( "property" + i ), eq( i + 1 ) );
+    }
+    inOrder.verify( writer ).appendCall( eq( objectId ), eq( "method" ), isNull() );
+    inOrder.verify( writer ).appendSet( eq( objectId ), eq( "property0" ), eq( 42 ) );
+    verify( writer, times( 51 ) ).appendSet( anyString(), anyString(), anyInt() );
+  }
+
+  @Test
+  public void testRender_keepsOrderOfOperations() {
+    for( int i = 0; i < 20; i++ ) {
+      remoteObject.set( "property" + i, i );
+    }
+    remoteObject.listen( "event", true );
+    remoteObject.set( "double", 1.5 );
+    remoteObject.set( "boolean", false );
+
+    remoteObject.render( writer );
+
+    InOrder inOrder = inOrder( writer );
+    inOrder.verify( writer ).appendCreate( eq( objectId ), eq( "type" ) );
+    for( int i = 0; i < 20; i++ ) {
+      inOrder.verify( writer ).appendSet( eq( objectId ), eq( "property" + i ), eq( i ) );
+    }
+    inOrder.verify( writer ).appendListen( eq( objectId ), eq( "event" ), eq( true ) );
+    inOrder.verify( writer ).appendSet( eq( objectId ), eq( "double" ), eq( 1.5 ) );
+    inOrder.verify( writer ).appendSet( eq( objectId ), eq( "boolean" ), eq( false ) );
+  }
+
+  @Test
+  public void testRender_rendersOperationsQueuedAfterRender() {
+    remoteObject.set( "property", 23 );
+    remoteObject.render( writer );
+    reset( writer );
+
+    remoteObject.set( "property", 42 );
+    remoteObject.render( writer );
+
+    verify( writer ).appendSet( eq( objectId ), eq( "property" ), eq( 42 ) );
+    verify( writer, never() ).appendCreate( anyString(), anyString() );
+  }
+
   @Test
   public void testIsSerializable() throws Exception {
     remoteObject.set( "property", 23 );
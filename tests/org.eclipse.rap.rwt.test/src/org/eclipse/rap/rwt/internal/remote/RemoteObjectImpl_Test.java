@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -186,6 +186,28 @@ public class RemoteObjectImpl_Test {
     assertTrue( remoteObject.isDestroyed() );
   }
 
+  @Test
+  public void testDestroy_marksObjectPending() {
+    RemoteObjectRegistry registry = RemoteObjectRegistry.getInstance();
+    registry.register( remoteObject );
+    registry.removePendingObjects();
+
+    remoteObject.destroy();
+
+    assertTrue( registry.removePendingObjects().contains( remoteObject ) );
+  }
+
+  @Test
+  public void testMarkDestroyed_marksObjectPending() {
+    RemoteObjectRegistry registry = RemoteObjectRegistry.getInstance();
+    registry.register( remoteObject );
+    registry.removePendingObjects();
+
+    remoteObject.markDestroyed();
+
+    assertTrue( registry.removePendingObjects().contains( remoteObject ) );
+  }
+
   @Test
   public void testPreventsCallWhenDestroyed() {
     remoteObject.destroy();
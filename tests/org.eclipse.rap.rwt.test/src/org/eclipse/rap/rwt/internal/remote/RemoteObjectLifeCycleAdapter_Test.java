@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.remote;
 
+import static org.eclipse.rap.rwt.testfixture.internal.Fixture.getProtocolMessage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -19,6 +20,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -27,6 +29,7 @@ import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
+import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.remote.OperationHandler;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -56,6 +59,41 @@ public class RemoteObjectLifeCycleAdapter_Test {
     verify( remoteObject ).render( same( ContextProvider.getProtocolWriter() ) );
   }
 
+  @Test
+  public void testRender_skipsUnchangedRemoteObjects() {
+    DeferredRemoteObject remoteObject = mockAndRegisterDeferredRemoteObject( "id", null );
+    RemoteObjectLifeCycleAdapter.render();
+
+    RemoteObjectLifeCycleAdapter.render();
+
+    verify( remoteObject, times( 1 ) ).render( any( ProtocolMessageWriter.class ) );
+  }
+
+  @Test
+  public void testRender_rendersChangedRemoteObjects() {
+    DeferredRemoteObject remoteObject = new DeferredRemoteObject( "id", "type" );
+    RemoteObjectRegistry.getInstance().register( remoteObject );
+    RemoteObjectLifeCycleAdapter.render();
+    Fixture.fakeNewRequest();
+    remoteObject.set( "foo", 23 );
+
+    RemoteObjectLifeCycleAdapter.render();
+
+    assertNotNull( getProtocolMessage().findSetOperation( "id", "foo" ) );
+  }
+
+  @Test
+  public void testRender_removesDestroyedRemoteObjectsAfterFirstRender() {
+    LifeCycleRemoteObject remoteObject = new LifeCycleRemoteObject( "id", null );
+    RemoteObjectRegistry.getInstance().register( remoteObject );
+    RemoteObjectLifeCycleAdapter.render();
+    remoteObject.markDestroyed();
+
+    RemoteObjectLifeCycleAdapter.render();
+
+    assertNull( RemoteObjectRegistry.getInstance().get( "id" ) );
+  }
+
   @Test
   public void testRender_removesAllDestroyedRemoteObjectsFromRegistry() {
     setDestroyed( mockAndRegisterDeferredRemoteObject( "deferred", null ) );
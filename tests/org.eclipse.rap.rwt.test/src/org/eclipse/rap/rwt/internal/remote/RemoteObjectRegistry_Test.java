@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -105,6 +106,64 @@ public class RemoteObjectRegistry_Test {
     assertEquals( "id0 id1 id2 id3 id4 id5 id6 id7 id8 id9", join( getIds( allObjects ), " " ) );
   }
 
+  @Test
+  public void testRemovePendingObjects_returnsRegisteredObjects() {
+    RemoteObjectImpl remoteObject = new DeferredRemoteObject( "id", "type" );
+    registry.register( remoteObject );
+
+    List<RemoteObjectImpl> pendingObjects = registry.removePendingObjects();
+
+    assertEquals( 1, pendingObjects.size() );
+    assertSame( remoteObject, pendingObjects.get( 0 ) );
+  }
+
+  @Test
+  public void testRemovePendingObjects_clearsPendingObjects() {
+    registry.register( new DeferredRemoteObject( "id", "type" ) );
+    registry.removePendingObjects();
+
+    List<RemoteObjectImpl> pendingObjects = registry.removePendingObjects();
+
+    assertTrue( pendingObjects.isEmpty() );
+  }
+
+  @Test
+  public void testRemovePendingObjects_returnsChangedObjectsInOrder() {
+    for( int i = 0; i < 5; i++ ) {
+      registry.register( new DeferredRemoteObject( "id" + i, "type" ) );
+    }
+    registry.removePendingObjects();
+    registry.get( "id3" ).set( "foo", 1 );
+    registry.get( "id1" ).set( "foo", 1 );
+    registry.get( "id3" ).set( "bar", 2 );
+
+    List<RemoteObjectImpl> pendingObjects = registry.removePendingObjects();
+
+    assertEquals( "id3 id1", join( getIds( pendingObjects ), " " ) );
+  }
+
+  @Test
+  public void testRemovePendingObjects_returnsDestroyedObjects() {
+    RemoteObjectImpl remoteObject = new LifeCycleRemoteObject( "id", null );
+    registry.register( remoteObject );
+    registry.removePendingObjects();
+
+    remoteObject.markDestroyed();
+
+    assertSame( remoteObject, registry.removePendingObjects().get( 0 ) );
+  }
+
+  @Test
+  public void testRemovePendingObjects_omitsRemovedObjects() {
+    RemoteObjectImpl remoteObject = new DeferredRemoteObject( "id", "type" );
+    registry.register( remoteObject );
+
+    registry.remove( remoteObject );
+    remoteObject.markDestroyed();
+
+    assertTrue( registry.removePendingObjects().isEmpty() );
+  }
+
   private static RemoteObjectImpl mockRemoteObjectImpl( String id ) {
     RemoteObjectImpl remoteObject = mock( RemoteObjectImpl.class );
     when( remoteObject.getId() ).thenReturn( id );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.resources;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
@@ -20,18 +22,28 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.zip.GZIPInputStream;
 
+import org.eclipse.rap.rwt.engine.RWTResourceFilter;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -39,6 +51,9 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import jakarta.servlet.FilterRegistration;
+import jakarta.servlet.ServletContext;
+
 
 public class ResourceManagerImpl_Test {
 
@@ -391,6 +406,276 @@ public class ResourceManagerImpl_Test {
     }
   }
 
+  @Test
+  public void testGetCachedResource_withoutCaching() {
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    assertNull( resourceManager.getCachedResource( "path/to/resource" ) );
+  }
+
+  @Test
+  public void testGetLocation_withCaching() {
+    resourceManager = createCachingResourceManager();
+
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    String hash = resourceManager.getCachedResource( "path/to/resource" ).getContentHash();
+    String location = resourceManager.getLocation( "path/to/resource" );
+    assertEquals( "rwt-resources/path/to/resource?v=" + hash, location );
+  }
+
+  @Test
+  public void testGetLocation_withCaching_changesWithContent() {
+    resourceManager = createCachingResourceManager();
+    resourceManager.register( "resource", new ByteArrayInputStream( new byte[] { 1 } ) );
+    String location = resourceManager.getLocation( "resource" );
+
+    resourceManager.register( "resource", new ByteArrayInputStream( new byte[] { 2 } ) );
+
+    assertFalse( location.equals( resourceManager.getLocation( "resource" ) ) );
+  }
+
+  @Test
+  public void testGetCachedResource_withCaching() {
+    resourceManager = createCachingResourceManager();
+
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    CachedResource cachedResource = resourceManager.getCachedResource( "path/to/resource" );
+    assertTrue( getResourceCopyFile( "path/to/resource" ).exists() );
+    assertEquals( 3, cachedResource.getContentLength( false ) );
+    assertEquals( 16, cachedResource.getContentHash().length() );
+    assertFalse( cachedResource.hasCompressedContent() );
+  }
+
+  @Test
+  public void testGetCachedResource_withCaching_compressesTextResources() throws IOException {
+    resourceManager = createCachingResourceManager();
+    byte[] content = createTextContent();
+
+    resourceManager.register( "script.js", new ByteArrayInputStream( content ) );
+
+    CachedResource cachedResource = resourceManager.getCachedResource( "script.js" );
+    File compressedFile = getResourceCopyFile( "script.js.gz" );
+    assertTrue( cachedResource.hasCompressedContent() );
+    assertEquals( compressedFile.length(), cachedResource.getContentLength( true ) );
+    assertTrue( compressedFile.length() < content.length );
+    assertArrayEquals( content, readCompressed( compressedFile ) );
+  }
+
+  @Test
+  public void testGetCachedResource_withCaching_doesNotCompressImages() {
+    resourceManager = createCachingResourceManager();
+
+    resourceManager.register( "image.png", new ByteArrayInputStream( createTextContent() ) );
+
+    assertFalse( resourceManager.getCachedResource( "image.png" ).hasCompressedContent() );
+    assertFalse( getResourceCopyFile( "image.png.gz" ).exists() );
+  }
+
+  @Test
+  public void testUnregister_withCaching_deletesCompressedFile() {
+    resourceManager = createCachingResourceManager();
+    resourceManager.register( "script.js", new ByteArrayInputStream( createTextContent() ) );
+
+    resourceManager.unregister( "script.js" );
+
+    assertNull( resourceManager.getCachedResource( "script.js" ) );
+    assertFalse( getResourceCopyFile( "script.js.gz" ).exists() );
+  }
+
+  @Test
+  public void testRegister_withMemoryBudget() throws IOException {
+    resourceManager = createMemoryResourceManager( 1000 );
+
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    assertFalse( getResourceCopyFile( "path/to/resource" ).exists() );
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( getRegisteredContent( "path/to/resource" ) ) );
+    CachedResource cachedResource = resourceManager.getCachedResource( "path/to/resource" );
+    assertEquals( 3, cachedResource.getContentLength( false ) );
+  }
+
+  @Test
+  public void testGetLocation_withMemoryBudget() {
+    resourceManager = createMemoryResourceManager( 1000 );
+
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    String location = resourceManager.getLocation( "path/to/resource" );
+    assertEquals( "rwt-resources/path/to/resource", location );
+  }
+
+  @Test
+  public void testRegister_withMemoryBudget_exceeded() throws IOException {
+    resourceManager = createMemoryResourceManager( 5 );
+    resourceManager.register( "resource1", createInputStream() );
+
+    resourceManager.register( "resource2", createInputStream() );
+
+    assertFalse( getResourceCopyFile( "resource1" ).exists() );
+    assertTrue( getResourceCopyFile( "resource2" ).exists() );
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( getRegisteredContent( "resource2" ) ) );
+  }
+
+  @Test
+  public void testRegister_withMemoryBudget_replacesPreviousVersion() {
+    resourceManager = createMemoryResourceManager( 3 );
+    resourceManager.register( "resource", createInputStream() );
+
+    resourceManager.register( "resource", createInputStream() );
+
+    assertFalse( getResourceCopyFile( "resource" ).exists() );
+  }
+
+  @Test
+  public void testRegister_withMemoryBudget_deletesReplacedFile() {
+    resourceManager = createMemoryResourceManager( 3 );
+    resourceManager.register( "resource", new ByteArrayInputStream( new byte[ 4 ] ) );
+
+    resourceManager.register( "resource", createInputStream() );
+
+    assertFalse( getResourceCopyFile( "resource" ).exists() );
+  }
+
+  @Test
+  public void testUnregister_withMemoryBudget_releasesMemory() {
+    resourceManager = createMemoryResourceManager( 3 );
+    resourceManager.register( "resource1", createInputStream() );
+
+    resourceManager.unregister( "resource1" );
+    resourceManager.register( "resource2", createInputStream() );
+
+    assertFalse( resourceManager.isRegistered( "resource1" ) );
+    assertFalse( getResourceCopyFile( "resource2" ).exists() );
+  }
+
+  @Test
+  public void testRegister_withMemoryBudget_exceeded_compressesFile() throws IOException {
+    resourceManager = createMemoryResourceManager( 10 );
+    byte[] content = createTextContent();
+
+    resourceManager.register( "script.js", new ByteArrayInputStream( content ) );
+
+    CachedResource cachedResource = resourceManager.getCachedResource( "script.js" );
+    assertArrayEquals( content, read( getResourceCopyFile( "script.js" ) ) );
+    assertArrayEquals( content, readCompressed( getResourceCopyFile( "script.js.gz" ) ) );
+    assertTrue( cachedResource.hasCompressedContent() );
+  }
+
+  @Test
+  public void testRegister_withMemoryBudget_exceeded_hasSameContentHash() {
+    resourceManager = createCachingResourceManager();
+    resourceManager.register( "script.js", new ByteArrayInputStream( createTextContent() ) );
+    String expected = resourceManager.getCachedResource( "script.js" ).getContentHash();
+    resourceManager = createMemoryResourceManager( 10 );
+
+    resourceManager.register( "script.js", new ByteArrayInputStream( createTextContent() ) );
+
+    assertEquals( expected, resourceManager.getCachedResource( "script.js" ).getContentHash() );
+  }
+
+  @Test
+  public void testRegister_withMemoryBudget_exceeded_leavesNoTemporaryFiles() {
+    resourceManager = createMemoryResourceManager( 10 );
+
+    resourceManager.register( "script.js", new ByteArrayInputStream( createTextContent() ) );
+
+    String[] files = getResourceCopyFile( "script.js" ).getParentFile().list();
+    assertEquals( asList( "script.js", "script.js.gz" ), asList( sort( files ) ) );
+  }
+
+  @Test
+  public void testRegister_withCaching_doesNotBlockOtherRegistrationsWhileReading()
+    throws Exception
+  {
+    resourceManager = createCachingResourceManager();
+    final CountDownLatch reading = new CountDownLatch( 1 );
+    final CountDownLatch proceed = new CountDownLatch( 1 );
+    final InputStream blockingStream = new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) {
+      @Override
+      public synchronized int read( byte[] bytes, int offset, int length ) {
+        reading.countDown();
+        try {
+          proceed.await();
+        } catch( InterruptedException exception ) {
+          Thread.currentThread().interrupt();
+        }
+        return super.read( bytes, offset, length );
+      }
+    };
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        resourceManager.register( "blocked", blockingStream );
+      }
+    } );
+    thread.start();
+    reading.await();
+
+    try {
+      resourceManager.register( "resource", createInputStream() );
+      assertTrue( resourceManager.isRegistered( "resource" ) );
+      assertFalse( resourceManager.isRegistered( "blocked" ) );
+    } finally {
+      proceed.countDown();
+      thread.join();
+    }
+    assertTrue( resourceManager.isRegistered( "blocked" ) );
+  }
+
+  @Test
+  public void testCreate_withMemoryBudget_withResourceFilter() {
+    ServletContext servletContext = mockServletContext( "/rwt-resources/*" );
+    resourceManager = createResourceManager( servletContext, "1000" );
+
+    resourceManager.register( "resource", createInputStream() );
+
+    assertFalse( getResourceCopyFile( "resource" ).exists() );
+    verify( servletContext, never() ).log( anyString() );
+  }
+
+  @Test
+  public void testCreate_withMemoryBudget_withResourceFilterForAllPaths() {
+    resourceManager = createResourceManager( mockServletContext( "/*" ), "1000" );
+
+    resourceManager.register( "resource", createInputStream() );
+
+    assertFalse( getResourceCopyFile( "resource" ).exists() );
+  }
+
+  @Test
+  public void testCreate_withMemoryBudget_withoutResourceFilter() {
+    ServletContext servletContext = mockServletContext( "/other/*" );
+    resourceManager = createResourceManager( servletContext, "1000" );
+
+    resourceManager.register( "resource", createInputStream() );
+
+    assertTrue( getResourceCopyFile( "resource" ).exists() );
+    verify( servletContext ).log( anyString() );
+  }
+
+  @Test
+  public void testCreate_withMemoryBudget_withUnknownFilters() {
+    ServletContext servletContext = mock( ServletContext.class );
+    when( servletContext.getFilterRegistrations() ).thenThrow( new UnsupportedOperationException() );
+    resourceManager = createResourceManager( servletContext, "1000" );
+
+    resourceManager.register( "resource", createInputStream() );
+
+    assertTrue( getResourceCopyFile( "resource" ).exists() );
+    verify( servletContext ).log( anyString() );
+  }
+
+  private static String[] sort( String[] strings ) {
+    Arrays.sort( strings );
+    return strings;
+  }
+
+  private InputStream getRegisteredContent( String name ) {
+    return resourceManager.getRegisteredContent( name );
+  }
+
   private static byte[] read( File file ) throws IOException {
     FileInputStream inputStream = new FileInputStream( file );
     try {
@@ -404,6 +689,46 @@ public class ResourceManagerImpl_Test {
     return new ByteArrayInputStream( new byte[] { 1, 2, 3 } );
   }
 
+  private static ResourceManagerImpl createCachingResourceManager() {
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    return new ResourceManagerImpl( resourceDirectory, true, 0 );
+  }
+
+  private static ResourceManagerImpl createMemoryResourceManager( long memoryBudget ) {
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    return new ResourceManagerImpl( resourceDirectory, false, memoryBudget );
+  }
+
+  private static ResourceManagerImpl createResourceManager( ServletContext servletContext,
+                                                           String memoryBudget )
+  {
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    System.setProperty( RWTProperties.RESOURCE_MEMORY_BUDGET, memoryBudget );
+    try {
+      return new ResourceManagerImpl( resourceDirectory, servletContext );
+    } finally {
+      System.getProperties().remove( RWTProperties.RESOURCE_MEMORY_BUDGET );
+    }
+  }
+
+  private static ServletContext mockServletContext( String filterPattern ) {
+    FilterRegistration registration = mock( FilterRegistration.class );
+    when( registration.getClassName() ).thenReturn( RWTResourceFilter.class.getName() );
+    when( registration.getUrlPatternMappings() ).thenReturn( asList( filterPattern ) );
+    ServletContext servletContext = mock( ServletContext.class );
+    doReturn( singletonMap( "rwtResourceFilter", registration ) )
+      .when( servletContext ).getFilterRegistrations();
+    return servletContext;
+  }
+
+  private static byte[] createTextContent() {
+    StringBuilder builder = new StringBuilder();
+    for( int i = 0; i < 200; i++ ) {
+      builder.append( "var x" ).append( i ).append( " = " ).append( i ).append( ";\n" );
+    }
+    return builder.toString().getBytes( StandardCharsets.UTF_8 );
+  }
+
   private ResourceLoader createResourceLoader() {
     ResourceLoader loader = new ResourceLoader() {
       public InputStream getResourceAsStream( String resourceName ) throws IOException {
@@ -427,6 +752,21 @@ public class ResourceManagerImpl_Test {
     return result;
   }
 
+  private static byte[] readCompressed( File file ) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    InputStream inputStream = new GZIPInputStream( new FileInputStream( file ) );
+    try {
+      int read = inputStream.read();
+      while( read != -1 ) {
+        result.write( read );
+        read = inputStream.read();
+      }
+    } finally {
+      inputStream.close();
+    }
+    return result.toByteArray();
+  }
+
   private static File getResourceCopyFile( String resourceName ) {
     String path =   getWebContextDirectory()
                   + File.separator
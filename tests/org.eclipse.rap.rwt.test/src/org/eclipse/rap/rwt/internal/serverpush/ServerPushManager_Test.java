@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,10 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -26,6 +30,10 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.HttpSessionBindingListener;
 
@@ -46,6 +54,7 @@ import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 
 public class ServerPushManager_Test {
@@ -285,6 +294,215 @@ public class ServerPushManager_Test {
     assertTrue( callBackRequestSimulator2.isRequestRunning() );
   }
 
+  @Test
+  public void testProcessAsyncRequest_doesNotBlock() {
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+
+    manager.processAsyncRequest( request );
+
+    verify( request ).startAsync();
+    assertTrue( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_withoutServerPush() {
+    HttpServletRequest request = mockAsyncRequest();
+
+    manager.processAsyncRequest( request );
+
+    verify( request, never() ).startAsync();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_withRunnables() {
+    manager.activateServerPushFor( HANDLE_1 );
+    display.asyncExec( mock( Runnable.class ) );
+    HttpServletRequest request = mockAsyncRequest();
+
+    manager.processAsyncRequest( request );
+
+    verify( request, never() ).startAsync();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_disablesContainerTimeout() {
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+
+    manager.processAsyncRequest( request );
+
+    verify( request.startAsync() ).setTimeout( 0 );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_isCompletedOnWakeClient() {
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+    manager.processAsyncRequest( request );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( request.startAsync() ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_isNotCompletedOnWakeClientWhileUIThreadRunning() {
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+    manager.processAsyncRequest( request );
+    manager.notifyUIThreadStart();
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( request.startAsync(), never() ).complete();
+    manager.notifyUIThreadEnd();
+    verify( request.startAsync() ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_isCompletedOnDeactivation() {
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+    manager.processAsyncRequest( request );
+
+    manager.deactivateServerPushFor( HANDLE_1 );
+
+    verify( request.startAsync() ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_isCompletedBySubsequentRequest() {
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request1 = mockAsyncRequest();
+    HttpServletRequest request2 = mockAsyncRequest();
+    manager.processAsyncRequest( request1 );
+
+    manager.processAsyncRequest( request2 );
+
+    verify( request1.startAsync() ).complete();
+    verify( request2.startAsync(), never() ).complete();
+    assertTrue( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_isCompletedOnSessionInvalidation() {
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+    manager.processAsyncRequest( request );
+
+    ContextProvider.getUISession().getHttpSession().invalidate();
+
+    verify( request.startAsync() ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_isCompletedAfterRequestCheckInterval() {
+    manager.setRequestCheckInterval( 20 );
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+
+    manager.processAsyncRequest( request );
+
+    verify( request.startAsync(), timeout( REQUEST_WAIT_TIMEOUT ) ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_isCompletedAfterRequestReleaseInterval() {
+    manager.setRequestReleaseInterval( 50 );
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+    manager.processAsyncRequest( request );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( request.startAsync(), never() ).complete();
+    verify( request.startAsync(), timeout( REQUEST_WAIT_TIMEOUT ) ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_isCompletedWhenSessionExpired() throws InterruptedException {
+    ContextProvider.getUISession().getHttpSession().setMaxInactiveInterval( 1 );
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+    manager.processAsyncRequest( request );
+
+    Thread.sleep( 1100 );
+    manager.releaseBlockedRequest();
+
+    verify( request.startAsync() ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_isDiscardedOnError() throws IOException {
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+    manager.processAsyncRequest( request );
+    ArgumentCaptor<AsyncListener> captor = ArgumentCaptor.forClass( AsyncListener.class );
+    verify( request.startAsync() ).addListener( captor.capture() );
+
+    captor.getValue().onError( mock( AsyncEvent.class ) );
+
+    verify( request.startAsync() ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_isDiscardedOnComplete() throws IOException {
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+    manager.processAsyncRequest( request );
+    ArgumentCaptor<AsyncListener> captor = ArgumentCaptor.forClass( AsyncListener.class );
+    verify( request.startAsync() ).addListener( captor.capture() );
+
+    captor.getValue().onComplete( mock( AsyncEvent.class ) );
+
+    verify( request.startAsync(), never() ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testServiceHandler_processesAsyncRequest() throws IOException {
+    manager.activateServerPushFor( HANDLE_1 );
+    HttpServletRequest request = mockAsyncRequest();
+
+    pushServiceHandler.service( request, ContextProvider.getResponse() );
+
+    verify( request ).startAsync();
+    assertTrue( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testGetNextCheckDelay() {
+    manager.setRequestCheckInterval( 1000 );
+
+    assertEquals( 900, manager.getNextCheckDelay( 0, 100 ) );
+  }
+
+  @Test
+  public void testGetNextCheckDelay_withRunnables() {
+    manager.setRequestCheckInterval( 1000 );
+    manager.setRequestReleaseInterval( 300 );
+    manager.setHasRunnables( true );
+
+    assertEquals( 200, manager.getNextCheckDelay( 0, 100 ) );
+  }
+
+  @Test
+  public void testGetNextCheckDelay_whenElapsed() {
+    manager.setRequestCheckInterval( 1000 );
+
+    assertEquals( 0, manager.getNextCheckDelay( 0, 2000 ) );
+  }
+
   @Test
   public void testAsyncExec() throws Throwable {
     Throwable[] serverPushServiceHandlerThrowable = { null };
@@ -591,6 +809,14 @@ public class ServerPushManager_Test {
     ContextProvider.getUISession().setAttribute( "org.eclipse.swt.display", display );
   }
 
+  private static HttpServletRequest mockAsyncRequest() {
+    HttpServletRequest request = mock( HttpServletRequest.class );
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    when( request.isAsyncSupported() ).thenReturn( Boolean.TRUE );
+    when( request.startAsync() ).thenReturn( asyncContext );
+    return request;
+  }
+
   private static ServiceContext createServiceContext( TestResponse response ) {
     UISession uiSession = ContextProvider.getContext().getUISession();
     TestRequest request = new TestRequest();
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.rap.rwt.internal.service.BufferedResponse.Recorder;
+import org.junit.Test;
+
+
+public class BufferedResponse_Test {
+
+  private static final byte[] CONTENT = createContent();
+
+  @Test
+  public void testWriteTo() throws IOException {
+    BufferedResponse response = BufferedResponse.create( CONTENT, false );
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    response.writeTo( outputStream );
+
+    assertArrayEquals( CONTENT, outputStream.toByteArray() );
+  }
+
+  @Test
+  public void testWriteTo_compressed() throws IOException {
+    BufferedResponse response = BufferedResponse.create( CONTENT, true );
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    response.writeTo( outputStream );
+
+    assertArrayEquals( CONTENT, outputStream.toByteArray() );
+  }
+
+  @Test
+  public void testWriteStoredContentTo_compressed() throws IOException {
+    BufferedResponse response = BufferedResponse.create( CONTENT, true );
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    response.writeStoredContentTo( outputStream );
+
+    assertEquals( response.getSize(), outputStream.size() );
+    InputStream inputStream
+      = new GZIPInputStream( new ByteArrayInputStream( outputStream.toByteArray() ) );
+    byte[] decompressed = new byte[ CONTENT.length ];
+    new DataInputStream( inputStream ).readFully( decompressed );
+    assertArrayEquals( CONTENT, decompressed );
+    assertEquals( -1, inputStream.read() );
+  }
+
+  @Test
+  public void testGetSize() {
+    BufferedResponse response = BufferedResponse.create( CONTENT, false );
+
+    assertEquals( CONTENT.length, response.getSize() );
+    assertFalse( response.isCompressed() );
+  }
+
+  @Test
+  public void testGetSize_compressed() {
+    BufferedResponse response = BufferedResponse.create( CONTENT, true );
+
+    assertTrue( response.getSize() < CONTENT.length );
+    assertTrue( response.isCompressed() );
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    BufferedResponse response = BufferedResponse.create( CONTENT, true );
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    serializeAndDeserialize( response ).writeTo( outputStream );
+
+    assertArrayEquals( CONTENT, outputStream.toByteArray() );
+  }
+
+  @Test
+  public void testRecorder_passesContent() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    Recorder recorder = new Recorder( outputStream, 10 );
+
+    recorder.write( CONTENT, 0, 100 );
+    recorder.write( 23 );
+
+    assertEquals( 101, outputStream.size() );
+  }
+
+  @Test
+  public void testRecorder_recordsContent() throws IOException {
+    Recorder recorder = new Recorder( new ByteArrayOutputStream(), CONTENT.length );
+
+    recorder.write( CONTENT, 0, 100 );
+    recorder.write( CONTENT, 100, CONTENT.length - 100 );
+
+    assertArrayEquals( CONTENT, recorder.getContent() );
+  }
+
+  @Test
+  public void testRecorder_exceedingLimit() throws IOException {
+    Recorder recorder = new Recorder( new ByteArrayOutputStream(), CONTENT.length - 1 );
+
+    recorder.write( CONTENT, 0, 100 );
+    recorder.write( CONTENT, 100, CONTENT.length - 100 );
+
+    assertNull( recorder.getContent() );
+  }
+
+  @Test
+  public void testRecorder_recordsSingleBytes() throws IOException {
+    Recorder recorder = new Recorder( new ByteArrayOutputStream(), 2 );
+
+    recorder.write( 23 );
+    recorder.write( 42 );
+
+    assertArrayEquals( new byte[] { 23, 42 }, recorder.getContent() );
+  }
+
+  @Test
+  public void testRecorder_singleByteExceedingLimit() throws IOException {
+    Recorder recorder = new Recorder( new ByteArrayOutputStream(), 1 );
+
+    recorder.write( 23 );
+    recorder.write( 42 );
+
+    assertNull( recorder.getContent() );
+  }
+
+  @Test
+  public void testRecorder_withMaximumLimit() throws IOException {
+    Recorder recorder = new Recorder( new ByteArrayOutputStream(), Integer.MAX_VALUE );
+
+    recorder.write( CONTENT, 0, CONTENT.length );
+
+    assertArrayEquals( CONTENT, recorder.getContent() );
+  }
+
+  private static byte[] createContent() {
+    byte[] result = new byte[ 4096 ];
+    Arrays.fill( result, ( byte )'a' );
+    return result;
+  }
+
+}
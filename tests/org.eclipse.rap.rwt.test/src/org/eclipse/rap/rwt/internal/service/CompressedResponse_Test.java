@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class CompressedResponse_Test {
+
+  private static final byte[] SMALL_CONTENT = "{\"head\":{},\"operations\":[]}".getBytes( UTF_8 );
+  private static final byte[] LARGE_CONTENT = createLargeContent();
+
+  private TestRequest request;
+  private TestResponse response;
+
+  @Before
+  public void setUp() {
+    CompressedResponse.enabled = true;
+    request = new TestRequest();
+    response = new TestResponse();
+  }
+
+  @After
+  public void tearDown() {
+    CompressedResponse.enabled = false;
+    CompressedResponse.threshold = 1024;
+  }
+
+  @Test
+  public void testCreate_whenDisabled() {
+    CompressedResponse.enabled = false;
+    request.setHeader( "Accept-Encoding", "gzip" );
+
+    assertNull( CompressedResponse.create( request, response ) );
+  }
+
+  @Test
+  public void testCreate_withoutAcceptEncoding() {
+    assertNull( CompressedResponse.create( request, response ) );
+  }
+
+  @Test
+  public void testCreate_withUnsupportedEncoding() {
+    request.setHeader( "Accept-Encoding", "br" );
+
+    assertNull( CompressedResponse.create( request, response ) );
+  }
+
+  @Test
+  public void testCreate_setsVaryHeader() {
+    request.setHeader( "Accept-Encoding", "gzip" );
+
+    CompressedResponse.create( request, response );
+
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+  }
+
+  @Test
+  public void testAcceptsEncoding() {
+    request.setHeader( "Accept-Encoding", "deflate, GZIP;q=0.5" );
+
+    assertTrue( CompressedResponse.acceptsEncoding( request, "gzip" ) );
+    assertTrue( CompressedResponse.acceptsEncoding( request, "deflate" ) );
+    assertFalse( CompressedResponse.acceptsEncoding( request, "br" ) );
+  }
+
+  @Test
+  public void testAcceptsEncoding_withZeroQuality() {
+    request.setHeader( "Accept-Encoding", "gzip; q=0.0, deflate" );
+
+    assertFalse( CompressedResponse.acceptsEncoding( request, "gzip" ) );
+  }
+
+  @Test
+  public void testFinish_withSmallContent_sendsUncompressed() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+
+    compressedResponse.getOutputStream().write( SMALL_CONTENT );
+    compressedResponse.finish();
+
+    assertNull( compressedResponse.getContentEncoding() );
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertArrayEquals( SMALL_CONTENT, getSentContent() );
+  }
+
+  @Test
+  public void testFinish_withoutContent() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+
+    compressedResponse.finish();
+
+    assertEquals( 0, getSentContent().length );
+  }
+
+  @Test
+  public void testFinish_withGzip() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip, deflate" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+
+    compressedResponse.getOutputStream().write( LARGE_CONTENT );
+    compressedResponse.finish();
+
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+    byte[] content = getSentContent();
+    assertTrue( content.length < LARGE_CONTENT.length );
+    assertArrayEquals( LARGE_CONTENT, read( new GZIPInputStream( stream( content ) ) ) );
+  }
+
+  @Test
+  public void testFinish_withDeflate() throws IOException {
+    request.setHeader( "Accept-Encoding", "deflate" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+
+    compressedResponse.getOutputStream().write( LARGE_CONTENT );
+    compressedResponse.finish();
+
+    assertEquals( "deflate", response.getHeader( "Content-Encoding" ) );
+    byte[] content = getSentContent();
+    assertArrayEquals( LARGE_CONTENT, read( new InflaterInputStream( stream( content ) ) ) );
+  }
+
+  @Test
+  public void testFinish_withSingleByteWrites() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+
+    for( byte value : LARGE_CONTENT ) {
+      compressedResponse.getOutputStream().write( value );
+    }
+    compressedResponse.finish();
+
+    byte[] content = getSentContent();
+    assertArrayEquals( LARGE_CONTENT, read( new GZIPInputStream( stream( content ) ) ) );
+  }
+
+  @Test
+  public void testFinish_withWriter() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    response.setCharacterEncoding( "UTF-8" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+
+    PrintWriter writer = compressedResponse.getWriter();
+    writer.write( new String( LARGE_CONTENT, UTF_8 ) );
+    compressedResponse.finish();
+
+    byte[] content = getSentContent();
+    assertArrayEquals( LARGE_CONTENT, read( new GZIPInputStream( stream( content ) ) ) );
+  }
+
+  @Test
+  public void testFinish_withZeroThreshold_compressesSmallContent() throws IOException {
+    CompressedResponse.threshold = 0;
+    request.setHeader( "Accept-Encoding", "gzip" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+
+    compressedResponse.getOutputStream().write( SMALL_CONTENT );
+    compressedResponse.finish();
+
+    assertEquals( "gzip", compressedResponse.getContentEncoding() );
+    byte[] content = getSentContent();
+    assertArrayEquals( SMALL_CONTENT, read( new GZIPInputStream( stream( content ) ) ) );
+  }
+
+  @Test
+  public void testFlush_doesNotSendSmallContent() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+
+    compressedResponse.getOutputStream().write( SMALL_CONTENT );
+    compressedResponse.flushBuffer();
+
+    assertEquals( 0, getSentContent().length );
+  }
+
+  @Test
+  public void testWrite_afterFinish_fails() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+    compressedResponse.getOutputStream().write( SMALL_CONTENT );
+    compressedResponse.finish();
+
+    try {
+      compressedResponse.getOutputStream().write( SMALL_CONTENT );
+      fail();
+    } catch( IOException expected ) {
+    }
+  }
+
+  @Test( expected = IllegalStateException.class )
+  public void testGetWriter_afterGetOutputStream() throws IOException {
+    request.setHeader( "Accept-Encoding", "gzip" );
+    response.setCharacterEncoding( "UTF-8" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+    compressedResponse.getOutputStream();
+
+    compressedResponse.getWriter();
+  }
+
+  @Test
+  public void testFinish_returnsDeflaterToPool() throws IOException {
+    request.setHeader( "Accept-Encoding", "deflate" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+    compressedResponse.getOutputStream().write( LARGE_CONTENT );
+    int pooled = CompressedResponse.DEFLATE_DEFLATERS.size();
+
+    compressedResponse.finish();
+    compressedResponse.release();
+
+    assertEquals( pooled + 1, CompressedResponse.DEFLATE_DEFLATERS.size() );
+  }
+
+  @Test
+  public void testRelease_returnsDeflaterToPool() throws IOException {
+    request.setHeader( "Accept-Encoding", "deflate" );
+    CompressedResponse compressedResponse = CompressedResponse.create( request, response );
+    compressedResponse.getOutputStream().write( LARGE_CONTENT );
+    int pooled = CompressedResponse.DEFLATE_DEFLATERS.size();
+
+    compressedResponse.release();
+
+    assertEquals( pooled + 1, CompressedResponse.DEFLATE_DEFLATERS.size() );
+  }
+
+  private byte[] getSentContent() throws IOException {
+    return ( ( TestServletOutputStream )response.getOutputStream() ).getContent().toByteArray();
+  }
+
+  private static InputStream stream( byte[] content ) {
+    return new ByteArrayInputStream( content );
+  }
+
+  private static byte[] read( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    try {
+      byte[] buffer = new byte[ 1024 ];
+      int read = inputStream.read( buffer );
+      while( read != -1 ) {
+        result.write( buffer, 0, read );
+        read = inputStream.read( buffer );
+      }
+    } finally {
+      inputStream.close();
+    }
+    return result.toByteArray();
+  }
+
+  private static byte[] createLargeContent() {
+    StringBuilder builder = new StringBuilder( "{\"head\":{},\"operations\":[" );
+    for( int i = 0; i < 2000; i++ ) {
+      builder.append( "[\"set\",\"w" ).append( i ).append( "\",{\"bounds\":[0,0,100," );
+      builder.append( i % 37 ).append( "]}]," );
+    }
+    builder.append( "[\"call\",\"w1\",\"init\",{}]]}" );
+    return builder.toString().getBytes( UTF_8 );
+  }
+
+}
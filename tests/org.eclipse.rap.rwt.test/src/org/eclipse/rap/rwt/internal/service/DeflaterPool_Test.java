@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.zip.Deflater;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class DeflaterPool_Test {
+
+  private DeflaterPool pool;
+
+  @Before
+  public void setUp() {
+    pool = new DeflaterPool( Deflater.DEFAULT_COMPRESSION, true, 1 );
+  }
+
+  @Test
+  public void testAcquire_createsDeflater() {
+    Deflater deflater = pool.acquire();
+
+    assertNotSame( deflater, pool.acquire() );
+  }
+
+  @Test
+  public void testAcquire_reusesReleasedDeflater() {
+    Deflater deflater = pool.acquire();
+    pool.release( deflater );
+
+    assertSame( deflater, pool.acquire() );
+  }
+
+  @Test
+  public void testRelease_resetsDeflater() {
+    Deflater deflater = pool.acquire();
+    deflater.setInput( new byte[] { 1, 2, 3 } );
+    deflater.finish();
+    deflater.deflate( new byte[ 16 ] );
+
+    pool.release( deflater );
+
+    assertEquals( 0, deflater.getBytesRead() );
+  }
+
+  @Test
+  public void testRelease_exceedingCapacity() {
+    Deflater first = pool.acquire();
+    Deflater second = pool.acquire();
+
+    pool.release( first );
+    pool.release( second );
+
+    assertEquals( 1, pool.size() );
+    assertSame( first, pool.acquire() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,9 +27,14 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -54,6 +59,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponseMessage;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -83,6 +89,9 @@ public class LifeCycleServiceHandler_Test {
 
   @After
   public void tearDown() {
+    LifeCycleServiceHandler.bufferLimit = Integer.MAX_VALUE;
+    LifeCycleServiceHandler.compressBuffer = false;
+    LifeCycleServiceHandler.streamingClientMessage = false;
     Fixture.tearDown();
   }
 
@@ -279,6 +288,144 @@ public class LifeCycleServiceHandler_Test {
     assertEquals( firstResponse, secondResponse );
   }
 
+  @Test
+  public void testSendBufferedResponse_compressed() throws IOException {
+    LifeCycleServiceHandler.compressBuffer = true;
+    simulateUiRequest();
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+
+    service( serviceHandler );
+    String firstResponse = getResponse().getContent();
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+    String secondResponse = getResponse().getContent();
+
+    assertEquals( firstResponse, secondResponse );
+  }
+
+  @Test
+  public void testSendBufferedResponse_compressed_sendsStoredContentToGzipClient()
+    throws IOException
+  {
+    LifeCycleServiceHandler.compressBuffer = true;
+    simulateUiRequest();
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+    String firstResponse = getResponse().getContent();
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    getRequest().setHeader( "Accept-Encoding", "gzip, deflate" );
+    service( serviceHandler );
+
+    assertEquals( "gzip", getResponse().getHeader( "Content-Encoding" ) );
+    byte[] content = getResponseBytes();
+    assertEquals( LifeCycleServiceHandler.getBufferedResponseSize( getUISession() ),
+                  content.length );
+    assertEquals( firstResponse, new String( decompress( content ), StandardCharsets.UTF_8 ) );
+  }
+
+  @Test
+  public void testSendBufferedResponse_exceedingBufferLimit() throws IOException {
+    LifeCycleServiceHandler.bufferLimit = 10;
+    simulateUiRequest();
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+
+    TestResponse response = getResponse();
+    assertEquals( HttpServletResponse.SC_PRECONDITION_FAILED, response.getStatus() );
+    JsonObject message = JsonObject.readFrom( response.getContent() );
+    assertEquals( "invalid request counter", getError( message ) );
+  }
+
+  @Test
+  public void testGetBufferedResponseSize() throws IOException {
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    int expected = getResponse().getContent().getBytes( "UTF-8" ).length;
+    assertEquals( expected, LifeCycleServiceHandler.getBufferedResponseSize( getUISession() ) );
+  }
+
+  @Test
+  public void testGetBufferedResponseSize_withoutResponse() {
+    assertEquals( 0, LifeCycleServiceHandler.getBufferedResponseSize( getUISession() ) );
+  }
+
+  @Test
+  public void testGetBufferedResponseSize_exceedingBufferLimit() throws IOException {
+    LifeCycleServiceHandler.bufferLimit = 10;
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    assertEquals( 0, LifeCycleServiceHandler.getBufferedResponseSize( getUISession() ) );
+  }
+
+  @Test
+  public void testGetBufferedResponseSize_ofApplication() throws IOException {
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    long expected = LifeCycleServiceHandler.getBufferedResponseSize( getUISession() );
+    assertTrue( expected > 0 );
+    assertEquals( expected, serviceHandler.getBufferedResponseSize() );
+  }
+
+  @Test
+  public void testGetBufferedResponseSize_ofApplication_replacesPreviousResponse()
+    throws IOException
+  {
+    simulateUiRequest();
+    service( serviceHandler );
+
+    simulateUiRequest();
+    service( serviceHandler );
+
+    long expected = LifeCycleServiceHandler.getBufferedResponseSize( getUISession() );
+    assertEquals( expected, serviceHandler.getBufferedResponseSize() );
+  }
+
+  @Test
+  public void testGetBufferedResponseSize_ofApplication_exceedingBufferLimit()
+    throws IOException
+  {
+    simulateUiRequest();
+    service( serviceHandler );
+    LifeCycleServiceHandler.bufferLimit = 10;
+
+    simulateUiRequest();
+    service( serviceHandler );
+
+    assertEquals( 0, serviceHandler.getBufferedResponseSize() );
+  }
+
+  @Test
+  public void testGetBufferedResponseSize_ofApplication_afterSessionDestroyed()
+    throws IOException
+  {
+    simulateUiRequest();
+    service( serviceHandler );
+
+    ( ( UISessionImpl )getUISession() ).shutdown();
+
+    assertEquals( 0, serviceHandler.getBufferedResponseSize() );
+  }
+
   @Test
   public void testWritesValidJson() throws IOException {
     simulateUiRequest();
@@ -347,6 +494,22 @@ public class LifeCycleServiceHandler_Test {
     assertEquals( message, messageCaptor.getValue().toJson() );
   }
 
+  @Test
+  public void testProcessesMessage_withStreamingClientMessage() throws IOException {
+    LifeCycleServiceHandler.streamingClientMessage = true;
+    simulateUiRequest();
+    JsonObject message = createExampleMessage();
+    message.get( "operations" ).asArray()
+      .add( new JsonArray().add( "set" ).add( "w3" ).add( new JsonObject().add( "foo", 23 ) ) );
+    getRequest().setBody( message.toString() );
+    ArgumentCaptor<RequestMessage> messageCaptor = ArgumentCaptor.forClass( RequestMessage.class );
+
+    service( serviceHandler );
+
+    verify( filter ).handleMessage( messageCaptor.capture(), isNull() );
+    assertEquals( message, messageCaptor.getValue().toJson() );
+  }
+
   @Test
   public void testUIRequest_shutsDownUISession_ifRuntimeExceptionInHandler() throws IOException {
     simulateUiRequest();
@@ -365,7 +528,7 @@ public class LifeCycleServiceHandler_Test {
   public void testUIRequest_shutsDownUISession_ifIOException() throws IOException {
     simulateUiRequest();
     HttpServletResponse response = mock( HttpServletResponse.class );
-    doThrow( new IOException() ).when( response ).getWriter();
+    doThrow( new IOException() ).when( response ).getOutputStream();
 
     try {
       serviceHandler.service( getRequest(), response );
@@ -414,6 +577,24 @@ public class LifeCycleServiceHandler_Test {
     serviceHandler.service( getRequest(), getResponse() );
   }
 
+  private static byte[] getResponseBytes() throws IOException {
+    TestServletOutputStream outputStream = ( TestServletOutputStream )getResponse().getOutputStream();
+    return outputStream.getContent().toByteArray();
+  }
+
+  private static byte[] decompress( byte[] bytes ) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    try( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( bytes ) ) ) {
+      byte[] buffer = new byte[ 1024 ];
+      int read = inputStream.read( buffer );
+      while( read != -1 ) {
+        result.write( buffer, 0, read );
+        read = inputStream.read( buffer );
+      }
+    }
+    return result.toByteArray();
+  }
+
   private static TestRequest getRequest() {
     return ( TestRequest )ContextProvider.getRequest();
   }
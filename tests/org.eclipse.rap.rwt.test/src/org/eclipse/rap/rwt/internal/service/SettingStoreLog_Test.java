@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class SettingStoreLog_Test {
+
+  private File file;
+  private SettingStoreLog log;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    file = new File( Fixture.TEMP_DIR, "settings" );
+    log = new SettingStoreLog( file, "comment" );
+  }
+
+  @After
+  public void tearDown() {
+    file.delete();
+    log.getLogFile().delete();
+    new File( file.getPath() + ".tmp" ).delete();
+    new File( file.getPath() + ".log.old" ).delete();
+    Fixture.tearDown();
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullFile() {
+    new SettingStoreLog( null, "comment" );
+  }
+
+  @Test
+  public void testLoad_withMissingFiles() throws IOException {
+    Properties properties = new Properties();
+
+    log.load( properties );
+
+    assertTrue( properties.isEmpty() );
+    assertEquals( 0, log.getRecordCount() );
+  }
+
+  @Test
+  public void testWrite_appendsToLog() throws IOException {
+    log.load( new Properties() );
+
+    log.write( Collections.singletonMap( "key", "value" ) );
+
+    assertFalse( file.exists() );
+    assertTrue( log.getLogFile().isFile() );
+    assertEquals( 1, log.getRecordCount() );
+  }
+
+  @Test
+  public void testLoad_replaysLog() throws IOException {
+    log.load( new Properties() );
+    log.write( changes( "key1", "value1", "key2", "value2" ) );
+    log.write( changes( "key1", null, "key2", "value3" ) );
+
+    Properties properties = load();
+
+    assertNull( properties.getProperty( "key1" ) );
+    assertEquals( "value3", properties.getProperty( "key2" ) );
+  }
+
+  @Test
+  public void testLoad_replaysLogOnTopOfSnapshot() throws IOException {
+    Properties snapshot = new Properties();
+    snapshot.setProperty( "key1", "value1" );
+    snapshot.setProperty( "key2", "value2" );
+    log.writeSnapshot( snapshot );
+    log.write( changes( "key2", "value3" ) );
+
+    Properties properties = load();
+
+    assertEquals( "value1", properties.getProperty( "key1" ) );
+    assertEquals( "value3", properties.getProperty( "key2" ) );
+  }
+
+  @Test
+  public void testLoad_withLargeValue() throws IOException {
+    StringBuilder value = new StringBuilder();
+    for( int i = 0; i < 100000; i++ ) {
+      value.append( '\u00e4' );
+    }
+    log.load( new Properties() );
+    log.write( changes( "key", value.toString() ) );
+
+    Properties properties = load();
+
+    assertEquals( value.toString(), properties.getProperty( "key" ) );
+  }
+
+  @Test
+  public void testLoad_ignoresIncompleteRecord() throws IOException {
+    log.load( new Properties() );
+    log.write( changes( "key1", "value1" ) );
+    log.write( changes( "key2", "value2" ) );
+    truncate( log.getLogFile(), 3 );
+
+    Properties properties = load();
+
+    assertEquals( "value1", properties.getProperty( "key1" ) );
+    assertNull( properties.getProperty( "key2" ) );
+  }
+
+  @Test
+  public void testLoad_ignoresCorruptRecord() throws IOException {
+    log.load( new Properties() );
+    log.write( changes( "key1", "value1" ) );
+    log.write( changes( "key2", "value2" ) );
+    corruptLastByte( log.getLogFile() );
+
+    Properties properties = load();
+
+    assertEquals( "value1", properties.getProperty( "key1" ) );
+    assertNull( properties.getProperty( "key2" ) );
+  }
+
+  @Test
+  public void testLoad_compactsIncompleteLog() throws IOException {
+    log.load( new Properties() );
+    log.write( changes( "key1", "value1" ) );
+    log.write( changes( "key2", "value2" ) );
+    truncate( log.getLogFile(), 3 );
+
+    load();
+
+    assertFalse( log.getLogFile().exists() );
+    assertTrue( file.isFile() );
+    assertEquals( 0, log.getRecordCount() );
+  }
+
+  @Test
+  public void testLoad_appendsAfterRecoveredLog() throws IOException {
+    log.load( new Properties() );
+    log.write( changes( "key1", "value1" ) );
+    appendGarbage( log.getLogFile() );
+    load();
+
+    log.write( changes( "key2", "value2" ) );
+    Properties properties = load();
+
+    assertEquals( "value1", properties.getProperty( "key1" ) );
+    assertEquals( "value2", properties.getProperty( "key2" ) );
+  }
+
+  @Test
+  public void testLoad_deletesTemporaryFile() throws IOException {
+    File tempFile = new File( file.getPath() + ".tmp" );
+    Files.write( tempFile.toPath(), new byte[] { 1, 2, 3 } );
+
+    load();
+
+    assertFalse( tempFile.exists() );
+  }
+
+  @Test
+  public void testLoad_ignoresOldLogOfInterruptedCompaction() throws IOException {
+    log.load( new Properties() );
+    log.write( changes( "key", "value1" ) );
+    File oldLogFile = new File( file.getPath() + ".log.old" );
+    Files.copy( log.getLogFile().toPath(), oldLogFile.toPath() );
+    Properties snapshot = new Properties();
+    snapshot.setProperty( "key", "value2" );
+    // crashed after the new snapshot was renamed into place
+    log.writeSnapshot( snapshot );
+
+    Properties properties = load();
+
+    assertEquals( "value2", properties.getProperty( "key" ) );
+    assertFalse( oldLogFile.exists() );
+  }
+
+  @Test
+  public void testLoad_completesInterruptedCompaction() throws IOException {
+    log.load( new Properties() );
+    log.write( changes( "key", "value1" ) );
+    Properties snapshot = new Properties();
+    snapshot.setProperty( "key", "value2" );
+    new SettingStoreLog( new File( file.getPath() + ".tmp" ), "comment" ).writeSnapshot( snapshot );
+    // crashed after the log was renamed aside
+    Files.move( log.getLogFile().toPath(), new File( file.getPath() + ".log.old" ).toPath() );
+
+    Properties properties = load();
+
+    assertEquals( "value2", properties.getProperty( "key" ) );
+    assertEquals( snapshot, loadPropertiesFile() );
+    assertFalse( new File( file.getPath() + ".tmp" ).exists() );
+    assertFalse( new File( file.getPath() + ".log.old" ).exists() );
+  }
+
+  @Test
+  public void testStore_writesPropertiesFile() throws IOException {
+    log.load( new Properties() );
+    Properties properties = new Properties();
+    properties.setProperty( "key", "value" );
+
+    log.store( properties );
+
+    assertEquals( properties, loadPropertiesFile() );
+    assertFalse( log.getLogFile().exists() );
+  }
+
+  @Test
+  public void testStore_compactsLog() throws IOException {
+    log.load( new Properties() );
+    log.write( changes( "key1", "value1" ) );
+    Properties properties = new Properties();
+    properties.setProperty( "key2", "value2" );
+
+    log.store( properties );
+
+    assertFalse( log.getLogFile().exists() );
+    assertEquals( properties, load() );
+  }
+
+  @Test
+  public void testWriteSnapshot_deletesLog() throws IOException {
+    log.load( new Properties() );
+    log.write( changes( "key1", "value1" ) );
+    Properties snapshot = new Properties();
+    snapshot.setProperty( "key2", "value2" );
+
+    log.writeSnapshot( snapshot );
+
+    assertFalse( log.getLogFile().exists() );
+    assertFalse( new File( file.getPath() + ".tmp" ).exists() );
+    assertEquals( snapshot, load() );
+  }
+
+  @Test
+  public void testWriteSnapshot_writesPropertiesFile() throws IOException {
+    Properties snapshot = new Properties();
+    snapshot.setProperty( "key", "value" );
+
+    log.writeSnapshot( snapshot );
+
+    assertEquals( snapshot, loadPropertiesFile() );
+  }
+
+  @Test
+  public void testWrite_compactsLog() throws IOException {
+    log.load( new Properties() );
+
+    for( int i = 0; i < 300; i++ ) {
+      log.write( changes( "key", "value" + i ) );
+    }
+
+    assertTrue( log.getRecordCount() < 256 );
+    assertEquals( "value299", load().getProperty( "key" ) );
+  }
+
+  @Test
+  public void testWrite_compactsIntoPropertiesFile() throws IOException {
+    log.load( new Properties() );
+    for( int i = 0; i < 256; i++ ) {
+      log.write( changes( "key", "value" + i ) );
+    }
+
+    log.write( changes( "key", "last" ) );
+
+    assertFalse( log.getLogFile().exists() );
+    assertEquals( "last", loadPropertiesFile().getProperty( "key" ) );
+  }
+
+  private Properties load() throws IOException {
+    log = new SettingStoreLog( file, "comment" );
+    Properties result = new Properties();
+    log.load( result );
+    return result;
+  }
+
+  private Properties loadPropertiesFile() throws IOException {
+    Properties result = new Properties();
+    result.load( new ByteArrayInputStream( Files.readAllBytes( file.toPath() ) ) );
+    return result;
+  }
+
+  private static Map<String, String> changes( String... namesAndValues ) {
+    Map<String, String> result = new LinkedHashMap<>();
+    for( int i = 0; i < namesAndValues.length; i += 2 ) {
+      result.put( namesAndValues[ i ], namesAndValues[ i + 1 ] );
+    }
+    return result;
+  }
+
+  private static void truncate( File file, int byteCount ) throws IOException {
+    RandomAccessFile randomAccessFile = new RandomAccessFile( file, "rw" );
+    try {
+      randomAccessFile.setLength( randomAccessFile.length() - byteCount );
+    } finally {
+      randomAccessFile.close();
+    }
+  }
+
+  private static void corruptLastByte( File file ) throws IOException {
+    RandomAccessFile randomAccessFile = new RandomAccessFile( file, "rw" );
+    try {
+      randomAccessFile.seek( randomAccessFile.length() - 1 );
+      int lastByte = randomAccessFile.read();
+      randomAccessFile.seek( randomAccessFile.length() - 1 );
+      randomAccessFile.write( lastByte ^ 0xFF );
+    } finally {
+      randomAccessFile.close();
+    }
+  }
+
+  private static void appendGarbage( File file ) throws IOException {
+    FileOutputStream outputStream = new FileOutputStream( file, true );
+    try {
+      outputStream.write( new byte[] { 0, 0, 0, 42, 1, 2 } );
+    } finally {
+      outputStream.close();
+    }
+  }
+
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class SettingStoreWriter_Test {
+
+  private SettingStoreWriter writer;
+
+  @Before
+  public void setUp() {
+    writer = new SettingStoreWriter();
+  }
+
+  @After
+  public void tearDown() {
+    writer.shutdown();
+  }
+
+  @Test
+  public void testSchedule_runsTask() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch( 1 );
+
+    writer.schedule( new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    }, 0 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+  @Test
+  public void testSchedule_runsTaskThatIsScheduledTwiceOnce() {
+    CountingTask task = new CountingTask();
+    writer.schedule( task, 60000 );
+    writer.schedule( task, 60000 );
+
+    writer.shutdown();
+
+    assertEquals( 1, task.count.get() );
+  }
+
+  @Test
+  public void testShutdown_runsPendingTasks() {
+    CountingTask task = new CountingTask();
+    writer.schedule( task, 60000 );
+
+    writer.shutdown();
+
+    assertEquals( 1, task.count.get() );
+  }
+
+  @Test
+  public void testSchedule_whileShuttingDown() {
+    final CountingTask task = new CountingTask();
+    writer.schedule( new Runnable() {
+      @Override
+      public void run() {
+        writer.schedule( task, 60000 );
+      }
+    }, 60000 );
+
+    writer.shutdown();
+
+    assertEquals( 1, task.count.get() );
+  }
+
+  @Test
+  public void testSchedule_afterShutdown() throws InterruptedException {
+    writer.shutdown();
+    final CountDownLatch latch = new CountDownLatch( 1 );
+
+    writer.schedule( new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    }, 0 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+  @Test
+  public void testShutdown_doesNotRunTasksOfOtherWriter() {
+    SettingStoreWriter otherWriter = new SettingStoreWriter();
+    CountingTask task = new CountingTask();
+    otherWriter.schedule( task, 60000 );
+
+    writer.shutdown();
+
+    assertEquals( 0, task.count.get() );
+    otherWriter.shutdown();
+    assertEquals( 1, task.count.get() );
+  }
+
+  private static class CountingTask implements Runnable {
+
+    final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public void run() {
+      count.incrementAndGet();
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -366,6 +366,15 @@ public class UISessionImpl_Test {
     assertFalse( attributeNames.hasMoreElements() );
   }
 
+  @Test
+  public void testGetAttributeNames_omitsAttributeSetToNull() {
+    uiSession.setAttribute( "name", new Object() );
+
+    uiSession.setAttribute( "name", null );
+
+    assertFalse( uiSession.getAttributeNames().hasMoreElements() );
+  }
+
   @Test
   public void testGetAttributeNames_returnsSnapshot() {
     uiSession.setAttribute( "name", new Object() );
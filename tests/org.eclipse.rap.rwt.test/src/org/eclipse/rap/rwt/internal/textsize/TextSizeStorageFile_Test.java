@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TextSizeStorageFile_Test {
+
+  private static final FontData FONT_DATA = new FontData( "arial", 10, SWT.BOLD );
+
+  private File file;
+  private TextSizeStorage storage;
+  private ProbeStore probeStore;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    file = new File( Fixture.TEMP_DIR, "textsizes.bin" );
+    storage = new TextSizeStorage();
+    probeStore = new ProbeStore( storage );
+  }
+
+  @After
+  public void tearDown() {
+    file.delete();
+    Fixture.tearDown();
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullFile() {
+    new TextSizeStorageFile( null, probeStore, storage );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullProbeStore() {
+    new TextSizeStorageFile( file, null, storage );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullStorage() {
+    new TextSizeStorageFile( file, probeStore, null );
+  }
+
+  @Test
+  public void testLoad_withMissingFile() throws IOException {
+    boolean loaded = new TextSizeStorageFile( file, probeStore, storage ).load();
+
+    assertFalse( loaded );
+    assertEquals( 0, storage.size() );
+  }
+
+  @Test
+  public void testSave_createsFile() throws IOException {
+    new TextSizeStorageFile( file, probeStore, storage ).save();
+
+    assertTrue( file.isFile() );
+    assertFalse( new File( file.getPath() + ".tmp" ).exists() );
+  }
+
+  @Test
+  public void testLoad_restoresProbesAndTextSizes() throws IOException {
+    probeStore.addProbe( new Probe( "probe", FONT_DATA ) );
+    storage.storeTextSize( 1, new Point( 10, 20 ) );
+    storage.storeTextSize( 2, new Point( -1, 30 ) );
+    new TextSizeStorageFile( file, probeStore, storage ).save();
+    TextSizeStorage restored = new TextSizeStorage();
+    ProbeStore restoredProbeStore = new ProbeStore( restored );
+
+    boolean loaded = new TextSizeStorageFile( file, restoredProbeStore, restored ).load();
+
+    assertTrue( loaded );
+    assertEquals( "probe", restoredProbeStore.getProbe( FONT_DATA ).getText() );
+    assertArrayEquals( new FontData[] { FONT_DATA }, restored.getFontList() );
+    assertEquals( 2, restored.size() );
+    assertEquals( new Point( 10, 20 ), restored.lookupTextSize( 1 ) );
+    assertEquals( new Point( -1, 30 ), restored.lookupTextSize( 2 ) );
+  }
+
+  @Test
+  public void testLoad_keepsExistingTextSizes() throws IOException {
+    storage.storeTextSize( 1, new Point( 10, 20 ) );
+    new TextSizeStorageFile( file, probeStore, storage ).save();
+    TextSizeStorage restored = new TextSizeStorage();
+    restored.storeTextSize( 2, new Point( 30, 40 ) );
+
+    new TextSizeStorageFile( file, new ProbeStore( restored ), restored ).load();
+
+    assertEquals( new Point( 10, 20 ), restored.lookupTextSize( 1 ) );
+    assertEquals( new Point( 30, 40 ), restored.lookupTextSize( 2 ) );
+  }
+
+  @Test
+  public void testLoad_withUnknownFormat() throws IOException {
+    Files.write( file.toPath(), new byte[ 32 ] );
+
+    try {
+      new TextSizeStorageFile( file, probeStore, storage ).load();
+      fail();
+    } catch( IOException expected ) {
+      assertTrue( expected.getMessage().startsWith( "Unknown text size storage format" ) );
+    }
+  }
+
+  @Test
+  public void testLoad_withCorruptFile() throws IOException {
+    probeStore.createProbe( FONT_DATA );
+    storage.storeTextSize( 1, new Point( 10, 20 ) );
+    new TextSizeStorageFile( file, probeStore, storage ).save();
+    byte[] bytes = Files.readAllBytes( file.toPath() );
+    bytes[ bytes.length - 12 ]++;
+    Files.write( file.toPath(), bytes );
+    TextSizeStorage restored = new TextSizeStorage();
+    ProbeStore restoredProbeStore = new ProbeStore( restored );
+
+    try {
+      new TextSizeStorageFile( file, restoredProbeStore, restored ).load();
+      fail();
+    } catch( IOException expected ) {
+      assertTrue( expected.getMessage().startsWith( "Corrupt text size storage" ) );
+    }
+    assertEquals( 0, restoredProbeStore.getSize() );
+    assertEquals( 0, restored.getFontList().length );
+    assertNull( restored.lookupTextSize( 1 ) );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,7 +21,9 @@ import static org.junit.Assert.fail;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
@@ -124,6 +126,44 @@ public class TextSizeStorageUtil_Test {
     }
   }
 
+  @Test
+  public void testGetKey_differsForProbeSizesWithSameHashCode() {
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 101, 20 ) );
+    int key = TextSizeStorageUtil.getKey( FONT_DATA, TEST_STRING, SWT.DEFAULT, MODE );
+
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 100, 21 ) );
+
+    assertNotEquals( key, TextSizeStorageUtil.getKey( FONT_DATA, TEST_STRING, SWT.DEFAULT, MODE ) );
+  }
+
+  @Test
+  public void testGetKey_differsByClientPlatform() {
+    fakeUserAgent( "Mozilla/5.0 (Windows NT 10.0; Win64; x64) Chrome/120.0.0.0" );
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 2, 10 ) );
+    int key = TextSizeStorageUtil.getKey( FONT_DATA, TEST_STRING, SWT.DEFAULT, MODE );
+    Fixture.disposeOfServiceContext();
+    Fixture.createServiceContext();
+
+    fakeUserAgent( "Mozilla/5.0 (Macintosh; Intel Mac OS X 14_1) Safari/605.1.15" );
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 2, 10 ) );
+
+    assertNotEquals( key, TextSizeStorageUtil.getKey( FONT_DATA, TEST_STRING, SWT.DEFAULT, MODE ) );
+  }
+
+  @Test
+  public void testGetKey_ignoresVersionNumbersOfClientPlatform() {
+    fakeUserAgent( "Mozilla/5.0 (Windows NT 10.0; Win64; x64) Chrome/120.0.0.0" );
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 2, 10 ) );
+    int key = TextSizeStorageUtil.getKey( FONT_DATA, TEST_STRING, SWT.DEFAULT, MODE );
+    Fixture.disposeOfServiceContext();
+    Fixture.createServiceContext();
+
+    fakeUserAgent( "Mozilla/5.0 (Windows NT 10.0; Win64; x64) Chrome/121.0.6167.85" );
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 2, 10 ) );
+
+    assertEquals( key, TextSizeStorageUtil.getKey( FONT_DATA, TEST_STRING, SWT.DEFAULT, MODE ) );
+  }
+
   @Test
   public void testSessionScopedStore() {
     Point storedSize = new Point( 100, 10 );
@@ -167,4 +207,8 @@ public class TextSizeStorageUtil_Test {
     assertNotEquals( pb1, pb2 );
   }
 
+  private static void fakeUserAgent( String userAgent ) {
+    ( ( TestRequest )ContextProvider.getRequest() ).setHeader( "User-Agent", userAgent );
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,11 +13,17 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
@@ -74,16 +80,102 @@ public class TextSizeStorage_Test {
     assertNotSame( size, foundSize );
   }
 
+  @Test
+  public void testTextSizeStorage_replacesSize() {
+    storage.storeTextSize( 1, new Point( 1, 4 ) );
+
+    storage.storeTextSize( 1, new Point( 2, 5 ) );
+
+    assertEquals( new Point( 2, 5 ), storage.lookupTextSize( 1 ) );
+    assertEquals( 1, storage.size() );
+  }
+
+  @Test
+  public void testTextSizeStorage_withNegativeCoordinates() {
+    storage.storeTextSize( 1, new Point( -1, -2 ) );
+
+    assertEquals( new Point( -1, -2 ), storage.lookupTextSize( 1 ) );
+  }
+
   @Test
   public void testStorageOverflowHandling() {
-    populateUntilOverflowThresholdIsReached();
-    updateTimestampOnFirstEntry();
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    int count = TextSizeStorage.MIN_STORE_SIZE * 10;
+    for( int i = 0; i < count; i++ ) {
+      storage.storeTextSize( i, new Point( i, i ) );
+    }
 
     forceOverflow();
 
-    checkTimestampOrdering();
-    checkLatestEntriesExist();
-    checkRangeCleanup();
+    assertTrue( storage.size() <= TextSizeStorage.MIN_STORE_SIZE );
+    assertEquals( count + 1 - storage.size(), storage.getEvictionCount() );
+    assertEquals( SIZE_OVERFLOW, storage.lookupTextSize( KEY_OVERFLOW ) );
+    assertNull( storage.lookupTextSize( 0 ) );
+  }
+
+  @Test
+  public void testStorageOverflowHandling_keepsRecentlyUsedEntries() {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    storage.storeTextSize( KEY_FIRST, SIZE_FIRST );
+    for( int i = 1; i < TextSizeStorage.MIN_STORE_SIZE * 10; i++ ) {
+      storage.storeTextSize( i, new Point( i, i ) );
+      storage.lookupTextSize( KEY_FIRST );
+    }
+
+    assertEquals( SIZE_FIRST, storage.lookupTextSize( KEY_FIRST ) );
+  }
+
+  @Test
+  public void testLookupTextSize_countsHitsAndMisses() {
+    storage.storeTextSize( 1, new Point( 1, 4 ) );
+
+    storage.lookupTextSize( 1 );
+    storage.lookupTextSize( 1 );
+    storage.lookupTextSize( 2 );
+
+    assertEquals( 2, storage.getHitCount() );
+    assertEquals( 1, storage.getMissCount() );
+    assertEquals( 0, storage.getEvictionCount() );
+  }
+
+  @Test
+  public void testConcurrentAccess_returnsConsistentSizes() throws Exception {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    final Collection<Throwable> exceptions = Collections.synchronizedList( new LinkedList<>() );
+    Runnable runnable = new Runnable() {
+      @Override
+      public void run() {
+        try {
+          for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE * 20; i++ ) {
+            int key = i % ( TextSizeStorage.MIN_STORE_SIZE * 2 );
+            Point size = storage.lookupTextSize( key );
+            if( size == null ) {
+              storage.storeTextSize( key, new Point( key, -key ) );
+            } else if( size.x != key || size.y != -key ) {
+              throw new IllegalStateException( "Wrong size for key " + key + ": " + size );
+            }
+          }
+        } catch( Throwable throwable ) {
+          exceptions.add( throwable );
+        }
+      }
+    };
+
+    joinThreads( startThreads( 8, runnable ) );
+
+    assertEquals( Collections.emptyList(), new LinkedList<>( exceptions ) );
+    assertTrue( storage.size() <= TextSizeStorage.MIN_STORE_SIZE );
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    storage.storeTextSize( 1, new Point( 1, 4 ) );
+
+    TextSizeStorage deserialized = serializeAndDeserialize( storage );
+    deserialized.storeTextSize( 2, new Point( 2, 5 ) );
+
+    assertEquals( new Point( 1, 4 ), deserialized.lookupTextSize( 1 ) );
+    assertEquals( new Point( 2, 5 ), deserialized.lookupTextSize( 2 ) );
   }
 
   @Test
@@ -117,32 +209,6 @@ public class TextSizeStorage_Test {
     assertEquals( 20000, storage.getMaximumStoreSize() );
   }
 
-  private void populateUntilOverflowThresholdIsReached() {
-    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
-    for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE - 1; i++ ) {
-      Integer key = new Integer( i );
-      Point point = new Point( i, i );
-      storage.storeTextSize( key, point );
-    }
-  }
-
-  private Point updateTimestampOnFirstEntry() {
-    return storage.lookupTextSize( KEY_FIRST );
-  }
-
-  private void checkRangeCleanup() {
-    assertNull( storage.lookupTextSize( new Integer( 99 ) ) );
-  }
-
-  private void checkLatestEntriesExist() {
-    assertEquals( SIZE_OVERFLOW, storage.lookupTextSize( KEY_OVERFLOW ) );
-    assertEquals( new Point( 101, 101 ), storage.lookupTextSize( new Integer( 101 ) ) );
-  }
-
-  private void checkTimestampOrdering() {
-    assertEquals( SIZE_FIRST, storage.lookupTextSize( KEY_FIRST ) );
-  }
-
   private void forceOverflow() {
     storage.storeTextSize( KEY_OVERFLOW, SIZE_OVERFLOW );
   }
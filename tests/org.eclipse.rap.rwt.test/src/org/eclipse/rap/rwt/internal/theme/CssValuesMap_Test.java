@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.eclipse.rap.rwt.internal.theme;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -52,6 +53,16 @@ public class CssValuesMap_Test {
     }, values );
   }
 
+  @Test
+  public void testGetValues_returnsSameArray() {
+    StyleSheet styleSheet = styleSheet( "Button { color: black }" );
+    CssValuesMap valuesMap = new CssValuesMap( styleSheet, themeableWidgets );
+
+    ConditionalValue[] values = valuesMap.getValues( "Button", "color" );
+
+    assertSame( values, valuesMap.getValues( new String( "Button" ), new String( "color" ) ) );
+  }
+
   @Test
   public void testGetValues_includesKnownStatesAndStyles() {
     StyleSheet styleSheet = styleSheet( "Button { color: black }",
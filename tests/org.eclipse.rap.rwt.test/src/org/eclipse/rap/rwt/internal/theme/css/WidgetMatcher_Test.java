@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,7 +15,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.theme.CssColor;
@@ -168,4 +170,105 @@ public class WidgetMatcher_Test {
     assertEquals( BLUE, result );
   }
 
+  @Test
+  public void testSelect_withUnknownConstraint() {
+    Widget widget = new Button( shell, SWT.PUSH );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, "[PUSH" ),
+      new ConditionalValue( BLUE, ":selected" ),
+      new ConditionalValue( GREEN )
+    };
+
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( GREEN, result );
+  }
+
+  @Test
+  public void testSelect_withDifferentVariants() {
+    Widget widget = new Button( shell, SWT.PUSH );
+    widget.setData( RWT.CUSTOM_VARIANT, "special" );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ".special", ".other" ),
+      new ConditionalValue( BLUE, ".special", ".special" )
+    };
+
+    CssValue result = matcher.select( widget, values );
+
+    assertSame( BLUE, result );
+  }
+
+  @Test
+  public void testSelect_repeatedWithDifferentWidgets() {
+    matcher.addStyle( "BORDER", SWT.BORDER );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, "[BORDER", ".special" ),
+      new ConditionalValue( BLUE, "[BORDER" ),
+      new ConditionalValue( GREEN )
+    };
+    Widget widget = new Button( shell, SWT.PUSH );
+    Widget borderWidget = new Button( shell, SWT.PUSH | SWT.BORDER );
+    Widget specialWidget = new Button( shell, SWT.PUSH | SWT.BORDER );
+    specialWidget.setData( RWT.CUSTOM_VARIANT, "special" );
+
+    assertSame( GREEN, matcher.select( widget, values ) );
+    assertSame( BLUE, matcher.select( borderWidget, values ) );
+    assertSame( RED, matcher.select( specialWidget, values ) );
+    assertSame( GREEN, matcher.select( widget, values ) );
+  }
+
+  @Test
+  public void testSelect_repeatedWithChangingVariant() {
+    Widget widget = new Button( shell, SWT.PUSH );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ".special" ),
+      new ConditionalValue( GREEN )
+    };
+    matcher.select( widget, values );
+
+    widget.setData( RWT.CUSTOM_VARIANT, "special" );
+
+    assertSame( RED, matcher.select( widget, values ) );
+  }
+
+  @Test
+  public void testSelect_repeatedWithChangingState() {
+    Constraint constraint = mock( Constraint.class );
+    Widget widget = new Button( shell, SWT.PUSH );
+    matcher.addState( "selected", constraint );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ":selected" ),
+      new ConditionalValue( GREEN )
+    };
+    matcher.select( widget, values );
+
+    when( constraint.matches( widget ) ).thenReturn( Boolean.TRUE );
+
+    assertSame( RED, matcher.select( widget, values ) );
+    verify( constraint, times( 2 ) ).matches( widget );
+  }
+
+  @Test
+  public void testSelect_afterAddingState() {
+    Widget widget = new Button( shell, SWT.PUSH );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ":selected" ),
+      new ConditionalValue( GREEN )
+    };
+    matcher.select( widget, values );
+
+    matcher.addState( "selected", ALWAYS_TRUE );
+
+    assertSame( RED, matcher.select( widget, values ) );
+  }
+
+  @Test
+  public void testSelect_withoutConstraints_withNullWidget() {
+    ConditionalValue[] values = { new ConditionalValue( RED ) };
+
+    CssValue result = matcher.select( null, values );
+
+    assertSame( RED, result );
+  }
+
 }
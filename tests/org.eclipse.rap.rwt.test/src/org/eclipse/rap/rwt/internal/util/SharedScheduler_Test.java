@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class SharedScheduler_Test {
+
+  private static final String THREAD_NAME = "test scheduler";
+
+  private SharedScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    scheduler = new SharedScheduler( THREAD_NAME, 1 );
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdown();
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testCreate_withNullThreadName() {
+    new SharedScheduler( null, 1 );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testCreate_withZeroPoolSize() {
+    new SharedScheduler( THREAD_NAME, 0 );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testSchedule_withNullTask() {
+    scheduler.schedule( null, 1, TimeUnit.MILLISECONDS );
+  }
+
+  @Test
+  public void testIsRunning_initially() {
+    assertFalse( scheduler.isRunning() );
+  }
+
+  @Test
+  public void testSchedule_startsScheduler() {
+    scheduler.schedule( mock( Runnable.class ), 1, TimeUnit.HOURS );
+
+    assertTrue( scheduler.isRunning() );
+  }
+
+  @Test
+  public void testSchedule_runsTask() {
+    Runnable task = mock( Runnable.class );
+
+    scheduler.schedule( task, 1, TimeUnit.MILLISECONDS );
+
+    verify( task, timeout( 1000 ) ).run();
+  }
+
+  @Test
+  public void testSchedule_runsTaskOnDaemonThread() throws InterruptedException {
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch( 1 );
+
+    scheduler.schedule( new Runnable() {
+      @Override
+      public void run() {
+        thread.set( Thread.currentThread() );
+        latch.countDown();
+      }
+    }, 0, TimeUnit.MILLISECONDS );
+
+    assertTrue( latch.await( 1, TimeUnit.SECONDS ) );
+    assertEquals( THREAD_NAME, thread.get().getName() );
+    assertTrue( thread.get().isDaemon() );
+  }
+
+  @Test
+  public void testSchedule_cancelledTaskIsNotRun() throws InterruptedException {
+    Runnable task = mock( Runnable.class );
+
+    ScheduledFuture<?> future = scheduler.schedule( task, 50, TimeUnit.MILLISECONDS );
+    future.cancel( false );
+    Thread.sleep( 100 );
+
+    verify( task, never() ).run();
+  }
+
+  @Test
+  public void testShutdown_discardsPendingTasks() throws InterruptedException {
+    Runnable task = mock( Runnable.class );
+    scheduler.schedule( task, 50, TimeUnit.MILLISECONDS );
+
+    scheduler.shutdown();
+    Thread.sleep( 100 );
+
+    assertFalse( scheduler.isRunning() );
+    verify( task, never() ).run();
+  }
+
+  @Test( expected = RejectedExecutionException.class )
+  public void testSchedule_afterShutdown() {
+    scheduler.schedule( mock( Runnable.class ), 1, TimeUnit.HOURS );
+    scheduler.shutdown();
+
+    scheduler.schedule( mock( Runnable.class ), 1, TimeUnit.MILLISECONDS );
+  }
+
+  @Test
+  public void testSchedule_afterShutdown_doesNotStartScheduler() {
+    scheduler.shutdown();
+
+    try {
+      scheduler.schedule( mock( Runnable.class ), 1, TimeUnit.MILLISECONDS );
+      fail();
+    } catch( @SuppressWarnings( "unused" ) RejectedExecutionException expected ) {
+    }
+    assertFalse( scheduler.isRunning() );
+  }
+
+}
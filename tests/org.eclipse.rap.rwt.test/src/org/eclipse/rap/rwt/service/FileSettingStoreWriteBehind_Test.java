@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.service;
+
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Runs the tests of <code>FileSettingStore_Test</code> with write-behind enabled.
+ */
+public class FileSettingStoreWriteBehind_Test extends FileSettingStore_Test {
+
+  private File directory;
+  private List<FileSettingStore> stores;
+
+  @Override
+  @Before
+  public void setUp() {
+    System.setProperty( RWTProperties.SETTING_STORE_WRITE_BEHIND, "true" );
+    // long enough to never flush during a test unless requested
+    System.setProperty( RWTProperties.SETTING_STORE_FLUSH_DELAY, "60000" );
+    super.setUp();
+    directory = new File( Fixture.TEMP_DIR, "settings" );
+    directory.mkdirs();
+    stores = new ArrayList<>();
+  }
+
+  @Override
+  @After
+  public void tearDown() {
+    System.getProperties().remove( RWTProperties.SETTING_STORE_WRITE_BEHIND );
+    System.getProperties().remove( RWTProperties.SETTING_STORE_FLUSH_DELAY );
+    // don't leave changes behind that would be written to a deleted directory
+    flushStores();
+    for( File file : directory.listFiles() ) {
+      file.delete();
+    }
+    directory.delete();
+    super.tearDown();
+  }
+
+  @Test
+  public void testSetAttribute_doesNotWriteImmediately() throws IOException {
+    FileSettingStore store = createStore( "id" );
+
+    store.setAttribute( "key", "value" );
+
+    assertFalse( new File( directory, "id" ).exists() );
+    assertFalse( new File( directory, "id.log" ).exists() );
+  }
+
+  @Test
+  public void testFlush_writesLog() throws IOException {
+    FileSettingStore store = createStore( "id" );
+    store.setAttribute( "key1", "value1" );
+    store.setAttribute( "key2", "value2" );
+    store.removeAttribute( "key1" );
+
+    store.flush();
+
+    assertTrue( new File( directory, "id.log" ).isFile() );
+    FileSettingStore loadedStore = createStore( "id" );
+    assertNull( loadedStore.getAttribute( "key1" ) );
+    assertEquals( "value2", loadedStore.getAttribute( "key2" ) );
+  }
+
+  @Test
+  public void testFlush_withoutChanges() throws IOException {
+    FileSettingStore store = createStore( "id" );
+
+    store.flush();
+
+    assertFalse( new File( directory, "id.log" ).exists() );
+  }
+
+  @Test
+  public void testSetAttribute_isFlushedAfterDelay() throws Exception {
+    System.setProperty( RWTProperties.SETTING_STORE_FLUSH_DELAY, "10" );
+    FileSettingStore store = createStore( "id" );
+
+    store.setAttribute( "key", "value" );
+
+    File logFile = new File( directory, "id.log" );
+    long timeout = System.currentTimeMillis() + 5000;
+    while( !logFile.exists() && System.currentTimeMillis() < timeout ) {
+      Thread.sleep( 10 );
+    }
+    assertTrue( logFile.isFile() );
+  }
+
+  @Test
+  public void testFlush_afterFailure_isRetriedAfterDelay() throws Exception {
+    System.setProperty( RWTProperties.SETTING_STORE_FLUSH_DELAY, "10" );
+    FileSettingStore store = createStore( "id" );
+    File logFile = new File( directory, "id.log" );
+    // a directory in place of the log makes writing it fail
+    logFile.mkdir();
+    store.setAttribute( "key", "value" );
+    try {
+      store.flush();
+      fail();
+    } catch( @SuppressWarnings( "unused" ) IOException expected ) {
+    }
+
+    logFile.delete();
+
+    long timeout = System.currentTimeMillis() + 5000;
+    while( !logFile.isFile() && System.currentTimeMillis() < timeout ) {
+      Thread.sleep( 10 );
+    }
+    assertTrue( logFile.isFile() );
+  }
+
+  @Test
+  public void testShutdownWriter_writesPendingChanges() throws IOException {
+    FileSettingStore store = createStore( "id" );
+    store.setAttribute( "key", "value" );
+
+    getApplicationContext().getSettingStoreWriter().shutdown();
+
+    assertTrue( new File( directory, "id.log" ).isFile() );
+  }
+
+  @Test
+  public void testLoadById_flushesPendingChanges() throws IOException {
+    FileSettingStore store = createStore( "id" );
+    store.setAttribute( "key", "value" );
+
+    store.loadById( "otherId" );
+
+    assertEquals( "value", createStore( "id" ).getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testLoadById_flushesPendingChangesOfOtherStores() throws IOException {
+    FileSettingStore store = createStore( "id" );
+    store.setAttribute( "key", "value" );
+
+    FileSettingStore otherStore = createStore( "id" );
+
+    assertEquals( "value", otherStore.getAttribute( "key" ) );
+  }
+
+  @Test
+  public void testLoadById_recoversFromIncompleteLog() throws IOException {
+    FileSettingStore store = createStore( "id" );
+    store.setAttribute( "key1", "value1" );
+    store.flush();
+    store.setAttribute( "key2", "value2" );
+    store.flush();
+    truncate( new File( directory, "id.log" ), 1 );
+
+    FileSettingStore loadedStore = createStore( "id" );
+
+    assertEquals( "value1", loadedStore.getAttribute( "key1" ) );
+    assertNull( loadedStore.getAttribute( "key2" ) );
+  }
+
+  @Test
+  public void testFlush_compactsLog() throws IOException {
+    FileSettingStore store = createStore( "id" );
+    for( int i = 0; i < 300; i++ ) {
+      store.setAttribute( "key", "value" + i );
+      store.flush();
+    }
+
+    assertTrue( new File( directory, "id" ).isFile() );
+    assertEquals( "value299", createStore( "id" ).getAttribute( "key" ) );
+  }
+
+  private FileSettingStore createStore( String id ) throws IOException {
+    FileSettingStore result = new FileSettingStore( directory );
+    result.loadById( id );
+    stores.add( result );
+    return result;
+  }
+
+  private void flushStores() {
+    for( FileSettingStore store : stores ) {
+      try {
+        store.flush();
+      } catch( IOException exception ) {
+        throw new RuntimeException( exception );
+      }
+    }
+  }
+
+  private static void truncate( File file, int byteCount ) throws IOException {
+    RandomAccessFile randomAccessFile = new RandomAccessFile( file, "rw" );
+    try {
+      randomAccessFile.setLength( randomAccessFile.length() - byteCount );
+    } finally {
+      randomAccessFile.close();
+    }
+  }
+
+}
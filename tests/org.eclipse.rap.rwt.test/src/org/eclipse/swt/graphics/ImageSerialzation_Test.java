@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -88,6 +88,22 @@ public class ImageSerialzation_Test {
     assertEquals( imageData, deserializedImageData );
   }
 
+  @Test
+  public void testSerializeSessionImage_referencesCachedImage() throws Exception {
+    InputStream inputStream = getClass().getClassLoader().getResourceAsStream( Fixture.IMAGE1 );
+    Image image = new Image( display, inputStream );
+    inputStream.close();
+    ContextProvider.disposeContext();
+
+    Image deserializedImage = serializeAndDeserialize( image );
+    image.internalImage.release( image );
+    createServiceContext( deserializedImage.getDevice() );
+    runClusterSupportFilter();
+
+    // the cached image must not be evicted while the deserialized image uses its resource
+    assertTrue( image.internalImage.isReferenced() );
+  }
+
   private void createServiceContext( Device device ) {
     Fixture.createServiceContext();
     UISessionImpl uiSession = ( UISessionImpl )getUISession( device );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,14 +22,18 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.internal.graphics.Graphics;
+import org.eclipse.swt.internal.graphics.InternalImage;
 import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
@@ -104,6 +108,30 @@ public class Image_Test {
     }
   }
 
+  @Test
+  public void testStreamConstructorWithTruncatedImage() throws IOException {
+    byte[] bytes = readResource( Fixture.IMAGE_100x50 );
+    byte[] truncated = Arrays.copyOf( bytes, bytes.length - 20 );
+
+    try {
+      new Image( device, new ByteArrayInputStream( truncated ) );
+      fail( "Must throw exception when passing in truncated image data" );
+    } catch( @SuppressWarnings( "unused" ) SWTException expected ) {
+    }
+  }
+
+  @Test
+  public void testStreamConstructorWithCorruptImage() throws IOException {
+    byte[] bytes = readResource( Fixture.IMAGE_100x50 );
+    bytes[ bytes.length / 2 ] ^= 0xFF;
+
+    try {
+      new Image( device, new ByteArrayInputStream( bytes ) );
+      fail( "Must throw exception when passing in corrupt image data" );
+    } catch( @SuppressWarnings( "unused" ) SWTException expected ) {
+    }
+  }
+
   ///////////////////////
   // Filename constructor
 
@@ -411,6 +439,40 @@ public class Image_Test {
     assertTrue( image.isDisposed() );
   }
 
+  @Test
+  public void testDispose_releasesInternalImage() throws IOException {
+    Image image = createImage( device, Fixture.IMAGE_100x50 );
+
+    image.dispose();
+
+    assertFalse( image.internalImage.isReferenced() );
+  }
+
+  @Test
+  public void testDispose_keepsInternalImageOfCopyReferenced() throws IOException {
+    Image image = createImage( device, Fixture.IMAGE_100x50 );
+    Image copiedImage = new Image( device, image, SWT.IMAGE_COPY );
+
+    image.dispose();
+
+    assertTrue( copiedImage.internalImage.isReferenced() );
+  }
+
+  @Test
+  public void testGarbageCollection_releasesInternalImageOfUndisposedImage() throws IOException {
+    Image image = createImage( device, Fixture.IMAGE_100x50 );
+    InternalImage internalImage = image.internalImage;
+    WeakReference<Image> imageReference = new WeakReference<>( image );
+
+    image = null;
+    for( int i = 0; i < 100 && imageReference.get() != null; i++ ) {
+      System.gc();
+    }
+
+    assertNull( imageReference.get() );
+    assertFalse( internalImage.isReferenced() );
+  }
+
   @Test
   public void testDisposeFactoryCreated() {
     Image image = Graphics.getImage( Fixture.IMAGE1 );
@@ -449,4 +511,21 @@ public class Image_Test {
     assertNotSame( image1, image2 );
   }
 
+  private static byte[] readResource( String resource ) throws IOException {
+    ClassLoader loader = Fixture.class.getClassLoader();
+    InputStream inputStream = loader.getResourceAsStream( resource );
+    try {
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+      byte[] buffer = new byte[ 1024 ];
+      int read = inputStream.read( buffer );
+      while( read != -1 ) {
+        result.write( buffer, 0, read );
+        read = inputStream.read( buffer );
+      }
+      return result.toByteArray();
+    } finally {
+      inputStream.close();
+    }
+  }
+
 }
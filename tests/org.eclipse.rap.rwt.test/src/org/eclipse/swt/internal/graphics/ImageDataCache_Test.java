@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -53,8 +54,8 @@ public class ImageDataCache_Test {
   }
 
   @Test
-  public void testBigImageIsNotCached() throws IOException {
-    ImageDataCache cache = new ImageDataCache();
+  public void testImageLargerThanCacheIsNotCached() throws IOException {
+    ImageDataCache cache = new ImageDataCache( 1024 );
     ImageData imageData = getImageData( Fixture.IMAGE_100x50 ); // 1281 bytes
     InternalImage internalImage
       = new InternalImage( "testpath", imageData.width, imageData.height, false );
@@ -88,6 +89,59 @@ public class ImageDataCache_Test {
     assertEqualsImageData( copyData1, copyData2 );
   }
 
+  @Test
+  public void testLeastRecentlyUsedImageIsEvicted() throws IOException {
+    ImageData imageData = getImageData( Fixture.IMAGE1 ); // 129 bytes
+    ImageDataCache cache = new ImageDataCache( 2 * ImageDataCache.getDataSize( imageData ) );
+    InternalImage internalImage1 = createInternalImage( imageData );
+    InternalImage internalImage2 = createInternalImage( imageData );
+    InternalImage internalImage3 = createInternalImage( imageData );
+    cache.putImageData( internalImage1, imageData );
+    cache.putImageData( internalImage2, imageData );
+    cache.getImageData( internalImage1 );
+
+    cache.putImageData( internalImage3, imageData );
+
+    assertNotNull( cache.getImageData( internalImage1 ) );
+    assertNull( cache.getImageData( internalImage2 ) );
+    assertNotNull( cache.getImageData( internalImage3 ) );
+    assertEquals( 1, cache.getEvictionCount() );
+    assertEquals( 2, cache.getEntryCount() );
+  }
+
+  @Test
+  public void testStatistics() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage = createInternalImage( imageData );
+    cache.getImageData( internalImage );
+    cache.putImageData( internalImage, imageData );
+
+    cache.getImageData( internalImage );
+    cache.getImageData( internalImage );
+
+    assertEquals( 2, cache.getHitCount() );
+    assertEquals( 1, cache.getMissCount() );
+    assertEquals( ImageDataCache.getDataSize( imageData ), cache.getSize() );
+    assertEquals( 1, cache.getEntryCount() );
+  }
+
+  @Test
+  public void testPutImageData_replacesEntry() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage = createInternalImage( imageData );
+
+    cache.putImageData( internalImage, imageData );
+    cache.putImageData( internalImage, imageData );
+
+    assertEquals( ImageDataCache.getDataSize( imageData ), cache.getSize() );
+  }
+
+  private static InternalImage createInternalImage( ImageData imageData ) {
+    return new InternalImage( "testpath", imageData.width, imageData.height, false );
+  }
+
   private ImageData getImageData( String resource ) throws IOException {
     InputStream inputStream = getClass().getClassLoader().getResourceAsStream( resource );
     try {
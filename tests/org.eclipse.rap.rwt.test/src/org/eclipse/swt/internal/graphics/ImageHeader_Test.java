@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.junit.Test;
+
+
+public class ImageHeader_Test {
+
+  @Test
+  public void testRead_PNG() throws IOException {
+    ImageHeader header = ImageHeader.read( readResource( Fixture.IMAGE_100x50 ) );
+
+    assertHeader( SWT.IMAGE_PNG, 100, 50, header );
+  }
+
+  @Test
+  public void testRead_GIF() throws IOException {
+    ImageHeader header = ImageHeader.read( readResource( Fixture.IMAGE1 ) );
+
+    assertHeader( SWT.IMAGE_GIF, 58, 12, header );
+  }
+
+  @Test
+  public void testRead_JPEG() {
+    ImageHeader header = ImageHeader.read( encode( 30, 20, SWT.IMAGE_JPEG ) );
+
+    assertHeader( SWT.IMAGE_JPEG, 30, 20, header );
+  }
+
+  @Test
+  public void testRead_BMP() {
+    ImageHeader header = ImageHeader.read( encode( 30, 20, SWT.IMAGE_BMP ) );
+
+    assertHeader( SWT.IMAGE_BMP, 30, 20, header );
+  }
+
+  @Test
+  public void testRead_matchesImageData() throws IOException {
+    String[] resources = { Fixture.IMAGE1, Fixture.IMAGE2, Fixture.IMAGE3, Fixture.IMAGE_50x100 };
+    for( String resource : resources ) {
+      byte[] bytes = readResource( resource );
+      ImageData imageData = new ImageData( new ByteArrayInputStream( bytes ) );
+
+      assertHeader( imageData.type, imageData.width, imageData.height, ImageHeader.read( bytes ) );
+    }
+  }
+
+  @Test
+  public void testRead_withTruncatedHeader() throws IOException {
+    byte[] bytes = Arrays.copyOf( readResource( Fixture.IMAGE_100x50 ), 20 );
+
+    assertNull( ImageHeader.read( bytes ) );
+  }
+
+  @Test
+  public void testRead_withTruncatedJPEG() {
+    byte[] bytes = Arrays.copyOf( encode( 30, 20, SWT.IMAGE_JPEG ), 4 );
+
+    assertNull( ImageHeader.read( bytes ) );
+  }
+
+  @Test
+  public void testRead_withTruncatedPNG() throws IOException {
+    byte[] bytes = readResource( Fixture.IMAGE_100x50 );
+
+    assertNull( ImageHeader.read( Arrays.copyOf( bytes, bytes.length - 20 ) ) );
+  }
+
+  @Test
+  public void testRead_withCorruptPNG() throws IOException {
+    byte[] bytes = readResource( Fixture.IMAGE_100x50 );
+    bytes[ bytes.length / 2 ] ^= 0xFF;
+
+    assertNull( ImageHeader.read( bytes ) );
+  }
+
+  @Test
+  public void testRead_withTruncatedGIF() throws IOException {
+    byte[] bytes = readResource( Fixture.IMAGE1 );
+
+    assertNull( ImageHeader.read( Arrays.copyOf( bytes, bytes.length - 10 ) ) );
+  }
+
+  @Test
+  public void testRead_withTruncatedJPEGScan() {
+    byte[] bytes = encode( 30, 20, SWT.IMAGE_JPEG );
+
+    assertNull( ImageHeader.read( Arrays.copyOf( bytes, bytes.length - 10 ) ) );
+  }
+
+  @Test
+  public void testRead_withTruncatedBMP() {
+    byte[] bytes = encode( 30, 20, SWT.IMAGE_BMP );
+
+    assertNull( ImageHeader.read( Arrays.copyOf( bytes, bytes.length - 10 ) ) );
+  }
+
+  @Test
+  public void testRead_withUnknownFormat() {
+    assertNull( ImageHeader.read( new byte[] { 1, 2, 3, 4 } ) );
+  }
+
+  @Test
+  public void testRead_withEmptyBytes() {
+    assertNull( ImageHeader.read( new byte[ 0 ] ) );
+  }
+
+  private static void assertHeader( int type, int width, int height, ImageHeader header ) {
+    assertEquals( type, header.type );
+    assertEquals( width, header.width );
+    assertEquals( height, header.height );
+  }
+
+  private static byte[] encode( int width, int height, int format ) {
+    PaletteData palette = new PaletteData( 0xFF, 0xFF00, 0xFF0000 );
+    ImageData imageData = new ImageData( width, height, 24, palette );
+    ImageLoader imageLoader = new ImageLoader();
+    imageLoader.data = new ImageData[] { imageData };
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    imageLoader.save( outputStream, format );
+    return outputStream.toByteArray();
+  }
+
+  private byte[] readResource( String resource ) throws IOException {
+    InputStream inputStream = getClass().getClassLoader().getResourceAsStream( resource );
+    try {
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+      byte[] buffer = new byte[ 1024 ];
+      int read = inputStream.read( buffer );
+      while( read != -1 ) {
+        result.write( buffer, 0, read );
+        read = inputStream.read( buffer );
+      }
+      return result.toByteArray();
+    } finally {
+      inputStream.close();
+    }
+  }
+
+}
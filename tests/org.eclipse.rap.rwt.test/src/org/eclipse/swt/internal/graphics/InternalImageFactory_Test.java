@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2023 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,25 +13,34 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.eclipse.rap.rwt.testfixture.internal.TestUtil.createImage;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.graphics.InternalImageFactory.EncodedImage;
 import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
@@ -48,12 +57,14 @@ public class InternalImageFactory_Test {
   private static final String IMAGE_OK_BLACK = "resources/images/ok-black.png";
 
   private InternalImageFactory internalImageFactory;
+  private Object owner;
 
   @Before
   public void setUp() {
     Fixture.createApplicationContext( true );
     Fixture.createServiceContext();
     internalImageFactory = new InternalImageFactory();
+    owner = new Object();
   }
 
   @After
@@ -73,13 +84,66 @@ public class InternalImageFactory_Test {
   }
 
   @Test
-  public void testReadImageData() throws IOException {
+  public void testReadEncodedImage() throws IOException {
     InputStream inputStream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
-    ImageData data = InternalImageFactory.readImageData( new BufferedInputStream( inputStream ) );
+    EncodedImage encodedImage = InternalImageFactory.readEncodedImage( inputStream );
     inputStream.close();
 
-    assertEquals( 100, data.width );
-    assertEquals( 50, data.height );
+    assertEquals( 100, encodedImage.header.width );
+    assertEquals( 50, encodedImage.header.height );
+    assertTrue( encodedImage.path.matches( "generated/[0-9a-f]+\\.png" ) );
+  }
+
+  @Test
+  public void testReadEncodedImage_withUnsupportedHeader() {
+    ImageData imageData = createImageDataWithoutType();
+    imageData.type = SWT.IMAGE_ICO;
+    InputStream inputStream = InternalImageFactory.createInputStream( imageData );
+
+    EncodedImage encodedImage = InternalImageFactory.readEncodedImage( inputStream );
+
+    assertEquals( 48, encodedImage.header.width );
+    assertEquals( 48, encodedImage.header.height );
+    assertTrue( encodedImage.path.endsWith( ".ico" ) );
+  }
+
+  @Test
+  public void testReadEncodedImage_withInvalidImage() {
+    InputStream inputStream = new ByteArrayInputStream( new byte[] { 1, 2, 3 } );
+
+    try {
+      InternalImageFactory.readEncodedImage( inputStream );
+      fail();
+    } catch( SWTException expected ) {
+    }
+  }
+
+  @Test
+  public void testFindInternalImage_doesNotDecodeImageData() throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
+    InternalImage internalImage = internalImageFactory.findInternalImage( owner, stream );
+    stream.close();
+    ImageDataFactory imageDataFactory = getApplicationContext().getImageDataFactory();
+
+    assertEquals( new Rectangle( 0, 0, 100, 50 ), internalImage.getBounds() );
+    assertEquals( 0, imageDataFactory.getImageDataCache().getMissCount() );
+  }
+
+  @Test
+  public void testFindInternalImage_registersImageBytes() throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE1 );
+    InternalImage internalImage = internalImageFactory.findInternalImage( owner, stream );
+    stream.close();
+
+    InputStream registered
+      = RWT.getResourceManager().getRegisteredContent( internalImage.getResourceName() );
+    InputStream original = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE1 );
+    try {
+      assertArrayEquals( readAll( original ), readAll( registered ) );
+    } finally {
+      original.close();
+      registered.close();
+    }
   }
 
   @Test
@@ -91,10 +155,10 @@ public class InternalImageFactory_Test {
   @Test
   public void testInternalImagesFromInputStreamAreCached() throws IOException {
     InputStream stream1 = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
-    InternalImage internalImage1 = internalImageFactory.findInternalImage( stream1 );
+    InternalImage internalImage1 = internalImageFactory.findInternalImage( owner, stream1 );
     stream1.close();
     InputStream stream2 = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
-    InternalImage internalImage2 = internalImageFactory.findInternalImage( stream2 );
+    InternalImage internalImage2 = internalImageFactory.findInternalImage( owner, stream2 );
     stream2.close();
 
     assertNotNull( internalImage1 );
@@ -106,8 +170,8 @@ public class InternalImageFactory_Test {
     File imageFile = new File( Fixture.TEMP_DIR, "test.gif" );
     Fixture.copyTestResource( Fixture.IMAGE1, imageFile );
     String path = imageFile.getAbsolutePath();
-    InternalImage internalImage1 = internalImageFactory.findInternalImage( path );
-    InternalImage internalImage2 = internalImageFactory.findInternalImage( path );
+    InternalImage internalImage1 = internalImageFactory.findInternalImage( owner, path );
+    InternalImage internalImage2 = internalImageFactory.findInternalImage( owner, path );
     assertNotNull( internalImage1 );
     assertSame( internalImage1, internalImage2 );
   }
@@ -119,8 +183,8 @@ public class InternalImageFactory_Test {
     ImageData imageData1 = image.getImageData();
     ImageData imageData2 = image.getImageData();
     assertNotSame( imageData1, imageData2 );
-    InternalImage internalImage1 = internalImageFactory.findInternalImage( imageData1 );
-    InternalImage internalImage2 = internalImageFactory.findInternalImage( imageData2 );
+    InternalImage internalImage1 = internalImageFactory.findInternalImage( owner, imageData1 );
+    InternalImage internalImage2 = internalImageFactory.findInternalImage( owner, imageData2 );
     assertNotNull( internalImage1 );
     assertSame( internalImage1, internalImage2 );
   }
@@ -131,8 +195,8 @@ public class InternalImageFactory_Test {
     PaletteData palette2 = new PaletteData( new RGB[] { new RGB( 3, 5, 42 ) } );
     ImageData imageData1 = new ImageData( 8, 8, 8, palette1  );
     ImageData imageData2 = new ImageData( 8, 8, 8, palette2 );
-    InternalImage internalImage1 = internalImageFactory.findInternalImage( imageData1 );
-    InternalImage internalImage2 = internalImageFactory.findInternalImage( imageData2 );
+    InternalImage internalImage1 = internalImageFactory.findInternalImage( owner, imageData1 );
+    InternalImage internalImage2 = internalImageFactory.findInternalImage( owner, imageData2 );
     assertNotSame( internalImage1, internalImage2 );
   }
 
@@ -142,8 +206,8 @@ public class InternalImageFactory_Test {
     PaletteData palette2 = new PaletteData( 1, 2, 3 );
     ImageData imageData1 = new ImageData( 8, 8, 8, palette1  );
     ImageData imageData2 = new ImageData( 8, 8, 8, palette2 );
-    InternalImage internalImage1 = internalImageFactory.findInternalImage( imageData1 );
-    InternalImage internalImage2 = internalImageFactory.findInternalImage( imageData2 );
+    InternalImage internalImage1 = internalImageFactory.findInternalImage( owner, imageData1 );
+    InternalImage internalImage2 = internalImageFactory.findInternalImage( owner, imageData2 );
     assertNotSame( internalImage1, internalImage2 );
   }
 
@@ -151,10 +215,10 @@ public class InternalImageFactory_Test {
   @Test
   public void testInternalImagesDifferForSimilarImageData() throws IOException {
     InputStream stream1 = CLASS_LOADER.getResourceAsStream( IMAGE_SAMPLE1 );
-    InternalImage internalImage1 = internalImageFactory.findInternalImage( stream1 );
+    InternalImage internalImage1 = internalImageFactory.findInternalImage( owner, stream1 );
     stream1.close();
     InputStream stream2 = CLASS_LOADER.getResourceAsStream( IMAGE_SAMPLE2 );
-    InternalImage internalImage2 = internalImageFactory.findInternalImage( stream2 );
+    InternalImage internalImage2 = internalImageFactory.findInternalImage( owner, stream2 );
     stream2.close();
 
     assertNotNull( internalImage1 );
@@ -165,10 +229,10 @@ public class InternalImageFactory_Test {
   @Test
   public void testInternalImagesDifferForDifferentColor() throws IOException {
     InputStream stream1 = CLASS_LOADER.getResourceAsStream( IMAGE_OK );
-    InternalImage internalImage1 = internalImageFactory.findInternalImage( stream1 );
+    InternalImage internalImage1 = internalImageFactory.findInternalImage( owner, stream1 );
     stream1.close();
     InputStream stream2 = CLASS_LOADER.getResourceAsStream( IMAGE_OK_BLACK );
-    InternalImage internalImage2 = internalImageFactory.findInternalImage( stream2 );
+    InternalImage internalImage2 = internalImageFactory.findInternalImage( owner, stream2 );
     stream2.close();
 
     assertNotNull( internalImage1 );
@@ -179,19 +243,19 @@ public class InternalImageFactory_Test {
   public void testFindInternalImageWithPath() throws IOException {
     InputStream stream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE1 );
     String key = "testkey";
-    InternalImage internalImage1 = internalImageFactory.findInternalImage( key, stream );
+    InternalImage internalImage1 = internalImageFactory.findInternalImage( owner, key, stream );
     stream.close();
     assertNotNull( internalImage1 );
     // second stream is not read
     InputStream stream2 = new ByteArrayInputStream( new byte[ 0 ] );
-    InternalImage internalImage2 = internalImageFactory.findInternalImage( key, stream2 );
+    InternalImage internalImage2 = internalImageFactory.findInternalImage( owner, key, stream2 );
     assertSame( internalImage1, internalImage2 );
   }
 
   @Test
   public void testImageExtension_PNG() throws IOException {
     InputStream stream = CLASS_LOADER.getResourceAsStream( IMAGE_OK );
-    InternalImage internalImage = internalImageFactory.findInternalImage( stream );
+    InternalImage internalImage = internalImageFactory.findInternalImage( owner, stream );
     stream.close();
 
     assertTrue( internalImage.getResourceName().endsWith( ".png" ) );
@@ -200,7 +264,7 @@ public class InternalImageFactory_Test {
   @Test
   public void testImageExtension_GIF() throws IOException {
     InputStream stream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE1 );
-    InternalImage internalImage = internalImageFactory.findInternalImage( stream );
+    InternalImage internalImage = internalImageFactory.findInternalImage( owner, stream );
     stream.close();
 
     assertTrue( internalImage.getResourceName().endsWith( ".gif" ) );
@@ -210,7 +274,7 @@ public class InternalImageFactory_Test {
   public void testImageExtension_UndefinedType() throws IOException {
     InputStream stream = InternalImageFactory.createInputStream( createImageDataWithoutType() );
 
-    InternalImage internalImage = internalImageFactory.findInternalImage( stream );
+    InternalImage internalImage = internalImageFactory.findInternalImage( owner, stream );
     stream.close();
 
     assertTrue( internalImage.getResourceName().endsWith( ".png" ) );
@@ -219,7 +283,7 @@ public class InternalImageFactory_Test {
   @Test
   public void testDestroyInternalImage_deregisterFromResourceManager() throws IOException {
     InputStream stream1 = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
-    InternalImage internalImage1 = internalImageFactory.findInternalImage( "image.png", stream1);
+    InternalImage internalImage1 = internalImageFactory.findInternalImage( owner, "image.png", stream1 );
     stream1.close();
 
     assertTrue( RWT.getResourceManager().isRegistered( internalImage1.getResourceName() ) );
@@ -232,17 +296,216 @@ public class InternalImageFactory_Test {
   @Test
   public void testDestroyInternalImage_removeFromCache() throws IOException {
     InputStream stream1 = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
-    InternalImage internalImage1 = internalImageFactory.findInternalImage( "image.png", stream1);
+    InternalImage internalImage1 = internalImageFactory.findInternalImage( owner, "image.png", stream1 );
     stream1.close();
 
     internalImageFactory.destroyInternalImage( "image.png" );
 
     InputStream stream2 = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
-    InternalImage internalImage2 = internalImageFactory.findInternalImage( "image.png", stream2);
+    InternalImage internalImage2 = internalImageFactory.findInternalImage( owner, "image.png", stream2 );
     stream2.close();
     assertNotSame( internalImage1, internalImage2 );
   }
 
+  @Test
+  public void testFindInternalImage_referencesImage() throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
+    InternalImage internalImage = internalImageFactory.findInternalImage( owner, stream );
+    stream.close();
+
+    assertTrue( internalImage.isReferenced() );
+  }
+
+  @Test
+  public void testEviction_unregistersUnreferencedImage() throws IOException {
+    internalImageFactory = new InternalImageFactory( 1 );
+    InternalImage internalImage1 = findInternalImage( IMAGE_OK );
+    internalImage1.release( owner );
+
+    InternalImage internalImage2 = findInternalImage( IMAGE_OK_BLACK );
+
+    assertFalse( RWT.getResourceManager().isRegistered( internalImage1.getResourceName() ) );
+    assertTrue( RWT.getResourceManager().isRegistered( internalImage2.getResourceName() ) );
+    assertEquals( 1, internalImageFactory.getEntryCount() );
+    assertEquals( 1, internalImageFactory.getEvictionCount() );
+  }
+
+  @Test
+  public void testEviction_keepsReferencedImage() throws IOException {
+    internalImageFactory = new InternalImageFactory( 1 );
+    InternalImage internalImage1 = findInternalImage( IMAGE_OK );
+
+    findInternalImage( IMAGE_OK_BLACK );
+
+    assertTrue( RWT.getResourceManager().isRegistered( internalImage1.getResourceName() ) );
+    assertSame( internalImage1, findInternalImage( IMAGE_OK ) );
+    assertEquals( 2, internalImageFactory.getEntryCount() );
+    assertEquals( 0, internalImageFactory.getEvictionCount() );
+  }
+
+  @Test
+  public void testEviction_unregistersImageOfGarbageCollectedOwner() throws IOException {
+    internalImageFactory = new InternalImageFactory( 1 );
+    InternalImage internalImage1 = findInternalImage( IMAGE_OK );
+    WeakReference<Object> ownerReference = new WeakReference<>( owner );
+    owner = new Object();
+    collectGarbage( ownerReference );
+
+    findInternalImage( IMAGE_OK_BLACK );
+
+    assertFalse( internalImage1.isReferenced() );
+    assertFalse( RWT.getResourceManager().isRegistered( internalImage1.getResourceName() ) );
+    assertEquals( 1, internalImageFactory.getEvictionCount() );
+  }
+
+  @Test
+  public void testEviction_keepsImageReferencedByOtherOwner() throws IOException {
+    internalImageFactory = new InternalImageFactory( 1 );
+    Object otherOwner = new Object();
+    InternalImage internalImage1 = findInternalImage( IMAGE_OK );
+    InputStream stream = CLASS_LOADER.getResourceAsStream( IMAGE_OK );
+    internalImageFactory.findInternalImage( otherOwner, stream );
+    stream.close();
+    internalImage1.release( owner );
+
+    findInternalImage( IMAGE_OK_BLACK );
+
+    assertTrue( internalImage1.isReferenced() );
+    assertTrue( RWT.getResourceManager().isRegistered( internalImage1.getResourceName() ) );
+    assertEquals( 0, internalImageFactory.getEvictionCount() );
+  }
+
+  @Test
+  public void testRestoreInternalImage_registersResource() throws IOException {
+    InternalImage internalImage = createDetachedImage( IMAGE_OK );
+
+    internalImageFactory.restoreInternalImage( owner,
+                                               internalImage,
+                                               readResource( IMAGE_OK ),
+                                               RWT.getResourceManager() );
+
+    assertTrue( RWT.getResourceManager().isRegistered( internalImage.getResourceName() ) );
+    assertTrue( internalImage.isReferenced() );
+    assertSame( internalImage, findInternalImage( IMAGE_OK ) );
+  }
+
+  @Test
+  public void testRestoreInternalImage_referencesCachedImage() throws IOException {
+    InternalImage cachedImage = findInternalImage( IMAGE_OK );
+    cachedImage.release( owner );
+    Object otherOwner = new Object();
+
+    internalImageFactory.restoreInternalImage( otherOwner,
+                                               createDetachedImage( IMAGE_OK ),
+                                               readResource( IMAGE_OK ),
+                                               RWT.getResourceManager() );
+
+    assertTrue( cachedImage.isReferenced() );
+    assertEquals( 1, internalImageFactory.getEntryCount() );
+  }
+
+  @Test
+  public void testEviction_keepsRestoredImage() throws IOException {
+    internalImageFactory = new InternalImageFactory( 1 );
+    InternalImage internalImage = createDetachedImage( IMAGE_OK );
+    internalImageFactory.restoreInternalImage( owner,
+                                               internalImage,
+                                               readResource( IMAGE_OK ),
+                                               RWT.getResourceManager() );
+
+    findInternalImage( IMAGE_OK_BLACK );
+
+    assertTrue( RWT.getResourceManager().isRegistered( internalImage.getResourceName() ) );
+    assertEquals( 0, internalImageFactory.getEvictionCount() );
+  }
+
+  @Test
+  public void testEviction_removesEvictedImageFromCache() throws IOException {
+    internalImageFactory = new InternalImageFactory( 1 );
+    InternalImage internalImage1 = findInternalImage( IMAGE_OK );
+    internalImage1.release( owner );
+    findInternalImage( IMAGE_OK_BLACK );
+
+    InternalImage internalImage2 = findInternalImage( IMAGE_OK );
+
+    assertNotSame( internalImage1, internalImage2 );
+    assertTrue( RWT.getResourceManager().isRegistered( internalImage2.getResourceName() ) );
+  }
+
+  @Test
+  public void testStatistics() throws IOException {
+    findInternalImage( IMAGE_OK );
+    findInternalImage( IMAGE_OK );
+    findInternalImage( IMAGE_OK_BLACK );
+
+    assertEquals( 2, internalImageFactory.getEntryCount() );
+    assertEquals( 1, internalImageFactory.getHitCount() );
+    assertEquals( 2, internalImageFactory.getMissCount() );
+    assertTrue( internalImageFactory.getSize() > 0 );
+    long maximumSize = internalImageFactory.getMaximumSize();
+    assertEquals( InternalImageFactory.DEFAULT_MAXIMUM_SIZE, maximumSize );
+  }
+
+  @Test
+  public void testDestroyInternalImage_updatesSize() throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
+    internalImageFactory.findInternalImage( owner, "image.png", stream );
+    stream.close();
+
+    internalImageFactory.destroyInternalImage( "image.png" );
+
+    assertEquals( 0, internalImageFactory.getSize() );
+    assertEquals( 0, internalImageFactory.getEntryCount() );
+  }
+
+  private static void collectGarbage( WeakReference<?> reference ) {
+    for( int i = 0; i < 100 && reference.get() != null; i++ ) {
+      System.gc();
+    }
+    assertNull( reference.get() );
+  }
+
+  private InternalImage findInternalImage( String resource ) throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( resource );
+    try {
+      return internalImageFactory.findInternalImage( owner, stream );
+    } finally {
+      stream.close();
+    }
+  }
+
+  // an image as it is deserialized, not known to the factory
+  private static InternalImage createDetachedImage( String resource ) throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( resource );
+    try {
+      EncodedImage encodedImage = InternalImageFactory.readEncodedImage( stream );
+      ImageHeader header = encodedImage.header;
+      return new InternalImage( encodedImage.path, header.width, header.height, false );
+    } finally {
+      stream.close();
+    }
+  }
+
+  private static byte[] readResource( String resource ) throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( resource );
+    try {
+      return readAll( stream );
+    } finally {
+      stream.close();
+    }
+  }
+
+  private static byte[] readAll( InputStream stream ) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 1024 ];
+    int read = stream.read( buffer );
+    while( read != -1 ) {
+      result.write( buffer, 0, read );
+      read = stream.read( buffer );
+    }
+    return result.toByteArray();
+  }
+
   private ImageData createImageDataWithoutType() {
     PaletteData paletteData = new PaletteData( new RGB[]{
       new RGB( 255, 0, 0 ), new RGB( 0, 255, 0 )
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Label;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class PropertyLayout_Test {
+
+  private PropertyLayout layout;
+
+  @Before
+  public void setUp() {
+    layout = new PropertyLayout();
+  }
+
+  @Test
+  public void testForType_returnsSameLayoutForSameType() {
+    assertSame( PropertyLayout.forType( Button.class ), PropertyLayout.forType( Button.class ) );
+  }
+
+  @Test
+  public void testForType_returnsDifferentLayoutsForDifferentTypes() {
+    assertNotSame( PropertyLayout.forType( Button.class ), PropertyLayout.forType( Label.class ) );
+  }
+
+  @Test
+  public void testGetSlot_withUnknownProperty() {
+    assertEquals( -1, layout.getSlot( "foo" ) );
+  }
+
+  @Test
+  public void testGetOrAddSlot_assignsConsecutiveSlots() {
+    assertEquals( 0, layout.getOrAddSlot( "foo" ) );
+    assertEquals( 1, layout.getOrAddSlot( "bar" ) );
+    assertEquals( 2, layout.size() );
+  }
+
+  @Test
+  public void testGetOrAddSlot_returnsExistingSlot() {
+    layout.getOrAddSlot( "foo" );
+    layout.getOrAddSlot( "bar" );
+
+    assertEquals( 0, layout.getOrAddSlot( "foo" ) );
+    assertEquals( 2, layout.size() );
+  }
+
+  @Test
+  public void testGetSlot_withEqualName() {
+    layout.getOrAddSlot( "foo" );
+
+    assertEquals( 0, layout.getSlot( new String( "foo" ) ) );
+  }
+
+  @Test
+  public void testGetSlot_withManyProperties() {
+    for( int i = 0; i < 100; i++ ) {
+      layout.getOrAddSlot( "property" + i );
+    }
+
+    for( int i = 0; i < 100; i++ ) {
+      assertEquals( i, layout.getSlot( "property" + i ) );
+    }
+    assertEquals( 100, layout.size() );
+  }
+
+  @Test
+  public void testGetOrAddSlot_fromMultipleThreads() throws InterruptedException {
+    Runnable runnable = new Runnable() {
+      @Override
+      public void run() {
+        for( int i = 0; i < 50; i++ ) {
+          layout.getOrAddSlot( "property" + i );
+        }
+      }
+    };
+
+    joinThreads( startThreads( 10, runnable ) );
+
+    assertEquals( 50, layout.size() );
+    boolean[] assigned = new boolean[ 50 ];
+    for( int i = 0; i < 50; i++ ) {
+      assigned[ layout.getSlot( "property" + i ) ] = true;
+    }
+    for( boolean slotAssigned : assigned ) {
+      assertTrue( slotAssigned );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -124,6 +124,110 @@ public class WidgetRemoteAdapter_Test {
     assertNull( adapter.getPreserved( "prop" ) );
   }
 
+  @Test
+  public void testPreserveProperty_withNull() {
+    adapter.preserve( "prop", new Object() );
+
+    adapter.preserve( "prop", null );
+
+    assertNull( adapter.getPreserved( "prop" ) );
+  }
+
+  @Test
+  public void testGetPreserved_withUnknownProperty() {
+    adapter.preserve( "prop", new Object() );
+
+    assertNull( adapter.getPreserved( "unknown" ) );
+  }
+
+  @Test
+  public void testPreserveIntProperty() {
+    adapter.preserve( "prop", 1234 );
+
+    assertEquals( Integer.valueOf( 1234 ), adapter.getPreserved( "prop" ) );
+    assertTrue( adapter.isPreserved( "prop", 1234 ) );
+    assertFalse( adapter.isPreserved( "prop", 1235 ) );
+  }
+
+  @Test
+  public void testPreserveIntProperty_isCleared() {
+    adapter.preserve( "prop", 1234 );
+
+    adapter.clearPreserved();
+
+    assertNull( adapter.getPreserved( "prop" ) );
+    assertFalse( adapter.isPreserved( "prop", 1234 ) );
+  }
+
+  @Test
+  public void testPreserveIntProperty_replacesObject() {
+    adapter.preserve( "prop", "foo" );
+
+    adapter.preserve( "prop", 1 );
+
+    assertEquals( Integer.valueOf( 1 ), adapter.getPreserved( "prop" ) );
+  }
+
+  @Test
+  public void testIsPreserved_withBoxedInt() {
+    adapter.preserve( "prop", Integer.valueOf( 1234 ) );
+
+    assertTrue( adapter.isPreserved( "prop", 1234 ) );
+    assertFalse( adapter.isPreserved( "prop", 1235 ) );
+  }
+
+  @Test
+  public void testIsPreserved_withUnpreservedInt() {
+    assertFalse( adapter.isPreserved( "prop", 0 ) );
+  }
+
+  @Test
+  public void testPreserveBooleanProperty() {
+    adapter.preserve( "prop", true );
+
+    assertEquals( Boolean.TRUE, adapter.getPreserved( "prop" ) );
+    assertTrue( adapter.isPreserved( "prop", true ) );
+    assertFalse( adapter.isPreserved( "prop", false ) );
+  }
+
+  @Test
+  public void testIsPreserved_withBoxedBoolean() {
+    adapter.preserve( "prop", Boolean.FALSE );
+
+    assertTrue( adapter.isPreserved( "prop", false ) );
+    assertFalse( adapter.isPreserved( "prop", true ) );
+  }
+
+  @Test
+  public void testIsPreserved_withUnpreservedBoolean() {
+    assertFalse( adapter.isPreserved( "prop", false ) );
+  }
+
+  @Test
+  public void testPreserveProperty_withLayoutGrownByOtherAdapter() {
+    WidgetRemoteAdapter otherAdapter = new WidgetRemoteAdapter( "other", Composite.class );
+    adapter = new WidgetRemoteAdapter( "id", Composite.class );
+    adapter.preserve( "prop1", "value1" );
+
+    otherAdapter.preserve( "prop2", "value2" );
+    otherAdapter.preserve( "prop3", "value3" );
+    adapter.preserve( "prop3", "value4" );
+
+    assertNull( adapter.getPreserved( "prop2" ) );
+    assertEquals( "value1", adapter.getPreserved( "prop1" ) );
+    assertEquals( "value4", adapter.getPreserved( "prop3" ) );
+    assertEquals( "value3", otherAdapter.getPreserved( "prop3" ) );
+  }
+
+  @Test
+  public void testPreserveProperty_afterDeserialization() throws Exception {
+    adapter = serializeAndDeserialize( adapter );
+
+    adapter.preserve( "prop", 1 );
+
+    assertTrue( adapter.isPreserved( "prop", 1 ) );
+  }
+
   @Test
   public void testGetRenderRunnables_initial() {
     assertEquals( 0, adapter.getRenderRunnables().length );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,12 +29,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,9 +49,11 @@ import org.eclipse.rap.rwt.application.EntryPoint;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.DisplayUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.RWTLifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
@@ -75,6 +80,8 @@ import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
+import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
@@ -107,6 +114,7 @@ public class DisplayLCA_Test {
   public void tearDown() {
     Fixture.tearDown();
     setEnableUiTests( false );
+    setEnableDirtyTracking( false );
   }
 
   @Test
@@ -666,6 +674,245 @@ public class DisplayLCA_Test {
     assertNull( message.findSetOperation( displayId, "disableShutdownRequest" ) );
   }
 
+  @Test
+  public void testReadData_withDirtyTracking_readsTargetWidgetsOnly() {
+    setEnableDirtyTracking( true );
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    new CustomLCAWidget( shell, lca );
+    Widget text = new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( text );
+    verifyNoMoreInteractions( lca );
+  }
+
+  @Test
+  public void testPreserveValues_withDirtyTracking_preservesShellsAndTargetWidgetsOnly() {
+    setEnableDirtyTracking( true );
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    new CustomLCAWidget( shell, lca );
+    Widget text = new CustomLCAWidget( shell, lca );
+    markInitialized( display );
+    DirtyWidgets.getInstance( display ).clear();
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
+
+    displayLCA.preserveValues( display );
+
+    InOrder inOrder = inOrder( lca );
+    inOrder.verify( lca ).preserveValues( shell );
+    inOrder.verify( lca ).preserveValues( text );
+    verifyNoMoreInteractions( lca );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_rendersChangedWidgetsOnly() throws IOException {
+    setEnableDirtyTracking( true );
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    List<Composite> widgets = new ArrayList<>();
+    for( int i = 0; i < 1000; i++ ) {
+      widgets.add( new CustomLCAWidget( shell, lca ) );
+    }
+    markInitialized( display );
+    Fixture.preserveWidgets();
+
+    Composite changed = widgets.get( 500 );
+    changed.setData( "foo" );
+    displayLCA.render( display );
+
+    verify( lca, times( 2 ) ).preserveValues( any( Widget.class ) );
+    verify( lca ).preserveValues( changed );
+    verify( lca, times( 2 ) ).render( any( Widget.class ) );
+    verify( lca ).render( shell );
+    verify( lca ).render( changed );
+  }
+
+  @Test
+  public void testRequest_withDirtyTracking_skipsUntouchedWidgets() throws IOException {
+    setEnableDirtyTracking( true );
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    shell.setLayout( new FillLayout() );
+    shell.setSize( 800, 600 );
+    List<Composite> widgets = new ArrayList<>();
+    for( int i = 0; i < 1000; i++ ) {
+      widgets.add( new CustomLCAWidget( shell, lca ) );
+    }
+    shell.layout();
+    markInitialized( display );
+    Fixture.preserveWidgets();
+    displayLCA.clearPreserved( display );
+    Composite untouched = widgets.get( 100 );
+    getAdapter( untouched ).preserve( "probe", "value" );
+    Composite changed = widgets.get( 500 );
+
+    Fixture.fakeNewRequest();
+    Fixture.fakePhase( PhaseId.READ_DATA );
+    displayLCA.readData( display );
+    displayLCA.clearPreserved( display );
+    displayLCA.preserveValues( display );
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    for( Composite widget : widgets ) {
+      widget.getBounds();
+      widget.getChildren();
+    }
+    shell.layout();
+    changed.setToolTipText( "foo" );
+    Fixture.fakePhase( PhaseId.RENDER );
+    displayLCA.render( display );
+    displayLCA.clearPreserved( display );
+
+    verify( lca ).render( shell );
+    verify( lca ).render( changed );
+    verify( lca, times( 2 ) ).render( any( Widget.class ) );
+    assertEquals( "value", getAdapter( untouched ).getPreserved( "probe" ) );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_rendersInitialRequestCompletely() throws IOException {
+    setEnableDirtyTracking( true );
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Shell shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    DirtyWidgets.getInstance( display ).clear();
+
+    displayLCA.render( display );
+
+    verify( lca ).render( shell );
+    verify( lca ).render( button );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_rendersChanges() throws IOException {
+    setEnableDirtyTracking( true );
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+    Button unchanged = new Button( shell, SWT.PUSH );
+    renderInitialRequest();
+    Fixture.preserveWidgets();
+
+    button.setText( "foo" );
+    unchanged.getText();
+    displayLCA.render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( "foo", message.findSetProperty( button, "text" ).asString() );
+    assertEquals( 1, message.getOperationCount() );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_rendersCreatedWidgets() throws IOException {
+    setEnableDirtyTracking( true );
+    Shell shell = new Shell( display );
+    Composite composite = new Composite( shell, SWT.NONE );
+    renderInitialRequest();
+    Fixture.preserveWidgets();
+
+    Button button = new Button( composite, SWT.PUSH );
+    displayLCA.render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findCreateOperation( button ) );
+    assertEquals( getId( composite ), message.findCreateProperty( button, "parent" ).asString() );
+    assertNotNull( message.findSetOperation( composite, "children" ) );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_rendersDisposedWidgets() throws IOException {
+    setEnableDirtyTracking( true );
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+    renderInitialRequest();
+    Fixture.preserveWidgets();
+
+    button.dispose();
+    displayLCA.render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findDestroyOperation( button ) );
+    assertNotNull( message.findSetOperation( shell, "children" ) );
+  }
+
+  @Test
+  public void testRender_withDirtyTracking_rendersChangedTabIndex() throws IOException {
+    setEnableDirtyTracking( true );
+    Shell shell = new Shell( display );
+    Button button1 = new Button( shell, SWT.PUSH );
+    Button button2 = new Button( shell, SWT.PUSH );
+    renderInitialRequest();
+    Fixture.preserveWidgets();
+
+    button2.moveAbove( button1 );
+    displayLCA.render( display );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( 2, message.findSetProperty( button1, "tabIndex" ).asInt() );
+    assertEquals( 1, message.findSetProperty( button2, "tabIndex" ).asInt() );
+  }
+
+  @Test
+  public void testClearPreserved_withDirtyTracking() throws IOException {
+    setEnableDirtyTracking( true );
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+    renderInitialRequest();
+    Fixture.preserveWidgets();
+    button.setText( "foo" );
+    displayLCA.render( display );
+
+    displayLCA.clearPreserved( display );
+
+    assertNull( getAdapter( button ).getPreserved( "text" ) );
+    assertFalse( ( ( WidgetRemoteAdapter )getAdapter( button ) ).isDirty() );
+    assertTrue( DirtyWidgets.getInstance( display ).isTracking() );
+  }
+
+  @Test
+  public void testReadData_withDirtyTrackingDisabled_visitsAllWidgets() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( shell ), "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( shell );
+    verify( lca ).readData( button );
+    verify( lca, never() ).preserveValues( any( Widget.class ) );
+  }
+
+  private void renderInitialRequest() throws IOException {
+    displayLCA.render( display );
+    displayLCA.clearPreserved( display );
+    Fixture.fakeNewRequest();
+  }
+
+  private static void markInitialized( Display display ) {
+    Fixture.markInitialized( display );
+    DirtyWidgets.getInstance( display ).accept( new WidgetTreeVisitor() {
+      @Override
+      public boolean visit( Widget widget ) {
+        Fixture.markInitialized( widget );
+        return true;
+      }
+    } );
+  }
+
+  private static void setEnableDirtyTracking( boolean value ) {
+    Field field;
+    try {
+      field = DirtyWidgets.class.getDeclaredField( "enabled" );
+      field.setAccessible( true );
+      field.setBoolean( null, value );
+    } catch( Exception e ) {
+      throw new RuntimeException( "Failed to set enabled field", e );
+    }
+  }
+
   private static void setEnableUiTests( boolean value ) {
     Field field;
     try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,13 +10,18 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serialize;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -24,8 +29,10 @@ import static org.mockito.Mockito.when;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.Timer;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.rap.rwt.internal.util.SharedScheduler;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
 import org.junit.After;
@@ -39,17 +46,22 @@ public class TimerExecScheduler_Test {
   private TimerExecScheduler scheduler;
   private Display display;
   private Collection<Throwable> exceptions;
-  private Timer timer;
+  private SharedScheduler sharedScheduler;
+  private ScheduledFuture<?> future;
 
   @Before
   public void setUp() {
     Fixture.setUp();
     display = new Display();
-    timer = mock( Timer.class );
+    sharedScheduler = mock( SharedScheduler.class );
+    future = mock( ScheduledFuture.class );
+    doReturn( future ).when( sharedScheduler ).schedule( any( Runnable.class ),
+                                                         anyLong(),
+                                                         any( TimeUnit.class ) );
     scheduler = new TimerExecScheduler( display ) {
       @Override
-      Timer createTimer() {
-        return timer;
+      SharedScheduler getSharedScheduler() {
+        return sharedScheduler;
       }
       @Override
       TimerExecTask createTask( Runnable runnable ) {
@@ -73,7 +85,7 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 23, runnable );
 
     ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
+    verify( sharedScheduler ).schedule( taskCaptor.capture(), eq( 23L ), eq( MILLISECONDS ) );
     assertSame( runnable, taskCaptor.getValue().getRunnable() );
   }
 
@@ -85,8 +97,8 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 42, runnable );
 
     ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
+    verify( sharedScheduler ).schedule( taskCaptor.capture(), eq( 23L ), eq( MILLISECONDS ) );
+    verify( sharedScheduler ).schedule( taskCaptor.capture(), eq( 42L ), eq( MILLISECONDS ) );
     assertSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
   }
 
@@ -98,10 +110,21 @@ public class TimerExecScheduler_Test {
     scheduler.cancel( runnable );
 
     ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
+    verify( sharedScheduler ).schedule( taskCaptor.capture(), eq( 23L ), eq( MILLISECONDS ) );
     verify( taskCaptor.getValue() ).cancel();
   }
 
+  @Test
+  public void testSchedule_passesFutureToTask() {
+    Runnable runnable = mock( Runnable.class );
+
+    scheduler.schedule( 23, runnable );
+
+    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
+    verify( sharedScheduler ).schedule( taskCaptor.capture(), eq( 23L ), eq( MILLISECONDS ) );
+    verify( taskCaptor.getValue() ).setFuture( same( future ), anyLong() );
+  }
+
   @Test
   public void testCancel_cancelNonExistingTaskDoesNotFail() {
     scheduler.cancel( mock( Runnable.class ) );
@@ -116,8 +139,8 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 42, runnable );
 
     ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
+    verify( sharedScheduler ).schedule( taskCaptor.capture(), eq( 23L ), eq( MILLISECONDS ) );
+    verify( sharedScheduler ).schedule( taskCaptor.capture(), eq( 42L ), eq( MILLISECONDS ) );
     assertNotSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
   }
 
@@ -145,15 +168,14 @@ public class TimerExecScheduler_Test {
   }
 
   @Test
-  public void testDispose_cancelsTimerAndTask() {
+  public void testDispose_cancelsTask() {
     Runnable runnable = mock( Runnable.class );
     scheduler.schedule( 23, runnable );
 
     scheduler.dispose();
 
     ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).cancel();
+    verify( sharedScheduler ).schedule( taskCaptor.capture(), eq( 23L ), eq( MILLISECONDS ) );
     verify( taskCaptor.getValue() ).cancel();
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,9 +16,13 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ScheduledFuture;
 
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -94,6 +98,35 @@ public class TimerExecTask_Test {
     verify( display, times( 0 ) ).asyncExec( any( Runnable.class ) );
   }
 
+  @Test
+  public void testRun_rescheduledAfterFiring_runsOnlyOnce() {
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    ScheduledFuture<?> firedFuture = mock( ScheduledFuture.class );
+    task.setFuture( firedFuture, 23 );
+    // the fired future cannot be cancelled anymore
+    task.setFuture( mock( ScheduledFuture.class ), 42 );
+
+    task.run();
+    task.run();
+
+    verify( display, times( 1 ) ).asyncExec( same( runnable ) );
+  }
+
+  @Test
+  public void testRun_rescheduledBeforeFiring_runs() {
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    ScheduledFuture<?> future = mock( ScheduledFuture.class );
+    when( future.cancel( false ) ).thenReturn( Boolean.TRUE );
+    task.setFuture( future, 23 );
+    task.setFuture( mock( ScheduledFuture.class ), 42 );
+
+    task.run();
+
+    verify( display ).asyncExec( same( runnable ) );
+  }
+
   @Test
   public void testRun_deactivatesServerPush() {
     Runnable runnable = mock( Runnable.class );
@@ -114,4 +147,29 @@ public class TimerExecTask_Test {
     assertFalse( ServerPushManager.getInstance().isServerPushActive() );
   }
 
+  @Test
+  public void testCancel_cancelsFuture() {
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    ScheduledFuture<?> future = mock( ScheduledFuture.class );
+    task.setFuture( future, 23 );
+
+    task.cancel();
+
+    verify( future ).cancel( false );
+  }
+
+  @Test
+  public void testSetFuture_cancelsPreviousFuture() {
+    TimerExecTask task = new TimerExecTask( scheduler, mock( Runnable.class ) );
+    ScheduledFuture<?> future = mock( ScheduledFuture.class );
+    ScheduledFuture<?> nextFuture = mock( ScheduledFuture.class );
+    task.setFuture( future, 23 );
+
+    task.setFuture( nextFuture, 42 );
+
+    verify( future ).cancel( false );
+    verify( nextFuture, never() ).cancel( false );
+    assertEquals( 42, task.getExecutionTime() );
+  }
+
 }
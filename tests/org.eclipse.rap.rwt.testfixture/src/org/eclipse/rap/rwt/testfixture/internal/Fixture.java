@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 EclipseSource and others.
+ * Copyright (c) 2002, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -300,7 +300,7 @@ public final class Fixture {
   private static void finishResponse( TestResponse response ) {
     if( response.getContent().length() == 0 ) {
       try {
-        getProtocolWriter().createMessage().toJson().writeTo( response.getWriter() );
+        getProtocolWriter().createMessage().writeTo( response.getWriter() );
       } catch( IOException exception ) {
         throw new IllegalStateException( "Failed to get response writer", exception );
       }
@@ -34,6 +34,7 @@ public class AllTests extends TestSuite {
 		addTestSuite(SimpleVirtualLazyTreeViewerTest.class);
 		addTestSuite(VirtualLazyTreeViewerTest.class);
 		addTestSuite(TableViewerTest.class);
+		addTestSuite(TableViewerBackgroundSortingTest.class);
 		addTestSuite(TreeViewerColumnTest.class);
 		addTestSuite(VirtualTableViewerTest.class);
 		addTestSuite(VirtualLazyTableViewerTest.class);
@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.jface.viewers.ViewerFilter;
+import org.eclipse.jface.viewers.ViewerSorter;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+
+public class TableViewerBackgroundSortingTest extends ViewerTestCase {
+
+	private static final String[] ELEMENTS = { "delta", "Bravo", "alpha",
+			"charlie", "Alpha", "echo" };
+
+	private List input;
+
+	public TableViewerBackgroundSortingTest(String name) {
+		super(name);
+	}
+
+	protected StructuredViewer createViewer(Composite parent) {
+		TableViewer viewer = new TableViewer(parent);
+		viewer.setContentProvider(new ArrayContentProvider());
+		viewer.setLabelProvider(new LabelProvider());
+		viewer.setUseBackgroundSorting(true);
+		return viewer;
+	}
+
+	protected void setInput() {
+		input = new ArrayList(Arrays.asList(ELEMENTS));
+		fViewer.setInput(input);
+	}
+
+	public void testSetComparator() {
+		fViewer.setComparator(new ThreadSafeComparator());
+
+		assertItems(ELEMENTS);
+		waitForItems(new String[] { "Alpha", "Bravo", "alpha", "charlie",
+				"delta", "echo" });
+	}
+
+	public void testSetComparatorNotThreadSafe() {
+		fViewer.setComparator(new ViewerComparator());
+
+		assertItems(new String[] { "Alpha", "Bravo", "alpha", "charlie",
+				"delta", "echo" });
+	}
+
+	public void testSetSorterWithCollator() {
+		Collator collator = Collator.getInstance(Locale.ENGLISH);
+		String[] expected = (String[]) ELEMENTS.clone();
+		Arrays.sort(expected, collator);
+
+		fViewer.setSorter(new ViewerSorter(collator));
+		waitForItems(expected);
+	}
+
+	public void testSetComparatorWithCategories() {
+		fViewer.setComparator(new ThreadSafeComparator() {
+			public int category(Object element) {
+				return Character.isUpperCase(((String) element).charAt(0)) ? 1 : 0;
+			}
+		});
+		waitForItems(new String[] { "alpha", "charlie", "delta", "echo",
+				"Alpha", "Bravo" });
+	}
+
+	public void testSetComparatorWithCustomCompare() {
+		fViewer.setComparator(new ThreadSafeComparator() {
+			public int compare(Viewer viewer, Object e1, Object e2) {
+				return ((String) e2).compareToIgnoreCase((String) e1);
+			}
+		});
+		waitForItems(new String[] { "echo", "delta", "charlie", "Bravo",
+				"alpha", "Alpha" });
+	}
+
+	public void testSetComparatorWithCustomCompareNotThreadSafe() {
+		final List threads = Collections.synchronizedList(new ArrayList());
+		fViewer.setComparator(new ViewerComparator() {
+			public int compare(Viewer viewer, Object e1, Object e2) {
+				threads.add(Thread.currentThread());
+				return ((String) e2).compareToIgnoreCase((String) e1);
+			}
+		});
+
+		assertItems(new String[] { "echo", "delta", "charlie", "Bravo",
+				"alpha", "Alpha" });
+		assertCalledInUIThread(threads);
+	}
+
+	public void testAddFilter() {
+		fViewer.addFilter(new ThreadSafeFilter() {
+			public boolean select(Viewer viewer, Object parent, Object element) {
+				return ((String) element).indexOf('l') != -1;
+			}
+		});
+
+		assertItems(ELEMENTS);
+		waitForItems(new String[] { "delta", "alpha", "charlie", "Alpha" });
+	}
+
+	public void testAddFilterNotThreadSafe() {
+		fViewer.setComparator(new ThreadSafeComparator());
+		waitForItems(new String[] { "Alpha", "Bravo", "alpha", "charlie",
+				"delta", "echo" });
+		final List threads = Collections.synchronizedList(new ArrayList());
+
+		fViewer.addFilter(new ViewerFilter() {
+			public boolean select(Viewer viewer, Object parent, Object element) {
+				threads.add(Thread.currentThread());
+				return ((String) element).indexOf('l') != -1;
+			}
+		});
+		waitForItems(new String[] { "Alpha", "alpha", "charlie", "delta" });
+
+		assertCalledInUIThread(threads);
+	}
+
+	public void testSetSorterWithManyElements() {
+		String[] elements = new String[5000];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = "Element " + ((i * 7919) % elements.length);
+		}
+		input.clear();
+		input.addAll(Arrays.asList(elements));
+		fViewer.setUseBackgroundSorting(false);
+		fViewer.refresh();
+		fViewer.setUseBackgroundSorting(true);
+		ViewerFilter filter = new ThreadSafeFilter() {
+			public boolean select(Viewer viewer, Object parent, Object element) {
+				return !((String) element).endsWith("3");
+			}
+		};
+		List expected = new ArrayList();
+		for (int i = 0; i < elements.length; i++) {
+			if (filter.select(fViewer, input, elements[i])) {
+				expected.add(elements[i]);
+			}
+		}
+		Collections.sort(expected, Collator.getInstance(Locale.ENGLISH));
+
+		fViewer.addFilter(filter);
+		fViewer.setSorter(new ViewerSorter(Collator.getInstance(Locale.ENGLISH)));
+
+		waitForItems((String[]) expected.toArray(new String[expected.size()]));
+	}
+
+	public void testRefreshCancelsPendingRefresh() {
+		fViewer.setComparator(new ThreadSafeComparator());
+		fViewer.addFilter(new ThreadSafeFilter() {
+			public boolean select(Viewer viewer, Object parent, Object element) {
+				return !"echo".equals(element);
+			}
+		});
+		waitForItems(new String[] { "Alpha", "Bravo", "alpha", "charlie",
+				"delta" });
+	}
+
+	public void testRefreshElementCancelsPendingRefresh() {
+		fViewer.setComparator(new ThreadSafeComparator());
+		input.add("foxtrot");
+		fViewer.refresh(input);
+		input.remove("foxtrot");
+		ForkJoinPool.commonPool().awaitQuiescence(10, TimeUnit.SECONDS);
+		processEvents();
+
+		assertItems(new String[] { "Alpha", "Bravo", "alpha", "charlie",
+				"delta", "echo", "foxtrot" });
+	}
+
+	public void testRefreshWithChangedChildren() {
+		fViewer.setComparator(new ThreadSafeComparator());
+		input.add(0, "foxtrot");
+		waitForItems(new String[] { "Alpha", "Bravo", "alpha", "charlie",
+				"delta", "echo", "foxtrot" });
+	}
+
+	public void testRefreshWithoutBackgroundSorting() {
+		fViewer.setUseBackgroundSorting(false);
+
+		fViewer.setComparator(new ThreadSafeComparator());
+
+		assertItems(new String[] { "Alpha", "Bravo", "alpha", "charlie",
+				"delta", "echo" });
+	}
+
+	private void waitForItems(String[] expected) {
+		long end = System.currentTimeMillis() + 10000;
+		while (!Arrays.equals(expected, getItemTexts())
+				&& System.currentTimeMillis() < end) {
+			if (!fDisplay.readAndDispatch()) {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		assertItems(expected);
+	}
+
+	private void assertCalledInUIThread(List threads) {
+		assertFalse(threads.isEmpty());
+		for (int i = 0; i < threads.size(); i++) {
+			assertSame(fDisplay.getThread(), threads.get(i));
+		}
+	}
+
+	private void assertItems(String[] expected) {
+		assertEquals(Arrays.asList(expected), Arrays.asList(getItemTexts()));
+	}
+
+	private String[] getItemTexts() {
+		TableItem[] items = getTable().getItems();
+		String[] result = new String[items.length];
+		for (int i = 0; i < items.length; i++) {
+			result[i] = items[i].getText();
+		}
+		return result;
+	}
+
+	private Table getTable() {
+		return ((TableViewer) fViewer).getTable();
+	}
+
+	private static class ThreadSafeComparator extends ViewerComparator {
+		public boolean isThreadSafe() {
+			return true;
+		}
+	}
+
+	private abstract static class ThreadSafeFilter extends ViewerFilter {
+		public boolean isThreadSafe() {
+			return true;
+		}
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.eclipse.jface.tests.viewers;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 
 import org.eclipse.jface.viewers.ColumnLayoutData;
 import org.eclipse.jface.viewers.ColumnViewer;
@@ -183,6 +184,60 @@ public class TableViewerTest extends StructuredItemViewerTest {
 
 	}
 
-	
+	public void testRefreshWithDiffKeepsItems() {
+		TableViewer viewer = (TableViewer) fViewer;
+		viewer.setUseDiffRefresh(true);
+		Table table = viewer.getTable();
+		TableItem first = table.getItem(0);
+		TableItem last = table.getItem(table.getItemCount() - 1);
+		TestElement newElement = new TestElement(fModel, fRootElement);
+		fRootElement.fChildren.insertElementAt(newElement, 0);
+
+		viewer.refresh();
+
+		assertEquals(fRootElement.getChildCount(), table.getItemCount());
+		assertSame(newElement, table.getItem(0).getData());
+		assertSame(first, table.getItem(1));
+		assertSame(last, table.getItem(table.getItemCount() - 1));
+		assertSame(first, fViewer.testFindItem(first.getData()));
+	}
+
+	public void testRefreshWithDiffRemovesAndMovesItems() {
+		TableViewer viewer = (TableViewer) fViewer;
+		viewer.setUseDiffRefresh(true);
+		Table table = viewer.getTable();
+		TableItem second = table.getItem(1);
+		TestElement last = fRootElement.getLastChild();
+		fRootElement.basicDeleteChild(fRootElement.getFirstChild());
+		fRootElement.fChildren.remove(last);
+		fRootElement.fChildren.insertElementAt(last, 1);
+
+		viewer.refresh();
+
+		TestElement[] children = fRootElement.getChildren();
+		assertEquals(children.length, table.getItemCount());
+		for (int i = 0; i < children.length; i++) {
+			assertSame(children[i], table.getItem(i).getData());
+			assertEquals(children[i].toString(), table.getItem(i).getText());
+		}
+		assertSame(second, table.getItem(0));
+		assertFalse(fViewer.testFindItem(last).isDisposed());
+	}
+
+	public void testRefreshWithDiffAfterReversedOrder() {
+		TableViewer viewer = (TableViewer) fViewer;
+		viewer.setUseDiffRefresh(true);
+		Table table = viewer.getTable();
+		Collections.reverse(fRootElement.fChildren);
+
+		viewer.refresh();
+
+		TestElement[] children = fRootElement.getChildren();
+		assertEquals(children.length, table.getItemCount());
+		for (int i = 0; i < children.length; i++) {
+			assertSame(children[i], table.getItem(i).getData());
+			assertSame(table.getItem(i), fViewer.testFindItem(children[i]));
+		}
+	}
 
 }
@@ -50,4 +50,42 @@ public class TreeViewerTest extends AbstractTreeViewerTest {
     public static void main(String args[]) {
         junit.textui.TestRunner.run(TreeViewerTest.class);
     }
+
+    public void testRefreshWithDiffKeepsItems() {
+        fTreeViewer.setUseDiffRefresh(true);
+        Tree tree = (Tree) fTreeViewer.getControl();
+        TestElement first = fRootElement.getFirstChild();
+        fTreeViewer.setExpandedState(first, true);
+        TreeItem firstItem = tree.getItem(0);
+        TreeItem childItem = firstItem.getItem(0);
+        TestElement newElement = new TestElement(fModel, fRootElement);
+        fRootElement.fChildren.insertElementAt(newElement, 0);
+
+        fTreeViewer.refresh();
+
+        assertEquals(fRootElement.getChildCount(), tree.getItemCount());
+        assertSame(newElement, tree.getItem(0).getData());
+        assertSame(firstItem, tree.getItem(1));
+        assertSame(childItem, firstItem.getItem(0));
+        assertTrue(fTreeViewer.getExpandedState(first));
+    }
+
+    public void testRefreshWithDiffKeepsExpandedStateOfMovedElement() {
+        fTreeViewer.setUseDiffRefresh(true);
+        Tree tree = (Tree) fTreeViewer.getControl();
+        TestElement first = fRootElement.getFirstChild();
+        fTreeViewer.setExpandedState(first, true);
+        fRootElement.fChildren.remove(first);
+        fRootElement.fChildren.add(first);
+
+        fTreeViewer.refresh();
+
+        TestElement[] children = fRootElement.getChildren();
+        assertEquals(children.length, tree.getItemCount());
+        for (int i = 0; i < children.length; i++) {
+            assertSame(children[i], tree.getItem(i).getData());
+        }
+        assertTrue(fTreeViewer.getExpandedState(first));
+        assertNotNull(fViewer.testFindItem(first.getFirstChild()));
+    }
 }
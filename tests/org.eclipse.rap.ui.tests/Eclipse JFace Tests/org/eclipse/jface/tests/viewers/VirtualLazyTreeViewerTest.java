@@ -117,4 +117,12 @@ public class VirtualLazyTreeViewerTest extends TreeViewerTest {
     	// no need to test since virtual trees do not support sorting
     }
     
+    public void testRefreshWithDiffKeepsItems() {
+    	// no need to test since lazy trees are always refreshed index by index
+    }
+    
+    public void testRefreshWithDiffKeepsExpandedStateOfMovedElement() {
+    	// no need to test since lazy trees are always refreshed index by index
+    }
+    
 }
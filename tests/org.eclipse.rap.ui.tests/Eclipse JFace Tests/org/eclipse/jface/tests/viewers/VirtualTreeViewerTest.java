@@ -32,4 +32,12 @@ public class VirtualTreeViewerTest extends TreeViewerTest {
 		fTreeViewer.setContentProvider(new TestModelContentProvider());
 		return fTreeViewer;
 	}
+
+	public void testRefreshWithDiffKeepsItems() {
+		// virtual trees are always refreshed index by index
+	}
+
+	public void testRefreshWithDiffKeepsExpandedStateOfMovedElement() {
+		// virtual trees are always refreshed index by index
+	}
 }